@@ -1,7 +1,12 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
 dependencies {
     // Common modules
     implementation(project(":xlcfi-common:common-core"))
     implementation(project(":xlcfi-common:common-data"))
+    implementation(project(":xlcfi-common:common-security"))
 
     // Spring Boot
     implementation("org.springframework.boot:spring-boot-starter-web")
@@ -17,6 +22,9 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.5")
 
+    // Local cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // Flyway
     implementation("org.flywaydb:flyway-core")
 
@@ -31,4 +39,29 @@ dependencies {
     testImplementation("org.springframework.security:spring-security-test")
     testImplementation("com.h2database:h2")
     testImplementation("it.ozimov:embedded-redis:0.7.3")
+    jmh("it.ozimov:embedded-redis:0.7.3")
+}
+
+// JMH 벤치마크 (./gradlew :xlcfi-auth-service:jmh)
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+}
+
+// 부하 테스트는 기본 test 태스크에서 제외 (./gradlew :xlcfi-auth-service:loadTest)
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+tasks.register<Test>("loadTest") {
+    description = "Runs load tests tagged with 'load'."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
 }
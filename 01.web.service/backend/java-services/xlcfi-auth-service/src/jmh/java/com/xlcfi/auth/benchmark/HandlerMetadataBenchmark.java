@@ -0,0 +1,75 @@
+package com.xlcfi.auth.benchmark;
+
+import com.xlcfi.common.annotation.RequireRole;
+import com.xlcfi.common.aspect.HandlerMetadata;
+import com.xlcfi.common.aspect.HandlerMetadataRegistry;
+import com.xlcfi.common.ratelimit.RateLimit;
+import com.xlcfi.common.ratelimit.RateLimitType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limit / Role 확인 AOP의 요청당 메타데이터 처리 비용 벤치마크
+ *
+ * - legacy: 기존 방식 (매 요청 getAnnotation, toLowerCase 키 생성, split으로 IP 추출, Arrays.asList로 Role 확인)
+ * - precompiled: 시작 시 만든 HandlerMetadata 조회
+ *
+ * 할당량은 -prof gc 옵션의 gc.alloc.rate.norm으로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HandlerMetadataBenchmark {
+
+    private Method method;
+    private HandlerMetadataRegistry registry;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = SampleController.class.getMethod("createOrder");
+        registry = new HandlerMetadataRegistry(null);
+        registry.get(method);
+
+        request = new MockHttpServletRequest("POST", "/api/orders");
+        request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1");
+        request.setAttribute("role", "SELLER");
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        RateLimit rateLimit = method.getAnnotation(RateLimit.class);
+        String identifier = request.getHeader("X-Forwarded-For").split(",")[0].trim();
+        bh.consume("rate_limit:" + rateLimit.type().name().toLowerCase() + ":" + identifier);
+
+        RequireRole requireRole = method.getAnnotation(RequireRole.class);
+        bh.consume(Arrays.asList(requireRole.value()).contains((String) request.getAttribute("role")));
+    }
+
+    @Benchmark
+    public void precompiled(Blackhole bh) {
+        HandlerMetadata metadata = registry.get(method);
+        bh.consume(metadata.getRateLimitPolicy().getKeyPrefix());
+        bh.consume(metadata.isRoleAllowed((String) request.getAttribute("role")));
+    }
+
+    @Benchmark
+    public void precompiledWithKey(Blackhole bh) {
+        HandlerMetadata metadata = registry.get(method);
+        bh.consume(metadata.getRateLimitPolicy().key(request));
+        bh.consume(metadata.isRoleAllowed((String) request.getAttribute("role")));
+    }
+
+    public static class SampleController {
+
+        @RateLimit(limit = 100, timeWindow = 60, type = RateLimitType.IP)
+        @RequireRole({"BUYER", "SELLER"})
+        public void createOrder() {
+        }
+    }
+}
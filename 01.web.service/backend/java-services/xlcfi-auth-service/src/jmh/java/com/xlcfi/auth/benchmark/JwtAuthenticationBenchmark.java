@@ -0,0 +1,83 @@
+package com.xlcfi.auth.benchmark;
+
+import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.domain.UserRole;
+import com.xlcfi.auth.security.JwtKeyRing;
+import com.xlcfi.auth.security.SigningKey;
+import com.xlcfi.auth.security.VerifiedToken;
+import com.xlcfi.auth.security.VerifiedTokenCache;
+import com.xlcfi.auth.service.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.PublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 처리량 벤치마크 (요청당 토큰 처리 비용)
+ *
+ * - legacyFourParses: 기존 필터 경로 (validateToken + getUserId/getEmail/getRole, 매번 파서 생성)
+ * - verifyOnce: 한 번의 파싱으로 모든 클레임 추출
+ * - cachedResolve: 같은 토큰의 반복 요청 (검증된 토큰 캐시 적중)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private PublicKey verificationKey;
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SigningKey signingKey = SigningKey.generate(
+                0L, Instant.now().minusSeconds(60), Instant.now().plus(1, ChronoUnit.DAYS));
+        JwtKeyRing jwtKeyRing = new JwtKeyRing();
+        jwtKeyRing.replace(List.of(signingKey));
+        verificationKey = signingKey.getPublicKey();
+        jwtTokenProvider = new JwtTokenProvider(jwtKeyRing, "", 3600000L, 2592000000L);
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, 10000L, 300000L);
+
+        User user = User.builder()
+                .id(42L)
+                .email("benchmark@xlcfi.com")
+                .name("벤치마크")
+                .role(UserRole.BUYER)
+                .build();
+        token = jwtTokenProvider.generateAccessToken(user);
+        verifiedTokenCache.resolve(token);
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole bh) {
+        bh.consume(legacyParse(token));
+        bh.consume(Long.parseLong(legacyParse(token).getSubject()));
+        bh.consume(legacyParse(token).get("email", String.class));
+        bh.consume(legacyParse(token).get("role", String.class));
+    }
+
+    @Benchmark
+    public VerifiedToken verifyOnce() {
+        return jwtTokenProvider.verifyToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedResolve() {
+        return verifiedTokenCache.resolve(token);
+    }
+
+    private Claims legacyParse(String jwt) {
+        return Jwts.parserBuilder()
+                .setSigningKey(verificationKey)
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+}
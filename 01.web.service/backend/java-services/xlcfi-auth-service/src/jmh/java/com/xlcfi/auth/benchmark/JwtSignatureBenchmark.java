@@ -0,0 +1,77 @@
+package com.xlcfi.auth.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 서명 방식별 검증 비용 벤치마크 (실제 Access Token과 같은 클레임 구성)
+ *
+ * - hs256Verify: 기존 대칭키(HMAC-SHA256) 검증
+ * - es256Verify: 키 회전에 사용하는 ECDSA P-256 공개키 검증
+ *
+ * 검증된 토큰 캐시 적중 시에는 서명 검증이 생략되므로, 이 값은 캐시 미스 요청의 비용입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtSignatureBenchmark {
+
+    private static final String SECRET =
+            "xlcfi-secret-key-for-jwt-token-generation-minimum-256-bits-required-for-hs256-algorithm";
+
+    private JwtParser hs256Parser;
+    private JwtParser es256Parser;
+    private String hs256Token;
+    private String es256Token;
+
+    @Setup
+    public void setUp() {
+        SecretKey secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+
+        hs256Parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        es256Parser = Jwts.parserBuilder().setSigningKey(keyPair.getPublic()).build();
+        hs256Token = accessToken(null).signWith(secretKey, SignatureAlgorithm.HS256).compact();
+        es256Token = accessToken(UUID.randomUUID().toString())
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims hs256Verify() {
+        return hs256Parser.parseClaimsJws(hs256Token).getBody();
+    }
+
+    @Benchmark
+    public Claims es256Verify() {
+        return es256Parser.parseClaimsJws(es256Token).getBody();
+    }
+
+    private JwtBuilder accessToken(String kid) {
+        Date now = new Date();
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject("42")
+                .claim("email", "benchmark@xlcfi.com")
+                .claim("role", "BUYER")
+                .claim("type", "access")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 3600000L));
+        if (kid != null) {
+            builder.setHeaderParam("kid", kid);
+        }
+        return builder;
+    }
+}
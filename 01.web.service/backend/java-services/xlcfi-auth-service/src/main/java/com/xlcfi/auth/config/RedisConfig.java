@@ -1,5 +1,8 @@
 package com.xlcfi.auth.config;
 
+import com.xlcfi.auth.security.BlacklistNearCache;
+import com.xlcfi.auth.security.SessionEpochCache;
+import com.xlcfi.auth.security.SubscriptionHeartbeat;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,6 +10,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -52,5 +57,27 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
-}
 
+    /**
+     * 블랙리스트 / 세션 기준 시각 이벤트 구독 컨테이너
+     * 연결이 끊기면 컨테이너가 재구독하며, 재구독 시 각 캐시가 Redis와 다시 동기화합니다.
+     * 오류 핸들러는 리스너 예외만 받으므로, 연결 끊김과 드라이버의 자동 재구독은 하트비트 채널로 감지합니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            BlacklistNearCache blacklistNearCache,
+            SessionEpochCache sessionEpochCache,
+            SubscriptionHeartbeat subscriptionHeartbeat) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(blacklistNearCache, new ChannelTopic(BlacklistNearCache.CHANNEL));
+        container.addMessageListener(sessionEpochCache, new ChannelTopic(SessionEpochCache.CHANNEL));
+        container.addMessageListener(subscriptionHeartbeat, new ChannelTopic(SubscriptionHeartbeat.CHANNEL));
+        container.setErrorHandler(error -> {
+            blacklistNearCache.onSubscriptionError(error);
+            sessionEpochCache.onSubscriptionError(error);
+        });
+        return container;
+    }
+}
@@ -1,9 +1,11 @@
 package com.xlcfi.auth.config;
 
+import com.xlcfi.auth.security.BCryptCostCalibrator;
 import com.xlcfi.auth.security.JwtAccessDeniedHandler;
 import com.xlcfi.auth.security.JwtAuthenticationEntryPoint;
 import com.xlcfi.auth.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -32,10 +34,15 @@ public class SecurityConfig {
 
     /**
      * 비밀번호 암호화
+     * strength를 지정하지 않으면 기동 시 해시 1회가 목표 시간에 맞도록 cost를 보정합니다.
+     * 저장된 해시의 cost가 다르면 로그인 성공 시 다시 해시합니다.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt.strength:0}") int strength,
+            @Value("${security.password.bcrypt.target-millis:250}") long targetMillis) {
+        int cost = strength > 0 ? strength : BCryptCostCalibrator.calibrate(targetMillis);
+        return new BCryptPasswordEncoder(cost);
     }
 
     /**
@@ -65,7 +72,8 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/api/auth/register",
                                 "/api/auth/login",
-                                "/api/auth/refresh"
+                                "/api/auth/refresh",
+                                "/.well-known/jwks.json"
                         ).permitAll()
                         
                         // Swagger/OpenAPI 문서 (개발 환경)
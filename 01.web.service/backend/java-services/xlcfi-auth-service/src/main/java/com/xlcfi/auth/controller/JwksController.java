@@ -0,0 +1,42 @@
+package com.xlcfi.auth.controller;
+
+import com.xlcfi.auth.security.JwtKeyRing;
+import com.xlcfi.common.security.EcJwks;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 공개키(JWKS) 제공 API
+ * 각 서비스는 이 키 목록을 캐시하여 인증 서비스 호출 없이 토큰을 검증합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "인증 (Authentication)", description = "회원가입, 로그인, 프로필 관리 API")
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @Operation(
+            summary = "JWT 공개키 목록 (JWKS)",
+            description = "토큰 검증에 사용하는 ES256 공개키 목록을 반환합니다. 다음 회전 키도 미리 포함됩니다."
+    )
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        List<Map<String, Object>> keys = jwtKeyRing.getVerificationKeys().stream()
+                .map(key -> EcJwks.toJwk(key.getKid(), key.getPublicKey()))
+                .toList();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+}
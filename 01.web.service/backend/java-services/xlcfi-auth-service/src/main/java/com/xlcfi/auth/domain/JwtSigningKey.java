@@ -0,0 +1,42 @@
+package com.xlcfi.auth.domain;
+
+import com.xlcfi.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * JWT 서명 키
+ * 회전 주기(rotation slot)마다 하나의 키가 생성되며, 시각은 모두 UTC 기준입니다.
+ */
+@Entity
+@Table(name = "jwt_signing_keys")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JwtSigningKey extends BaseEntity {
+
+    @Id
+    @Column(length = 64)
+    private String kid;
+
+    @Column(name = "rotation_slot", nullable = false, unique = true)
+    private Long rotationSlot;
+
+    @Column(nullable = false, length = 10)
+    private String algorithm;
+
+    @Column(name = "public_key", nullable = false, columnDefinition = "TEXT")
+    private String publicKey;
+
+    @Column(name = "private_key", nullable = false, columnDefinition = "TEXT")
+    private String privateKey;
+
+    @Column(name = "activates_at", nullable = false)
+    private LocalDateTime activatesAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,33 @@
+package com.xlcfi.auth.repository;
+
+import com.xlcfi.auth.domain.JwtSigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JwtSigningKeyRepository extends JpaRepository<JwtSigningKey, String> {
+
+    /**
+     * 만료되지 않은 서명 키 조회
+     */
+    List<JwtSigningKey> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * 회전 주기에 해당하는 키 존재 여부
+     */
+    boolean existsByRotationSlot(Long rotationSlot);
+
+    /**
+     * 만료된 서명 키 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM JwtSigningKey k WHERE k.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
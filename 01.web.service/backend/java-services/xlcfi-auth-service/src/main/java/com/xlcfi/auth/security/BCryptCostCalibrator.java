@@ -0,0 +1,54 @@
+package com.xlcfi.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * BCrypt cost 보정
+ * 서버 성능에 맞춰 해시 1회가 목표 시간에 가장 가깝되 넘지 않는 cost를 찾습니다.
+ * cost가 1 증가할 때마다 해시 시간은 두 배가 됩니다.
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    public static final int MIN_COST = 10;
+    public static final int MAX_COST = 14;
+
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * 목표 시간에 맞는 cost 계산
+     *
+     * @param targetMillis 해시 1회 목표 시간 (밀리초)
+     * @return {@link #MIN_COST} ~ {@link #MAX_COST} 범위의 cost
+     */
+    public static int calibrate(long targetMillis) {
+        // 워밍업 후 MIN_COST 기준 시간을 측정하여 상위 cost는 추정
+        hash(MIN_COST);
+        long baseNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            baseNanos = Math.min(baseNanos, hash(MIN_COST));
+        }
+
+        int cost = MIN_COST;
+        long estimatedNanos = baseNanos;
+        long targetNanos = targetMillis * 1_000_000L;
+        while (cost < MAX_COST && estimatedNanos * 2 <= targetNanos) {
+            cost++;
+            estimatedNanos *= 2;
+        }
+
+        log.info("BCrypt cost 보정 완료: cost={}, 예상 해시 시간={}ms (목표 {}ms, cost {} 측정값 {}ms)",
+                cost, estimatedNanos / 1_000_000, targetMillis, MIN_COST, baseNanos / 1_000_000);
+        return cost;
+    }
+
+    private static long hash(int cost) {
+        long start = System.nanoTime();
+        BCrypt.hashpw("calibration", BCrypt.gensalt(cost));
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,201 @@
+package com.xlcfi.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.xlcfi.common.security.TokenRevocationChecker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 블랙리스트 니어 캐시
+ * 블랙리스트에 등록된 토큰 ID(jti)를 인스턴스 메모리에 보관하여
+ * 요청마다 Redis를 조회하지 않고 블랙리스트 여부를 판단합니다.
+ *
+ * 다른 인스턴스의 블랙리스트 등록은 Redis Pub/Sub 채널로 전달되며,
+ * 채널 구독이 (재)연결될 때마다 Redis 전체를 SCAN 하여 놓친 항목을 복구합니다.
+ * 드라이버가 알림 없이 재연결하는 경우는 {@link SubscriptionHeartbeat}가 끊김을 감지하여 같은 절차를 수행합니다.
+ * 동기화가 끝나기 전이나 구독이 끊긴 동안에는 {@link #isSynced()}가 false 이며,
+ * 이때 호출자는 Redis를 직접 조회해야 합니다.
+ */
+@Slf4j
+@Component
+public class BlacklistNearCache implements MessageListener, SubscriptionListener {
+
+    public static final String BLACKLIST_PREFIX = TokenRevocationChecker.BLACKLIST_PREFIX;
+    public static final String CHANNEL = "blacklist:events";
+
+    private static final String SEPARATOR = ":";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<String, Long> entries;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+    private final AtomicBoolean synced = new AtomicBoolean(false);
+
+    public BlacklistNearCache(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        // 크기 제한 없음: 용량 초과로 항목이 제거되면 블랙리스트가 뚫리므로 만료로만 제거합니다.
+        this.entries = Caffeine.newBuilder()
+                .expireAfter(new UntilExpiresAt())
+                .build();
+    }
+
+    /**
+     * 로컬 블랙리스트 포함 여부
+     */
+    public boolean contains(String tokenId) {
+        Long expiresAt = entries.getIfPresent(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 로컬 블랙리스트에 추가
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAtMillis 토큰 만료 시각
+     */
+    public void add(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis > System.currentTimeMillis()) {
+            entries.asMap().merge(tokenId, expiresAtMillis, Math::max);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에 블랙리스트 등록 전파
+     */
+    public void publish(String tokenId, long expiresAtMillis) {
+        redisTemplate.convertAndSend(CHANNEL, tokenId + SEPARATOR + expiresAtMillis);
+    }
+
+    /**
+     * Redis와 동기화된 상태인지 여부
+     */
+    public boolean isSynced() {
+        return synced.get();
+    }
+
+    /**
+     * 로컬 항목 수 (근사치)
+     */
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body == null) {
+                return;
+            }
+            String payload = body.toString();
+            int index = payload.lastIndexOf(SEPARATOR);
+            add(payload.substring(0, index), Long.parseLong(payload.substring(index + 1)));
+        } catch (RuntimeException e) {
+            log.warn("블랙리스트 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        onSubscriptionRestored();
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        onSubscriptionLost("블랙리스트 채널 구독 해제");
+    }
+
+    /**
+     * 구독이 (다시) 연결되었을 때 호출
+     * 끊긴 동안의 이벤트를 놓쳤을 수 있으므로 전체 동기화를 수행합니다.
+     */
+    public void onSubscriptionRestored() {
+        log.info("블랙리스트 채널 구독 시작, 전체 동기화를 수행합니다");
+        subscribed.set(true);
+        CompletableFuture.runAsync(this::resync);
+    }
+
+    /**
+     * 구독이 끊겼을 때 호출 (다시 연결될 때까지 Redis를 직접 조회)
+     */
+    public void onSubscriptionLost(String reason) {
+        subscribed.set(false);
+        markUnsynced(reason);
+    }
+
+    /**
+     * 구독 처리 중 오류 발생 시 호출
+     * 이벤트를 놓쳤을 수 있으므로 동기화 상태를 해제하고 전체 동기화를 다시 수행합니다.
+     */
+    public void onSubscriptionError(Throwable error) {
+        markUnsynced(error.getMessage());
+        CompletableFuture.runAsync(this::resync);
+    }
+
+    private void markUnsynced(String reason) {
+        if (synced.compareAndSet(true, false)) {
+            log.warn("블랙리스트 니어 캐시 동기화 해제: {}", reason);
+        }
+    }
+
+    /**
+     * Redis의 블랙리스트 키 전체를 로컬에 반영
+     * 구독이 활성화된 이후에 호출되므로, SCAN 도중 등록된 항목은 이벤트로 전달됩니다.
+     */
+    public void resync() {
+        long startedAt = System.currentTimeMillis();
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttl != null && ttl > 0) {
+                    add(key.substring(BLACKLIST_PREFIX.length()), System.currentTimeMillis() + ttl);
+                    count++;
+                }
+            }
+            // SCAN 도중 구독이 끊겼다면 이벤트를 놓쳤을 수 있으므로 동기화 상태로 두지 않습니다.
+            synced.set(subscribed.get());
+            log.info("블랙리스트 니어 캐시 동기화 완료: entries={}, elapsed={}ms",
+                    count, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            synced.set(false);
+            log.error("블랙리스트 니어 캐시 동기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 토큰 만료 시각에 항목을 만료시킵니다.
+     */
+    private static class UntilExpiresAt implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long expiresAtMillis, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(expiresAtMillis - System.currentTimeMillis(), 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expiresAtMillis,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAtMillis, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expiresAtMillis,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.xlcfi.auth.security;
 
-import com.xlcfi.auth.service.JwtTokenProvider;
+import com.xlcfi.auth.service.TokenBlacklistService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,8 +27,8 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final com.xlcfi.auth.service.TokenBlacklistService tokenBlacklistService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklistService tokenBlacklistService;
 
     @Override
     protected void doFilterInternal(
@@ -40,21 +40,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. Request Header에서 JWT 토큰 추출
             String jwt = getJwtFromRequest(request);
 
-            // 2. 토큰이 블랙리스트에 있는지 확인
-            if (StringUtils.hasText(jwt) && tokenBlacklistService.isBlacklisted(jwt)) {
-                log.warn("블랙리스트에 등록된 토큰입니다");
+            // 2. 토큰 유효성 검증 (서명 검증은 한 번만, 반복 요청은 캐시 사용)
+            VerifiedToken verifiedToken = StringUtils.hasText(jwt) ? verifiedTokenCache.resolve(jwt) : null;
+
+            // 3. 토큰이 폐기되었는지 확인 (블랙리스트, 세션 기준 시각)
+            if (verifiedToken != null && tokenBlacklistService.isRevoked(verifiedToken)) {
+                log.warn("폐기된 토큰입니다: userId={}", verifiedToken.getUserId());
                 SecurityContextHolder.clearContext();
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            // 3. 토큰 유효성 검증
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+            if (verifiedToken != null) {
                 
                 // 4. 토큰에서 사용자 정보 추출
-                Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
-                String role = jwtTokenProvider.getRoleFromToken(jwt);
+                Long userId = verifiedToken.getUserId();
+                String email = verifiedToken.getEmail();
+                String role = verifiedToken.getRole();
 
                 log.debug("JWT 인증 성공: userId={}, email={}, role={}", userId, email, role);
 
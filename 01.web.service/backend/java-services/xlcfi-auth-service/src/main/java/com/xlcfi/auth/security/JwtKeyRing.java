@@ -0,0 +1,70 @@
+package com.xlcfi.auth.security;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * JWT 서명 키 목록
+ * 서명에는 활성화된 키 중 가장 최신 키를 사용하고,
+ * 검증에는 만료되지 않은 모든 키를 kid로 찾아 사용합니다.
+ * 아직 활성화되지 않은 다음 키는 JWKS에 미리 공개되어 각 서비스가 키를 먼저 받아 둘 수 있습니다.
+ */
+@Component
+public class JwtKeyRing {
+
+    private volatile List<SigningKey> keys = List.of();
+    private volatile Map<String, SigningKey> keysByKid = Map.of();
+
+    /**
+     * 서명에 사용할 키
+     *
+     * @throws IllegalStateException 활성화된 키가 없는 경우
+     */
+    public SigningKey getSigningKey() {
+        Instant now = Instant.now();
+        for (SigningKey key : keys) {
+            if (key.isActive(now)) {
+                return key;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 JWT 서명 키가 없습니다");
+    }
+
+    /**
+     * kid로 검증 키 조회
+     *
+     * @return 서명 키 (없거나 만료되었으면 null)
+     */
+    public SigningKey findKey(String kid) {
+        SigningKey key = keysByKid.get(kid);
+        return key != null && key.getExpiresAt().isAfter(Instant.now()) ? key : null;
+    }
+
+    /**
+     * 만료되지 않은 전체 키 (최신 순)
+     */
+    public List<SigningKey> getVerificationKeys() {
+        Instant now = Instant.now();
+        return keys.stream()
+                .filter(key -> key.getExpiresAt().isAfter(now))
+                .toList();
+    }
+
+    /**
+     * 키 목록 교체
+     */
+    public void replace(Collection<SigningKey> signingKeys) {
+        List<SigningKey> sorted = signingKeys.stream()
+                .sorted(Comparator.comparingLong(SigningKey::getRotationSlot).reversed())
+                .toList();
+        this.keysByKid = sorted.stream().collect(Collectors.toUnmodifiableMap(SigningKey::getKid, Function.identity()));
+        this.keys = sorted;
+    }
+}
@@ -0,0 +1,136 @@
+package com.xlcfi.auth.security;
+
+import com.xlcfi.common.exception.RetryableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * BCrypt 연산을 크기가 제한된 전용 스레드 풀에서 실행하여
+ * 로그인 폭주 시에도 CPU와 요청 처리 스레드가 다른 API에 남아 있도록 합니다.
+ *
+ * 대기열이 가득 차면 작업을 즉시 거부하고 Retry-After 힌트와 함께 503을 반환합니다.
+ * 요청 스레드는 대기열에 들어간 작업만 기다리므로, 해시를 기다리는 요청 스레드 수는
+ * 최대 (스레드 수 + 대기열 크기)로 제한됩니다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private static final String ERROR_CODE = "AUTH008";
+    private static final String ERROR_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final long timeoutMillis;
+
+    /**
+     * 해시 1회 평균 소요 시간 (지수 이동 평균, 재시도 힌트 계산용)
+     */
+    private volatile long averageHashNanos = TimeUnit.MILLISECONDS.toNanos(100);
+
+    public PasswordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:0}") int queueCapacity,
+            @Value("${security.password.hashing.timeout:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.timeoutMillis = timeoutMillis;
+
+        int capacity = queueCapacity > 0 ? queueCapacity : this.threads * 4;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                this.threads, this.threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        log.info("비밀번호 해시 실행기 초기화: threads={}, queueCapacity={}, timeout={}ms",
+                this.threads, capacity, timeoutMillis);
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 대기 중인 해시 작업 수
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    averageHashNanos += (elapsed - averageHashNanos) / 8;
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해시 대기열 초과로 요청 거부: queueSize={}", getQueueSize());
+            throw overloaded();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("비밀번호 해시 대기 시간 초과: timeout={}ms", timeoutMillis);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 실패", cause);
+        }
+    }
+
+    /**
+     * 현재 대기열을 모두 처리하는 데 걸리는 예상 시간을 재시도 힌트로 사용합니다.
+     */
+    private RetryableException overloaded() {
+        long pendingNanos = (getQueueSize() + threads) * averageHashNanos / threads;
+        long retryAfterSeconds = (long) Math.ceil(pendingNanos / 1_000_000_000.0);
+        return new RetryableException(HttpStatus.SERVICE_UNAVAILABLE, ERROR_CODE, ERROR_MESSAGE, retryAfterSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,132 @@
+package com.xlcfi.auth.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.xlcfi.common.security.TokenRevocationChecker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자별 세션 기준 시각(epoch) 캐시
+ * 기준 시각 이전에 발급(iat)된 토큰은 모두 무효로 처리합니다.
+ * 사용자의 모든 세션 무효화는 토큰 목록 대신 기준 시각 하나만 기록합니다.
+ *
+ * 기준 시각 변경은 Redis Pub/Sub 채널로 전파되며,
+ * 구독이 끊긴 동안에는 로컬 캐시를 사용하지 않고 Redis를 직접 조회합니다.
+ * 드라이버가 알림 없이 재연결하는 경우는 {@link SubscriptionHeartbeat}가 끊김을 감지합니다.
+ */
+@Slf4j
+@Component
+public class SessionEpochCache implements MessageListener, SubscriptionListener {
+
+    public static final String EPOCH_PREFIX = TokenRevocationChecker.EPOCH_PREFIX;
+    public static final String CHANNEL = "session:epoch:events";
+
+    private static final String SEPARATOR = ":";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final LoadingCache<Long, Long> epochs;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    public SessionEpochCache(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${jwt.session-epoch.max-size:100000}") long maxSize,
+            @Value("${jwt.session-epoch.ttl:600000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .build(this::load);
+    }
+
+    /**
+     * 사용자 세션 기준 시각 조회
+     * Redis 조회에 실패하면 예외가 그대로 전달됩니다.
+     *
+     * @param userId 사용자 ID
+     * @return 기준 시각 (밀리초, 없으면 0)
+     */
+    public long getEpoch(Long userId) {
+        return subscribed.get() ? epochs.get(userId) : load(userId);
+    }
+
+    /**
+     * 기준 시각 이전에 발급된 토큰인지 확인
+     */
+    public boolean isIssuedBeforeEpoch(VerifiedToken token) {
+        return token.getIssuedAtMillis() < getEpoch(token.getUserId());
+    }
+
+    /**
+     * 로컬 기준 시각 갱신 및 다른 인스턴스에 전파
+     */
+    public void update(Long userId, long epochMillis) {
+        epochs.asMap().merge(userId, epochMillis, Math::max);
+        redisTemplate.convertAndSend(CHANNEL, userId + SEPARATOR + epochMillis);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body == null) {
+                return;
+            }
+            String payload = body.toString();
+            int index = payload.indexOf(SEPARATOR);
+            Long userId = Long.parseLong(payload.substring(0, index));
+            epochs.asMap().merge(userId, Long.parseLong(payload.substring(index + 1)), Math::max);
+        } catch (RuntimeException e) {
+            log.warn("세션 기준 시각 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        onSubscriptionRestored();
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        onSubscriptionLost("세션 기준 시각 채널 구독 해제");
+    }
+
+    /**
+     * 구독이 (다시) 연결되었을 때 호출
+     * 끊긴 동안의 변경을 놓쳤을 수 있으므로 로컬 캐시를 비우고 다시 적재합니다.
+     */
+    public void onSubscriptionRestored() {
+        epochs.invalidateAll();
+        subscribed.set(true);
+        log.info("세션 기준 시각 채널 구독 시작");
+    }
+
+    /**
+     * 구독이 끊겼을 때 호출 (다시 연결될 때까지 Redis를 직접 조회)
+     */
+    public void onSubscriptionLost(String reason) {
+        subscribed.set(false);
+        log.warn("세션 기준 시각 구독 끊김, Redis를 직접 조회합니다: {}", reason);
+    }
+
+    /**
+     * 구독 처리 중 오류 발생 시 호출
+     */
+    public void onSubscriptionError(Throwable error) {
+        log.warn("세션 기준 시각 구독 오류, 로컬 캐시를 비웁니다: {}", error.getMessage());
+        epochs.invalidateAll();
+    }
+
+    private Long load(Long userId) {
+        Object value = redisTemplate.opsForValue().get(EPOCH_PREFIX + userId);
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
@@ -0,0 +1,96 @@
+package com.xlcfi.auth.security;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * ES256 서명 키 (메모리 표현)
+ */
+@Getter
+@Builder
+public class SigningKey {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final String kid;
+    private final long rotationSlot;
+    private final PrivateKey privateKey;
+    private final ECPublicKey publicKey;
+    private final Instant activatesAt;
+    private final Instant expiresAt;
+
+    /**
+     * 서명에 사용할 수 있는지 여부
+     */
+    public boolean isActive(Instant now) {
+        return !activatesAt.isAfter(now) && expiresAt.isAfter(now);
+    }
+
+    /**
+     * 새 P-256 키 생성
+     */
+    public static SigningKey generate(long rotationSlot, Instant activatesAt, Instant expiresAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"), RANDOM);
+            KeyPair keyPair = generator.generateKeyPair();
+
+            byte[] kid = new byte[12];
+            RANDOM.nextBytes(kid);
+
+            return SigningKey.builder()
+                    .kid(Base64.getUrlEncoder().withoutPadding().encodeToString(kid))
+                    .rotationSlot(rotationSlot)
+                    .privateKey(keyPair.getPrivate())
+                    .publicKey((ECPublicKey) keyPair.getPublic())
+                    .activatesAt(activatesAt)
+                    .expiresAt(expiresAt)
+                    .build();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("서명 키 생성 실패", e);
+        }
+    }
+
+    /**
+     * 인코딩된 키 복원 (PKCS#8 / X.509, Base64)
+     */
+    public static SigningKey decode(String kid, long rotationSlot, String encodedPrivateKey,
+                                    String encodedPublicKey, Instant activatesAt, Instant expiresAt) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            return SigningKey.builder()
+                    .kid(kid)
+                    .rotationSlot(rotationSlot)
+                    .privateKey(keyFactory.generatePrivate(
+                            new PKCS8EncodedKeySpec(Base64.getDecoder().decode(encodedPrivateKey))))
+                    .publicKey((ECPublicKey) keyFactory.generatePublic(
+                            new X509EncodedKeySpec(Base64.getDecoder().decode(encodedPublicKey))))
+                    .activatesAt(activatesAt)
+                    .expiresAt(expiresAt)
+                    .build();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("서명 키 복원 실패: kid=" + kid, e);
+        }
+    }
+
+    public String getEncodedPrivateKey() {
+        return Base64.getEncoder().encodeToString(privateKey.getEncoded());
+    }
+
+    public String getEncodedPublicKey() {
+        return Base64.getEncoder().encodeToString(publicKey.getEncoded());
+    }
+}
@@ -0,0 +1,84 @@
+package com.xlcfi.auth.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * JWT 서명 개인키 암호화 (AES-256-GCM)
+ * 개인키는 환경 변수로 받은 키(jwt.signing.key-encryption-key)로 암호화하여 DB에 저장합니다.
+ * kid를 추가 인증 데이터(AAD)로 사용하므로 다른 행의 암호문으로 바꿔치기하면 복호화에 실패합니다.
+ *
+ * 저장 형식: "v1:" + Base64(IV 12바이트 + 암호문 + 인증 태그)
+ */
+@Component
+public class SigningKeyCipher {
+
+    private static final String VERSION_PREFIX = "v1:";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int KEY_LENGTH = 32;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecureRandom random = new SecureRandom();
+    private final SecretKeySpec key;
+
+    public SigningKeyCipher(@Value("${jwt.signing.key-encryption-key:}") String encodedKey) {
+        if (encodedKey == null || encodedKey.isBlank()) {
+            throw new IllegalStateException(
+                    "서명 키 암호화 키가 없습니다: jwt.signing.key-encryption-key (JWT_KEY_ENCRYPTION_KEY)");
+        }
+        byte[] keyBytes = Base64.getDecoder().decode(encodedKey.trim());
+        if (keyBytes.length != KEY_LENGTH) {
+            throw new IllegalStateException("서명 키 암호화 키는 Base64로 인코딩한 32바이트여야 합니다: " + keyBytes.length);
+        }
+        this.key = new SecretKeySpec(keyBytes, "AES");
+    }
+
+    /**
+     * 인코딩된 개인키 암호화
+     */
+    public String encrypt(String kid, String encodedPrivateKey) {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] ciphertext = cipher.doFinal(encodedPrivateKey.getBytes(StandardCharsets.UTF_8));
+            return VERSION_PREFIX + Base64.getEncoder().encodeToString(
+                    ByteBuffer.allocate(IV_LENGTH + ciphertext.length).put(iv).put(ciphertext).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("서명 키 암호화 실패: kid=" + kid, e);
+        }
+    }
+
+    /**
+     * 암호화된 개인키 복호화
+     *
+     * @throws IllegalStateException 형식이 다르거나 암호화 키가 맞지 않는 경우
+     */
+    public String decrypt(String kid, String storedPrivateKey) {
+        if (!storedPrivateKey.startsWith(VERSION_PREFIX)) {
+            throw new IllegalStateException("암호화되지 않은 서명 키입니다: kid=" + kid);
+        }
+        byte[] payload = Base64.getDecoder().decode(storedPrivateKey.substring(VERSION_PREFIX.length()));
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, payload, 0, IV_LENGTH));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] plaintext = cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH);
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("서명 키 복호화 실패 (암호화 키 확인 필요): kid=" + kid, e);
+        }
+    }
+}
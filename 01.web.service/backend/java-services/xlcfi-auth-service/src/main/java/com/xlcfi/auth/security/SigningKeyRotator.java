@@ -0,0 +1,139 @@
+package com.xlcfi.auth.security;
+
+import com.xlcfi.auth.domain.JwtSigningKey;
+import com.xlcfi.auth.repository.JwtSigningKeyRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 서명 키 회전
+ * 시간을 회전 주기(rotation-interval) 단위의 슬롯으로 나누고, 슬롯마다 하나의 키를 DB에 저장합니다.
+ * 현재 슬롯과 다음 슬롯의 키를 항상 미리 만들어 두므로,
+ * 다음 키는 활성화되기 한 주기 전부터 JWKS에 공개됩니다.
+ *
+ * 여러 인스턴스가 동시에 같은 슬롯의 키를 만들면 rotation_slot 유니크 제약으로 하나만 저장되며,
+ * 모든 인스턴스는 주기적으로 DB에서 키 목록을 다시 읽어 같은 키를 사용합니다.
+ * 키는 마지막 토큰(Refresh Token)이 만료될 때까지 검증용으로 유지됩니다.
+ * 개인키는 {@link SigningKeyCipher}로 암호화하여 저장합니다.
+ */
+@Slf4j
+@Component
+public class SigningKeyRotator {
+
+    private static final long CLOCK_SKEW_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final JwtSigningKeyRepository jwtSigningKeyRepository;
+    private final JwtKeyRing jwtKeyRing;
+    private final SigningKeyCipher signingKeyCipher;
+    private final long rotationIntervalMillis;
+    private final long refreshIntervalMillis;
+    private final long maxTokenLifetimeMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public SigningKeyRotator(
+            JwtSigningKeyRepository jwtSigningKeyRepository,
+            JwtKeyRing jwtKeyRing,
+            SigningKeyCipher signingKeyCipher,
+            @Value("${jwt.signing.rotation-interval:604800000}") long rotationIntervalMillis,
+            @Value("${jwt.signing.refresh-interval:60000}") long refreshIntervalMillis,
+            @Value("${jwt.refresh-token-expiration:2592000000}") long maxTokenLifetimeMillis) {
+        this.jwtSigningKeyRepository = jwtSigningKeyRepository;
+        this.jwtKeyRing = jwtKeyRing;
+        this.signingKeyCipher = signingKeyCipher;
+        this.rotationIntervalMillis = rotationIntervalMillis;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.maxTokenLifetimeMillis = maxTokenLifetimeMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwt-key-rotation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 기동 시 키를 준비한 뒤 주기적으로 회전 / 갱신합니다.
+     * 서명 키 없이는 토큰을 발급할 수 없으므로 최초 준비에 실패하면 기동을 중단합니다.
+     */
+    @PostConstruct
+    public void start() {
+        rotate();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                rotate();
+            } catch (RuntimeException e) {
+                log.error("JWT 서명 키 갱신 실패, 기존 키를 유지합니다: {}", e.getMessage(), e);
+            }
+        }, refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 현재 / 다음 슬롯의 키를 보장하고 키 목록을 다시 읽습니다.
+     */
+    public void rotate() {
+        long currentSlot = System.currentTimeMillis() / rotationIntervalMillis;
+        ensureKey(currentSlot);
+        ensureKey(currentSlot + 1);
+
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        jwtSigningKeyRepository.deleteExpired(now);
+        List<SigningKey> keys = jwtSigningKeyRepository.findByExpiresAtAfter(now).stream()
+                .map(this::toSigningKey)
+                .toList();
+        jwtKeyRing.replace(keys);
+        log.debug("JWT 서명 키 갱신: keys={}, signingKid={}", keys.size(), jwtKeyRing.getSigningKey().getKid());
+    }
+
+    private void ensureKey(long slot) {
+        if (jwtSigningKeyRepository.existsByRotationSlot(slot)) {
+            return;
+        }
+
+        Instant activatesAt = Instant.ofEpochMilli(slot * rotationIntervalMillis);
+        // 슬롯 마지막 순간에 발급된 토큰이 만료될 때까지 검증 키로 유지
+        Instant expiresAt = Instant.ofEpochMilli(
+                (slot + 1) * rotationIntervalMillis + maxTokenLifetimeMillis + CLOCK_SKEW_MILLIS);
+        SigningKey key = SigningKey.generate(slot, activatesAt, expiresAt);
+
+        try {
+            jwtSigningKeyRepository.saveAndFlush(JwtSigningKey.builder()
+                    .kid(key.getKid())
+                    .rotationSlot(slot)
+                    .algorithm("ES256")
+                    .publicKey(key.getEncodedPublicKey())
+                    .privateKey(signingKeyCipher.encrypt(key.getKid(), key.getEncodedPrivateKey()))
+                    .activatesAt(LocalDateTime.ofInstant(activatesAt, ZoneOffset.UTC))
+                    .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC))
+                    .build());
+            log.info("JWT 서명 키 생성: kid={}, slot={}, activatesAt={}", key.getKid(), slot, activatesAt);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 인스턴스가 이미 서명 키를 생성했습니다: slot={}", slot);
+        }
+    }
+
+    private SigningKey toSigningKey(JwtSigningKey entity) {
+        return SigningKey.decode(
+                entity.getKid(),
+                entity.getRotationSlot(),
+                signingKeyCipher.decrypt(entity.getKid(), entity.getPrivateKey()),
+                entity.getPublicKey(),
+                entity.getActivatesAt().toInstant(ZoneOffset.UTC),
+                entity.getExpiresAt().toInstant(ZoneOffset.UTC));
+    }
+}
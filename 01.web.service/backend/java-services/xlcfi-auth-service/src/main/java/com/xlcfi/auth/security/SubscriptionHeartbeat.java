@@ -0,0 +1,107 @@
+package com.xlcfi.auth.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 니어 캐시 구독 상태 확인 (하트비트)
+ * 구독 컨테이너의 오류 핸들러는 리스너 예외만 전달받고, Lettuce는 연결이 끊기면 알림 없이 재연결 / 재구독하므로
+ * 끊긴 동안 놓친 블랙리스트 / 세션 기준 시각 이벤트를 알 수 없습니다.
+ *
+ * 모든 인스턴스가 주기적으로 하트비트 채널에 발행하고, 같은 구독 연결로 하트비트를 받습니다.
+ * timeout 동안 하트비트를 받지 못하면 구독이 끊긴 것으로 보고 각 캐시가 Redis를 직접 조회하게 하며,
+ * 다시 받기 시작하면 각 캐시를 Redis와 다시 동기화합니다.
+ */
+@Slf4j
+@Component
+public class SubscriptionHeartbeat implements MessageListener {
+
+    public static final String CHANNEL = "near-cache:heartbeat";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final BlacklistNearCache blacklistNearCache;
+    private final SessionEpochCache sessionEpochCache;
+    private final long intervalMillis;
+    private final long timeoutNanos;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean alive = new AtomicBoolean(true);
+
+    private volatile long lastReceivedNanos = System.nanoTime();
+
+    public SubscriptionHeartbeat(
+            RedisTemplate<String, Object> redisTemplate,
+            BlacklistNearCache blacklistNearCache,
+            SessionEpochCache sessionEpochCache,
+            @Value("${jwt.near-cache.heartbeat-interval:5000}") long intervalMillis,
+            @Value("${jwt.near-cache.heartbeat-timeout:15000}") long timeoutMillis) {
+        this.redisTemplate = redisTemplate;
+        this.blacklistNearCache = blacklistNearCache;
+        this.sessionEpochCache = sessionEpochCache;
+        this.intervalMillis = intervalMillis;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "near-cache-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::beat, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 하트비트 발행 후 마지막 수신 시각 확인
+     */
+    void beat() {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.debug("니어 캐시 하트비트 발행 실패: {}", e.getMessage());
+        }
+        checkTimeout(System.nanoTime());
+    }
+
+    void checkTimeout(long nowNanos) {
+        if (nowNanos - lastReceivedNanos > timeoutNanos && alive.compareAndSet(true, false)) {
+            String reason = "하트비트 수신 없음 (" + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms)";
+            log.warn("니어 캐시 구독이 끊긴 것으로 판단합니다: {}", reason);
+            blacklistNearCache.onSubscriptionLost(reason);
+            sessionEpochCache.onSubscriptionLost(reason);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        lastReceivedNanos = System.nanoTime();
+        if (alive.compareAndSet(false, true)) {
+            log.info("니어 캐시 하트비트 수신 재개, Redis와 다시 동기화합니다");
+            blacklistNearCache.onSubscriptionRestored();
+            sessionEpochCache.onSubscriptionRestored();
+        }
+    }
+
+    /**
+     * 구독이 살아 있다고 판단하는지 여부
+     */
+    public boolean isAlive() {
+        return alive.get();
+    }
+}
@@ -0,0 +1,46 @@
+package com.xlcfi.auth.security;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 JWT의 클레임
+ * 토큰을 한 번만 파싱하고 필요한 클레임을 모두 담아 반환합니다.
+ */
+@Getter
+@Builder
+public class VerifiedToken {
+
+    /**
+     * 토큰 ID (jti 클레임, jti가 없는 이전 토큰은 토큰 다이제스트)
+     */
+    private final String jti;
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final String type;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+
+    /**
+     * 토큰 만료 여부
+     */
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    /**
+     * 남은 유효 시간 (밀리초)
+     */
+    public long getRemainingMillis(long nowMillis) {
+        return Math.max(expiresAtMillis - nowMillis, 0);
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
@@ -0,0 +1,105 @@
+package com.xlcfi.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.xlcfi.auth.service.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 토큰 캐시
+ * 같은 Access Token으로 반복되는 요청은 서명 검증 없이 캐시된 클레임을 사용합니다.
+ *
+ * 캐시 키는 토큰 원문이 아닌 SHA-256 다이제스트이며,
+ * 각 항목은 토큰 만료 시각과 최대 보관 시간 중 빠른 시점에 제거됩니다.
+ * 블랙리스트 확인은 캐시와 별개로 매 요청마다 수행됩니다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.verified-cache.max-ttl:300000}") long maxTtlMillis) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.MILLISECONDS.toNanos(maxTtlMillis)))
+                .build();
+    }
+
+    /**
+     * 토큰 검증 (캐시 우선)
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보 (유효하지 않으면 null)
+     */
+    public VerifiedToken resolve(String token) {
+        String key = TokenDigest.of(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached;
+        }
+
+        VerifiedToken verified = jwtTokenProvider.verifyToken(token);
+        if (verified != null && !verified.isExpired(now)) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * 캐시에서 토큰 제거
+     */
+    public void evict(String token) {
+        cache.invalidate(TokenDigest.of(token));
+    }
+
+    /**
+     * 현재 캐시 항목 수 (근사치)
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 토큰 만료 시각과 최대 보관 시간 중 빠른 시점에 항목을 만료시킵니다.
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private final long maxTtlNanos;
+
+        TokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(
+                    token.getRemainingMillis(System.currentTimeMillis()));
+            return Math.min(remainingNanos, maxTtlNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
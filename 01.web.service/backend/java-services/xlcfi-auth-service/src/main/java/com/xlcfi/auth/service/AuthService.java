@@ -4,14 +4,16 @@ import com.xlcfi.auth.domain.User;
 import com.xlcfi.auth.domain.UserStatus;
 import com.xlcfi.auth.dto.*;
 import com.xlcfi.auth.repository.UserRepository;
+import com.xlcfi.auth.security.PasswordHashingExecutor;
+import com.xlcfi.auth.security.VerifiedToken;
 import com.xlcfi.common.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 
 @Slf4j
 @Service
@@ -21,13 +23,16 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
+    private final LastLoginRecorder lastLoginRecorder;
 
     /**
      * 회원가입
+     * 비밀번호 해시 중에 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse register(RegisterRequest request) {
         log.info("회원가입 시도: email={}", request.getEmail());
 
@@ -39,7 +44,7 @@ public class AuthService {
         // 사용자 생성
         User user = User.builder()
                 .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHashingExecutor.encode(request.getPassword()))
                 .name(request.getName())
                 .phone(request.getPhone())
                 .role(request.getRole())
@@ -55,8 +60,10 @@ public class AuthService {
 
     /**
      * 로그인
+     * 비밀번호 해시 중에 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행합니다.
+     * 마지막 로그인 시간은 지연 기록하므로, 해시 cost 갱신 외에는 users 테이블에 쓰지 않습니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
         log.info("로그인 시도: email={}", request.getEmail());
 
@@ -65,7 +72,7 @@ public class AuthService {
                 .orElseThrow(() -> new BusinessException("AUTH002", "이메일 또는 비밀번호가 올바르지 않습니다"));
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHashingExecutor.matches(request.getPassword(), user.getPasswordHash())) {
             throw new BusinessException("AUTH002", "이메일 또는 비밀번호가 올바르지 않습니다");
         }
 
@@ -77,9 +84,16 @@ public class AuthService {
             throw new BusinessException("AUTH004", "비활성화된 계정입니다");
         }
 
-        // 마지막 로그인 시간 업데이트
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        // BCrypt cost가 변경되었으면 현재 cost로 다시 해시
+        if (passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+            user.updatePassword(passwordHashingExecutor.encode(request.getPassword()));
+            userRepository.save(user);
+            log.info("비밀번호 해시 cost 갱신: userId={}", user.getId());
+        }
+
+        // 마지막 로그인 시간 업데이트 (일괄 반영)
+        user.updateLastLoginAt();
+        lastLoginRecorder.record(user.getId(), user.getLastLoginAt());
 
         // JWT 토큰 생성
         String accessToken = jwtTokenProvider.generateAccessToken(user);
@@ -157,13 +171,15 @@ public class AuthService {
     public LoginResponse refreshToken(String refreshToken) {
         log.info("토큰 갱신 시도");
 
-        // 리프레시 토큰 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // 리프레시 토큰 검증 (서명, 토큰 종류, 폐기 여부)
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyToken(refreshToken);
+        if (verifiedToken == null || !verifiedToken.isRefreshToken()
+                || tokenBlacklistService.isRevoked(verifiedToken)) {
             throw new BusinessException("AUTH006", "유효하지 않은 리프레시 토큰입니다");
         }
 
         // 사용자 ID 추출
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+        Long userId = verifiedToken.getUserId();
 
         // 사용자 조회
         User user = userRepository.findById(userId)
@@ -1,29 +1,59 @@
 package com.xlcfi.auth.service;
 
 import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.security.JwtKeyRing;
+import com.xlcfi.auth.security.SigningKey;
+import com.xlcfi.auth.security.TokenDigest;
+import com.xlcfi.auth.security.VerifiedToken;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
-
+import java.util.UUID;
+
+/**
+ * JWT 발급 / 검증
+ * 토큰은 ES256으로 서명하고 헤더의 kid로 서명 키를 식별하므로,
+ * 다른 서비스는 JWKS 공개키만으로 토큰을 검증할 수 있습니다.
+ *
+ * jwt.secret 이 설정되어 있으면 kid가 없는 기존 HS256 토큰도 만료될 때까지 검증합니다.
+ */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey;
+    private final JwtKeyRing jwtKeyRing;
+    private final SecretKey legacySecretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenExpirationTime;
     private final long refreshTokenExpirationTime;
 
     public JwtTokenProvider(
-            @Value("${jwt.secret:xlcfi-secret-key-for-jwt-token-generation-minimum-256-bits}") String secret,
+            JwtKeyRing jwtKeyRing,
+            @Value("${jwt.secret:}") String legacySecret,
             @Value("${jwt.access-token-expiration:3600000}") long accessTokenExpiration,
             @Value("${jwt.refresh-token-expiration:2592000000}") long refreshTokenExpiration) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtKeyRing = jwtKeyRing;
+        this.legacySecretKey = StringUtils.hasText(legacySecret)
+                ? Keys.hmacShaKeyFor(legacySecret.getBytes(StandardCharsets.UTF_8))
+                : null;
+        // JwtParser는 불변 객체이므로 한 번만 생성하여 재사용
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveVerificationKey(header);
+                    }
+                })
+                .build();
         this.accessTokenExpirationTime = accessTokenExpiration;
         this.refreshTokenExpirationTime = refreshTokenExpiration;
     }
@@ -34,15 +64,18 @@ public class JwtTokenProvider {
     public String generateAccessToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpirationTime);
+        SigningKey signingKey = jwtKeyRing.getSigningKey();
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .setId(UUID.randomUUID().toString())
                 .setSubject(String.valueOf(user.getId()))
                 .claim("email", user.getEmail())
                 .claim("role", user.getRole().name())
                 .claim("type", "access")
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .signWith(signingKey.getPrivateKey(), SignatureAlgorithm.ES256)
                 .compact();
     }
 
@@ -52,13 +85,16 @@ public class JwtTokenProvider {
     public String generateRefreshToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshTokenExpirationTime);
+        SigningKey signingKey = jwtKeyRing.getSigningKey();
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .setId(UUID.randomUUID().toString())
                 .setSubject(String.valueOf(user.getId()))
                 .claim("type", "refresh")
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .signWith(signingKey.getPrivateKey(), SignatureAlgorithm.ES256)
                 .compact();
     }
 
@@ -66,33 +102,46 @@ public class JwtTokenProvider {
      * 토큰 검증
      */
     public boolean validateToken(String token) {
+        return verifyToken(token) != null;
+    }
+
+    /**
+     * 토큰 검증 및 클레임 추출
+     * 서명을 한 번만 검증하고 필요한 클레임을 모두 반환합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보 (유효하지 않으면 null)
+     */
+    public VerifiedToken verifyToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("잘못된 JWT 서명입니다: {}", e.getMessage());
+            Claims claims = parseClaims(token);
+
+            return VerifiedToken.builder()
+                    .jti(claims.getId() != null ? claims.getId() : TokenDigest.of(token))
+                    .userId(Long.parseLong(claims.getSubject()))
+                    .email(claims.get("email", String.class))
+                    .role(claims.get("role", String.class))
+                    .type(claims.get("type", String.class))
+                    .issuedAtMillis(claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L)
+                    .expiresAtMillis(claims.getExpiration().getTime())
+                    .build();
         } catch (ExpiredJwtException e) {
             log.error("만료된 JWT 토큰입니다: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             log.error("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("잘못된 JWT 서명입니다: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 
     /**
      * 토큰에서 사용자 ID 추출
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
 
         return Long.parseLong(claims.getSubject());
     }
@@ -101,11 +150,7 @@ public class JwtTokenProvider {
      * 토큰에서 사용자 이메일 추출
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
 
         return claims.get("email", String.class);
     }
@@ -114,11 +159,7 @@ public class JwtTokenProvider {
      * 토큰에서 역할 추출
      */
     public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
 
         return claims.get("role", String.class);
     }
@@ -130,16 +171,19 @@ public class JwtTokenProvider {
         return accessTokenExpirationTime / 1000;
     }
 
+    /**
+     * Refresh Token 유효 기간 반환 (밀리초)
+     */
+    public long getRefreshTokenExpirationMillis() {
+        return refreshTokenExpirationTime;
+    }
+
     /**
      * 토큰의 남은 유효 시간 반환 (밀리초)
      */
     public long getExpirationTime(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parseClaims(token);
             
             Date expiration = claims.getExpiration();
             Date now = new Date();
@@ -151,5 +195,27 @@ public class JwtTokenProvider {
             return 0;
         }
     }
-}
 
+    /**
+     * 토큰 헤더로 검증 키 선택
+     * kid가 있으면 ES256 공개키, 없으면 (설정된 경우에만) 기존 HS256 키를 사용합니다.
+     */
+    private Key resolveVerificationKey(JwsHeader<?> header) {
+        String kid = header.getKeyId();
+        if (kid != null) {
+            SigningKey key = jwtKeyRing.findKey(kid);
+            if (key == null) {
+                throw new SignatureException("알 수 없는 서명 키입니다: kid=" + kid);
+            }
+            return key.getPublicKey();
+        }
+        if (legacySecretKey != null && SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+            return legacySecretKey;
+        }
+        throw new UnsupportedJwtException("kid가 없는 토큰입니다: alg=" + header.getAlgorithm());
+    }
+
+    private Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+}
@@ -0,0 +1,147 @@
+package com.xlcfi.auth.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마지막 로그인 시간 지연 기록 (write-behind)
+ * 로그인마다 users 행을 갱신하지 않고, 사용자별 최신 로그인 시간만 메모리에 모았다가
+ * 주기적으로 또는 일정 건수가 쌓이면 한 번의 UPDATE ... FROM (VALUES ...) 로 반영합니다.
+ *
+ * 같은 사용자의 로그인은 하나로 합쳐지며, 애플리케이션 종료 시 남은 항목을 모두 반영합니다.
+ * 비정상 종료 시에는 마지막 flush 이후의 로그인 시간이 유실될 수 있습니다.
+ */
+@Slf4j
+@Component
+public class LastLoginRecorder {
+
+    private static final String UPDATE_SQL_PREFIX =
+            "UPDATE users AS u SET last_login_at = v.last_login_at FROM (VALUES ";
+    private static final String UPDATE_SQL_ROW = "(CAST(? AS BIGINT), CAST(? AS TIMESTAMP))";
+    private static final String UPDATE_SQL_SUFFIX =
+            ") AS v(id, last_login_at) WHERE u.id = v.id"
+                    + " AND (u.last_login_at IS NULL OR u.last_login_at < v.last_login_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public LastLoginRecorder(
+            JdbcTemplate jdbcTemplate,
+            @Value("${auth.last-login.flush-interval:1000}") long flushIntervalMillis,
+            @Value("${auth.last-login.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        // flush는 단일 스레드에서만 실행되므로 동시에 두 번 반영되지 않습니다.
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "last-login-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(
+                this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 로그인 시간 기록 (DB 반영은 지연)
+     *
+     * @param userId 사용자 ID
+     * @param loginAt 로그인 시각
+     */
+    public void record(Long userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+
+        if (pending.size() >= batchSize) {
+            try {
+                scheduler.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 shutdown()의 마지막 flush가 처리합니다.
+            }
+        }
+    }
+
+    /**
+     * 반영 대기 중인 사용자 수
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 로그인 시간을 DB에 반영
+     *
+     * @return 반영한 사용자 수
+     */
+    public int flush() {
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                batch.add(Map.entry(userId, loginAt));
+            }
+        }
+
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            List<Map.Entry<Long, LocalDateTime>> chunk = batch.subList(from, Math.min(from + batchSize, batch.size()));
+            try {
+                update(chunk);
+            } catch (RuntimeException e) {
+                // 반영하지 못한 항목은 다음 flush에서 다시 시도 (그 사이 더 최신 로그인이 있으면 그 값을 유지)
+                batch.subList(from, batch.size()).forEach(entry -> pending.merge(entry.getKey(), entry.getValue(),
+                        (current, failed) -> current.isAfter(failed) ? current : failed));
+                throw e;
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            log.debug("마지막 로그인 시간 반영: users={}", batch.size());
+        }
+        return batch.size();
+    }
+
+    private void update(List<Map.Entry<Long, LocalDateTime>> chunk) {
+        StringBuilder sql = new StringBuilder(UPDATE_SQL_PREFIX);
+        Object[] args = new Object[chunk.size() * 2];
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(UPDATE_SQL_ROW);
+            args[i * 2] = chunk.get(i).getKey();
+            args[i * 2 + 1] = Timestamp.valueOf(chunk.get(i).getValue());
+        }
+        sql.append(UPDATE_SQL_SUFFIX);
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("마지막 로그인 시간 반영 실패: pending={}, error={}", pending.size(), e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        flushQuietly();
+        log.info("마지막 로그인 시간 지연 기록 종료: 미반영 users={}", pending.size());
+    }
+}
@@ -1,5 +1,8 @@
 package com.xlcfi.auth.service;
 
+import com.xlcfi.auth.security.BlacklistNearCache;
+import com.xlcfi.auth.security.SessionEpochCache;
+import com.xlcfi.auth.security.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -10,6 +13,13 @@ import java.util.concurrent.TimeUnit;
 /**
  * 토큰 블랙리스트 관리 서비스
  * Redis를 사용하여 로그아웃된 토큰을 블랙리스트에 추가하고 검증합니다.
+ *
+ * 블랙리스트는 토큰 원문 대신 토큰 ID(jti)로 관리하며,
+ * 사용자의 모든 세션 무효화는 사용자별 기준 시각({@link SessionEpochCache})으로 처리합니다.
+ *
+ * 블랙리스트 확인은 {@link BlacklistNearCache}에서 먼저 수행하며,
+ * 니어 캐시가 Redis와 동기화되지 않은 동안에만 Redis를 직접 조회합니다.
+ * 이때 Redis 조회도 실패하면 토큰을 거부합니다 (fail-closed).
  */
 @Slf4j
 @Service
@@ -18,8 +28,11 @@ public class TokenBlacklistService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
+    private final BlacklistNearCache blacklistNearCache;
+    private final SessionEpochCache sessionEpochCache;
 
-    private static final String BLACKLIST_PREFIX = "blacklist:token:";
+    private static final String BLACKLIST_PREFIX = BlacklistNearCache.BLACKLIST_PREFIX;
+    private static final String EPOCH_PREFIX = SessionEpochCache.EPOCH_PREFIX;
     private static final String REFRESH_TOKEN_PREFIX = "refresh:token:";
 
     /**
@@ -29,42 +42,59 @@ public class TokenBlacklistService {
      * @param refreshToken Refresh Token
      */
     public void addToBlacklist(String accessToken, String refreshToken) {
+        blacklistToken(accessToken, "Access Token");
+        blacklistToken(refreshToken, "Refresh Token");
+    }
+
+    /**
+     * 단일 토큰 블랙리스트 추가 (남은 유효 시간만큼 보관)
+     * 로컬 니어 캐시에 먼저 반영하므로 Redis 장애 시에도 이 인스턴스에서는 즉시 거부됩니다.
+     */
+    private void blacklistToken(String token, String tokenType) {
         try {
-            // Access Token 블랙리스트 추가 (남은 유효 시간만큼 보관)
-            long accessTokenExpiration = jwtTokenProvider.getExpirationTime(accessToken);
-            if (accessTokenExpiration > 0) {
-                String accessKey = BLACKLIST_PREFIX + accessToken;
-                redisTemplate.opsForValue().set(accessKey, "true", accessTokenExpiration, TimeUnit.MILLISECONDS);
-                log.info("Access Token이 블랙리스트에 추가되었습니다: expiration={}ms", accessTokenExpiration);
+            VerifiedToken verifiedToken = jwtTokenProvider.verifyToken(token);
+            if (verifiedToken == null) {
+                return;
             }
-
-            // Refresh Token 블랙리스트 추가
-            long refreshTokenExpiration = jwtTokenProvider.getExpirationTime(refreshToken);
-            if (refreshTokenExpiration > 0) {
-                String refreshKey = BLACKLIST_PREFIX + refreshToken;
-                redisTemplate.opsForValue().set(refreshKey, "true", refreshTokenExpiration, TimeUnit.MILLISECONDS);
-                log.info("Refresh Token이 블랙리스트에 추가되었습니다: expiration={}ms", refreshTokenExpiration);
+            long expiration = verifiedToken.getRemainingMillis(System.currentTimeMillis());
+            if (expiration <= 0) {
+                return;
             }
+            String jti = verifiedToken.getJti();
+            blacklistNearCache.add(jti, verifiedToken.getExpiresAtMillis());
 
+            redisTemplate.opsForValue().set(BLACKLIST_PREFIX + jti, "true", expiration, TimeUnit.MILLISECONDS);
+            blacklistNearCache.publish(jti, verifiedToken.getExpiresAtMillis());
+            log.info("{}이 블랙리스트에 추가되었습니다: expiration={}ms", tokenType, expiration);
         } catch (Exception e) {
-            log.error("토큰 블랙리스트 추가 실패: {}", e.getMessage(), e);
+            log.error("{} 블랙리스트 추가 실패: {}", tokenType, e.getMessage(), e);
         }
     }
 
     /**
-     * 토큰이 블랙리스트에 있는지 확인
+     * 토큰이 폐기되었는지 확인
+     * 블랙리스트에 있거나 사용자 세션 기준 시각 이전에 발급된 토큰이면 폐기된 것으로 봅니다.
      * 
-     * @param token 확인할 토큰
-     * @return 블랙리스트에 있으면 true
+     * @param token 서명 검증이 끝난 토큰
+     * @return 폐기되었으면 true
      */
-    public boolean isBlacklisted(String token) {
+    public boolean isRevoked(VerifiedToken token) {
+        if (blacklistNearCache.contains(token.getJti())) {
+            return true;
+        }
+
         try {
-            String key = BLACKLIST_PREFIX + token;
-            Boolean exists = redisTemplate.hasKey(key);
+            if (sessionEpochCache.isIssuedBeforeEpoch(token)) {
+                return true;
+            }
+            if (blacklistNearCache.isSynced()) {
+                return false;
+            }
+            Boolean exists = redisTemplate.hasKey(BLACKLIST_PREFIX + token.getJti());
             return Boolean.TRUE.equals(exists);
         } catch (Exception e) {
-            log.error("블랙리스트 확인 실패: {}", e.getMessage(), e);
-            return false;
+            log.error("토큰 폐기 여부 확인 실패, 토큰을 거부합니다: {}", e.getMessage(), e);
+            return true;
         }
     }
 
@@ -121,11 +151,18 @@ public class TokenBlacklistService {
     /**
      * 특정 사용자의 모든 세션 무효화
      * (강제 로그아웃, 계정 정지 등)
+     * 현재 시각 이전에 발급된 Access / Refresh Token을 모두 무효화합니다.
      * 
      * @param userId 사용자 ID
      */
     public void invalidateAllSessions(Long userId) {
         try {
+            // iat는 초 단위이므로 다음 초로 올림하여 같은 초에 발급된 토큰까지 무효화
+            long epoch = (System.currentTimeMillis() / 1000 + 1) * 1000;
+            // Refresh Token 유효 기간이 지나면 기준 시각 이전 토큰은 모두 만료되므로 키도 함께 만료
+            redisTemplate.opsForValue().set(EPOCH_PREFIX + userId, epoch,
+                    jwtTokenProvider.getRefreshTokenExpirationMillis(), TimeUnit.MILLISECONDS);
+            sessionEpochCache.update(userId, epoch);
             deleteRefreshToken(userId);
             log.info("사용자의 모든 세션이 무효화되었습니다: userId={}", userId);
         } catch (Exception e) {
@@ -0,0 +1,35 @@
+-- ==========================================
+-- V2: JWT 서명 키 테이블 생성
+-- ==========================================
+
+-- JWT 서명 키 테이블 (ES256, 회전 주기마다 1개)
+CREATE TABLE jwt_signing_keys (
+    -- 기본키 (JWT 헤더의 kid)
+    kid VARCHAR(64) PRIMARY KEY,
+
+    -- 회전 주기 번호 (중복 생성 방지)
+    rotation_slot BIGINT UNIQUE NOT NULL,
+
+    -- 키 정보
+    algorithm VARCHAR(10) NOT NULL,
+    public_key TEXT NOT NULL,   -- X.509 (Base64)
+    private_key TEXT NOT NULL,  -- PKCS#8 (AES-256-GCM 암호화, Base64)
+
+    -- 유효 기간 (UTC)
+    activates_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+
+    -- 타임스탬프
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- 인덱스
+CREATE INDEX idx_jwt_signing_keys_expires_at ON jwt_signing_keys(expires_at);
+
+-- 주석
+COMMENT ON TABLE jwt_signing_keys IS 'JWT 서명 키 테이블';
+COMMENT ON COLUMN jwt_signing_keys.private_key IS 'PKCS#8 개인키 (AES-256-GCM 암호화, 키는 JWT_KEY_ENCRYPTION_KEY)';
+COMMENT ON COLUMN jwt_signing_keys.rotation_slot IS '키 회전 주기 번호 (epoch / 회전 주기)';
+COMMENT ON COLUMN jwt_signing_keys.activates_at IS '서명에 사용되기 시작하는 시각 (이전에는 JWKS에만 공개)';
+COMMENT ON COLUMN jwt_signing_keys.expires_at IS '검증 키로도 사용하지 않는 시각';
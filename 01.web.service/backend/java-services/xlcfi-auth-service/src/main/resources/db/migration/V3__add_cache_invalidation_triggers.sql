@@ -0,0 +1,65 @@
+-- ==========================================
+-- V3: 캐시 무효화 알림 (LISTEN/NOTIFY)
+-- ==========================================
+
+-- 캐시 무효화 알림 함수 (문장 단위 트리거)
+-- 페이로드: '{테이블}:{id,id,...}', 변경된 행이 100개를 넘으면 '{테이블}:*' (NOTIFY 페이로드 8000바이트 제한)
+-- 트리거 인자로 받은 컬럼(조회수, updated_at 등)만 바뀐 UPDATE는 알리지 않음
+-- 같은 트랜잭션 안의 동일한 알림은 PostgreSQL이 하나로 합쳐서 전달
+CREATE OR REPLACE FUNCTION notify_cache_invalidation()
+RETURNS TRIGGER AS $$
+DECLARE
+    ignored_columns TEXT[] := COALESCE(TG_ARGV, ARRAY[]::TEXT[]);
+    changed_count INTEGER;
+    changed_ids TEXT;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        SELECT count(*), string_agg(id::TEXT, ',')
+        INTO changed_count, changed_ids
+        FROM (SELECT id FROM new_rows LIMIT 101) t;
+    ELSIF TG_OP = 'DELETE' THEN
+        SELECT count(*), string_agg(id::TEXT, ',')
+        INTO changed_count, changed_ids
+        FROM (SELECT id FROM old_rows LIMIT 101) t;
+    ELSE
+        SELECT count(*), string_agg(id::TEXT, ',')
+        INTO changed_count, changed_ids
+        FROM (
+            SELECT n.id
+            FROM new_rows n
+            JOIN old_rows o ON o.id = n.id
+            WHERE (to_jsonb(n) - ignored_columns) IS DISTINCT FROM (to_jsonb(o) - ignored_columns)
+            LIMIT 101
+        ) t;
+    END IF;
+
+    IF changed_count = 0 THEN
+        RETURN NULL;
+    END IF;
+    IF changed_count > 100 THEN
+        changed_ids := '*';
+    END IF;
+
+    PERFORM pg_notify('xlcfi_cache_invalidation', TG_TABLE_NAME || ':' || changed_ids);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 사용자 (마지막 로그인 시각만 바뀐 경우 제외)
+CREATE TRIGGER notify_users_insert
+    AFTER INSERT ON users
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_cache_invalidation('last_login_at', 'updated_at');
+
+CREATE TRIGGER notify_users_update
+    AFTER UPDATE ON users
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_cache_invalidation('last_login_at', 'updated_at');
+
+CREATE TRIGGER notify_users_delete
+    AFTER DELETE ON users
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_cache_invalidation('last_login_at', 'updated_at');
@@ -9,6 +9,9 @@ import com.xlcfi.auth.dto.LoginRequest;
 import com.xlcfi.auth.dto.RegisterRequest;
 import com.xlcfi.auth.dto.UpdateProfileRequest;
 import com.xlcfi.auth.repository.UserRepository;
+import com.xlcfi.common.query.QueryCount;
+import com.xlcfi.common.query.QueryCountFilter;
+import com.xlcfi.common.query.QueryCounter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -184,6 +187,24 @@ class AuthControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.name").value("테스트유저"));
     }
 
+    @Test
+    @DisplayName("프로필 조회 쿼리 수 예산 - SELECT 1회")
+    void getProfile_QueryBudget() throws Exception {
+        // Given
+        String token = loginAndGetToken();
+
+        // When & Then
+        try (QueryCount queries = QueryCounter.start()) {
+            mockMvc.perform(get("/api/auth/profile")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(QueryCountFilter.HEADER, "1"));
+
+            assertThat(queries.getSelect()).isEqualTo(1);
+            assertThat(queries.getTotal()).isEqualTo(1);
+        }
+    }
+
     @Test
     @DisplayName("프로필 조회 실패 - 토큰 없음")
     void getProfile_NoToken() throws Exception {
@@ -0,0 +1,153 @@
+package com.xlcfi.auth.security;
+
+import com.xlcfi.common.exception.RetryableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 폭주 중 프로필 조회 지연 부하 테스트
+ * Tomcat 요청 스레드 풀을 고정 크기 스레드 풀로 모사하여,
+ * 로그인 요청이 몰리는 동안 가벼운 요청(프로필 조회)의 지연 시간을 측정합니다.
+ *
+ * 실행: ./gradlew :xlcfi-auth-service:loadTest
+ */
+@Tag("load")
+@DisplayName("비밀번호 해시 실행기 부하 테스트")
+class PasswordHashingLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingLoadTest.class);
+
+    private static final int WORKER_THREADS = 32;
+    private static final int LOGIN_REQUESTS = 400;
+    private static final long LOGIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(3);
+    private static final int PROFILE_REQUESTS = 50;
+    private static final long PROFILE_INTERVAL_MILLIS = 20;
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(10);
+    private final String encodedPassword = passwordEncoder.encode("password123");
+
+    private ExecutorService workers;
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @BeforeEach
+    void setUp() {
+        workers = Executors.newFixedThreadPool(WORKER_THREADS);
+        passwordHashingExecutor = new PasswordHashingExecutor(passwordEncoder, 0, 0, 5000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("로그인 폭주 중에도 프로필 조회 지연 시간이 유지됨")
+    void profileLatencyStaysFlatDuringLoginFlood() throws Exception {
+        // Given
+        long idleP99 = percentile(measureProfileLatency(), 99);
+
+        // When: 요청 스레드에서 직접 해시 (기존 방식)
+        AtomicInteger direct = new AtomicInteger();
+        List<Long> directLatency = measureDuringFlood(
+                password -> {
+                    passwordEncoder.matches(password, encodedPassword);
+                    direct.incrementAndGet();
+                });
+
+        // When: 전용 해시 실행기 사용
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Long> isolatedLatency = measureDuringFlood(
+                password -> {
+                    try {
+                        passwordHashingExecutor.matches(password, encodedPassword);
+                        completed.incrementAndGet();
+                    } catch (RetryableException e) {
+                        rejected.incrementAndGet();
+                    }
+                });
+
+        // Then
+        long directP99 = percentile(directLatency, 99);
+        long isolatedP99 = percentile(isolatedLatency, 99);
+        log.info("프로필 조회 p99 (ms): idle={}, direct={}, executor={}",
+                toMillis(idleP99), toMillis(directP99), toMillis(isolatedP99));
+        log.info("로그인: direct completed={}, executor completed={}, rejected={}",
+                direct.get(), completed.get(), rejected.get());
+
+        assertThat(rejected.get()).isPositive();
+        assertThat(isolatedP99).isLessThan(directP99);
+        assertThat(isolatedP99).isLessThan(Math.max(idleP99 * 10, TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    /**
+     * 측정 구간 동안 로그인 요청을 계속 제출하면서, 일정 간격으로 프로필 조회 요청을 보내 지연 시간을 측정합니다.
+     */
+    private List<Long> measureDuringFlood(Consumer<String> login) throws Exception {
+        List<Future<?>> logins = Collections.synchronizedList(new ArrayList<>());
+        Thread flooder = new Thread(() -> {
+            for (int i = 0; i < LOGIN_REQUESTS && !Thread.currentThread().isInterrupted(); i++) {
+                logins.add(workers.submit(() -> login.accept("password123")));
+                LockSupport.parkNanos(LOGIN_INTERVAL_NANOS);
+            }
+        });
+        flooder.start();
+
+        List<Long> latency = measureProfileLatency();
+
+        flooder.join();
+        for (Future<?> future : logins) {
+            future.get();
+        }
+        return latency;
+    }
+
+    private List<Long> measureProfileLatency() throws Exception {
+        List<Long> latency = new ArrayList<>();
+        for (int i = 0; i < PROFILE_REQUESTS; i++) {
+            long submittedAt = System.nanoTime();
+            workers.submit(this::profile).get();
+            latency.add(System.nanoTime() - submittedAt);
+            Thread.sleep(PROFILE_INTERVAL_MILLIS);
+        }
+        return latency;
+    }
+
+    /**
+     * 프로필 조회 모사 (해시 없는 가벼운 요청)
+     */
+    private String profile() {
+        return "user:" + System.nanoTime();
+    }
+
+    private long percentile(List<Long> values, int percentile) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+
+    private long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -0,0 +1,70 @@
+package com.xlcfi.auth.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SigningKeyCipher Unit Test
+ */
+@DisplayName("JWT 서명 개인키 암호화 단위 테스트")
+class SigningKeyCipherTest {
+
+    private static final String KEY = "uPoNhsDxVnZNCmACq8+DamYeuHdDMxxSwov9MsOJvVs=";
+    private static final String OTHER_KEY = "7dFQqnCA57GbtIe9+1OzVm8YXtRzAx1YPF7+1AQiey0=";
+
+    private final SigningKeyCipher cipher = new SigningKeyCipher(KEY);
+
+    @Test
+    @DisplayName("암호화한 개인키를 복호화하여 같은 키로 복원")
+    void encryptDecrypt_RoundTrip() {
+        // Given
+        SigningKey key = SigningKey.generate(1L, Instant.now(), Instant.now().plusSeconds(60));
+
+        // When
+        String stored = cipher.encrypt(key.getKid(), key.getEncodedPrivateKey());
+
+        // Then
+        assertThat(stored).startsWith("v1:").doesNotContain(key.getEncodedPrivateKey());
+        assertThat(cipher.decrypt(key.getKid(), stored)).isEqualTo(key.getEncodedPrivateKey());
+    }
+
+    @Test
+    @DisplayName("다른 kid의 행으로 옮긴 암호문은 복호화 실패")
+    void decrypt_OtherKid_Fails() {
+        String stored = cipher.encrypt("kid-1", "private-key");
+
+        assertThatThrownBy(() -> cipher.decrypt("kid-2", stored))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("다른 암호화 키로는 복호화 실패")
+    void decrypt_OtherEncryptionKey_Fails() {
+        String stored = cipher.encrypt("kid-1", "private-key");
+
+        assertThatThrownBy(() -> new SigningKeyCipher(OTHER_KEY).decrypt("kid-1", stored))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("평문으로 저장된 개인키 거부")
+    void decrypt_Plaintext_Rejected() {
+        assertThatThrownBy(() -> cipher.decrypt("kid-1", "MIGHAgEAMBMGByqGSM49AgEG"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("암호화되지 않은");
+    }
+
+    @Test
+    @DisplayName("암호화 키가 없거나 길이가 다르면 기동 실패")
+    void constructor_InvalidKey_Fails() {
+        assertThatThrownBy(() -> new SigningKeyCipher(""))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new SigningKeyCipher("c2hvcnQ="))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.xlcfi.auth.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * SubscriptionHeartbeat Unit Test
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("니어 캐시 구독 하트비트 단위 테스트")
+class SubscriptionHeartbeatTest {
+
+    private static final long TIMEOUT_MILLIS = 15_000;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private BlacklistNearCache blacklistNearCache;
+
+    @Mock
+    private SessionEpochCache sessionEpochCache;
+
+    private SubscriptionHeartbeat heartbeat;
+
+    @BeforeEach
+    void setUp() {
+        heartbeat = new SubscriptionHeartbeat(
+                redisTemplate, blacklistNearCache, sessionEpochCache, 5_000, TIMEOUT_MILLIS);
+    }
+
+    @Test
+    @DisplayName("timeout 이내에는 구독이 살아 있는 것으로 판단")
+    void checkTimeout_WithinTimeout() {
+        heartbeat.checkTimeout(System.nanoTime());
+
+        assertThat(heartbeat.isAlive()).isTrue();
+        verifyNoInteractions(blacklistNearCache, sessionEpochCache);
+    }
+
+    @Test
+    @DisplayName("하트비트가 끊기면 각 캐시가 Redis를 직접 조회하도록 전환 (한 번만)")
+    void checkTimeout_Expired_MarksLost() {
+        long later = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS + 1);
+
+        heartbeat.checkTimeout(later);
+        heartbeat.checkTimeout(later);
+
+        assertThat(heartbeat.isAlive()).isFalse();
+        verify(blacklistNearCache, times(1)).onSubscriptionLost(anyString());
+        verify(sessionEpochCache, times(1)).onSubscriptionLost(anyString());
+    }
+
+    @Test
+    @DisplayName("끊긴 뒤 하트비트를 다시 받으면 각 캐시를 재동기화")
+    void onMessage_AfterLoss_Restores() {
+        heartbeat.checkTimeout(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS + 1));
+
+        heartbeat.onMessage(null, null);
+        heartbeat.onMessage(null, null);
+
+        assertThat(heartbeat.isAlive()).isTrue();
+        verify(blacklistNearCache, times(1)).onSubscriptionRestored();
+        verify(sessionEpochCache, times(1)).onSubscriptionRestored();
+    }
+
+    @Test
+    @DisplayName("구독이 살아 있는 동안 받은 하트비트는 재동기화하지 않음")
+    void onMessage_WhileAlive_NoResync() {
+        heartbeat.onMessage(null, null);
+
+        verify(blacklistNearCache, never()).onSubscriptionRestored();
+        verify(sessionEpochCache, never()).onSubscriptionRestored();
+    }
+}
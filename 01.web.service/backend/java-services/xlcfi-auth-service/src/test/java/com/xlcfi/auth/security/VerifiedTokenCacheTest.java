@@ -0,0 +1,101 @@
+package com.xlcfi.auth.security;
+
+import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.domain.UserRole;
+import com.xlcfi.auth.service.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * VerifiedTokenCache Unit Test
+ */
+@DisplayName("검증된 토큰 캐시 단위 테스트")
+class VerifiedTokenCacheTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        JwtKeyRing jwtKeyRing = new JwtKeyRing();
+        jwtKeyRing.replace(List.of(SigningKey.generate(
+                0L, Instant.now().minusSeconds(60), Instant.now().plus(1, ChronoUnit.DAYS))));
+        jwtTokenProvider = spy(new JwtTokenProvider(jwtKeyRing, "", 3600000L, 2592000000L));
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, 100L, 300000L);
+
+        User user = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .name("테스트유저")
+                .role(UserRole.SELLER)
+                .build();
+        accessToken = jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Test
+    @DisplayName("한 번의 파싱으로 모든 클레임 추출")
+    void resolve_ReturnsAllClaims() {
+        // When
+        VerifiedToken token = verifiedTokenCache.resolve(accessToken);
+
+        // Then
+        assertThat(token).isNotNull();
+        assertThat(token.getUserId()).isEqualTo(1L);
+        assertThat(token.getEmail()).isEqualTo("test@example.com");
+        assertThat(token.getRole()).isEqualTo("SELLER");
+        assertThat(token.isAccessToken()).isTrue();
+        assertThat(token.getExpiresAtMillis()).isGreaterThan(token.getIssuedAtMillis());
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 반복 요청은 서명을 다시 검증하지 않음")
+    void resolve_CachesVerifiedToken() {
+        // When
+        VerifiedToken first = verifiedTokenCache.resolve(accessToken);
+        VerifiedToken second = verifiedTokenCache.resolve(accessToken);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(jwtTokenProvider, times(1)).verifyToken(accessToken);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 캐시하지 않음")
+    void resolve_InvalidTokenNotCached() {
+        // Given
+        String tamperedToken = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+        // When
+        VerifiedToken first = verifiedTokenCache.resolve(tamperedToken);
+        VerifiedToken second = verifiedTokenCache.resolve(tamperedToken);
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(verifiedTokenCache.size()).isZero();
+        verify(jwtTokenProvider, times(2)).verifyToken(tamperedToken);
+    }
+
+    @Test
+    @DisplayName("캐시에서 제거된 토큰은 다시 검증")
+    void evict_ForcesReverification() {
+        // Given
+        verifiedTokenCache.resolve(accessToken);
+
+        // When
+        verifiedTokenCache.evict(accessToken);
+        verifiedTokenCache.resolve(accessToken);
+
+        // Then
+        verify(jwtTokenProvider, times(2)).verifyToken(accessToken);
+    }
+}
@@ -9,6 +9,7 @@ import com.xlcfi.auth.dto.LoginResponse;
 import com.xlcfi.auth.dto.RegisterRequest;
 import com.xlcfi.auth.dto.UserResponse;
 import com.xlcfi.auth.repository.UserRepository;
+import com.xlcfi.auth.security.PasswordHashingExecutor;
 import com.xlcfi.common.exception.BusinessException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,12 +42,18 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
     private TokenBlacklistService tokenBlacklistService;
 
+    @Mock
+    private LastLoginRecorder lastLoginRecorder;
+
     @InjectMocks
     private AuthService authService;
 
@@ -80,7 +87,7 @@ class AuthServiceTest {
                 .build();
 
         given(userRepository.existsByEmail(anyString())).willReturn(false);
-        given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+        given(passwordHashingExecutor.encode(anyString())).willReturn("encodedPassword");
         given(userRepository.save(any(User.class))).willReturn(testUser);
 
         // When
@@ -126,7 +133,7 @@ class AuthServiceTest {
                 .build();
 
         given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(testUser));
-        given(passwordEncoder.matches(request.getPassword(), testUser.getPasswordHash())).willReturn(true);
+        given(passwordHashingExecutor.matches(request.getPassword(), testUser.getPasswordHash())).willReturn(true);
         given(jwtTokenProvider.generateAccessToken(testUser)).willReturn("accessToken");
         given(jwtTokenProvider.generateRefreshToken(testUser)).willReturn("refreshToken");
         given(jwtTokenProvider.getAccessTokenExpirationTime()).willReturn(3600L);
@@ -140,6 +147,29 @@ class AuthServiceTest {
         assertThat(response.getRefreshToken()).isEqualTo("refreshToken");
         assertThat(response.getTokenType()).isEqualTo("Bearer");
         verify(tokenBlacklistService, times(1)).saveRefreshToken(eq(testUser.getId()), eq("refreshToken"), anyLong());
+        verify(lastLoginRecorder, times(1)).record(eq(testUser.getId()), any());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - BCrypt cost가 변경된 해시는 다시 해시")
+    void login_RehashesOutdatedPasswordHash() {
+        // Given
+        LoginRequest request = LoginRequest.builder()
+                .email("test@example.com")
+                .password("password123")
+                .build();
+
+        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(testUser));
+        given(passwordHashingExecutor.matches(request.getPassword(), "encodedPassword")).willReturn(true);
+        given(passwordEncoder.upgradeEncoding("encodedPassword")).willReturn(true);
+        given(passwordHashingExecutor.encode(request.getPassword())).willReturn("rehashedPassword");
+
+        // When
+        authService.login(request);
+
+        // Then
+        assertThat(testUser.getPasswordHash()).isEqualTo("rehashedPassword");
     }
 
     @Test
@@ -152,7 +182,7 @@ class AuthServiceTest {
                 .build();
 
         given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(testUser));
-        given(passwordEncoder.matches(request.getPassword(), testUser.getPasswordHash())).willReturn(false);
+        given(passwordHashingExecutor.matches(request.getPassword(), testUser.getPasswordHash())).willReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> authService.login(request))
@@ -171,7 +201,7 @@ class AuthServiceTest {
                 .build();
 
         given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(testUser));
-        given(passwordEncoder.matches(request.getPassword(), testUser.getPasswordHash())).willReturn(true);
+        given(passwordHashingExecutor.matches(request.getPassword(), testUser.getPasswordHash())).willReturn(true);
 
         // When & Then
         assertThatThrownBy(() -> authService.login(request))
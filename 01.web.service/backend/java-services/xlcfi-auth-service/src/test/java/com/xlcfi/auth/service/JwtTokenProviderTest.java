@@ -0,0 +1,125 @@
+package com.xlcfi.auth.service;
+
+import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.domain.UserRole;
+import com.xlcfi.auth.security.JwtKeyRing;
+import com.xlcfi.auth.security.SigningKey;
+import com.xlcfi.auth.security.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtTokenProvider Unit Test
+ */
+@DisplayName("JWT 발급 / 검증 단위 테스트")
+class JwtTokenProviderTest {
+
+    private static final String LEGACY_SECRET =
+            "test-secret-key-for-jwt-token-generation-minimum-256-bits-required-for-hs256-algorithm";
+
+    private JwtKeyRing jwtKeyRing;
+    private SigningKey currentKey;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now();
+        currentKey = SigningKey.generate(1L, now.minus(1, ChronoUnit.HOURS), now.plus(30, ChronoUnit.DAYS));
+        jwtKeyRing = new JwtKeyRing();
+        jwtKeyRing.replace(List.of(currentKey));
+
+        user = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .name("테스트유저")
+                .role(UserRole.BUYER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("ES256으로 서명하고 헤더에 kid 포함")
+    void generateAccessToken_SignsWithEs256AndKid() {
+        // Given
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtKeyRing, "", 3600000L, 2592000000L);
+
+        // When
+        String token = jwtTokenProvider.generateAccessToken(user);
+
+        // Then
+        String header = new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]), StandardCharsets.UTF_8);
+        assertThat(header).contains("\"alg\":\"ES256\"").contains("\"kid\":\"" + currentKey.getKid() + "\"");
+        assertThat(jwtTokenProvider.verifyToken(token).getUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("키 회전 후에도 이전 키로 서명된 토큰 검증")
+    void verifyToken_AfterRotation() {
+        // Given
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtKeyRing, "", 3600000L, 2592000000L);
+        String tokenSignedWithPreviousKey = jwtTokenProvider.generateAccessToken(user);
+
+        SigningKey nextKey = SigningKey.generate(
+                2L, Instant.now().minusSeconds(1), Instant.now().plus(30, ChronoUnit.DAYS));
+        jwtKeyRing.replace(List.of(currentKey, nextKey));
+
+        // When
+        String tokenSignedWithNextKey = jwtTokenProvider.generateAccessToken(user);
+
+        // Then
+        assertThat(jwtKeyRing.getSigningKey().getKid()).isEqualTo(nextKey.getKid());
+        assertThat(jwtTokenProvider.verifyToken(tokenSignedWithPreviousKey)).isNotNull();
+        assertThat(jwtTokenProvider.verifyToken(tokenSignedWithNextKey)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("키 목록에서 제거된 kid의 토큰은 거부")
+    void verifyToken_UnknownKid() {
+        // Given
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtKeyRing, "", 3600000L, 2592000000L);
+        String token = jwtTokenProvider.generateAccessToken(user);
+        jwtKeyRing.replace(List.of(SigningKey.generate(
+                2L, Instant.now().minusSeconds(1), Instant.now().plus(30, ChronoUnit.DAYS))));
+
+        // When
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyToken(token);
+
+        // Then
+        assertThat(verifiedToken).isNull();
+    }
+
+    @Test
+    @DisplayName("kid 없는 기존 HS256 토큰은 jwt.secret 설정 시에만 검증")
+    void verifyToken_LegacyHs256() {
+        // Given
+        String legacyToken = Jwts.builder()
+                .setSubject("1")
+                .claim("type", "access")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3600000L))
+                .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        // When
+        VerifiedToken withSecret = new JwtTokenProvider(jwtKeyRing, LEGACY_SECRET, 3600000L, 2592000000L)
+                .verifyToken(legacyToken);
+        VerifiedToken withoutSecret = new JwtTokenProvider(jwtKeyRing, "", 3600000L, 2592000000L)
+                .verifyToken(legacyToken);
+
+        // Then
+        assertThat(withSecret).isNotNull();
+        assertThat(withoutSecret).isNull();
+    }
+}
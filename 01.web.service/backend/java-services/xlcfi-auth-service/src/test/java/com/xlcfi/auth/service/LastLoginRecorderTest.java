@@ -0,0 +1,93 @@
+package com.xlcfi.auth.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * LastLoginRecorder Unit Test
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("마지막 로그인 시간 지연 기록 단위 테스트")
+class LastLoginRecorderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private LastLoginRecorder lastLoginRecorder;
+
+    @BeforeEach
+    void setUp() {
+        // 주기적 flush가 테스트 중에 실행되지 않도록 간격을 길게 설정
+        lastLoginRecorder = new LastLoginRecorder(jdbcTemplate, 3600000L, 100);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        lastLoginRecorder.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 로그인은 최신 시각 하나로 합쳐서 한 번의 UPDATE로 반영")
+    void flush_CoalescesPerUser() {
+        // Given
+        LocalDateTime first = LocalDateTime.of(2024, 1, 1, 10, 0);
+        LocalDateTime latest = first.plusMinutes(5);
+        lastLoginRecorder.record(1L, latest);
+        lastLoginRecorder.record(1L, first);
+        lastLoginRecorder.record(2L, first);
+
+        // When
+        int flushed = lastLoginRecorder.flush();
+
+        // Then
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(1)).update(anyString(), args.capture());
+        assertThat(flushed).isEqualTo(2);
+        assertThat(args.getValue()).containsExactlyInAnyOrder(
+                1L, Timestamp.valueOf(latest), 2L, Timestamp.valueOf(first));
+        assertThat(lastLoginRecorder.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 다음 flush에서 다시 시도")
+    void flush_FailureKeepsPendingEntries() {
+        // Given
+        lastLoginRecorder.record(1L, LocalDateTime.now());
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // When & Then
+        assertThatThrownBy(() -> lastLoginRecorder.flush()).isInstanceOf(IllegalStateException.class);
+        assertThat(lastLoginRecorder.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 항목을 모두 반영")
+    void shutdown_FlushesPendingEntries() throws InterruptedException {
+        // Given
+        lastLoginRecorder.record(1L, LocalDateTime.now());
+
+        // When
+        lastLoginRecorder.shutdown();
+
+        // Then
+        verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+        assertThat(lastLoginRecorder.getPendingCount()).isZero();
+    }
+}
@@ -0,0 +1,141 @@
+package com.xlcfi.auth.service;
+
+import com.xlcfi.auth.security.BlacklistNearCache;
+import com.xlcfi.auth.security.SessionEpochCache;
+import com.xlcfi.auth.security.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TokenBlacklistService Unit Test
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("토큰 블랙리스트 서비스 단위 테스트")
+class TokenBlacklistServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private SessionEpochCache sessionEpochCache;
+
+    private BlacklistNearCache blacklistNearCache;
+    private TokenBlacklistService tokenBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        blacklistNearCache = spy(new BlacklistNearCache(redisTemplate));
+        tokenBlacklistService = new TokenBlacklistService(
+                redisTemplate, jwtTokenProvider, blacklistNearCache, sessionEpochCache);
+    }
+
+    @Test
+    @DisplayName("니어 캐시에 있는 토큰은 Redis 조회 없이 거부")
+    void isRevoked_NearCacheHit() {
+        // Given
+        VerifiedToken token = token("revoked-jti", System.currentTimeMillis());
+        blacklistNearCache.add("revoked-jti", token.getExpiresAtMillis());
+
+        // When & Then
+        assertThat(tokenBlacklistService.isRevoked(token)).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("동기화된 상태에서는 니어 캐시에 없는 토큰을 Redis 조회 없이 허용")
+    void isRevoked_SyncedMiss() {
+        // Given
+        when(blacklistNearCache.isSynced()).thenReturn(true);
+
+        // When & Then
+        assertThat(tokenBlacklistService.isRevoked(token("valid-jti", System.currentTimeMillis()))).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("동기화되지 않은 상태에서 Redis 장애 시 토큰 거부")
+    void isRevoked_UnsyncedRedisFailure_FailsClosed() {
+        // Given
+        when(redisTemplate.hasKey(anyString()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // When & Then
+        assertThat(tokenBlacklistService.isRevoked(token("valid-jti", System.currentTimeMillis()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션 기준 시각 이전에 발급된 토큰 거부")
+    void isRevoked_IssuedBeforeSessionEpoch() {
+        // Given
+        VerifiedToken token = token("old-jti", System.currentTimeMillis() - 60000L);
+        when(sessionEpochCache.isIssuedBeforeEpoch(token)).thenReturn(true);
+
+        // When & Then
+        assertThat(tokenBlacklistService.isRevoked(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 토큰 원문 대신 jti로 블랙리스트 등록")
+    void addToBlacklist_StoresJtiKey() {
+        // Given
+        VerifiedToken access = token("access-jti", System.currentTimeMillis());
+        VerifiedToken refresh = token("refresh-jti", System.currentTimeMillis());
+        when(jwtTokenProvider.verifyToken("accessToken")).thenReturn(access);
+        when(jwtTokenProvider.verifyToken("refreshToken")).thenReturn(refresh);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // When
+        tokenBlacklistService.addToBlacklist("accessToken", "refreshToken");
+
+        // Then
+        verify(valueOperations).set(eq("blacklist:jti:access-jti"), eq("true"), anyLong(), any());
+        verify(valueOperations).set(eq("blacklist:jti:refresh-jti"), eq("true"), anyLong(), any());
+        assertThat(blacklistNearCache.contains("access-jti")).isTrue();
+        assertThat(blacklistNearCache.contains("refresh-jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("모든 세션 무효화는 기준 시각 하나만 기록")
+    void invalidateAllSessions_WritesSingleEpoch() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(jwtTokenProvider.getRefreshTokenExpirationMillis()).thenReturn(2592000000L);
+
+        long before = System.currentTimeMillis();
+
+        // When
+        tokenBlacklistService.invalidateAllSessions(1L);
+
+        // Then
+        verify(valueOperations).set(eq("session:epoch:1"), anyLong(), eq(2592000000L), any());
+        verify(sessionEpochCache).update(eq(1L), longThat(epoch -> epoch > before));
+        verify(redisTemplate).delete("refresh:token:1");
+    }
+
+    private VerifiedToken token(String jti, long issuedAtMillis) {
+        return VerifiedToken.builder()
+                .jti(jti)
+                .userId(1L)
+                .type("access")
+                .issuedAtMillis(issuedAtMillis)
+                .expiresAtMillis(issuedAtMillis + 3600000L)
+                .build();
+    }
+}
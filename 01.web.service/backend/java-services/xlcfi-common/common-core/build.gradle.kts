@@ -11,6 +11,12 @@ dependencies {
     
     // Redis (for Rate Limiting)
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+
+    // Local cache (Rate Limit 로컬 임대 버킷)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // Metrics (동시 처리 한도 지표)
+    implementation("io.micrometer:micrometer-core")
     
     // Swagger/OpenAPI
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.3.0")
@@ -18,6 +24,9 @@ dependencies {
     // Lombok
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
+
+    // Test (GCRA Lua 스크립트 검증)
+    testImplementation("it.ozimov:embedded-redis:0.7.3")
 }
 
 // Disable Spring Boot bootJar for library module
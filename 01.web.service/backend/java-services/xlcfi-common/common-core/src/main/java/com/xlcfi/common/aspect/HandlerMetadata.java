@@ -0,0 +1,63 @@
+package com.xlcfi.common.aspect;
+
+import com.xlcfi.common.annotation.RequireRole;
+import com.xlcfi.common.concurrency.ConcurrencyLimit;
+import com.xlcfi.common.concurrency.ConcurrencyPriority;
+import com.xlcfi.common.ratelimit.RateLimit;
+import com.xlcfi.common.ratelimit.RateLimitPolicy;
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 핸들러 메서드의 공통 AOP 메타데이터 (불변)
+ * 요청마다 리플렉션으로 어노테이션을 읽지 않도록 {@link HandlerMetadataRegistry}가 미리 만들어 둡니다.
+ */
+@Getter
+public class HandlerMetadata {
+
+    /**
+     * Rate Limit 정책 (@RateLimit이 없으면 null)
+     */
+    private final RateLimitPolicy rateLimitPolicy;
+
+    /**
+     * 허용 Role (@RequireRole이 없으면 null)
+     */
+    private final Set<String> allowedRoles;
+
+    /**
+     * 허용 Role 로그 출력용 문자열
+     */
+    private final String allowedRolesText;
+
+    /**
+     * 동시 처리 우선순위 (메서드 또는 클래스에 @ConcurrencyLimit이 없으면 null)
+     */
+    private final ConcurrencyPriority concurrencyPriority;
+
+    private HandlerMetadata(Method method) {
+        RateLimit rateLimit = method.getAnnotation(RateLimit.class);
+        this.rateLimitPolicy = rateLimit != null ? RateLimitPolicy.of(rateLimit) : null;
+
+        RequireRole requireRole = method.getAnnotation(RequireRole.class);
+        this.allowedRoles = requireRole != null ? Set.of(requireRole.value()) : null;
+        this.allowedRolesText = requireRole != null ? Arrays.toString(requireRole.value()) : null;
+
+        ConcurrencyLimit concurrencyLimit = method.getAnnotation(ConcurrencyLimit.class);
+        if (concurrencyLimit == null) {
+            concurrencyLimit = method.getDeclaringClass().getAnnotation(ConcurrencyLimit.class);
+        }
+        this.concurrencyPriority = concurrencyLimit != null ? concurrencyLimit.priority() : null;
+    }
+
+    static HandlerMetadata of(Method method) {
+        return new HandlerMetadata(method);
+    }
+
+    public boolean isRoleAllowed(String role) {
+        return allowedRoles == null || allowedRoles.contains(role);
+    }
+}
@@ -0,0 +1,52 @@
+package com.xlcfi.common.aspect;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 핸들러 메서드별 AOP 메타데이터 레지스트리
+ *
+ * 애플리케이션 시작 시 등록된 모든 요청 핸들러의 어노테이션을 읽어 {@link HandlerMetadata}로 만들어 두고,
+ * 요청 처리 중에는 조회만 합니다. 핸들러 매핑에 없는 메서드는 처음 호출될 때 한 번 만들어 둡니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HandlerMetadataRegistry {
+
+    private final ApplicationContext applicationContext;
+    private final Map<Method, HandlerMetadata> metadata = new ConcurrentHashMap<>();
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void precompile() {
+        for (RequestMappingHandlerMapping mapping :
+                applicationContext.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+                Method method = handlerMethod.getMethod();
+                metadata.computeIfAbsent(method, HandlerMetadata::of);
+            }
+        }
+        log.info("핸들러 메타데이터 등록 완료: {}개", metadata.size());
+    }
+
+    /**
+     * 메서드의 메타데이터 조회
+     */
+    public HandlerMetadata get(Method method) {
+        HandlerMetadata cached = metadata.get(method);
+        if (cached != null) {
+            return cached;
+        }
+        return metadata.computeIfAbsent(method, HandlerMetadata::of);
+    }
+}
@@ -1,6 +1,5 @@
 package com.xlcfi.common.aspect;
 
-import com.xlcfi.common.annotation.RequireRole;
 import com.xlcfi.common.exception.BusinessException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -8,14 +7,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Arrays;
+import java.lang.reflect.Method;
 
 /**
  * Role 기반 접근 제어 AOP
+ * 허용 Role은 시작 시 미리 만들어 둔 메타데이터({@link HandlerMetadataRegistry})에서 조회합니다.
  */
 @Slf4j
 @Aspect
@@ -23,8 +24,10 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class RoleCheckAspect {
 
-    @Before("@annotation(requireRole)")
-    public void checkRole(JoinPoint joinPoint, RequireRole requireRole) {
+    private final HandlerMetadataRegistry handlerMetadataRegistry;
+
+    @Before("@annotation(com.xlcfi.common.annotation.RequireRole)")
+    public void checkRole(JoinPoint joinPoint) {
         ServletRequestAttributes attributes = 
                 (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         
@@ -39,11 +42,11 @@ public class RoleCheckAspect {
             throw new BusinessException("SECURITY002", "인증 정보가 없습니다");
         }
 
-        String[] allowedRoles = requireRole.value();
-        boolean hasRole = Arrays.asList(allowedRoles).contains(userRole);
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        HandlerMetadata metadata = handlerMetadataRegistry.get(method);
 
-        if (!hasRole) {
-            log.warn("권한 없음: userRole={}, requiredRoles={}", userRole, Arrays.toString(allowedRoles));
+        if (!metadata.isRoleAllowed(userRole)) {
+            log.warn("권한 없음: userRole={}, requiredRoles={}", userRole, metadata.getAllowedRolesText());
             throw new BusinessException("SECURITY003", "접근 권한이 없습니다");
         }
 
@@ -0,0 +1,152 @@
+package com.xlcfi.common.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 기반 적응형 동시 처리 한도 (AIMD)
+ *
+ * - 요청 지연 시간이 기준 지연 시간(정상 지연 시간의 장기 이동 평균) × tolerance를 넘으면 한도를 backoff-ratio만큼 줄입니다.
+ *   혼잡한 표본은 기준 지연 시간에 반영하지 않습니다 (혼잡이 길어져도 기준이 따라 올라가지 않도록).
+ *   단, 한도가 이미 최소이면 지연이 동시 처리량 때문이 아니므로 기준 지연 시간이 따라가게 합니다.
+ *   한 번 줄인 뒤에는 해당 요청의 지연 시간만큼 지나야 다시 줄입니다 (혼잡 1회에 한 번만 감소).
+ * - 지연 시간이 정상이고 한도의 절반 이상을 사용 중이면 한도를 1씩 늘립니다.
+ * - 우선순위별로 현재 한도 중 사용할 수 있는 비율이 달라 혼잡 시 낮은 우선순위부터 거부됩니다.
+ *
+ * 지표: xlcfi.concurrency.limit, xlcfi.concurrency.inflight, xlcfi.concurrency.shed(priority 태그)
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * 기준 지연 시간 이동 평균 가중치
+     */
+    private static final double BASELINE_SMOOTHING = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<ConcurrencyPriority, LongAdder> shedCounts = new EnumMap<>(ConcurrencyPriority.class);
+
+    private volatile double limit;
+    private double baselineRttNanos;
+    private long lastDecreaseNanos = System.nanoTime();
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${xlcfi.concurrency.initial-limit:50}") int initialLimit,
+            @Value("${xlcfi.concurrency.min-limit:10}") int minLimit,
+            @Value("${xlcfi.concurrency.max-limit:500}") int maxLimit,
+            @Value("${xlcfi.concurrency.tolerance:2.0}") double tolerance,
+            @Value("${xlcfi.concurrency.backoff-ratio:0.9}") double backoffRatio,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        for (ConcurrencyPriority priority : ConcurrencyPriority.values()) {
+            shedCounts.put(priority, new LongAdder());
+        }
+        meterRegistry.ifAvailable(this::registerMetrics);
+    }
+
+    /**
+     * 처리 시작 (한도 초과 시 false)
+     */
+    public boolean tryAcquire(ConcurrencyPriority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.getHeadroom()));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                shedCounts.get(priority).increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 완료 (tryAcquire가 true를 반환한 요청만 호출)
+     *
+     * @param rttNanos 처리 시간 (나노초)
+     */
+    public void release(long rttNanos) {
+        int current = inflight.getAndDecrement();
+        onSample(rttNanos, current, System.nanoTime());
+    }
+
+    synchronized void onSample(long rttNanos, int inflightAtCompletion, long nowNanos) {
+        if (baselineRttNanos == 0) {
+            baselineRttNanos = rttNanos;
+            return;
+        }
+
+        if (rttNanos > baselineRttNanos * tolerance) {
+            if (nowNanos - lastDecreaseNanos >= rttNanos) {
+                double decreased = Math.max(minLimit, limit * backoffRatio);
+                if (decreased < limit) {
+                    log.info("동시 처리 한도 감소: {} -> {} (rtt={}ms, baseline={}ms)", (int) limit, (int) decreased,
+                            TimeUnit.NANOSECONDS.toMillis(rttNanos), TimeUnit.NANOSECONDS.toMillis((long) baselineRttNanos));
+                }
+                limit = decreased;
+                lastDecreaseNanos = nowNanos;
+            }
+            if (limit > minLimit) {
+                return;
+            }
+        } else if (inflightAtCompletion * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+
+        baselineRttNanos += (rttNanos - baselineRttNanos) * BASELINE_SMOOTHING;
+    }
+
+    double getBaselineRttNanos() {
+        return baselineRttNanos;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getShedCount(ConcurrencyPriority priority) {
+        return shedCounts.get(priority).sum();
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("xlcfi.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 동시 처리 한도")
+                .register(registry);
+        Gauge.builder("xlcfi.concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInflight)
+                .description("처리 중인 요청 수")
+                .register(registry);
+        for (ConcurrencyPriority priority : ConcurrencyPriority.values()) {
+            LongAdder shed = shedCounts.get(priority);
+            FunctionCounter.builder("xlcfi.concurrency.shed", shed, LongAdder::sum)
+                    .description("한도 초과로 거부된 요청 수")
+                    .tag("priority", priority.name())
+                    .register(registry);
+        }
+    }
+}
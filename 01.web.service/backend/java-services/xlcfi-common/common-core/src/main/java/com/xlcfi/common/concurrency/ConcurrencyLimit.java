@@ -0,0 +1,25 @@
+package com.xlcfi.common.concurrency;
+
+import java.lang.annotation.*;
+
+/**
+ * 동시 처리 한도 어노테이션
+ * 서비스 전체의 동시 처리 요청 수를 지연 시간에 따라 자동 조정되는 한도 안으로 제한합니다.
+ * 한도에 가까워지면 우선순위가 낮은 요청부터 503으로 거부합니다.
+ *
+ * 사용 예:
+ * @ConcurrencyLimit(priority = ConcurrencyPriority.CRITICAL)
+ * public ResponseEntity<?> createOrder() {
+ *     // 혼잡 시에도 가장 마지막까지 처리
+ * }
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConcurrencyLimit {
+
+    /**
+     * 요청 우선순위
+     */
+    ConcurrencyPriority priority() default ConcurrencyPriority.NORMAL;
+}
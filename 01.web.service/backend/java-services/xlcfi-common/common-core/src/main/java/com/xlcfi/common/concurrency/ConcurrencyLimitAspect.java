@@ -0,0 +1,53 @@
+package com.xlcfi.common.concurrency;
+
+import com.xlcfi.common.aspect.HandlerMetadataRegistry;
+import com.xlcfi.common.exception.RetryableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * 동시 처리 한도 AOP
+ * 한도를 넘은 요청은 컨트롤러를 실행하지 않고 바로 503(Retry-After)으로 응답합니다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitAspect {
+
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final HandlerMetadataRegistry handlerMetadataRegistry;
+
+    @Around("@annotation(com.xlcfi.common.concurrency.ConcurrencyLimit) "
+            + "|| @within(com.xlcfi.common.concurrency.ConcurrencyLimit)")
+    public Object limitConcurrency(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        ConcurrencyPriority priority = handlerMetadataRegistry.get(method).getConcurrencyPriority();
+
+        if (priority == null) {
+            return joinPoint.proceed();
+        }
+
+        if (!adaptiveConcurrencyLimiter.tryAcquire(priority)) {
+            log.warn("동시 처리 한도 초과로 요청 거부: method={}, priority={}, limit={}",
+                    method.getName(), priority, adaptiveConcurrencyLimiter.getLimit());
+            throw new RetryableException(HttpStatus.SERVICE_UNAVAILABLE, "CONCURRENCY_001",
+                    "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 1);
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            adaptiveConcurrencyLimiter.release(System.nanoTime() - startNanos);
+        }
+    }
+}
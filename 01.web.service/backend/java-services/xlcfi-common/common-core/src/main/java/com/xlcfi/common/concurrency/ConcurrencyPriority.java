@@ -0,0 +1,32 @@
+package com.xlcfi.common.concurrency;
+
+/**
+ * 동시 처리 우선순위
+ * 각 우선순위는 현재 동시 처리 한도 중 자신이 사용할 수 있는 비율을 가집니다.
+ */
+public enum ConcurrencyPriority {
+    /**
+     * 주문, 결제 등 매출과 직결된 요청 (한도 전체 사용)
+     */
+    CRITICAL(1.0),
+
+    /**
+     * 일반 요청 (한도의 80%)
+     */
+    NORMAL(0.8),
+
+    /**
+     * 상품 목록 등 조회성 요청 (한도의 50%)
+     */
+    LOW(0.5);
+
+    private final double headroom;
+
+    ConcurrencyPriority(double headroom) {
+        this.headroom = headroom;
+    }
+
+    public double getHeadroom() {
+        return headroom;
+    }
+}
@@ -2,6 +2,7 @@ package com.xlcfi.common.exception;
 
 import com.xlcfi.common.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -43,6 +44,22 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getErrorMessage(), errorResponse));
     }
 
+    /**
+     * RetryableException 처리 (과부하, 요청 한도 초과)
+     * Retry-After 헤더로 재시도 가능 시점을 알려줍니다.
+     */
+    @ExceptionHandler(RetryableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRetryableException(RetryableException ex) {
+
+        log.warn("Retryable Exception: code={}, retryAfter={}s, message={}",
+                ex.getErrorCode(), ex.getRetryAfterSeconds(), ex.getMessage());
+
+        return ResponseEntity
+                .status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getStatus(), ex.getMessage()));
+    }
+
     /**
      * Validation 예외 처리 (@Valid 검증 실패)
      */
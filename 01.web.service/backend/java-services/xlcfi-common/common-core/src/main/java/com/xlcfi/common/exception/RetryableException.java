@@ -0,0 +1,20 @@
+package com.xlcfi.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 잠시 후 다시 시도하면 처리될 수 있는 요청에 대한 예외
+ * (과부하로 인한 요청 거부, 요청 한도 초과 등)
+ * 응답에 Retry-After 헤더가 포함됩니다.
+ */
+@Getter
+public class RetryableException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RetryableException(HttpStatus status, String errorCode, String message, long retryAfterSeconds) {
+        super(status, errorCode, message);
+        this.retryAfterSeconds = Math.max(retryAfterSeconds, 1);
+    }
+}
@@ -0,0 +1,99 @@
+package com.xlcfi.common.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) Rate Limiter
+ *
+ * 키마다 다음 요청의 이론적 도착 시각(TAT)만 저장하고,
+ * 확인과 갱신을 Lua 스크립트 한 번으로 원자적으로 처리합니다 (요청당 Redis 1회 왕복).
+ * TAT 키는 항상 만료 시간과 함께 저장되므로 남아서 클라이언트를 차단하는 키가 생기지 않습니다.
+ *
+ * - 요청 간격 = timeWindow / limit
+ * - 버스트 = 간격 없이 연속으로 허용되는 최대 요청 수
+ *
+ * 여러 건을 한 번에 요청하면 남은 허용량 안에서 가능한 만큼 부여합니다 ({@link HybridRateLimiter}의 임대용).
+ */
+@Component
+@RequiredArgsConstructor
+public class GcraRateLimiter {
+
+    /**
+     * KEYS[1]: TAT 키
+     * ARGV[1]: 현재 시각, ARGV[2]: 요청 간격, ARGV[3]: 버스트 허용 범위 (모두 마이크로초)
+     * ARGV[4]: 요청 건수
+     * 반환: {부여 건수, 남은 요청 수, 재시도까지 남은 시간(마이크로초)}
+     *
+     * 현재 시각은 TIME 명령 대신 인자로 전달합니다.
+     * (Redis 3.2 미만은 비결정적 명령 이후 쓰기를 허용하지 않음)
+     */
+    private static final String SCRIPT = """
+            local now = tonumber(ARGV[1])
+            local interval = tonumber(ARGV[2])
+            local tolerance = tonumber(ARGV[3])
+            local requested = tonumber(ARGV[4])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            local available = math.floor((now + tolerance - tat) / interval)
+            if available < 1 then
+                return {0, 0, tat + interval - tolerance - now}
+            end
+            local granted = math.min(requested, available)
+            local new_tat = tat + interval * granted
+            redis.call('SET', KEYS[1], string.format('%d', new_tat),
+                    'PX', math.ceil((new_tat - now) / 1000))
+            return {granted, available - granted, 0}
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>(SCRIPT, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 요청 1건 허용 여부 확인
+     *
+     * @param key Rate Limit 키
+     * @param limit 시간 창 내 허용 횟수
+     * @param timeWindowSeconds 시간 창 (초)
+     * @param burst 연속 허용 요청 수 (0 이하이면 limit)
+     */
+    public RateLimitResult tryAcquire(String key, int limit, int timeWindowSeconds, int burst) {
+        return tryAcquire(key, limit, timeWindowSeconds, burst, 1);
+    }
+
+    /**
+     * 요청 여러 건을 한 번에 확인 (허용량이 부족하면 가능한 만큼만 부여)
+     *
+     * @param permits 요청 건수
+     */
+    public RateLimitResult tryAcquire(String key, int limit, int timeWindowSeconds, int burst, int permits) {
+        long intervalMicros = Math.max(TimeUnit.SECONDS.toMicros(timeWindowSeconds) / Math.max(limit, 1), 1);
+        long toleranceMicros = intervalMicros * (burst > 0 ? burst : Math.max(limit, 1));
+        long nowMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+
+        List<?> result = redisTemplate.execute(GCRA_SCRIPT, List.of(key),
+                String.valueOf(nowMicros), String.valueOf(intervalMicros), String.valueOf(toleranceMicros),
+                String.valueOf(Math.max(permits, 1)));
+
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("Rate limit 스크립트 응답이 올바르지 않습니다: " + result);
+        }
+
+        long granted = ((Number) result.get(0)).longValue();
+        if (granted > 0) {
+            return RateLimitResult.allowed(granted, ((Number) result.get(1)).longValue());
+        }
+        long retryAfterMicros = ((Number) result.get(2)).longValue();
+        return RateLimitResult.rejected(TimeUnit.MICROSECONDS.toMillis(retryAfterMicros + 999));
+    }
+}
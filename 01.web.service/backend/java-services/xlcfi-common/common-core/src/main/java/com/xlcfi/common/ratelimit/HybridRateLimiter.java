@@ -0,0 +1,215 @@
+package com.xlcfi.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 로컬 임대 + Redis 2단계 Rate Limiter
+ *
+ * 각 노드는 전역 허용량(Redis GCRA)에서 요청 여러 건을 한 번에 임대해 로컬 버킷에 보관하고,
+ * 로컬 버킷이 빌 때만 Redis를 호출합니다 (임대 크기가 N이면 약 N건 중 1건만 Redis 호출).
+ *
+ * - 로컬 버킷은 스레드별로 나눈 스트라이프로 구성해 경합을 줄이고, 자기 스트라이프가 비면 다른 스트라이프에서 가져옵니다.
+ * - 임대한 요청은 lease-ttl이 지나면 버립니다 (사용하지 않은 임대분은 전역 허용량에서 이미 차감된 상태이므로 보수적).
+ * - Redis가 거부하면 재시도 시점까지 로컬에서 바로 거부합니다.
+ * - Redis 장애 시에는 limit × fallback-ratio 만큼만 허용하는 로컬 GCRA로 제한합니다 (fail-open 대신).
+ */
+@Slf4j
+@Component
+public class HybridRateLimiter {
+
+    private final GcraRateLimiter gcraRateLimiter;
+    private final Cache<String, LocalBucket> buckets;
+    private final Function<String, LocalBucket> bucketFactory;
+    private final int leaseSize;
+    private final long leaseTtlMillis;
+    private final int stripes;
+    private final double fallbackRatio;
+    private final long remoteRetryIntervalMillis;
+
+    /**
+     * Redis 호출을 다시 시도할 시각 (장애 감지 후 이 시각까지는 로컬 제한만 사용)
+     */
+    private volatile long remoteUnavailableUntil;
+
+    public HybridRateLimiter(
+            GcraRateLimiter gcraRateLimiter,
+            @Value("${xlcfi.rate-limit.lease-size:10}") int leaseSize,
+            @Value("${xlcfi.rate-limit.lease-ttl:1000}") long leaseTtlMillis,
+            @Value("${xlcfi.rate-limit.stripes:4}") int stripes,
+            @Value("${xlcfi.rate-limit.fallback-ratio:0.25}") double fallbackRatio,
+            @Value("${xlcfi.rate-limit.remote-retry-interval:1000}") long remoteRetryIntervalMillis,
+            @Value("${xlcfi.rate-limit.max-keys:100000}") long maxKeys) {
+        this.gcraRateLimiter = gcraRateLimiter;
+        this.leaseSize = Math.max(leaseSize, 1);
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.stripes = Integer.highestOneBit(Math.max(stripes, 1));
+        this.fallbackRatio = fallbackRatio;
+        this.remoteRetryIntervalMillis = remoteRetryIntervalMillis;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Math.max(leaseTtlMillis, remoteRetryIntervalMillis) * 2, TimeUnit.MILLISECONDS)
+                .build();
+        this.bucketFactory = key -> new LocalBucket(this.stripes);
+    }
+
+    /**
+     * 요청 1건 허용 여부 확인 (예외를 던지지 않음)
+     *
+     * @param key Rate Limit 키
+     */
+    public RateLimitResult tryAcquire(String key, int limit, int timeWindowSeconds, int burst) {
+        long now = System.currentTimeMillis();
+        LocalBucket bucket = buckets.get(key, bucketFactory);
+
+        if (now < bucket.blockedUntil) {
+            return RateLimitResult.rejected(bucket.blockedUntil - now);
+        }
+
+        Stripe own = bucket.stripe();
+        long localRemaining = own.take(now);
+        if (localRemaining < 0) {
+            localRemaining = bucket.steal(now);
+        }
+        if (localRemaining >= 0) {
+            return RateLimitResult.allowed(localRemaining + bucket.remoteRemaining);
+        }
+
+        if (now < remoteUnavailableUntil) {
+            return bucket.fallback(now, limit, timeWindowSeconds, burst, fallbackRatio);
+        }
+
+        try {
+            RateLimitResult lease = gcraRateLimiter.tryAcquire(
+                    key, limit, timeWindowSeconds, burst, leaseSizeFor(limit, burst));
+            if (!lease.isAllowed()) {
+                bucket.blockedUntil = now + lease.getRetryAfterMillis();
+                return lease;
+            }
+
+            // 1건은 이번 요청에 사용하고 나머지를 임대 (임대 만료는 Redis 응답 시점부터)
+            bucket.remoteRemaining = lease.getRemaining();
+            own.refill(lease.getPermits() - 1, System.currentTimeMillis(), leaseTtlMillis);
+            return RateLimitResult.allowed(lease.getPermits() - 1 + lease.getRemaining());
+
+        } catch (Exception e) {
+            remoteUnavailableUntil = System.currentTimeMillis() + remoteRetryIntervalMillis;
+            log.error("Rate limit Redis 호출 실패, 로컬 제한으로 전환: {}", e.getMessage());
+            return bucket.fallback(now, limit, timeWindowSeconds, burst, fallbackRatio);
+        }
+    }
+
+    /**
+     * 임대 크기
+     * 버스트가 작은 한도는 스트라이프마다 임대분을 쌓아두지 않도록 줄입니다.
+     */
+    private int leaseSizeFor(int limit, int burst) {
+        int effectiveBurst = burst > 0 ? burst : limit;
+        return Math.max(1, Math.min(leaseSize, effectiveBurst / (2 * stripes)));
+    }
+
+    /**
+     * 키별 로컬 버킷
+     */
+    private static class LocalBucket {
+
+        private final Stripe[] stripes;
+
+        /**
+         * Redis가 거부한 경우 재시도 가능 시각
+         */
+        private volatile long blockedUntil;
+
+        /**
+         * 마지막 임대 시 Redis에 남아 있던 허용량 (X-RateLimit-Remaining 근사치)
+         */
+        private volatile long remoteRemaining;
+
+        /**
+         * Redis 장애 시 사용하는 로컬 GCRA의 TAT (밀리초)
+         */
+        private final AtomicLong fallbackTat = new AtomicLong();
+
+        LocalBucket(int stripeCount) {
+            this.stripes = new Stripe[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new Stripe();
+            }
+        }
+
+        Stripe stripe() {
+            return stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+        }
+
+        /**
+         * 다른 스트라이프에서 1건 가져오기
+         *
+         * @return 가져온 스트라이프의 남은 요청 수 (모두 비었으면 -1)
+         */
+        long steal(long now) {
+            for (Stripe stripe : stripes) {
+                long remaining = stripe.take(now);
+                if (remaining >= 0) {
+                    return remaining;
+                }
+            }
+            return -1;
+        }
+
+        RateLimitResult fallback(long now, int limit, int timeWindowSeconds, int burst, double ratio) {
+            int localLimit = Math.max(1, (int) (limit * ratio));
+            int localBurst = Math.max(1, (int) ((burst > 0 ? burst : limit) * ratio));
+            long interval = Math.max(TimeUnit.SECONDS.toMillis(timeWindowSeconds) / localLimit, 1);
+            long tolerance = interval * localBurst;
+
+            while (true) {
+                long stored = fallbackTat.get();
+                long tat = Math.max(stored, now);
+                long allowAt = tat + interval - tolerance;
+                if (allowAt > now) {
+                    return RateLimitResult.rejected(allowAt - now);
+                }
+                if (fallbackTat.compareAndSet(stored, tat + interval)) {
+                    return RateLimitResult.allowed((now - allowAt) / interval);
+                }
+            }
+        }
+    }
+
+    /**
+     * 로컬 버킷의 스트라이프 (임대한 요청 수와 임대 만료 시각)
+     */
+    private static class Stripe {
+
+        private long tokens;
+        private long expiresAt;
+
+        /**
+         * 1건 사용
+         *
+         * @return 남은 요청 수 (비었거나 임대가 만료되었으면 -1)
+         */
+        synchronized long take(long now) {
+            if (tokens <= 0 || now >= expiresAt) {
+                tokens = 0;
+                return -1;
+            }
+            return --tokens;
+        }
+
+        synchronized void refill(long permits, long now, long leaseTtlMillis) {
+            if (now >= expiresAt) {
+                tokens = 0;
+            }
+            tokens += permits;
+            expiresAt = now + leaseTtlMillis;
+        }
+    }
+}
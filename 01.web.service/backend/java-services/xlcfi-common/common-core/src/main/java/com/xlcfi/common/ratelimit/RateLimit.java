@@ -7,9 +7,9 @@ import java.lang.annotation.*;
  * API 호출 빈도를 제한합니다.
  * 
  * 사용 예:
- * @RateLimit(limit = 10, timeWindow = 60, type = RateLimitType.IP)
+ * @RateLimit(limit = 10, timeWindow = 60, burst = 3, type = RateLimitType.IP)
  * public ResponseEntity<?> api() {
- *     // IP당 60초에 10번까지 호출 가능
+ *     // IP당 평균 6초에 1번, 연속으로는 최대 3번까지 호출 가능
  * }
  */
 @Target(ElementType.METHOD)
@@ -18,7 +18,7 @@ import java.lang.annotation.*;
 public @interface RateLimit {
     
     /**
-     * 시간 창 내 최대 호출 횟수
+     * 시간 창 내 최대 호출 횟수 (요청 간격 = timeWindow / limit)
      */
     int limit() default 100;
     
@@ -26,6 +26,11 @@ public @interface RateLimit {
      * 시간 창 (초)
      */
     int timeWindow() default 60;
+
+    /**
+     * 간격 없이 연속으로 허용되는 최대 요청 수 (0이면 limit과 동일)
+     */
+    int burst() default 0;
     
     /**
      * Rate Limit 타입
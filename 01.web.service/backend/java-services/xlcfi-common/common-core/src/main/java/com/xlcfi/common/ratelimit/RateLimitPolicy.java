@@ -0,0 +1,88 @@
+package com.xlcfi.common.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+
+import java.util.function.Function;
+
+/**
+ * 핸들러 메서드별 Rate Limit 정책
+ * 애플리케이션 시작 시 {@link RateLimit} 어노테이션에서 한 번만 만들어지며,
+ * 키 접두사와 식별자 추출 함수를 미리 계산해 둡니다.
+ */
+@Getter
+public class RateLimitPolicy {
+
+    private static final String RATE_LIMIT_PREFIX = "rate_limit:tat:";
+
+    private static final String[] CLIENT_IP_HEADERS = {
+            "X-Forwarded-For",
+            "Proxy-Client-IP",
+            "WL-Proxy-Client-IP",
+            "HTTP_CLIENT_IP",
+            "HTTP_X_FORWARDED_FOR"
+    };
+
+    private final int limit;
+    private final int timeWindow;
+    private final int burst;
+    private final RateLimitType type;
+
+    /**
+     * Redis 키 접두사 (예: rate_limit:tat:ip:)
+     */
+    private final String keyPrefix;
+    private final Function<HttpServletRequest, String> identifierExtractor;
+
+    private RateLimitPolicy(RateLimit rateLimit) {
+        this.limit = rateLimit.limit();
+        this.timeWindow = rateLimit.timeWindow();
+        this.burst = rateLimit.burst();
+        this.type = rateLimit.type();
+        this.keyPrefix = RATE_LIMIT_PREFIX + type.name().toLowerCase() + ":";
+        this.identifierExtractor = identifierExtractor(type);
+    }
+
+    public static RateLimitPolicy of(RateLimit rateLimit) {
+        return new RateLimitPolicy(rateLimit);
+    }
+
+    /**
+     * 요청의 Rate Limit 키
+     */
+    public String key(HttpServletRequest request) {
+        return keyPrefix.concat(identifierExtractor.apply(request));
+    }
+
+    private static Function<HttpServletRequest, String> identifierExtractor(RateLimitType type) {
+        switch (type) {
+            case IP:
+                return RateLimitPolicy::clientIp;
+            case USER:
+                return request -> {
+                    Object userId = request.getAttribute("userId");
+                    return userId != null ? userId.toString() : "anonymous";
+                };
+            case API:
+                return HttpServletRequest::getRequestURI;
+            default:
+                return request -> "global";
+        }
+    }
+
+    /**
+     * 클라이언트 IP 주소 추출 (프록시 헤더 우선)
+     */
+    public static String clientIp(HttpServletRequest request) {
+        for (String header : CLIENT_IP_HEADERS) {
+            String ip = request.getHeader(header);
+            if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
+                // X-Forwarded-For는 여러 IP를 가질 수 있음 (첫 번째가 원본 클라이언트 IP)
+                int comma = ip.indexOf(',');
+                return comma < 0 ? ip.trim() : ip.substring(0, comma).trim();
+            }
+        }
+
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,49 @@
+package com.xlcfi.common.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Rate Limit 확인 결과
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RateLimitResult {
+
+    private final boolean allowed;
+
+    /**
+     * 부여된 요청 수
+     */
+    private final long permits;
+
+    /**
+     * 지금 바로 추가로 허용되는 요청 수
+     */
+    private final long remaining;
+
+    /**
+     * 다음 요청이 허용되기까지 남은 시간 (밀리초, 허용된 경우 0)
+     */
+    private final long retryAfterMillis;
+
+    public static RateLimitResult allowed(long remaining) {
+        return allowed(1, remaining);
+    }
+
+    public static RateLimitResult allowed(long permits, long remaining) {
+        return new RateLimitResult(true, permits, remaining, 0);
+    }
+
+    public static RateLimitResult rejected(long retryAfterMillis) {
+        return new RateLimitResult(false, 0, 0, retryAfterMillis);
+    }
+
+    /**
+     * Retry-After 헤더 값 (초, 올림)
+     */
+    public long getRetryAfterSeconds() {
+        return (retryAfterMillis + 999) / 1000;
+    }
+}
@@ -0,0 +1,123 @@
+package com.xlcfi.common.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdaptiveConcurrencyLimiter Unit Test
+ */
+@DisplayName("적응형 동시 처리 한도 (AIMD) 단위 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long BASELINE = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long CONGESTED = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final AdaptiveConcurrencyLimiter limiter = limiter(50, 10, 100);
+
+    @Test
+    @DisplayName("한도의 절반 이상을 사용 중이고 지연이 정상이면 한도를 1씩 증가")
+    void onSample_Normal_AdditiveIncrease() {
+        long now = System.nanoTime();
+        limiter.onSample(BASELINE, 0, now);
+
+        limiter.onSample(BASELINE, 25, now);
+        limiter.onSample(BASELINE, 26, now);
+
+        assertThat(limiter.getLimit()).isEqualTo(52);
+    }
+
+    @Test
+    @DisplayName("사용량이 한도의 절반 미만이면 증가하지 않음")
+    void onSample_LowUtilization_NoIncrease() {
+        long now = System.nanoTime();
+        limiter.onSample(BASELINE, 0, now);
+
+        limiter.onSample(BASELINE, 10, now);
+
+        assertThat(limiter.getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("혼잡하면 backoff-ratio만큼 감소하고, 같은 혼잡 구간(rtt 이내)에서는 한 번만 감소")
+    void onSample_Congested_MultiplicativeDecreaseOnce() {
+        long now = System.nanoTime() + CONGESTED;
+        limiter.onSample(BASELINE, 0, now);
+
+        limiter.onSample(CONGESTED, 40, now);
+        limiter.onSample(CONGESTED, 40, now + CONGESTED / 2);
+        assertThat(limiter.getLimit()).isEqualTo(45);
+
+        limiter.onSample(CONGESTED, 40, now + CONGESTED);
+        assertThat(limiter.getLimit()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("기동 직후 첫 혼잡 표본도 rtt가 지나기 전에는 감소하지 않음")
+    void onSample_RightAfterStart_WaitsForRtt() {
+        AdaptiveConcurrencyLimiter fresh = limiter(50, 10, 100);
+        long now = System.nanoTime();
+        fresh.onSample(BASELINE, 0, now);
+
+        fresh.onSample(TimeUnit.SECONDS.toNanos(10), 40, now);
+
+        assertThat(fresh.getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("혼잡한 표본은 기준 지연 시간에 반영하지 않음")
+    void onSample_Congested_BaselineUnchanged() {
+        long now = System.nanoTime() + CONGESTED;
+        limiter.onSample(BASELINE, 0, now);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.onSample(CONGESTED, 40, now + i * CONGESTED);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+        assertThat(limiter.getBaselineRttNanos()).isEqualTo(BASELINE);
+    }
+
+    @Test
+    @DisplayName("최소 한도에서도 지연이 계속 높으면 기준 지연 시간이 따라가 새 지연 수준을 정상으로 봄")
+    void onSample_AtMinLimit_BaselineFollows() {
+        long now = System.nanoTime() + CONGESTED;
+        limiter.onSample(BASELINE, 0, now);
+
+        for (int i = 0; i < 200; i++) {
+            limiter.onSample(CONGESTED, 5, now + i * CONGESTED);
+        }
+
+        assertThat(limiter.getBaselineRttNanos() * 2).isGreaterThan(CONGESTED);
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("우선순위별 사용 가능 비율만큼만 허용")
+    void tryAcquire_PriorityHeadroom() {
+        AdaptiveConcurrencyLimiter small = limiter(10, 10, 10);
+
+        int low = 0;
+        while (small.tryAcquire(ConcurrencyPriority.LOW)) {
+            low++;
+        }
+        int critical = low;
+        while (small.tryAcquire(ConcurrencyPriority.CRITICAL)) {
+            critical++;
+        }
+
+        assertThat(low).isEqualTo(5);
+        assertThat(critical).isEqualTo(10);
+        assertThat(small.getShedCount(ConcurrencyPriority.LOW)).isEqualTo(1);
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, 2.0, 0.9,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+}
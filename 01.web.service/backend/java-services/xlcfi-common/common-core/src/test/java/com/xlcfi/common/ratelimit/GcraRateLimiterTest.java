@@ -0,0 +1,126 @@
+package com.xlcfi.common.ratelimit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GcraRateLimiter Test (임베디드 Redis에서 Lua 스크립트 실행)
+ */
+@DisplayName("GCRA Rate Limiter 테스트")
+class GcraRateLimiterTest {
+
+    private static final int PORT = 6391;
+    private static final String KEY = "rate_limit:tat:test";
+
+    // 60초에 10건 (간격 6초), 버스트 5건
+    private static final int LIMIT = 10;
+    private static final int WINDOW_SECONDS = 60;
+    private static final int BURST = 5;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final GcraRateLimiter rateLimiter = new GcraRateLimiter(redisTemplate);
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", PORT));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(KEY);
+    }
+
+    @Test
+    @DisplayName("버스트만큼 연속 허용하고 남은 요청 수가 1씩 줄어듦")
+    void tryAcquire_WithinBurst_Allowed() {
+        for (int i = BURST - 1; i >= 0; i--) {
+            RateLimitResult result = rateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, BURST);
+
+            assertThat(result.isAllowed()).isTrue();
+            assertThat(result.getRemaining()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("버스트를 넘는 요청은 거부하고 한 간격(6초) 뒤 재시도 안내")
+    void tryAcquire_BeyondBurst_Rejected() {
+        for (int i = 0; i < BURST; i++) {
+            rateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, BURST);
+        }
+
+        RateLimitResult result = rateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, BURST);
+
+        assertThat(result.isAllowed()).isFalse();
+        assertThat(result.getRetryAfterMillis())
+                .isGreaterThan(TimeUnit.SECONDS.toMillis(5))
+                .isLessThanOrEqualTo(TimeUnit.SECONDS.toMillis(6) + 1);
+        assertThat(result.getRetryAfterSeconds()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("거부된 요청은 TAT를 변경하지 않음")
+    void tryAcquire_Rejected_DoesNotAdvanceTat() {
+        for (int i = 0; i < BURST; i++) {
+            rateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, BURST);
+        }
+        String tat = redisTemplate.opsForValue().get(KEY);
+
+        rateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, BURST);
+
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo(tat);
+    }
+
+    @Test
+    @DisplayName("TAT 키는 항상 만료 시간과 함께 저장")
+    void tryAcquire_KeyHasTtl() {
+        rateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, BURST);
+
+        Long ttl = redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS);
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toMillis(6));
+    }
+
+    @Test
+    @DisplayName("여러 건 요청 시 남은 허용량 안에서만 부여")
+    void tryAcquire_MultiplePermits_PartialGrant() {
+        rateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, BURST);
+
+        RateLimitResult result = rateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, BURST, 10);
+
+        assertThat(result.isAllowed()).isTrue();
+        assertThat(result.getPermits()).isEqualTo(BURST - 1);
+        assertThat(result.getRemaining()).isZero();
+        assertThat(rateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, BURST).isAllowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("버스트를 지정하지 않으면 limit만큼 연속 허용")
+    void tryAcquire_DefaultBurst_IsLimit() {
+        RateLimitResult result = rateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0, 100);
+
+        assertThat(result.getPermits()).isEqualTo(LIMIT);
+    }
+}
@@ -0,0 +1,146 @@
+package com.xlcfi.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * HybridRateLimiter Unit Test
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("로컬 임대 + Redis Rate Limiter 단위 테스트")
+class HybridRateLimiterTest {
+
+    private static final String KEY = "rate_limit:tat:ip:127.0.0.1";
+    private static final int LIMIT = 1000;
+    private static final int WINDOW_SECONDS = 60;
+
+    @Mock
+    private GcraRateLimiter gcraRateLimiter;
+
+    @Test
+    @DisplayName("임대한 요청을 모두 쓸 때까지 Redis를 다시 호출하지 않음")
+    void tryAcquire_ServesFromLease() {
+        // Given: 임대 10건 중 1건은 첫 요청에 사용
+        HybridRateLimiter limiter = limiter(10, 60_000);
+        when(gcraRateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0, 10))
+                .thenReturn(RateLimitResult.allowed(10, 90));
+
+        // When
+        RateLimitResult first = limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0);
+        for (int i = 0; i < 9; i++) {
+            assertThat(limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0).isAllowed()).isTrue();
+        }
+
+        // Then
+        assertThat(first.getRemaining()).isEqualTo(9 + 90);
+        verify(gcraRateLimiter, times(1)).tryAcquire(anyString(), anyInt(), anyInt(), anyInt(), anyInt());
+
+        limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0);
+        verify(gcraRateLimiter, times(2)).tryAcquire(anyString(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("로컬 남은 요청 수는 임대분 + Redis 남은 허용량")
+    void tryAcquire_RemainingCountsLeaseAndRemote() {
+        HybridRateLimiter limiter = limiter(10, 60_000);
+        when(gcraRateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0, 10))
+                .thenReturn(RateLimitResult.allowed(10, 90));
+
+        limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0);
+        RateLimitResult second = limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0);
+
+        assertThat(second.getRemaining()).isEqualTo(8 + 90);
+    }
+
+    @Test
+    @DisplayName("임대가 만료되면 남은 임대분을 버리고 Redis에서 다시 임대")
+    void tryAcquire_LeaseExpired_RenewsFromRedis() throws InterruptedException {
+        HybridRateLimiter limiter = limiter(10, 20);
+        when(gcraRateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0, 10))
+                .thenReturn(RateLimitResult.allowed(10, 90));
+
+        limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0);
+        Thread.sleep(40);
+        limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0);
+
+        verify(gcraRateLimiter, times(2)).tryAcquire(anyString(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("버스트가 작으면 스트라이프마다 쌓아두지 않도록 임대 크기를 줄임")
+    void tryAcquire_SmallBurst_ShrinksLease() {
+        // 버스트 8, 스트라이프 4 → 8 / (2 × 4) = 1건씩 임대
+        HybridRateLimiter limiter = limiter(10, 60_000);
+        when(gcraRateLimiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 8, 1))
+                .thenReturn(RateLimitResult.allowed(1, 7));
+
+        limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 8);
+        limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 8);
+
+        verify(gcraRateLimiter, times(2)).tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 8, 1);
+    }
+
+    @Test
+    @DisplayName("Redis가 거부하면 재시도 시점까지 Redis 호출 없이 거부")
+    void tryAcquire_Rejected_BlocksLocally() {
+        HybridRateLimiter limiter = limiter(10, 60_000);
+        when(gcraRateLimiter.tryAcquire(anyString(), anyInt(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(RateLimitResult.rejected(5_000));
+
+        RateLimitResult first = limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0);
+        RateLimitResult second = limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0);
+
+        assertThat(first.isAllowed()).isFalse();
+        assertThat(second.isAllowed()).isFalse();
+        assertThat(second.getRetryAfterMillis()).isPositive().isLessThanOrEqualTo(5_000);
+        verify(gcraRateLimiter, times(1)).tryAcquire(anyString(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 limit × fallback-ratio 만큼만 로컬에서 허용")
+    void tryAcquire_RedisFailure_LocalFallback() {
+        HybridRateLimiter limiter = limiter(10, 60_000);
+        when(gcraRateLimiter.tryAcquire(anyString(), anyInt(), anyInt(), anyInt(), anyInt()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // 한도 100, 비율 0.25 → 로컬 버스트 25건
+        int allowed = 0;
+        for (int i = 0; i < 40; i++) {
+            if (limiter.tryAcquire(KEY, 100, WINDOW_SECONDS, 0).isAllowed()) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(25);
+        // 재시도 간격 동안은 Redis를 다시 호출하지 않음
+        verify(gcraRateLimiter, times(1)).tryAcquire(anyString(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("키마다 임대분을 따로 관리")
+    void tryAcquire_LeasesArePerKey() {
+        HybridRateLimiter limiter = limiter(10, 60_000);
+        when(gcraRateLimiter.tryAcquire(anyString(), eq(LIMIT), eq(WINDOW_SECONDS), eq(0), eq(10)))
+                .thenReturn(RateLimitResult.allowed(10, 90));
+
+        limiter.tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0);
+        limiter.tryAcquire("rate_limit:tat:ip:10.0.0.1", LIMIT, WINDOW_SECONDS, 0);
+
+        verify(gcraRateLimiter).tryAcquire(KEY, LIMIT, WINDOW_SECONDS, 0, 10);
+        verify(gcraRateLimiter).tryAcquire("rate_limit:tat:ip:10.0.0.1", LIMIT, WINDOW_SECONDS, 0, 10);
+    }
+
+    private HybridRateLimiter limiter(int leaseSize, long leaseTtlMillis) {
+        return new HybridRateLimiter(gcraRateLimiter, leaseSize, leaseTtlMillis, 4, 0.25, 60_000, 1000);
+    }
+}
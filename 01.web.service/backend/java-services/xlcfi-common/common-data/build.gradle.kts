@@ -1,5 +1,6 @@
 plugins {
     `java-library`
+    `java-test-fixtures`
 }
 
 dependencies {
@@ -11,6 +12,34 @@ dependencies {
     
     // Database
     runtimeOnly("org.postgresql:postgresql")
+    compileOnly("org.postgresql:postgresql")  // 캐시 무효화 버스 (LISTEN/NOTIFY)
+    
+    // Web (read-your-writes 요청 사용자 확인)
+    implementation("org.springframework:spring-web")
+    
+    // Servlet (요청별 SQL 문 수 필터, 웹 서비스에서만 사용)
+    compileOnly("org.springframework:spring-webmvc")
+    compileOnly("jakarta.servlet:jakarta.servlet-api")
+    
+    // Local cache (페이지 전체 개수 캐시, read-your-writes 사용자 고정)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    
+    // JSON, Metrics (아웃박스 이벤트 페이로드, 릴레이 지표)
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("io.micrometer:micrometer-core")
+    
+    // Hibernate 2차 캐시 (JCache + Caffeine), 영역별 적중/실패 지표
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    
+    // Kafka (아웃박스 Kafka sink, spring-kafka가 있는 서비스에서만 사용)
+    compileOnly("org.springframework.kafka:spring-kafka")
+    testImplementation("org.springframework.kafka:spring-kafka")
+    
+    // Test fixtures (서비스의 쿼리 수 예산 테스트 공통 설정)
+    testFixturesImplementation("org.springframework.boot:spring-boot-starter-test")
+    testFixturesRuntimeOnly("com.h2database:h2")
     
     // Flyway
     api("org.flywaydb:flyway-core")
@@ -20,6 +49,9 @@ dependencies {
     api("com.querydsl:querydsl-jpa:5.1.0:jakarta")
     annotationProcessor("com.querydsl:querydsl-apt:5.1.0:jakarta")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
+
+    // Test (읽기 복제본 라우팅: H2 인메모리 primary/복제본)
+    testImplementation("com.h2database:h2")
 }
 
 tasks.bootJar {
@@ -0,0 +1,50 @@
+package com.xlcfi.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.sql.DriverManager;
+import java.util.Properties;
+
+/**
+ * 캐시 무효화 버스 자동 설정
+ * xlcfi.cache.invalidation.enabled=true 인 서비스에서 primary DB(spring.datasource)에 LISTEN 전용 연결을 엽니다.
+ * 커넥션 풀 밖의 연결을 사용하므로 풀 크기와 max-lifetime의 영향을 받지 않습니다.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(DataSourceProperties.class)
+@ConditionalOnProperty(prefix = "xlcfi.cache.invalidation", name = "enabled", havingValue = "true")
+public class CacheInvalidationAutoConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public CacheInvalidationBus cacheInvalidationBus(
+            DataSourceProperties properties,
+            ObjectProvider<CacheInvalidationHandler> handlers,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${spring.application.name:xlcfi}") String applicationName,
+            @Value("${xlcfi.cache.invalidation.coalesce-window:50}") long coalesceWindowMillis,
+            @Value("${xlcfi.cache.invalidation.max-ids:1000}") int maxIds,
+            @Value("${xlcfi.cache.invalidation.keep-alive:30000}") long keepAliveMillis,
+            @Value("${xlcfi.cache.invalidation.reconnect-delay:5000}") long reconnectDelayMillis) {
+        String url = properties.determineUrl();
+        Properties connectionProperties = new Properties();
+        // 사용자/비밀번호가 URL이나 드라이버 기본값(pgpass 등)으로 주어지면 비어 있을 수 있음
+        if (properties.determineUsername() != null) {
+            connectionProperties.setProperty("user", properties.determineUsername());
+        }
+        if (properties.determinePassword() != null) {
+            connectionProperties.setProperty("password", properties.determinePassword());
+        }
+        connectionProperties.setProperty("ApplicationName", applicationName + "-cache-invalidation");
+
+        return new CacheInvalidationBus(() -> DriverManager.getConnection(url, connectionProperties),
+                handlers.orderedStream().toList(), coalesceWindowMillis, maxIds, keepAliveMillis,
+                reconnectDelayMillis, meterRegistry);
+    }
+}
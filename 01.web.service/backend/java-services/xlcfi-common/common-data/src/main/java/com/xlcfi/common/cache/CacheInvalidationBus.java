@@ -0,0 +1,253 @@
+package com.xlcfi.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 캐시 무효화 버스
+ *
+ * 전용 연결 1개로 xlcfi_cache_invalidation 채널을 LISTEN하고, 테이블 트리거가 보낸 알림
+ * ('{테이블}:{id,...}' 또는 '{테이블}:*')을 구독 핸들러에 전달합니다.
+ * - 알림은 coalesce-window 동안 모아 테이블별로 한 번에 전달합니다 (같은 행의 반복 변경은 1회로 합쳐짐).
+ * - 한 번에 모인 ID가 max-ids를 넘으면 테이블 전체를 무효화합니다.
+ * - 연결(재연결)할 때마다 LISTEN 이후 모든 구독 테이블을 전체 무효화합니다 (연결이 끊긴 동안 놓친 알림 대비).
+ *
+ * 지표: xlcfi.cache.invalidation.received, xlcfi.cache.invalidation.dispatched,
+ * xlcfi.cache.invalidation.flushes, xlcfi.cache.invalidation.reconnects
+ */
+@Slf4j
+public class CacheInvalidationBus {
+
+    public static final String CHANNEL = "xlcfi_cache_invalidation";
+
+    private static final String ALL = "*";
+
+    private final Callable<Connection> connectionFactory;
+    private final Map<String, List<CacheInvalidationHandler>> handlers = new HashMap<>();
+    private final long coalesceWindowMillis;
+    private final int maxIds;
+    private final long keepAliveMillis;
+    private final long reconnectDelayMillis;
+
+    /**
+     * 모은 알림 (리스너 스레드에서만 사용)
+     */
+    private final Map<String, Set<Long>> pendingIds = new HashMap<>();
+    private final Set<String> pendingFlushes = new HashSet<>();
+
+    private final LongAdder receivedCount = new LongAdder();
+    private final LongAdder dispatchedCount = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder reconnectCount = new LongAdder();
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public CacheInvalidationBus(Callable<Connection> connectionFactory, List<CacheInvalidationHandler> handlers,
+                                long coalesceWindowMillis, int maxIds, long keepAliveMillis,
+                                long reconnectDelayMillis, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.connectionFactory = connectionFactory;
+        for (CacheInvalidationHandler handler : handlers) {
+            for (String table : handler.tables()) {
+                this.handlers.computeIfAbsent(table, key -> new ArrayList<>()).add(handler);
+            }
+        }
+        this.coalesceWindowMillis = Math.max(coalesceWindowMillis, 1);
+        this.maxIds = maxIds;
+        this.keepAliveMillis = keepAliveMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+        meterRegistry.ifAvailable(this::registerMetrics);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("캐시 무효화 버스 시작: tables={}", handlers.keySet());
+    }
+
+    public synchronized void shutdown() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        closeQuietly(connection);
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection listenConnection = connectionFactory.call()) {
+                connection = listenConnection;
+                try (Statement statement = listenConnection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (connectedBefore) {
+                    reconnectCount.increment();
+                    log.info("캐시 무효화 버스 재연결, 구독 테이블 전체 무효화");
+                }
+                connectedBefore = true;
+
+                // LISTEN 이전의 변경은 알 수 없으므로 전체 무효화
+                pendingIds.clear();
+                pendingFlushes.addAll(handlers.keySet());
+                dispatch();
+
+                listen(listenConnection);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.error("캐시 무효화 버스 연결 실패, {}ms 후 재연결: {}", reconnectDelayMillis, e.getMessage());
+                pendingIds.clear();
+                pendingFlushes.clear();
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(Connection listenConnection) throws SQLException {
+        PGConnection pgConnection = listenConnection.unwrap(PGConnection.class);
+        long dispatchAt = 0L;
+
+        while (running) {
+            boolean idle = pendingIds.isEmpty() && pendingFlushes.isEmpty();
+            long timeout = idle ? keepAliveMillis : Math.max(dispatchAt - System.currentTimeMillis(), 1);
+            PGNotification[] notifications = pgConnection.getNotifications((int) timeout);
+
+            if (notifications != null && notifications.length > 0) {
+                if (idle) {
+                    dispatchAt = System.currentTimeMillis() + coalesceWindowMillis;
+                }
+                for (PGNotification notification : notifications) {
+                    accept(notification.getParameter());
+                }
+            } else if (idle && !listenConnection.isValid(5)) {
+                throw new SQLException("LISTEN 연결이 끊어졌습니다");
+            }
+
+            if ((!pendingIds.isEmpty() || !pendingFlushes.isEmpty()) && System.currentTimeMillis() >= dispatchAt) {
+                dispatch();
+            }
+        }
+    }
+
+    /**
+     * 알림 1건 누적 ('{테이블}:{id,...}' 또는 '{테이블}:*')
+     */
+    void accept(String payload) {
+        receivedCount.increment();
+        int separator = payload.indexOf(':');
+        if (separator < 0) {
+            log.warn("알 수 없는 캐시 무효화 알림: {}", payload);
+            return;
+        }
+        String table = payload.substring(0, separator);
+        if (!handlers.containsKey(table) || pendingFlushes.contains(table)) {
+            return;
+        }
+
+        String ids = payload.substring(separator + 1);
+        if (ALL.equals(ids)) {
+            pendingIds.remove(table);
+            pendingFlushes.add(table);
+            return;
+        }
+
+        Set<Long> pending = pendingIds.computeIfAbsent(table, key -> new HashSet<>());
+        try {
+            for (String id : ids.split(",")) {
+                pending.add(Long.parseLong(id));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("캐시 무효화 알림의 ID를 읽을 수 없어 전체 무효화: {}", payload);
+            pending.clear();
+        }
+        if (pending.isEmpty() || pending.size() > maxIds) {
+            pendingIds.remove(table);
+            pendingFlushes.add(table);
+        }
+    }
+
+    /**
+     * 모은 알림을 핸들러에 전달
+     */
+    void dispatch() {
+        for (String table : pendingFlushes) {
+            flushCount.increment();
+            for (CacheInvalidationHandler handler : handlers.get(table)) {
+                try {
+                    handler.invalidateAll(table);
+                } catch (RuntimeException e) {
+                    log.error("캐시 전체 무효화 실패: table={}, handler={}", table, handler.getClass().getSimpleName(), e);
+                }
+            }
+        }
+        for (Map.Entry<String, Set<Long>> entry : pendingIds.entrySet()) {
+            for (CacheInvalidationHandler handler : handlers.get(entry.getKey())) {
+                try {
+                    handler.invalidate(entry.getKey(), entry.getValue());
+                } catch (RuntimeException e) {
+                    log.error("캐시 무효화 실패: table={}, handler={}", entry.getKey(), handler.getClass().getSimpleName(), e);
+                }
+            }
+        }
+        dispatchedCount.increment();
+        pendingFlushes.clear();
+        pendingIds.clear();
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("LISTEN 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("xlcfi.cache.invalidation.received", receivedCount, LongAdder::sum)
+                .description("수신한 캐시 무효화 알림 수")
+                .register(registry);
+        FunctionCounter.builder("xlcfi.cache.invalidation.dispatched", dispatchedCount, LongAdder::sum)
+                .description("핸들러에 전달한 횟수 (received / dispatched = 합쳐진 알림 비율)")
+                .register(registry);
+        FunctionCounter.builder("xlcfi.cache.invalidation.flushes", flushCount, LongAdder::sum)
+                .description("테이블 전체 무효화 횟수")
+                .register(registry);
+        FunctionCounter.builder("xlcfi.cache.invalidation.reconnects", reconnectCount, LongAdder::sum)
+                .description("LISTEN 재연결 횟수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.xlcfi.common.cache;
+
+import java.util.Set;
+
+/**
+ * 로컬 캐시 무효화 핸들러
+ *
+ * 빈으로 등록하면 {@link CacheInvalidationBus}가 구독 테이블의 변경을 전달합니다.
+ * 여러 노드에서 같은 테이블을 캐시해도 DB 변경 알림(NOTIFY)으로 모든 노드의 캐시가 함께 비워집니다.
+ */
+public interface CacheInvalidationHandler {
+
+    /**
+     * 구독할 테이블 (예: products, categories)
+     */
+    Set<String> tables();
+
+    /**
+     * 변경된 행의 캐시 제거
+     */
+    void invalidate(String table, Set<Long> ids);
+
+    /**
+     * 테이블 전체 캐시 제거 (대량 변경, LISTEN 연결 직후)
+     */
+    void invalidateAll(String table);
+}
@@ -0,0 +1,33 @@
+package com.xlcfi.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Hibernate 2차 캐시 자동 설정
+ * xlcfi.entity-cache.enabled=true 인 서비스에서 엔티티 캐시 영역을 만들고,
+ * 캐시 무효화 버스가 켜져 있으면 테이블 변경 알림으로 2차 캐시 항목을 제거합니다.
+ */
+@AutoConfiguration(after = CacheInvalidationAutoConfiguration.class)
+@ConditionalOnClass(JCacheRegionFactory.class)
+public class EntityCacheAutoConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernatePropertiesCustomizer(Environment environment) {
+        return properties -> properties.putAll(EntityCacheSettings.hibernateProperties(environment));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "xlcfi.entity-cache", name = "enabled", havingValue = "true")
+    @ConditionalOnBean(CacheInvalidationBus.class)
+    public EntityCacheInvalidationHandler entityCacheInvalidationHandler(EntityManagerFactory entityManagerFactory) {
+        return new EntityCacheInvalidationHandler(entityManagerFactory);
+    }
+}
@@ -0,0 +1,99 @@
+package com.xlcfi.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hibernate 2차 캐시 무효화 핸들러
+ *
+ * 2차 캐시 대상 엔티티의 테이블이 바뀌면 (다른 노드, 다른 서비스, JDBC 직접 갱신 포함)
+ * 해당 엔티티 항목을 제거하고, 그 엔티티를 요소로 갖는 컬렉션 영역(예: Category.children)은 전체를 비웁니다.
+ */
+@Slf4j
+public class EntityCacheInvalidationHandler implements CacheInvalidationHandler {
+
+    private final CacheImplementor cache;
+
+    /**
+     * 테이블 -> 엔티티 이름
+     */
+    private final Map<String, List<String>> entityNames = new HashMap<>();
+
+    /**
+     * 요소 테이블 -> 컬렉션 role
+     */
+    private final Map<String, List<String>> collectionRoles = new HashMap<>();
+
+    public EntityCacheInvalidationHandler(EntityManagerFactory entityManagerFactory) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.cache = sessionFactory.getCache();
+
+        MappingMetamodel metamodel = sessionFactory.getMappingMetamodel();
+        metamodel.forEachEntityDescriptor(persister -> {
+            if (persister.canWriteToCache()) {
+                entityNames.computeIfAbsent(tableName(persister), key -> new ArrayList<>())
+                        .add(persister.getEntityName());
+            }
+        });
+        metamodel.forEachCollectionDescriptor(persister -> {
+            if (persister.hasCache()
+                    && persister.getAttributeMapping().getElementDescriptor() instanceof EntityValuedModelPart element) {
+                String table = tableName(element.getEntityMappingType().getEntityPersister());
+                collectionRoles.computeIfAbsent(table, key -> new ArrayList<>()).add(persister.getRole());
+            }
+        });
+        log.info("2차 캐시 무효화 대상: entities={}, collections={}", entityNames, collectionRoles);
+    }
+
+    @Override
+    public Set<String> tables() {
+        Set<String> tables = new HashSet<>(entityNames.keySet());
+        tables.addAll(collectionRoles.keySet());
+        return tables;
+    }
+
+    @Override
+    public void invalidate(String table, Set<Long> ids) {
+        for (String entityName : entityNames.getOrDefault(table, List.of())) {
+            for (Long id : ids) {
+                cache.evictEntityData(entityName, id);
+            }
+        }
+        evictCollections(table);
+    }
+
+    @Override
+    public void invalidateAll(String table) {
+        for (String entityName : entityNames.getOrDefault(table, List.of())) {
+            cache.evictEntityData(entityName);
+        }
+        evictCollections(table);
+    }
+
+    private void evictCollections(String table) {
+        for (String role : collectionRoles.getOrDefault(table, List.of())) {
+            cache.evictCollectionData(role);
+        }
+    }
+
+    /**
+     * 스키마를 뺀 테이블 이름 (NOTIFY 알림의 TG_TABLE_NAME과 같은 형식)
+     */
+    private static String tableName(EntityPersister persister) {
+        String tableName = ((AbstractEntityPersister) persister).getTableName();
+        return tableName.substring(tableName.lastIndexOf('.') + 1);
+    }
+}
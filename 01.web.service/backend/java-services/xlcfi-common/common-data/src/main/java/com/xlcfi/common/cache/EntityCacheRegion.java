@@ -0,0 +1,24 @@
+package com.xlcfi.common.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Hibernate 2차 캐시 영역 설정 (xlcfi.entity-cache.regions.{영역})
+ */
+@Getter
+@Setter
+public class EntityCacheRegion {
+
+    /**
+     * 최대 항목 수
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * 저장 후 만료 시간 (변경 알림을 놓쳤을 때 오래된 값이 남는 최대 시간)
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+}
@@ -0,0 +1,77 @@
+package com.xlcfi.common.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine)
+ *
+ * xlcfi.entity-cache.enabled=true 이면 xlcfi.entity-cache.regions에 선언한 영역만 만들어 Hibernate에 넘깁니다.
+ * 선언하지 않은 영역을 쓰는 엔티티가 있으면 기동에 실패합니다 (크기 제한 없는 캐시가 생기지 않도록).
+ * 꺼져 있으면 2차 캐시를 명시적으로 끕니다 (hibernate-jcache가 클래스패스에 있으면 Hibernate가 자동으로 켜므로).
+ *
+ * 영역별 적중/실패는 Hibernate 통계로 모아 actuator의 hibernate.second.level.cache.requests{region, result} 지표로 노출됩니다.
+ */
+public final class EntityCacheSettings {
+
+    private static final URI CACHE_MANAGER_URI = URI.create("xlcfi-entity-cache");
+
+    private EntityCacheSettings() {
+    }
+
+    /**
+     * spring.jpa.properties에 더할 Hibernate 설정
+     */
+    public static Map<String, Object> hibernateProperties(Environment environment) {
+        Map<String, Object> properties = new HashMap<>();
+        if (!environment.getProperty("xlcfi.entity-cache.enabled", Boolean.class, false)) {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+            return properties;
+        }
+
+        Map<String, EntityCacheRegion> regions = Binder.get(environment)
+                .bind("xlcfi.entity-cache.regions", Bindable.mapOf(String.class, EntityCacheRegion.class))
+                .orElse(Map.of());
+
+        properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+        properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+        properties.put(ConfigSettings.CACHE_MANAGER, cacheManager(regions));
+        properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        // 영역별 적중/실패 지표 (세션마다 통계를 INFO 로그로 남기지는 않음)
+        properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        return properties;
+    }
+
+    /**
+     * 영역별 CacheManager (SessionFactory 종료 시 Hibernate가 닫음)
+     * 같은 JVM에서 두 번째 컨텍스트가 뜨면 (테스트 등) 이미 만든 영역을 그대로 사용합니다.
+     */
+    private static CacheManager cacheManager(Map<String, EntityCacheRegion> regions) {
+        CacheManager cacheManager = new CaffeineCachingProvider()
+                .getCacheManager(CACHE_MANAGER_URI, EntityCacheSettings.class.getClassLoader());
+        regions.forEach((name, region) -> {
+            if (cacheManager.getCache(name) != null) {
+                return;
+            }
+            // Hibernate가 캐시 항목을 불변 구조로 저장하므로 값 복사(직렬화) 없이 참조로 보관
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>()
+                    .setStoreByValue(false)
+                    .setMaximumSize(OptionalLong.of(region.getMaximumSize()))
+                    .setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+            cacheManager.createCache(name, configuration);
+        });
+        return cacheManager;
+    }
+}
@@ -0,0 +1,57 @@
+package com.xlcfi.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * read-your-writes 추적
+ *
+ * 쓰기 트랜잭션이 커밋되면 요청한 사용자(JWT 필터가 설정한 userId 요청 속성)를 pin-window 동안 primary에 고정해,
+ * 복제 지연 때문에 방금 쓴 데이터가 보이지 않는 문제를 막습니다.
+ * 고정 정보는 노드 로컬이므로 같은 사용자의 요청이 다른 노드로 가면 적용되지 않습니다.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private static final String USER_ID_ATTRIBUTE = "userId";
+
+    private final Cache<Object, Boolean> pinnedUsers;
+
+    public ReadYourWritesTracker(long pinWindowMillis, long maxUsers) {
+        this.pinnedUsers = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(pinWindowMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+            return;
+        }
+        Object userId = currentUserId();
+        if (userId != null) {
+            pinnedUsers.put(userId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 현재 요청 사용자를 primary에서 읽어야 하는지 여부
+     */
+    public boolean isPinnedToPrimary() {
+        Object userId = currentUserId();
+        return userId != null && pinnedUsers.getIfPresent(userId) != null;
+    }
+
+    private static Object currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                ? attributes.getAttribute(USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+    }
+}
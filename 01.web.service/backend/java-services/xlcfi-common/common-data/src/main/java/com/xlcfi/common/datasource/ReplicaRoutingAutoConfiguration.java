@@ -0,0 +1,83 @@
+package com.xlcfi.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 자동 설정
+ * xlcfi.datasource.routing.enabled=true 인 서비스에서 spring.datasource(primary)와
+ * xlcfi.datasource.replica-urls(복제본) 커넥션 풀을 만들고 라우팅 DataSource를 등록합니다.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@EnableConfigurationProperties(DataSourceProperties.class)
+@ConditionalOnProperty(prefix = "xlcfi.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingAutoConfiguration {
+
+    /**
+     * 쓰기 직후 같은 사용자의 조회를 primary로 고정 (선택)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "xlcfi.datasource.read-your-writes", name = "enabled", havingValue = "true")
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${xlcfi.datasource.read-your-writes.pin-window:5000}") long pinWindowMillis,
+            @Value("${xlcfi.datasource.read-your-writes.max-users:100000}") long maxUsers) {
+        return new ReadYourWritesTracker(pinWindowMillis, maxUsers);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties properties,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker,
+            @Value("${xlcfi.datasource.replica-urls}") String[] replicaUrls,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int primaryPoolSize,
+            @Value("${xlcfi.datasource.replica-pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int replicaPoolSize,
+            @Value("${xlcfi.datasource.replica-max-lag:5000}") long maxLagMillis,
+            @Value("${xlcfi.datasource.replica-health-check-interval:5000}") long healthCheckIntervalMillis) {
+        HikariDataSource primary = pool(properties, properties.determineUrl(), "primary", primaryPoolSize, false);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (!url.isBlank()) {
+                replicas.add(pool(properties, url.trim(), "replica-" + (replicas.size() + 1), replicaPoolSize, true));
+            }
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, readYourWritesTracker.getIfAvailable(),
+                maxLagMillis, healthCheckIntervalMillis);
+    }
+
+    /**
+     * JPA/Flyway가 사용하는 DataSource
+     * 실제 커넥션은 첫 쿼리 시점(트랜잭션의 readOnly 여부가 정해진 뒤)에 라우팅 DataSource에서 가져옵니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String url,
+                                         String poolName, int maximumPoolSize, boolean readOnly) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(readOnly);
+        return dataSource;
+    }
+}
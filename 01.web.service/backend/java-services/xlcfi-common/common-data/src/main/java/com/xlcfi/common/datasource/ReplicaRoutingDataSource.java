@@ -0,0 +1,193 @@
+package com.xlcfi.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 복제본 라우팅 DataSource
+ *
+ * readOnly 트랜잭션은 정상 상태인 복제본에 라운드 로빈으로, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 primary로 보냅니다.
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 정해지지 않으므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ *
+ * - 복제본 상태는 주기적으로 확인하며, 연결 실패 또는 복제 지연이 max-lag를 넘으면 제외합니다.
+ * - 사용 가능한 복제본이 없거나 복제본 연결에 실패하면 primary로 대체합니다.
+ * - read-your-writes가 켜져 있으면 최근에 쓰기를 한 사용자는 잠시 primary에서 읽습니다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    /**
+     * 복제 지연 (밀리초)
+     * WAL을 모두 재생한 상태이면 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간,
+     * WAL 수신이 끊긴 상태이면 {@link #DISCONNECTED} (받은 WAL을 다 재생해 수신/재생 위치가 같아도 primary를 따라가지 못함)
+     *
+     * pg_stat_wal_receiver의 status는 pg_read_all_stats(pg_monitor) 권한이 있어야 보이며,
+     * 권한이 없으면 WAL 수신 프로세스가 있는지만 확인합니다.
+     */
+    private static final String LAG_SQL = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver
+                                      WHERE status IS NULL OR status = 'streaming') THEN -1
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END::bigint
+            """;
+
+    /**
+     * WAL 수신이 끊긴 복제본의 지연 값 (지연을 알 수 없으므로 제외)
+     */
+    static final long DISCONNECTED = -1;
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaPools,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    long maxLagMillis, long healthCheckIntervalMillis) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLagMillis = maxLagMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(
+                this::checkReplicas, 0, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.markDown("연결 실패: " + e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 이번 연결에 사용할 복제본 (primary를 사용해야 하면 null)
+     */
+    private Replica selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        if (readYourWritesTracker != null && readYourWritesTracker.isPinnedToPrimary()) {
+            return null;
+        }
+
+        int start = next.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        log.debug("사용 가능한 읽기 복제본이 없어 primary에서 조회합니다");
+        return null;
+    }
+
+    /**
+     * 복제본 상태 확인 (연결 가능 여부와 복제 지연)
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                long lagMillis = measureLag(connection);
+                replica.lagMillis = lagMillis;
+                if (lagMillis == DISCONNECTED) {
+                    replica.markDown("WAL 수신 중단");
+                } else if (lagMillis > maxLagMillis) {
+                    replica.markDown("복제 지연 " + lagMillis + "ms");
+                } else {
+                    replica.markUp();
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.markDown("상태 확인 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 복제 지연 측정 (밀리초, WAL 수신이 끊겼으면 {@link #DISCONNECTED})
+     */
+    long measureLag(Connection connection) throws SQLException {
+        // PostgreSQL 외 DB(H2 등)는 복제 지연을 확인하지 않음
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * 정상 상태인 복제본 수
+     */
+    public int healthyReplicaCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    /**
+     * 읽기 복제본 커넥션 풀과 상태
+     */
+    private static class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagMillis;
+
+        Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        void markUp() {
+            if (!healthy) {
+                log.info("읽기 복제본 사용 시작: pool={}, lag={}ms", dataSource.getPoolName(), lagMillis);
+            }
+            healthy = true;
+        }
+
+        void markDown(String reason) {
+            if (healthy) {
+                log.warn("읽기 복제본 제외: pool={}, reason={}", dataSource.getPoolName(), reason);
+            }
+            healthy = false;
+        }
+    }
+}
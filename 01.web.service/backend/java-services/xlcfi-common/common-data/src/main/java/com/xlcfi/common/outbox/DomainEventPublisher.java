@@ -0,0 +1,71 @@
+package com.xlcfi.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 도메인 이벤트 발행 (트랜잭셔널 아웃박스)
+ *
+ * 이벤트를 엔티티 변경과 같은 트랜잭션에서 outbox_events 테이블에 기록합니다.
+ * 트랜잭션이 롤백되면 이벤트도 사라지고, 커밋되면 {@link OutboxRelay}가 최소 1회 전달합니다.
+ */
+public class DomainEventPublisher {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events (source, aggregate_type, aggregate_id, event_type, payload)
+            VALUES (?, ?, ?, ?, ?::jsonb)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<OutboxRelay> relay;
+    private final String source;
+
+    /**
+     * @param relay 이 노드의 릴레이 (커밋 직후 깨우기, 릴레이를 끈 노드에는 없음)
+     * @param source 이벤트를 발행하는 서비스 이름 (릴레이는 자기 서비스의 이벤트만 전달)
+     */
+    public DomainEventPublisher(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                ObjectProvider<OutboxRelay> relay, String source) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+        this.source = source;
+    }
+
+    /**
+     * 이벤트 발행 (쓰기 트랜잭션 안에서 호출)
+     *
+     * @param aggregateType 애그리거트 종류 (예: review)
+     * @param aggregateId 애그리거트 ID
+     * @param eventType 이벤트 종류 (예: REVIEW_CREATED)
+     * @param payload JSON으로 직렬화할 페이로드
+     */
+    public void publish(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            throw new IllegalStateException("도메인 이벤트는 쓰기 트랜잭션 안에서 발행해야 합니다: " + eventType);
+        }
+
+        jdbcTemplate.update(INSERT_SQL, source, aggregateType, String.valueOf(aggregateId), eventType, toJson(payload));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.ifAvailable(OutboxRelay::wakeUp);
+            }
+        });
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트 페이로드를 직렬화할 수 없습니다", e);
+        }
+    }
+}
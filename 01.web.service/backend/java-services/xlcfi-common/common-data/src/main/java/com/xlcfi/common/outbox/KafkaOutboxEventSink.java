@@ -0,0 +1,52 @@
+package com.xlcfi.common.outbox;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka로 전달하는 sink
+ *
+ * 이벤트를 토픽 {topic-prefix}{aggregateType}에 애그리거트 ID를 키로 발행합니다 (같은 애그리거트는 같은 파티션).
+ * 배치의 모든 이벤트를 비동기로 보낸 뒤 한 번에 확인 응답을 기다리므로 프로듀서 배치가 그대로 활용됩니다.
+ * 컨슈머는 event-id 헤더로 중복 수신을 걸러야 합니다 (최소 1회 전달).
+ */
+public class KafkaOutboxEventSink implements OutboxEventSink {
+
+    private final DefaultKafkaProducerFactory<String, String> producerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topicPrefix;
+    private final long sendTimeoutMillis;
+
+    public KafkaOutboxEventSink(DefaultKafkaProducerFactory<String, String> producerFactory,
+                                String topicPrefix, long sendTimeoutMillis) {
+        this.producerFactory = producerFactory;
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        this.topicPrefix = topicPrefix;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    @Override
+    public void send(List<OutboxEvent> events) throws Exception {
+        CompletableFuture<?>[] results = new CompletableFuture<?>[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            ProducerRecord<String, String> record = new ProducerRecord<>(
+                    topicPrefix + event.getAggregateType(), event.getAggregateId(), event.getPayload());
+            record.headers()
+                    .add("event-id", String.valueOf(event.getId()).getBytes(StandardCharsets.UTF_8))
+                    .add("event-type", event.getEventType().getBytes(StandardCharsets.UTF_8));
+            results[i] = kafkaTemplate.send(record);
+        }
+        CompletableFuture.allOf(results).get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        producerFactory.destroy();
+    }
+}
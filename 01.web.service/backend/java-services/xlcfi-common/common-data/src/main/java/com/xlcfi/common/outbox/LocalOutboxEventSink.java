@@ -0,0 +1,27 @@
+package com.xlcfi.common.outbox;
+
+import java.util.List;
+
+/**
+ * 프로세스 내 리스너({@link OutboxEventListener})에 전달하는 sink
+ */
+public class LocalOutboxEventSink implements OutboxEventSink {
+
+    private final List<OutboxEventListener> listeners;
+
+    public LocalOutboxEventSink(List<OutboxEventListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    @Override
+    public void send(List<OutboxEvent> events) {
+        for (OutboxEventListener listener : listeners) {
+            List<OutboxEvent> supported = events.stream()
+                    .filter(listener::supports)
+                    .toList();
+            if (!supported.isEmpty()) {
+                listener.onEvents(supported);
+            }
+        }
+    }
+}
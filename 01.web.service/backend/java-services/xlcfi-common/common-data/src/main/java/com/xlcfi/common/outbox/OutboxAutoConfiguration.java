@@ -0,0 +1,65 @@
+package com.xlcfi.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 트랜잭셔널 아웃박스 자동 설정
+ * xlcfi.outbox.enabled=true 인 서비스에서 {@link DomainEventPublisher}와 릴레이를 등록합니다.
+ * outbox_events 테이블은 각 서비스의 Flyway 마이그레이션으로 생성합니다.
+ * Kafka sink는 {@link OutboxKafkaAutoConfiguration}에서 등록합니다.
+ */
+@AutoConfiguration(after = {JdbcTemplateAutoConfiguration.class, KafkaAutoConfiguration.class})
+@ConditionalOnProperty(prefix = "xlcfi.outbox", name = "enabled", havingValue = "true")
+public class OutboxAutoConfiguration {
+
+    @Bean
+    public DomainEventPublisher domainEventPublisher(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            ObjectProvider<OutboxRelay> outboxRelay,
+            @Value("${spring.application.name}") String source) {
+        return new DomainEventPublisher(jdbcTemplate, objectMapper, outboxRelay, source);
+    }
+
+    /**
+     * 프로세스 내 리스너 sink (다른 sink보다 먼저 전달)
+     */
+    @Bean
+    @Order(0)
+    public LocalOutboxEventSink localOutboxEventSink(ObjectProvider<OutboxEventListener> listeners) {
+        return new LocalOutboxEventSink(listeners.orderedStream().toList());
+    }
+
+    /**
+     * 릴레이 (xlcfi.outbox.relay.enabled=false 이면 이 노드는 발행만 하고 전달하지 않음)
+     */
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = "xlcfi.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<OutboxEventSink> sinks,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${spring.application.name}") String source,
+            @Value("${xlcfi.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${xlcfi.outbox.relay.poll-interval:1000}") long pollIntervalMillis,
+            @Value("${xlcfi.outbox.relay.retry-backoff:1000}") long retryBackoffMillis,
+            @Value("${xlcfi.outbox.relay.max-retry-backoff:300000}") long maxRetryBackoffMillis,
+            @Value("${xlcfi.outbox.relay.max-attempts:10}") int maxAttempts) {
+        return new OutboxRelay(jdbcTemplate, new TransactionTemplate(transactionManager),
+                sinks.orderedStream().toList(), source, batchSize, pollIntervalMillis,
+                retryBackoffMillis, maxRetryBackoffMillis, maxAttempts, meterRegistry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.xlcfi.common.outbox;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 (outbox_events 테이블의 한 행)
+ */
+@Getter
+@Builder
+public class OutboxEvent {
+
+    /**
+     * 이벤트 ID (재전달 시 중복 제거에 사용)
+     */
+    private final Long id;
+
+    /**
+     * 애그리거트 종류 (예: product, review)
+     */
+    private final String aggregateType;
+
+    private final String aggregateId;
+
+    /**
+     * 이벤트 종류 (예: REVIEW_CREATED)
+     */
+    private final String eventType;
+
+    /**
+     * JSON 페이로드
+     */
+    private final String payload;
+
+    private final LocalDateTime createdAt;
+
+    /**
+     * 이전 전달 실패 횟수
+     */
+    private final int attempts;
+}
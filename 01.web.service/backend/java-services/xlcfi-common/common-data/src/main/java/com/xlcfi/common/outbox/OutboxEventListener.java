@@ -0,0 +1,22 @@
+package com.xlcfi.common.outbox;
+
+import java.util.List;
+
+/**
+ * 프로세스 내 아웃박스 이벤트 리스너
+ *
+ * 빈으로 등록하면 {@link LocalOutboxEventSink}가 배치 단위로 호출합니다.
+ * 최소 1회 전달이므로 같은 이벤트를 다시 받아도 결과가 같도록(멱등) 구현해야 합니다.
+ */
+public interface OutboxEventListener {
+
+    /**
+     * 처리할 이벤트인지 여부
+     */
+    boolean supports(OutboxEvent event);
+
+    /**
+     * 배치 중 supports가 true인 이벤트 처리
+     */
+    void onEvents(List<OutboxEvent> events);
+}
@@ -0,0 +1,18 @@
+package com.xlcfi.common.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 전달 대상
+ *
+ * 릴레이는 꺼낸 배치를 등록된 모든 sink에 순서대로 전달하고, 모두 성공해야 배치를 삭제합니다.
+ * 하나라도 실패하면 배치의 이벤트를 다시 전달하므로 (재시도는 한 건씩, max-attempts번까지)
+ * sink는 같은 이벤트를 여러 번 받을 수 있습니다.
+ */
+public interface OutboxEventSink {
+
+    /**
+     * 배치 전달 (예외를 던지면 배치 전체를 재시도)
+     */
+    void send(List<OutboxEvent> events) throws Exception;
+}
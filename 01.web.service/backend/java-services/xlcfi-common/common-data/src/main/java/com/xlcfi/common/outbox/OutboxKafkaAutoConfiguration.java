@@ -0,0 +1,41 @@
+package com.xlcfi.common.outbox;
+
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * 아웃박스 Kafka sink 자동 설정
+ * spring-kafka가 있고 아웃박스가 켜진 서비스에서 xlcfi.outbox.kafka.enabled=true 이면 등록합니다.
+ * 페이로드가 이미 JSON 문자열이므로 spring.kafka 설정에 문자열 직렬화기를 적용한 전용 프로듀서를 사용합니다.
+ */
+@AutoConfiguration(after = {KafkaAutoConfiguration.class, OutboxAutoConfiguration.class})
+@ConditionalOnClass(KafkaTemplate.class)
+@ConditionalOnBean(DomainEventPublisher.class)
+@ConditionalOnProperty(prefix = "xlcfi.outbox.kafka", name = "enabled", havingValue = "true")
+public class OutboxKafkaAutoConfiguration {
+
+    @Bean(destroyMethod = "shutdown")
+    @Order(100)
+    public KafkaOutboxEventSink kafkaOutboxEventSink(
+            KafkaProperties kafkaProperties,
+            ObjectProvider<SslBundles> sslBundles,
+            @Value("${xlcfi.outbox.kafka.topic-prefix:xlcfi.}") String topicPrefix,
+            @Value("${xlcfi.outbox.kafka.send-timeout:10000}") long sendTimeoutMillis) {
+        DefaultKafkaProducerFactory<String, String> producerFactory = new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable()),
+                new StringSerializer(), new StringSerializer());
+        return new KafkaOutboxEventSink(producerFactory, topicPrefix, sendTimeoutMillis);
+    }
+}
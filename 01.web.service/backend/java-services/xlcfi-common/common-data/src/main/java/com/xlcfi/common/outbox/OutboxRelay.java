@@ -0,0 +1,291 @@
+package com.xlcfi.common.outbox;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * 커밋된 이벤트를 배치로 꺼내(SELECT ... FOR UPDATE SKIP LOCKED) 등록된 sink에 전달하고 삭제합니다.
+ * - 여러 노드가 동시에 실행해도 SKIP LOCKED로 서로 다른 배치를 가져갑니다 (노드 간 순서는 보장하지 않음).
+ * - 프로세스 내 리스너의 DB 변경은 이벤트 삭제와 같은 트랜잭션에서 커밋됩니다.
+ * - 전달에 실패하면 배치를 롤백하고 지수 백오프로 재시도를 예약합니다 (최소 1회 전달).
+ *   재시도 이벤트는 한 건씩 전달해, 전달할 수 없는 이벤트 하나 때문에 같은 배치의 다른 이벤트까지 실패하지 않도록 합니다.
+ * - max-attempts번 실패한 이벤트는 DEAD 상태로 남기고 더 이상 전달하지 않습니다 (last_error 확인 후 PENDING으로 되돌려 재전달).
+ * - 이벤트 발행 트랜잭션이 커밋되면 바로 깨어나고, 그 외에는 poll-interval마다 확인합니다.
+ *
+ * 지표: xlcfi.outbox.relayed, xlcfi.outbox.failed, xlcfi.outbox.dead, xlcfi.outbox.batches, xlcfi.outbox.send,
+ * xlcfi.outbox.lag
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private static final String CLAIM_SQL = """
+            SELECT id, aggregate_type, aggregate_id, event_type, payload::text AS payload, created_at, attempts,
+                   (EXTRACT(EPOCH FROM clock_timestamp() - created_at) * 1000)::bigint AS age_millis
+            FROM outbox_events
+            WHERE source = ? AND status = 'PENDING' AND available_at <= now()
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ANY(?)";
+
+    private static final String RETRY_SQL = """
+            UPDATE outbox_events
+            SET attempts = attempts + 1,
+                available_at = now() + LEAST(?, ? * power(2, attempts)) * INTERVAL '1 millisecond',
+                last_error = ?,
+                status = CASE WHEN attempts + 1 >= ? THEN 'DEAD' ELSE status END
+            WHERE id = ANY(?)
+            """;
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<OutboxEventSink> sinks;
+    private final String source;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final long retryBackoffMillis;
+    private final long maxRetryBackoffMillis;
+    private final int maxAttempts;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final LongAdder relayedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder deadCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder sendCount = new LongAdder();
+    private final LongAdder sendNanos = new LongAdder();
+
+    /**
+     * 마지막 배치에서 가장 오래된 이벤트의 대기 시간 (밀리초, 대기 이벤트가 없으면 0)
+     */
+    private volatile long lagMillis;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                       List<OutboxEventSink> sinks, String source, int batchSize, long pollIntervalMillis,
+                       long retryBackoffMillis, long maxRetryBackoffMillis, int maxAttempts,
+                       ObjectProvider<MeterRegistry> meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sinks = sinks;
+        this.source = source;
+        this.batchSize = Math.max(batchSize, 1);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxRetryBackoffMillis = maxRetryBackoffMillis;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        meterRegistry.ifAvailable(this::registerMetrics);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "outbox-relay");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("아웃박스 릴레이 시작: source={}, sinks={}, batchSize={}", source, sinks.size(), batchSize);
+    }
+
+    public synchronized void shutdown() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        wakeUps.release();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 대기 중인 이벤트가 있음을 알림 (poll-interval을 기다리지 않고 바로 전달)
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                // 가져온 배치가 가득 찼으면 남은 이벤트가 있으므로 바로 다음 배치를 가져옴
+                if (relayBatch() < batchSize) {
+                    wakeUps.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("아웃박스 릴레이 실행 실패: {}", e.getMessage());
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 배치 1개 전달
+     *
+     * @return 가져온 이벤트 수 (재시도 이벤트는 한 건만 전달하므로 전달한 수보다 클 수 있음, 전달 실패 시 0)
+     */
+    int relayBatch() {
+        try {
+            Integer relayed = transactionTemplate.execute(status -> relayClaimed());
+            return relayed != null ? relayed : 0;
+        } catch (DeliveryFailedException e) {
+            failedCount.add(e.events.size());
+            log.warn("아웃박스 이벤트 전달 실패, 재시도 예약: {}건, 오류={}", e.events.size(), e.getCause().toString());
+            scheduleRetry(e.events, e.getCause());
+            return 0;
+        }
+    }
+
+    private int relayClaimed() {
+        long[] oldestAgeMillis = {0L};
+        List<OutboxEvent> claimed = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> {
+            if (rowNum == 0) {
+                oldestAgeMillis[0] = rs.getLong("age_millis");
+            }
+            return OutboxEvent.builder()
+                    .id(rs.getLong("id"))
+                    .aggregateType(rs.getString("aggregate_type"))
+                    .aggregateId(rs.getString("aggregate_id"))
+                    .eventType(rs.getString("event_type"))
+                    .payload(rs.getString("payload"))
+                    .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                    .attempts(rs.getInt("attempts"))
+                    .build();
+        }, source, batchSize);
+        lagMillis = oldestAgeMillis[0];
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        List<OutboxEvent> events = withoutRetries(claimed);
+
+        long start = System.nanoTime();
+        try {
+            for (OutboxEventSink sink : sinks) {
+                sink.send(events);
+            }
+        } catch (Exception e) {
+            throw new DeliveryFailedException(events, e);
+        } finally {
+            sendCount.increment();
+            sendNanos.add(System.nanoTime() - start);
+        }
+
+        jdbcTemplate.update(DELETE_SQL, ps -> ps.setArray(1, idArray(ps.getConnection(), events)));
+        relayedCount.add(events.size());
+        batchCount.increment();
+        log.debug("아웃박스 이벤트 전달: {}건, 대기 시간={}ms", events.size(), oldestAgeMillis[0]);
+        return claimed.size();
+    }
+
+    /**
+     * 첫 재시도 이벤트 앞까지 (첫 이벤트가 재시도 이벤트이면 그 한 건만)
+     * 나머지는 잠금만 풀리고 다음 배치에서 다시 가져옵니다.
+     */
+    private static List<OutboxEvent> withoutRetries(List<OutboxEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i).getAttempts() > 0) {
+                return events.subList(0, Math.max(i, 1));
+            }
+        }
+        return events;
+    }
+
+    private void scheduleRetry(List<OutboxEvent> events, Throwable error) {
+        String message = String.valueOf(error);
+        String lastError = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        try {
+            jdbcTemplate.update(RETRY_SQL, ps -> {
+                ps.setLong(1, maxRetryBackoffMillis);
+                ps.setLong(2, retryBackoffMillis);
+                ps.setString(3, lastError);
+                ps.setInt(4, maxAttempts);
+                ps.setArray(5, idArray(ps.getConnection(), events));
+            });
+        } catch (RuntimeException e) {
+            // 재시도 예약에 실패해도 이벤트는 남아 있으므로 다음 poll에서 다시 전달됨
+            log.error("아웃박스 재시도 예약 실패: {}", e.getMessage());
+            return;
+        }
+
+        List<Long> deadIds = events.stream()
+                .filter(event -> event.getAttempts() + 1 >= maxAttempts)
+                .map(OutboxEvent::getId)
+                .toList();
+        if (!deadIds.isEmpty()) {
+            deadCount.add(deadIds.size());
+            log.error("아웃박스 이벤트 전달 중단 (DEAD): {}회 실패, eventIds={}, 오류={}", maxAttempts, deadIds, lastError);
+        }
+    }
+
+    private static Array idArray(Connection connection, List<OutboxEvent> events) throws SQLException {
+        return connection.createArrayOf("bigint", events.stream().map(OutboxEvent::getId).toArray());
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("xlcfi.outbox.relayed", relayedCount, LongAdder::sum)
+                .description("전달 완료된 아웃박스 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("xlcfi.outbox.failed", failedCount, LongAdder::sum)
+                .description("전달 실패 후 재시도 예약된 아웃박스 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("xlcfi.outbox.dead", deadCount, LongAdder::sum)
+                .description("max-attempts번 실패해 전달을 중단한(DEAD) 아웃박스 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("xlcfi.outbox.batches", batchCount, LongAdder::sum)
+                .description("전달 완료된 배치 수 (relayed / batches = 평균 배치 크기)")
+                .register(registry);
+        FunctionTimer.builder("xlcfi.outbox.send", this,
+                        relay -> relay.sendCount.sum(),
+                        relay -> relay.sendNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("배치를 sink에 전달하는 데 걸린 시간")
+                .register(registry);
+        Gauge.builder("xlcfi.outbox.lag", this, relay -> relay.lagMillis)
+                .description("마지막 배치에서 가장 오래된 이벤트의 대기 시간 (밀리초)")
+                .register(registry);
+    }
+
+    /**
+     * sink 전달 실패 (트랜잭션을 롤백하고 재시도 예약)
+     */
+    private static class DeliveryFailedException extends RuntimeException {
+
+        private final transient List<OutboxEvent> events;
+
+        DeliveryFailedException(List<OutboxEvent> events, Exception cause) {
+            super(cause);
+            this.events = events;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.xlcfi.common.pagination;
+
+/**
+ * 페이지 응답의 전체 개수(totalElements) 정확도
+ */
+public enum CountAccuracy {
+
+    /**
+     * 이번 요청에서 계산한 정확한 개수
+     */
+    EXACT,
+
+    /**
+     * 캐시된 정확한 개수 (다른 노드의 변경은 TTL 동안 반영되지 않을 수 있음)
+     */
+    CACHED,
+
+    /**
+     * PostgreSQL 통계(reltuples) 기반 추정치
+     */
+    ESTIMATED
+}
@@ -0,0 +1,30 @@
+package com.xlcfi.common.pagination;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 전체 개수의 정확도를 함께 제공하는 페이지
+ * 기존 Page 응답에 totalAccuracy 필드만 추가됩니다.
+ */
+public class CountedPage<T> extends PageImpl<T> {
+
+    private final CountAccuracy totalAccuracy;
+
+    public CountedPage(List<T> content, Pageable pageable, long total, CountAccuracy totalAccuracy) {
+        super(content, pageable, total);
+        this.totalAccuracy = totalAccuracy;
+    }
+
+    public CountAccuracy getTotalAccuracy() {
+        return totalAccuracy;
+    }
+
+    @Override
+    public <U> CountedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CountedPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), totalAccuracy);
+    }
+}
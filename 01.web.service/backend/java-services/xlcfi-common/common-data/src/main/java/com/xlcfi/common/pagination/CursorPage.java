@@ -0,0 +1,34 @@
+package com.xlcfi.common.pagination;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * 전체 개수를 계산하지 않으며, 다음 페이지는 nextCursor로 요청합니다.
+ */
+@Getter
+@Builder
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지이면 null)
+     */
+    private final String nextCursor;
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        return CursorPage.<R>builder()
+                .content(content.stream().<R>map(converter).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
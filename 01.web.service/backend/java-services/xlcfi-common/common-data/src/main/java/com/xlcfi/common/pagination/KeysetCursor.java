@@ -0,0 +1,58 @@
+package com.xlcfi.common.pagination;
+
+import com.xlcfi.common.exception.BusinessException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 커서 (마지막으로 반환한 행의 정렬 키와 id)
+ * 클라이언트에는 "정렬이름|정렬키|id"를 Base64url로 인코딩한 불투명 토큰으로 전달합니다.
+ */
+@Getter
+class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final Comparable<?> key;
+    private final long id;
+
+    private KeysetCursor(Comparable<?> key, long id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    static <T> String encode(KeysetSort<T> sort, T last) {
+        String raw = sort.getName() + SEPARATOR + sort.getKeyExtractor().apply(last) + SEPARATOR
+                + sort.getIdExtractor().apply(last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석
+     *
+     * @throws BusinessException 형식이 잘못되었거나 다른 정렬의 커서인 경우
+     */
+    static KeysetCursor decode(KeysetSort<?> sort, String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int last = raw.lastIndexOf(SEPARATOR);
+            if (first < 0 || first == last || !sort.getName().equals(raw.substring(0, first))) {
+                throw invalidCursor();
+            }
+            return new KeysetCursor(
+                    sort.getKeyParser().apply(raw.substring(first + 1, last)),
+                    Long.parseLong(raw.substring(last + 1)));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static BusinessException invalidCursor() {
+        return new BusinessException("PAGINATION001", "유효하지 않은 커서입니다");
+    }
+}
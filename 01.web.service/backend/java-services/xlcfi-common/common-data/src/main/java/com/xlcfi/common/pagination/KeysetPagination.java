@@ -0,0 +1,86 @@
+package com.xlcfi.common.pagination;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이지네이션
+ *
+ * OFFSET 대신 마지막 행의 (정렬 키, id) 다음부터 조회하고 COUNT 쿼리를 실행하지 않으므로,
+ * 페이지 깊이와 관계없이 (필터, 정렬 키, id) 인덱스 범위 스캔 한 번으로 처리됩니다.
+ * 다음 페이지 존재 여부는 size + 1건을 조회해 판단합니다.
+ * 응답 변환에 필요한 연관 엔티티는 fetch 속성으로 지정하면 같은 쿼리에서 조인해 읽습니다 (행마다 지연 로딩하지 않음).
+ */
+public final class KeysetPagination {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * 커서 다음 페이지 조회
+     *
+     * @param repository 엔티티 Repository
+     * @param filter 조회 조건
+     * @param sort 정렬 정의
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 {@link #MAX_SIZE})
+     * @param fetch 함께 조회할 연관 속성 (fetch graph, 단일 연관만 지정, 컬렉션은 batch fetch 사용)
+     */
+    public static <T> CursorPage<T> fetch(JpaSpecificationExecutor<T> repository, Specification<T> filter,
+                                          KeysetSort<T> sort, String cursor, int size, String... fetch) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SIZE);
+
+        Specification<T> spec = filter;
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(seek(sort, KeysetCursor.decode(sort, cursor)));
+        }
+
+        List<T> rows = repository.findBy(spec, query -> query
+                .sortBy(sort.toSort())
+                .limit(pageSize + 1)
+                .project(fetch)
+                .all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return CursorPage.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? KeysetCursor.encode(sort, content.get(content.size() - 1)) : null)
+                .build();
+    }
+
+    /**
+     * 탐색 조건
+     * DESC: key <= :key AND (key < :key OR id < :id)
+     *
+     * 첫 번째 조건은 두 번째 조건에 포함되지만, 인덱스 범위 스캔의 시작 위치로 사용되도록 함께 둡니다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Specification<T> seek(KeysetSort<T> sort, KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Comparable> key = root.get(sort.getAttribute());
+            Path<Long> id = root.get("id");
+            Comparable value = cursor.getKey();
+
+            if (sort.getDirection() == Sort.Direction.DESC) {
+                Predicate range = cb.lessThanOrEqualTo(key, value);
+                Predicate after = cb.or(cb.lessThan(key, value), cb.lessThan(id, cursor.getId()));
+                return cb.and(range, after);
+            }
+            Predicate range = cb.greaterThanOrEqualTo(key, value);
+            Predicate after = cb.or(cb.greaterThan(key, value), cb.greaterThan(id, cursor.getId()));
+            return cb.and(range, after);
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.xlcfi.common.pagination;
+
+import com.xlcfi.common.entity.BaseEntity;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 정렬 정의 (정렬 키 + id)
+ * 정렬 키가 같은 행은 id로 순서를 정하므로, 정렬 키 값은 null이 아니어야 합니다.
+ *
+ * @param <T> 엔티티 타입
+ */
+@Getter
+public class KeysetSort<T> {
+
+    /**
+     * 정렬 이름 (커서에 포함되어 다른 정렬의 커서 사용을 막음)
+     */
+    private final String name;
+
+    /**
+     * 정렬 키 엔티티 속성명
+     */
+    private final String attribute;
+    private final Sort.Direction direction;
+    private final Function<T, ? extends Comparable<?>> keyExtractor;
+    private final Function<String, ? extends Comparable<?>> keyParser;
+    private final Function<T, Long> idExtractor;
+
+    private KeysetSort(String name, String attribute, Sort.Direction direction,
+                       Function<T, ? extends Comparable<?>> keyExtractor,
+                       Function<String, ? extends Comparable<?>> keyParser,
+                       Function<T, Long> idExtractor) {
+        this.name = name;
+        this.attribute = attribute;
+        this.direction = direction;
+        this.keyExtractor = keyExtractor;
+        this.keyParser = keyParser;
+        this.idExtractor = idExtractor;
+    }
+
+    public static <T> KeysetSort<T> of(String name, String attribute, Sort.Direction direction,
+                                       Function<T, ? extends Comparable<?>> keyExtractor,
+                                       Function<String, ? extends Comparable<?>> keyParser,
+                                       Function<T, Long> idExtractor) {
+        return new KeysetSort<>(name, attribute, direction, keyExtractor, keyParser, idExtractor);
+    }
+
+    /**
+     * 최신순 (created_at DESC, id DESC)
+     */
+    public static <T extends BaseEntity> KeysetSort<T> latest(Function<T, Long> idExtractor) {
+        return of("latest", "createdAt", Sort.Direction.DESC,
+                BaseEntity::getCreatedAt, LocalDateTime::parse, idExtractor);
+    }
+
+    /**
+     * ORDER BY 절 (정렬 키, id)
+     */
+    public Sort toSort() {
+        return Sort.by(direction, attribute).and(Sort.by(direction, "id"));
+    }
+}
@@ -0,0 +1,175 @@
+package com.xlcfi.common.pagination;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지 전체 개수 서비스
+ *
+ * 페이지 조회마다 실행되던 COUNT(*) 대신 필터별 개수를 로컬 캐시에 보관합니다.
+ * - 마지막 페이지처럼 조회 결과만으로 개수를 알 수 있으면 COUNT를 실행하지 않습니다.
+ * - 캐시는 쓰기 트랜잭션 커밋 후 {@link #invalidate}로 비우고, 다른 노드의 변경은 TTL로 반영합니다.
+ * - 필터가 상태 컬럼 하나뿐인 큰 목록은 PostgreSQL 통계(reltuples, pg_stats) 추정치를 사용합니다.
+ */
+@Slf4j
+@Component
+public class PageCountService {
+
+    private static final String TABLE_ESTIMATE_SQL = """
+            SELECT reltuples::bigint
+            FROM pg_class
+            WHERE oid = to_regclass(?) AND reltuples >= 0
+            """;
+
+    private static final String VALUE_ESTIMATE_SQL = """
+            SELECT (c.reltuples * s.most_common_freqs[array_position(s.most_common_vals::text::text[], ?)])::bigint
+            FROM pg_class c
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            JOIN pg_stats s ON s.schemaname = n.nspname AND s.tablename = c.relname AND s.attname = ?
+            WHERE c.oid = to_regclass(?) AND c.reltuples >= 0
+            """;
+
+    /**
+     * 추정치를 사용할 수 없는 경우 캐시에 보관하는 값
+     */
+    private static final long NO_ESTIMATE = -1L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Long> counts;
+    private final Cache<String, Long> estimates;
+    private final long estimateThreshold;
+
+    public PageCountService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${xlcfi.page-count.ttl:60000}") long ttlMillis,
+            @Value("${xlcfi.page-count.max-keys:10000}") long maxKeys,
+            @Value("${xlcfi.page-count.estimate-threshold:100000}") long estimateThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.estimateThreshold = estimateThreshold;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .build();
+        this.estimates = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * 캐시된 개수로 페이지 생성
+     *
+     * @param content 조회한 페이지 내용 (COUNT 없이 조회한 결과)
+     * @param countKey 필터별 캐시 키 (예: products:category:3:PUBLISHED)
+     * @param exactCount 캐시에 없을 때 실행할 COUNT 쿼리
+     */
+    public <T> CountedPage<T> page(List<T> content, Pageable pageable, String countKey, LongSupplier exactCount) {
+        long known = totalFromContent(content, pageable);
+        if (known >= 0) {
+            return new CountedPage<>(content, pageable, known, CountAccuracy.EXACT);
+        }
+
+        Long cached = counts.getIfPresent(countKey);
+        if (cached != null) {
+            return new CountedPage<>(content, pageable, cached, CountAccuracy.CACHED);
+        }
+
+        long total = exactCount.getAsLong();
+        counts.put(countKey, total);
+        return new CountedPage<>(content, pageable, total, CountAccuracy.EXACT);
+    }
+
+    /**
+     * 통계 추정치로 페이지 생성
+     * 추정치가 estimate-threshold 미만이거나 통계가 없으면 {@link #page}와 같이 캐시된 정확한 개수를 사용합니다.
+     *
+     * @param table 테이블명
+     * @param column 필터 컬럼 (필터가 없으면 null)
+     * @param value 필터 값 (pg_stats의 most_common_vals에 있어야 추정 가능)
+     */
+    public <T> CountedPage<T> estimatedPage(List<T> content, Pageable pageable, String countKey,
+                                            String table, String column, String value, LongSupplier exactCount) {
+        long known = totalFromContent(content, pageable);
+        if (known >= 0) {
+            return new CountedPage<>(content, pageable, known, CountAccuracy.EXACT);
+        }
+
+        long estimate = estimate(table, column, value);
+        if (estimate < estimateThreshold) {
+            return page(content, pageable, countKey, exactCount);
+        }
+
+        // 추정치가 실제보다 작아도 현재 페이지까지는 포함하도록 보정
+        long total = Math.max(estimate, pageable.getOffset() + content.size());
+        return new CountedPage<>(content, pageable, total, CountAccuracy.ESTIMATED);
+    }
+
+    /**
+     * 캐시 키 접두어로 개수 캐시 비우기
+     * 트랜잭션 안에서 호출하면 커밋 후에 비웁니다 (커밋 전 조회가 이전 개수를 다시 캐시하지 않도록).
+     */
+    public void invalidate(String... keyPrefixes) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(keyPrefixes);
+                }
+            });
+            return;
+        }
+        evict(keyPrefixes);
+    }
+
+    private void evict(String... keyPrefixes) {
+        counts.asMap().keySet().removeIf(key -> {
+            for (String prefix : keyPrefixes) {
+                if (key.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    private long estimate(String table, String column, String value) {
+        String key = column == null ? table : table + ":" + column + "=" + value;
+        return estimates.get(key, k -> {
+            try {
+                Long rows = column == null
+                        ? jdbcTemplate.query(TABLE_ESTIMATE_SQL,
+                                rs -> rs.next() ? rs.getObject(1, Long.class) : null, table)
+                        : jdbcTemplate.query(VALUE_ESTIMATE_SQL,
+                                rs -> rs.next() ? rs.getObject(1, Long.class) : null, value, column, table);
+                return rows != null ? rows : NO_ESTIMATE;
+            } catch (Exception e) {
+                log.warn("행 수 추정 실패, 정확한 개수 사용: table={}, {}", table, e.getMessage());
+                return NO_ESTIMATE;
+            }
+        });
+    }
+
+    /**
+     * 조회 결과만으로 알 수 있는 전체 개수 (알 수 없으면 -1)
+     */
+    private static long totalFromContent(List<?> content, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return content.size();
+        }
+        if (content.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !content.isEmpty())) {
+            return pageable.getOffset() + content.size();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,53 @@
+package com.xlcfi.common.query;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 측정 구간에서 실행한 SQL 문 수 (종류별)
+ *
+ * {@link QueryCounter#start()}로 시작하고 close()로 끝냅니다. 구간은 중첩할 수 있으며,
+ * 안쪽 구간의 SQL은 바깥 구간에도 함께 집계됩니다 (예: 테스트 구간 안의 요청 구간).
+ * 한 스레드(요청 스레드)에서만 사용합니다.
+ */
+@Getter
+public class QueryCount implements AutoCloseable {
+
+    @Getter(AccessLevel.PACKAGE)
+    private final QueryCount parent;
+
+    private int select;
+    private int insert;
+    private int update;
+    private int delete;
+    private int other;
+
+    QueryCount(QueryCount parent) {
+        this.parent = parent;
+    }
+
+    public int getTotal() {
+        return select + insert + update + delete + other;
+    }
+
+    void increment(QueryType type) {
+        switch (type) {
+            case SELECT -> select++;
+            case INSERT -> insert++;
+            case UPDATE -> update++;
+            case DELETE -> delete++;
+            default -> other++;
+        }
+    }
+
+    @Override
+    public void close() {
+        QueryCounter.end(this);
+    }
+
+    @Override
+    public String toString() {
+        return "total=" + getTotal() + " (select=" + select + ", insert=" + insert + ", update=" + update
+                + ", delete=" + delete + ", other=" + other + ")";
+    }
+}
@@ -0,0 +1,48 @@
+package com.xlcfi.common.query;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청별 SQL 문 수 측정 자동 설정
+ * Hibernate StatementInspector로 SQL 문을 세고, /api/* 요청마다 지표와 N+1 의심 로그를 남깁니다.
+ * xlcfi.query-count.header=true 이면 X-Query-Count 응답 헤더를 붙입니다 (개발/테스트용).
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "xlcfi.query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountAutoConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernatePropertiesCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    /**
+     * 요청별 SQL 문 수 측정 필터 (서블릿 웹 애플리케이션)
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(HandlerMapping.class)
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${xlcfi.query-count.warn-threshold:20}") int warnThreshold,
+            @Value("${xlcfi.query-count.header:false}") boolean headerEnabled) {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(
+                new QueryCountFilter(meterRegistry.getIfAvailable(), warnThreshold, headerEnabled));
+        registration.addUrlPatterns("/api/*");
+        // 보안 필터 등에서 실행하는 SQL(사용자 조회)도 요청에 포함
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,133 @@
+package com.xlcfi.common.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 요청별 SQL 문 수 측정 필터
+ *
+ * - 요청마다 {@link QueryCounter} 구간을 열어 Hibernate가 실행한 SQL 문 수를 셉니다.
+ * - xlcfi.http.server.queries(method, uri 태그) 지표로 기록합니다.
+ * - warn-threshold를 넘으면 N+1 의심 로그를 남깁니다.
+ * - header-enabled이면 응답 본문을 쓰기 직전에 X-Query-Count 헤더를 붙입니다 (디버그용).
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+    private final boolean headerEnabled;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, int warnThreshold, boolean headerEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        try (QueryCount queries = QueryCounter.start()) {
+            if (headerEnabled) {
+                QueryCountHeaderResponse headerResponse = new QueryCountHeaderResponse(response, queries);
+                filterChain.doFilter(request, headerResponse);
+                headerResponse.writeHeader();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+            record(request, queries);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCount queries) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+        if (meterRegistry != null) {
+            DistributionSummary.builder("xlcfi.http.server.queries")
+                    .description("요청당 Hibernate가 실행한 SQL 문 수")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(meterRegistry)
+                    .record(queries.getTotal());
+        }
+        if (queries.getTotal() > warnThreshold) {
+            log.warn("요청당 SQL 문 수 초과 (N+1 의심): {} {} {}", request.getMethod(), uri, queries);
+        }
+    }
+
+    /**
+     * 본문을 쓰기 시작하는 시점(응답 커밋 전)에 헤더를 붙이는 응답
+     */
+    private static final class QueryCountHeaderResponse extends HttpServletResponseWrapper {
+
+        private final QueryCount queries;
+        private boolean headerWritten;
+
+        QueryCountHeaderResponse(HttpServletResponse response, QueryCount queries) {
+            super(response);
+            this.queries = queries;
+        }
+
+        void writeHeader() {
+            if (!headerWritten && !isCommitted()) {
+                setHeader(HEADER, String.valueOf(queries.getTotal()));
+            }
+            headerWritten = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.xlcfi.common.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문을 {@link QueryCounter}에 집계 (SQL은 바꾸지 않음)
+ *
+ * JDBC 배치는 문 1개로 집계되므로, 같은 INSERT를 여러 행에 묶어 보내도 1회입니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,62 @@
+package com.xlcfi.common.query;
+
+/**
+ * 스레드별 SQL 문 수 측정
+ *
+ * Hibernate가 준비하는 SQL 문을 {@link QueryCountInspector}가 현재 스레드의 측정 구간에 더합니다.
+ * 요청마다 {@link QueryCountFilter}가 구간을 열고, 테스트에서는 직접 구간을 열어 쿼리 수 예산을 검증할 수 있습니다.
+ *
+ * <pre>
+ * try (QueryCount queries = QueryCounter.start()) {
+ *     mockMvc.perform(get("/api/products"));
+ *     assertThat(queries.getSelect()).isLessThanOrEqualTo(3);
+ * }
+ * </pre>
+ *
+ * JdbcTemplate 등 Hibernate를 거치지 않는 SQL은 집계하지 않습니다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 현재 스레드에서 측정 구간 시작
+     */
+    public static QueryCount start() {
+        QueryCount queries = new QueryCount(CURRENT.get());
+        CURRENT.set(queries);
+        return queries;
+    }
+
+    /**
+     * 현재 스레드의 가장 안쪽 측정 구간 (없으면 null)
+     */
+    public static QueryCount current() {
+        return CURRENT.get();
+    }
+
+    static void end(QueryCount queries) {
+        if (CURRENT.get() != queries) {
+            return;
+        }
+        if (queries.getParent() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(queries.getParent());
+        }
+    }
+
+    static void record(String sql) {
+        QueryCount queries = CURRENT.get();
+        if (queries == null) {
+            return;
+        }
+        QueryType type = QueryType.of(sql);
+        for (QueryCount scope = queries; scope != null; scope = scope.getParent()) {
+            scope.increment(type);
+        }
+    }
+}
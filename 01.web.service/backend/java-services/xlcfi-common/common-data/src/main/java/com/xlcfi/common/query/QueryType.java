@@ -0,0 +1,52 @@
+package com.xlcfi.common.query;
+
+/**
+ * SQL 문 종류
+ */
+public enum QueryType {
+    SELECT,
+    INSERT,
+    UPDATE,
+    DELETE,
+    OTHER;
+
+    /**
+     * SQL 첫 키워드로 종류 판별 (앞쪽 공백과 주석은 건너뜀, WITH는 SELECT로 취급)
+     */
+    public static QueryType of(String sql) {
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (sql.startsWith("--", i)) {
+                int end = sql.indexOf('\n', i + 2);
+                i = end < 0 ? length : end + 1;
+            } else {
+                break;
+            }
+        }
+
+        if (startsWithKeyword(sql, i, "select") || startsWithKeyword(sql, i, "with")) {
+            return SELECT;
+        }
+        if (startsWithKeyword(sql, i, "insert")) {
+            return INSERT;
+        }
+        if (startsWithKeyword(sql, i, "update")) {
+            return UPDATE;
+        }
+        if (startsWithKeyword(sql, i, "delete")) {
+            return DELETE;
+        }
+        return OTHER;
+    }
+
+    private static boolean startsWithKeyword(String sql, int offset, String keyword) {
+        return sql.regionMatches(true, offset, keyword, 0, keyword.length());
+    }
+}
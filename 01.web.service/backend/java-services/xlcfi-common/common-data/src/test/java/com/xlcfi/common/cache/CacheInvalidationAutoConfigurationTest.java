@@ -0,0 +1,49 @@
+package com.xlcfi.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CacheInvalidationAutoConfiguration Unit Test
+ *
+ * 연결은 리스너 스레드에서 열리므로 접속할 수 없는 URL로도 컨텍스트가 시작됩니다.
+ */
+@DisplayName("캐시 무효화 버스 자동 설정 단위 테스트")
+class CacheInvalidationAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CacheInvalidationAutoConfiguration.class))
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:postgresql://localhost:1/xlcfi",
+                    "xlcfi.cache.invalidation.reconnect-delay=60000");
+
+    @Test
+    @DisplayName("사용자/비밀번호 설정이 없어도 버스 생성 (URL 또는 드라이버 기본값 사용)")
+    void noCredentials_CreatesBus() {
+        contextRunner.withPropertyValues("xlcfi.cache.invalidation.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).hasSingleBean(CacheInvalidationBus.class);
+                });
+    }
+
+    @Test
+    @DisplayName("사용자/비밀번호 설정이 있으면 버스 생성")
+    void withCredentials_CreatesBus() {
+        contextRunner.withPropertyValues(
+                        "xlcfi.cache.invalidation.enabled=true",
+                        "spring.datasource.username=xlcfi",
+                        "spring.datasource.password=secret")
+                .run(context -> assertThat(context).hasSingleBean(CacheInvalidationBus.class));
+    }
+
+    @Test
+    @DisplayName("기본값(비활성)이면 버스를 만들지 않음")
+    void disabledByDefault_NoBus() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(CacheInvalidationBus.class));
+    }
+}
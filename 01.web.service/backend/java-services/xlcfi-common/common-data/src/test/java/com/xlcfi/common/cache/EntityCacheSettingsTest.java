@@ -0,0 +1,71 @@
+package com.xlcfi.common.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EntityCacheSettings Unit Test
+ */
+@DisplayName("Hibernate 2차 캐시 설정 단위 테스트")
+class EntityCacheSettingsTest {
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("xlcfi.entity-cache.enabled", "true")
+            .withProperty("xlcfi.entity-cache.regions.product.maximum-size", "100")
+            .withProperty("xlcfi.entity-cache.regions.product.time-to-live", "1m");
+
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 2차 캐시를 명시적으로 끔")
+    void hibernateProperties_Disabled() {
+        Map<String, Object> properties = EntityCacheSettings.hibernateProperties(new MockEnvironment());
+
+        assertThat(properties).containsEntry(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+    }
+
+    @Test
+    @DisplayName("선언한 영역을 참조 저장(store-by-reference)으로 생성")
+    @SuppressWarnings("unchecked")
+    void hibernateProperties_StoreByReference() {
+        cacheManager = cacheManager(EntityCacheSettings.hibernateProperties(environment));
+
+        Cache<Object, Object> cache = cacheManager.getCache("product");
+        CaffeineConfiguration<Object, Object> configuration = cache.getConfiguration(CaffeineConfiguration.class);
+        assertThat(configuration.isStoreByValue()).isFalse();
+        assertThat(configuration.getMaximumSize()).hasValue(100);
+    }
+
+    @Test
+    @DisplayName("같은 JVM에서 두 번째 컨텍스트가 떠도 영역 생성에 실패하지 않음")
+    void hibernateProperties_SecondContext() {
+        cacheManager = cacheManager(EntityCacheSettings.hibernateProperties(environment));
+
+        CacheManager second = cacheManager(EntityCacheSettings.hibernateProperties(environment));
+
+        assertThat(second.getCache("product")).isNotNull();
+        assertThat(cacheManager.getCache("product")).isNotNull();
+    }
+
+    private static CacheManager cacheManager(Map<String, Object> properties) {
+        return (CacheManager) properties.get(ConfigSettings.CACHE_MANAGER);
+    }
+}
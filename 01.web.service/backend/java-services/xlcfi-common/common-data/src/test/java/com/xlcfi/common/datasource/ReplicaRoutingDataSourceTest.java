@@ -0,0 +1,261 @@
+package com.xlcfi.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReplicaRoutingDataSource Unit Test
+ *
+ * H2 인메모리 DB 3개(primary, 복제본 2개)에 각자 이름을 기록해 두고, 조회 결과로 어느 DB로 라우팅됐는지 확인합니다.
+ * H2는 복제 지연을 측정할 수 없으므로 지연 값은 테스트가 복제본 이름별로 지정합니다.
+ */
+@DisplayName("읽기 복제본 라우팅 DataSource 단위 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA_1 = "replica-1";
+    private static final String REPLICA_2 = "replica-2";
+    private static final long MAX_LAG = 5_000;
+
+    /**
+     * 복제본 이름별 복제 지연 (없으면 0)
+     */
+    private static final Map<String, Long> LAGS = new ConcurrentHashMap<>();
+
+    private ReplicaRoutingDataSource routing;
+    private DataSourceTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        LAGS.clear();
+        if (routing != null) {
+            routing.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본에 라운드 로빈으로 분배")
+    void readOnly_RoutedToReplicasRoundRobin() throws Exception {
+        // Given
+        start(null);
+
+        // When / Then
+        assertThat(List.of(readNode(), readNode(), readNode(), readNode()))
+                .containsExactly(REPLICA_1, REPLICA_2, REPLICA_1, REPLICA_2);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖 조회는 primary")
+    void writeAndNonTransactional_RoutedToPrimary() throws Exception {
+        start(null);
+
+        assertThat(writeNode()).isEqualTo(PRIMARY);
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자는 pin-window 동안 primary에서 읽고, 다른 사용자는 복제본에서 읽음")
+    void readYourWrites_PinsWriterToPrimary() throws Exception {
+        // Given
+        start(new ReadYourWritesTracker(60_000, 1_000));
+        asUser(7L);
+        assertThat(readNode()).startsWith("replica");
+
+        // When
+        writeNode();
+
+        // Then
+        assertThat(readNode()).isEqualTo(PRIMARY);
+        assertThat(readNode()).isEqualTo(PRIMARY);
+        asUser(8L);
+        assertThat(readNode()).startsWith("replica");
+    }
+
+    @Test
+    @DisplayName("pin-window가 지나면 다시 복제본에서 읽음")
+    void readYourWrites_PinExpires() throws Exception {
+        start(new ReadYourWritesTracker(100, 1_000));
+        asUser(7L);
+        writeNode();
+        assertThat(readNode()).isEqualTo(PRIMARY);
+
+        Thread.sleep(300);
+
+        assertThat(readNode()).startsWith("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기와 readOnly 트랜잭션은 primary에 고정하지 않음")
+    void readYourWrites_RollbackAndReadOnly_NotPinned() throws Exception {
+        start(new ReadYourWritesTracker(60_000, 1_000));
+        asUser(7L);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+        readNode();  // readOnly 트랜잭션 커밋
+
+        assertThat(readNode()).startsWith("replica");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 max-lag를 넘은 복제본은 제외하고, 회복하면 다시 사용")
+    void lagging_ReplicaExcludedUntilRecovered() throws Exception {
+        // Given
+        start(null);
+
+        // When: replica-1 지연
+        LAGS.put(REPLICA_1, MAX_LAG + 1);
+        routing.checkReplicas();
+
+        // Then
+        assertThat(routing.healthyReplicaCount()).isEqualTo(1);
+        assertThat(List.of(readNode(), readNode(), readNode())).containsOnly(REPLICA_2);
+
+        // When: 회복
+        LAGS.put(REPLICA_1, MAX_LAG);
+        routing.checkReplicas();
+
+        // Then
+        assertThat(routing.healthyReplicaCount()).isEqualTo(2);
+        assertThat(List.of(readNode(), readNode())).containsExactlyInAnyOrder(REPLICA_1, REPLICA_2);
+    }
+
+    @Test
+    @DisplayName("WAL 수신이 끊긴 복제본은 수신/재생 위치가 같아도 제외")
+    void disconnected_ReplicaExcluded() throws Exception {
+        start(null);
+
+        LAGS.put(REPLICA_2, ReplicaRoutingDataSource.DISCONNECTED);
+        routing.checkReplicas();
+
+        assertThat(routing.healthyReplicaCount()).isEqualTo(1);
+        assertThat(List.of(readNode(), readNode())).containsOnly(REPLICA_1);
+    }
+
+    @Test
+    @DisplayName("모든 복제본이 지연되면 readOnly 트랜잭션도 primary에서 조회")
+    void allLagging_FallsBackToPrimary() throws Exception {
+        start(null);
+
+        LAGS.put(REPLICA_1, MAX_LAG * 2);
+        LAGS.put(REPLICA_2, ReplicaRoutingDataSource.DISCONNECTED);
+        routing.checkReplicas();
+
+        assertThat(routing.healthyReplicaCount()).isZero();
+        assertThat(readNode()).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("복제본 연결에 실패하면 그 복제본을 제외하고 primary에서 조회")
+    void connectionFailure_FallsBackToPrimary() throws Exception {
+        // Given: replica-1 풀 종료
+        List<HikariDataSource> replicas = start(null);
+        replicas.get(0).close();
+
+        // When / Then: 라운드 로빈 차례가 된 replica-1 대신 primary, 이후에는 replica-2만 사용
+        assertThat(readNode()).isEqualTo(PRIMARY);
+        assertThat(routing.healthyReplicaCount()).isEqualTo(1);
+        assertThat(List.of(readNode(), readNode())).containsOnly(REPLICA_2);
+    }
+
+    /**
+     * primary/복제본 풀과 라우팅 DataSource 생성 (첫 상태 확인이 끝나 복제본 2개가 모두 사용 가능할 때까지 대기)
+     */
+    private List<HikariDataSource> start(ReadYourWritesTracker tracker) throws InterruptedException, SQLException {
+        HikariDataSource primary = pool(PRIMARY, false);
+        List<HikariDataSource> replicas = List.of(pool(REPLICA_1, true), pool(REPLICA_2, true));
+
+        routing = new ReplicaRoutingDataSource(primary, replicas, tracker, MAX_LAG, TimeUnit.HOURS.toMillis(1)) {
+            @Override
+            long measureLag(Connection connection) throws SQLException {
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery("SELECT name FROM node")) {
+                    rs.next();
+                    return LAGS.getOrDefault(rs.getString(1), 0L);
+                }
+            }
+        };
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (routing.healthyReplicaCount() < replicas.size() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(routing.healthyReplicaCount()).isEqualTo(replicas.size());
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        if (tracker != null) {
+            transactionManager.addListener(tracker);
+        }
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        return replicas;
+    }
+
+    /**
+     * 이름을 기록한 H2 인메모리 DB 커넥션 풀
+     */
+    private static HikariDataSource pool(String name, boolean readOnly) throws SQLException {
+        String url = "jdbc:h2:mem:routing_" + name.replace('-', '_') + ";DB_CLOSE_DELAY=-1";
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+            statement.execute("DELETE FROM node");
+            statement.execute("INSERT INTO node (name) VALUES ('" + name + "')");
+        }
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setReadOnly(readOnly);
+        return dataSource;
+    }
+
+    private String readNode() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private String writeNode() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+        });
+    }
+
+    /**
+     * JWT 필터가 설정하는 요청 사용자
+     */
+    private static void asUser(Long userId) {
+        RequestAttributes attributes = mock(RequestAttributes.class);
+        when(attributes.getAttribute("userId", RequestAttributes.SCOPE_REQUEST)).thenReturn(userId);
+        RequestContextHolder.setRequestAttributes(attributes);
+    }
+}
@@ -0,0 +1,65 @@
+package com.xlcfi.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * OutboxKafkaAutoConfiguration Unit Test
+ */
+@DisplayName("아웃박스 Kafka sink 자동 설정 단위 테스트")
+class OutboxKafkaAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    KafkaAutoConfiguration.class,
+                    OutboxAutoConfiguration.class,
+                    OutboxKafkaAutoConfiguration.class))
+            .withBean(JdbcTemplate.class, () -> mock(JdbcTemplate.class))
+            .withBean(ObjectMapper.class, ObjectMapper::new)
+            .withPropertyValues(
+                    "spring.application.name=test-service",
+                    "xlcfi.outbox.relay.enabled=false",
+                    "xlcfi.outbox.kafka.enabled=true");
+
+    @Test
+    @DisplayName("아웃박스와 Kafka sink가 켜져 있으면 Kafka sink 등록")
+    void outboxEnabled_RegistersKafkaSink() {
+        contextRunner.withPropertyValues("xlcfi.outbox.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(DomainEventPublisher.class);
+                    assertThat(context).hasSingleBean(KafkaOutboxEventSink.class);
+                });
+    }
+
+    @Test
+    @DisplayName("아웃박스가 꺼져 있으면 com.xlcfi.common 을 컴포넌트 스캔해도 Kafka sink를 등록하지 않음")
+    void outboxDisabled_ScannedPackage_NoKafkaSink() {
+        contextRunner.withUserConfiguration(ScanningApplication.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(DomainEventPublisher.class);
+                    assertThat(context).doesNotHaveBean(KafkaOutboxEventSink.class);
+                });
+    }
+
+    /**
+     * scanBasePackages 에 com.xlcfi.common 을 둔 서비스 애플리케이션과 같은 스캔 설정
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ComponentScan(basePackages = "com.xlcfi.common.outbox",
+            excludeFilters = @ComponentScan.Filter(type = FilterType.CUSTOM,
+                    classes = AutoConfigurationExcludeFilter.class))
+    static class ScanningApplication {
+    }
+}
@@ -0,0 +1,168 @@
+package com.xlcfi.common.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxRelay Unit Test
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("아웃박스 릴레이 단위 테스트")
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Connection connection;
+
+    private final List<List<Long>> sent = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private boolean failSend;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(preparedStatement.getConnection()).thenReturn(connection);
+        when(connection.createArrayOf(anyString(), any())).thenReturn(mock(Array.class));
+
+        OutboxEventSink sink = events -> {
+            sent.add(events.stream().map(OutboxEvent::getId).toList());
+            if (failSend) {
+                throw new IllegalStateException("전달 실패");
+            }
+        };
+        relay = new OutboxRelay(jdbcTemplate, transactionTemplate, List.of(sink), "test", BATCH_SIZE,
+                1_000, 1_000, 300_000, MAX_ATTEMPTS,
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    @DisplayName("처음 전달하는 이벤트는 배치로 전달 후 삭제")
+    void relayBatch_FreshEvents_SentTogether() {
+        // Given
+        givenClaimed(event(1, 0), event(2, 0), event(3, 0));
+
+        // When
+        int claimed = relay.relayBatch();
+
+        // Then
+        assertThat(claimed).isEqualTo(3);
+        assertThat(sent).containsExactly(List.of(1L, 2L, 3L));
+        verify(jdbcTemplate).update(contains("DELETE"), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("재시도 이벤트 앞까지만 배치로 전달 (재시도 이벤트는 다음 배치에서 한 건씩)")
+    void relayBatch_RetryInBatch_SentBeforeRetry() {
+        givenClaimed(event(1, 0), event(2, 1), event(3, 0));
+
+        int claimed = relay.relayBatch();
+
+        assertThat(claimed).isEqualTo(3);
+        assertThat(sent).containsExactly(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("첫 이벤트가 재시도 이벤트이면 그 한 건만 전달")
+    void relayBatch_RetryFirst_SentAlone() {
+        givenClaimed(event(2, 2), event(3, 0), event(4, 1));
+
+        relay.relayBatch();
+
+        assertThat(sent).containsExactly(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("전달에 실패하면 재시도를 예약하고 max-attempts번째 실패는 DEAD로 집계")
+    void relayBatch_Failure_SchedulesRetryAndCountsDead() throws Exception {
+        // Given: 마지막 시도 (이전 실패 MAX_ATTEMPTS - 1번)
+        givenClaimed(event(5, MAX_ATTEMPTS - 1));
+        failSend = true;
+
+        // When
+        int claimed = relay.relayBatch();
+
+        // Then
+        assertThat(claimed).isZero();
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(contains("'DEAD'"), setter.capture());
+        verify(jdbcTemplate, never()).update(contains("DELETE"), any(PreparedStatementSetter.class));
+        setter.getValue().setValues(preparedStatement);
+        verify(preparedStatement).setInt(4, MAX_ATTEMPTS);
+
+        assertThat(meterRegistry.get("xlcfi.outbox.failed").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("xlcfi.outbox.dead").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-attempts 전의 실패는 DEAD로 집계하지 않음")
+    void relayBatch_EarlyFailure_NotDead() {
+        givenClaimed(event(1, 0), event(2, 0));
+        failSend = true;
+
+        relay.relayBatch();
+
+        assertThat(meterRegistry.get("xlcfi.outbox.failed").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("xlcfi.outbox.dead").functionCounter().count()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenClaimed(OutboxEvent... events) {
+        when(jdbcTemplate.query(contains("SKIP LOCKED"), any(RowMapper.class), any(), any()))
+                .thenReturn(List.of(events));
+    }
+
+    private static OutboxEvent event(long id, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("test")
+                .aggregateId(String.valueOf(id))
+                .eventType("TEST")
+                .payload("{}")
+                .createdAt(LocalDateTime.now())
+                .attempts(attempts)
+                .build();
+    }
+}
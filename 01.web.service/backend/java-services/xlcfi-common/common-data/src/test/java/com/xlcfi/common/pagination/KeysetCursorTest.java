@@ -0,0 +1,97 @@
+package com.xlcfi.common.pagination;
+
+import com.xlcfi.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KeysetCursor Unit Test
+ */
+@DisplayName("키셋 커서 인코딩/디코딩 단위 테스트")
+class KeysetCursorTest {
+
+    static final KeysetSort<Row> LATEST = KeysetSort.of("latest", "createdAt", Sort.Direction.DESC,
+            Row::createdAt, LocalDateTime::parse, Row::id);
+    private static final KeysetSort<Row> BY_NAME = KeysetSort.of("name", "name", Sort.Direction.ASC,
+            Row::name, Function.identity(), Row::id);
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 정렬 키와 id로 복원")
+    void encodeDecode_RoundTrip() {
+        // Given
+        Row row = new Row(42L, LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000), "상품");
+
+        // When
+        String token = KeysetCursor.encode(LATEST, row);
+        KeysetCursor cursor = KeysetCursor.decode(LATEST, token);
+
+        // Then: URL에 그대로 쓸 수 있는 토큰
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(cursor.getKey()).isEqualTo(row.createdAt());
+        assertThat(cursor.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("정렬 키에 구분자가 들어 있어도 마지막 구분자 뒤를 id로 해석")
+    void decode_KeyContainingSeparator() {
+        Row row = new Row(7L, LocalDateTime.now(), "a|b|c");
+
+        KeysetCursor cursor = KeysetCursor.decode(BY_NAME, KeysetCursor.encode(BY_NAME, row));
+
+        assertThat(cursor.getKey()).isEqualTo("a|b|c");
+        assertThat(cursor.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("정렬 키가 같은 행은 id로 구분되어 서로 다른 커서가 됨")
+    void encode_SameKey_DifferentIds() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+        String first = KeysetCursor.encode(LATEST, new Row(10L, createdAt, null));
+        String second = KeysetCursor.encode(LATEST, new Row(9L, createdAt, null));
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(KeysetCursor.decode(LATEST, second).getId()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("다른 정렬의 커서는 거부")
+    void decode_OtherSort_Rejected() {
+        String token = KeysetCursor.encode(BY_NAME, new Row(1L, LocalDateTime.now(), "name"));
+
+        assertInvalid(token);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 PAGINATION001로 거부")
+    void decode_Malformed_Rejected() {
+        assertInvalid("not base64!");
+        assertInvalid(encode("latest"));
+        assertInvalid(encode("latest|2024-03-01T12:00"));
+        assertInvalid(encode("latest|not-a-date|1"));
+        assertInvalid(encode("latest|2024-03-01T12:00|abc"));
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> KeysetCursor.decode(LATEST, token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo("PAGINATION001");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    record Row(Long id, LocalDateTime createdAt, String name) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.xlcfi.common.pagination;
+
+import com.xlcfi.common.pagination.KeysetCursorTest.Row;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * KeysetPagination Unit Test
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("키셋 페이지네이션 단위 테스트")
+class KeysetPaginationTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 12, 0);
+    private static final Specification<Row> NO_FILTER = (root, query, cb) -> null;
+
+    @Mock
+    private JpaSpecificationExecutor<Row> repository;
+
+    @Mock
+    private FluentQuery.FetchableFluentQuery<Row> fluentQuery;
+
+    @Mock
+    private Root<Row> root;
+
+    @Mock
+    private CriteriaQuery<?> criteriaQuery;
+
+    @Mock
+    private CriteriaBuilder cb;
+
+    @Mock
+    private Path<Comparable> keyPath;
+
+    @Mock
+    private Path<Long> idPath;
+
+    @Test
+    @DisplayName("size + 1건을 조회해 다음 페이지 여부를 판단하고 마지막 행으로 커서 생성")
+    void fetch_HasNext_EncodesLastRow() {
+        // Given: 3건 요청에 4건 조회
+        givenRows(row(5), row(4), row(3), row(2));
+
+        // When
+        CursorPage<Row> page = KeysetPagination.fetch(repository, NO_FILTER, KeysetCursorTest.LATEST, null, 3);
+
+        // Then
+        assertThat(page.getContent()).extracting(Row::id).containsExactly(5L, 4L, 3L);
+        assertThat(page.getSize()).isEqualTo(3);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(KeysetCursorTest.LATEST, page.getNextCursor()).getId()).isEqualTo(3L);
+        verify(fluentQuery).limit(4);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 nextCursor 없음")
+    void fetch_LastPage_NoCursor() {
+        givenRows(row(2), row(1));
+
+        CursorPage<Row> page = KeysetPagination.fetch(repository, NO_FILTER, KeysetCursorTest.LATEST, null, 3);
+
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("정렬 키가 같은 행은 id로 순서를 정함 (ORDER BY 정렬 키, id)")
+    void fetch_SortsByKeyThenId() {
+        givenRows();
+
+        KeysetPagination.fetch(repository, NO_FILTER, KeysetCursorTest.LATEST, null, 20);
+
+        verify(fluentQuery).sortBy(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Test
+    @DisplayName("커서 다음 조회는 key <= :key AND (key < :key OR id < :id) 조건으로 같은 정렬 키의 남은 행을 포함")
+    @SuppressWarnings("unchecked")
+    void fetch_WithCursor_SeeksPastKeyAndId() {
+        // Given: 같은 시각에 생성된 두 행 중 id 7까지 받은 상태
+        givenRows();
+        String cursor = KeysetCursor.encode(KeysetCursorTest.LATEST, new Row(7L, CREATED_AT, null));
+        doReturn(keyPath).when(root).get("createdAt");
+        doReturn(idPath).when(root).get("id");
+
+        // When
+        KeysetPagination.fetch(repository, NO_FILTER, KeysetCursorTest.LATEST, cursor, 20);
+
+        // Then
+        ArgumentCaptor<Specification<Row>> spec = ArgumentCaptor.forClass(Specification.class);
+        verify(repository).findBy(spec.capture(), any());
+        spec.getValue().toPredicate(root, criteriaQuery, cb);
+
+        verify(cb).lessThanOrEqualTo(keyPath, (Comparable) CREATED_AT);
+        verify(cb).lessThan(keyPath, (Comparable) CREATED_AT);
+        verify(cb).lessThan(idPath, 7L);
+        verify(cb, never()).greaterThan(any(Path.class), any(Comparable.class));
+    }
+
+    @Test
+    @DisplayName("fetch 속성을 지정하면 같은 쿼리에서 연관 엔티티를 함께 조회 (fetch graph)")
+    void fetch_FetchAttributes_Projected() {
+        givenRows();
+
+        KeysetPagination.fetch(repository, NO_FILTER, KeysetCursorTest.LATEST, null, 20, "buyer", "seller");
+
+        verify(fluentQuery).project("buyer", "seller");
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1 ~ MAX_SIZE로 제한")
+    void fetch_ClampsSize() {
+        givenRows();
+
+        KeysetPagination.fetch(repository, NO_FILTER, KeysetCursorTest.LATEST, null, 10_000);
+        KeysetPagination.fetch(repository, NO_FILTER, KeysetCursorTest.LATEST, null, 0);
+
+        verify(fluentQuery).limit(KeysetPagination.MAX_SIZE + 1);
+        verify(fluentQuery).limit(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows(Row... rows) {
+        when(fluentQuery.sortBy(any())).thenReturn(fluentQuery);
+        when(fluentQuery.limit(anyInt())).thenReturn(fluentQuery);
+        when(fluentQuery.project(any(String[].class))).thenReturn(fluentQuery);
+        when(fluentQuery.all()).thenReturn(List.of(rows));
+        when(repository.findBy(any(Specification.class), any(Function.class)))
+                .thenAnswer(invocation -> invocation.<Function<FluentQuery.FetchableFluentQuery<Row>, Object>>getArgument(1)
+                        .apply(fluentQuery));
+    }
+
+    private static Row row(long id) {
+        return new Row(id, CREATED_AT, null);
+    }
+}
@@ -0,0 +1,148 @@
+package com.xlcfi.common.pagination;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * PageCountService Unit Test
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("페이지 전체 개수 서비스 단위 테스트")
+class PageCountServiceTest {
+
+    private static final Pageable SECOND_PAGE = PageRequest.of(1, 20);
+    private static final List<Integer> FULL_PAGE = Collections.nCopies(20, 1);
+    private static final long THRESHOLD = 100_000;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PageCountService pageCountService;
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        pageCountService = new PageCountService(jdbcTemplate, 60_000, 100, THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 조회 결과로 개수를 계산하고 COUNT를 실행하지 않음")
+    void page_LastPage_NoCount() {
+        CountedPage<Integer> page = pageCountService.page(
+                Collections.nCopies(5, 1), SECOND_PAGE, "products", exactCount(999));
+
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(page.getTotalAccuracy()).isEqualTo(CountAccuracy.EXACT);
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("첫 조회는 COUNT 후 캐시하고 다음 조회는 캐시된 개수 사용")
+    void page_CachesExactCount() {
+        CountedPage<Integer> first = pageCountService.page(FULL_PAGE, SECOND_PAGE, "products", exactCount(500));
+        CountedPage<Integer> second = pageCountService.page(FULL_PAGE, SECOND_PAGE, "products", exactCount(600));
+
+        assertThat(first.getTotalAccuracy()).isEqualTo(CountAccuracy.EXACT);
+        assertThat(second.getTotalAccuracy()).isEqualTo(CountAccuracy.CACHED);
+        assertThat(second.getTotalElements()).isEqualTo(500);
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("접두어로 무효화하면 다시 COUNT 실행")
+    void invalidate_ByPrefix() {
+        pageCountService.page(FULL_PAGE, SECOND_PAGE, "products:category:3", exactCount(500));
+        pageCountService.page(FULL_PAGE, SECOND_PAGE, "orders:user:1", exactCount(50));
+
+        pageCountService.invalidate("products:");
+
+        assertThat(pageCountService.page(FULL_PAGE, SECOND_PAGE, "products:category:3", exactCount(501))
+                .getTotalAccuracy()).isEqualTo(CountAccuracy.EXACT);
+        assertThat(pageCountService.page(FULL_PAGE, SECOND_PAGE, "orders:user:1", exactCount(51))
+                .getTotalAccuracy()).isEqualTo(CountAccuracy.CACHED);
+    }
+
+    @Test
+    @DisplayName("통계 추정치가 임계값 이상이면 COUNT 없이 추정치 사용")
+    void estimatedPage_LargeTable_UsesEstimate() {
+        givenValueEstimate(2_000_000L);
+
+        CountedPage<Integer> page = pageCountService.estimatedPage(FULL_PAGE, SECOND_PAGE, "products:PUBLISHED",
+                "products", "status", "PUBLISHED", exactCount(1_999_000));
+
+        assertThat(page.getTotalAccuracy()).isEqualTo(CountAccuracy.ESTIMATED);
+        assertThat(page.getTotalElements()).isEqualTo(2_000_000L);
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("통계 추정치가 임계값 미만이면 정확한 개수 사용")
+    void estimatedPage_SmallTable_UsesExactCount() {
+        givenValueEstimate(THRESHOLD - 1);
+
+        CountedPage<Integer> page = pageCountService.estimatedPage(FULL_PAGE, SECOND_PAGE, "products:PUBLISHED",
+                "products", "status", "PUBLISHED", exactCount(99_000));
+
+        assertThat(page.getTotalAccuracy()).isEqualTo(CountAccuracy.EXACT);
+        assertThat(page.getTotalElements()).isEqualTo(99_000);
+    }
+
+    @Test
+    @DisplayName("통계가 없거나 조회에 실패하면 정확한 개수 사용")
+    @SuppressWarnings("unchecked")
+    void estimatedPage_NoStatistics_FallsBackToExact() {
+        when(jdbcTemplate.query(contains("pg_class"), any(ResultSetExtractor.class), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("not PostgreSQL"));
+
+        CountedPage<Integer> page = pageCountService.estimatedPage(FULL_PAGE, SECOND_PAGE, "products",
+                "products", null, null, exactCount(300));
+
+        assertThat(page.getTotalAccuracy()).isEqualTo(CountAccuracy.EXACT);
+        assertThat(page.getTotalElements()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("추정치가 현재 페이지보다 작으면 현재 페이지까지 포함하도록 보정")
+    void estimatedPage_EstimateBelowOffset_Corrected() {
+        PageCountService lowThreshold = new PageCountService(jdbcTemplate, 60_000, 100, 1);
+        givenValueEstimate(10L);
+
+        CountedPage<Integer> page = lowThreshold.estimatedPage(FULL_PAGE, SECOND_PAGE, "products:PUBLISHED",
+                "products", "status", "PUBLISHED", exactCount(40));
+
+        assertThat(page.getTotalElements()).isEqualTo(SECOND_PAGE.getOffset() + FULL_PAGE.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenValueEstimate(Long rows) {
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(Object[].class)))
+                .thenReturn(rows);
+    }
+
+    private LongSupplier exactCount(long total) {
+        return () -> {
+            countQueries.incrementAndGet();
+            return total;
+        };
+    }
+}
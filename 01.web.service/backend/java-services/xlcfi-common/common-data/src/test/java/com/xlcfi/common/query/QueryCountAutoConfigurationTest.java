@@ -0,0 +1,39 @@
+package com.xlcfi.common.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QueryCountAutoConfiguration Unit Test
+ */
+@DisplayName("요청별 SQL 문 수 측정 자동 설정 단위 테스트")
+class QueryCountAutoConfigurationTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(QueryCountAutoConfiguration.class));
+
+    @Test
+    @DisplayName("기본값은 StatementInspector와 요청별 필터 등록")
+    void enabledByDefault_RegistersInspectorAndFilter() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(HibernatePropertiesCustomizer.class);
+            assertThat(context).hasSingleBean(FilterRegistrationBean.class);
+        });
+    }
+
+    @Test
+    @DisplayName("xlcfi.query-count.enabled=false 이면 필터도 등록하지 않음")
+    void disabled_NoFilter() {
+        contextRunner.withPropertyValues("xlcfi.query-count.enabled=false")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(HibernatePropertiesCustomizer.class);
+                    assertThat(context).doesNotHaveBean(FilterRegistrationBean.class);
+                });
+    }
+}
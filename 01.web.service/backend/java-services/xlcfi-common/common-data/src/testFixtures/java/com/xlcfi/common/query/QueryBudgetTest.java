@@ -0,0 +1,62 @@
+package com.xlcfi.common.query;
+
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 목록 API 쿼리 수 예산 테스트 공통 설정
+ *
+ * 컨트롤러 슬라이스(@WebMvcTest)에 JPA 슬라이스와 {@link QueryCountAutoConfiguration}을 더해,
+ * 서비스의 application.yml에 있는 spring.jpa.properties.*를 그대로 적용한 채 요청별 SQL 문 수를 셉니다.
+ * DB는 H2 인메모리(PostgreSQL 모드)이고 스키마는 Hibernate가 생성/삭제합니다.
+ * PostgreSQL 전용 쿼리가 있는 서비스는 @DynamicPropertySource로 spring.datasource.*를 바꿉니다.
+ *
+ * 측정 기준:
+ * - 2차 캐시가 비어 있을 때(최악의 경우)와 같도록 2차 캐시를 끕니다.
+ * - 보안 필터는 제외하고, X-Query-Count 응답 헤더를 붙입니다.
+ * - 서비스와 협력 객체는 테스트에서 @Import/@MockBean으로 지정합니다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@WebMvcTest
+@AutoConfigureDataJpa
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(classes = QueryCountAutoConfiguration.class, exclude = {
+        SecurityAutoConfiguration.class,
+        SecurityFilterAutoConfiguration.class,
+        UserDetailsServiceAutoConfiguration.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_budget;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;"
+                + "INIT=CREATE DOMAIN IF NOT EXISTS jsonb AS JSON",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "xlcfi.query-count.header=true"
+})
+public @interface QueryBudgetTest {
+
+    /**
+     * 측정할 컨트롤러
+     */
+    @AliasFor(annotation = WebMvcTest.class, attribute = "controllers")
+    Class<?>[] controllers() default {};
+}
@@ -0,0 +1,63 @@
+package com.xlcfi.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 서비스 공통 JWT 검증 자동 설정
+ * xlcfi.security.jwks-uri 가 설정된 서비스에서 JWKS 키 캐시와 인증 필터를 등록합니다.
+ * Redis가 있으면 인증 서비스의 블랙리스트와 세션 기준 시각으로 폐기된 토큰도 거부합니다 (TokenRevocationAutoConfiguration).
+ */
+@Slf4j
+@AutoConfiguration(after = TokenRevocationAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "xlcfi.security", name = "jwks-uri")
+public class CommonSecurityAutoConfiguration {
+
+    /**
+     * JWKS 공개키 캐시
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    public JwksKeyCache jwksKeyCache(
+            RestClient.Builder restClientBuilder,
+            @Value("${xlcfi.security.jwks-uri}") String jwksUri,
+            @Value("${xlcfi.security.jwks-refresh-interval:600000}") long refreshIntervalMillis,
+            @Value("${xlcfi.security.jwks-min-refresh-interval:30000}") long minRefreshIntervalMillis) {
+        return new JwksKeyCache(restClientBuilder.build(), jwksUri, refreshIntervalMillis, minRefreshIntervalMillis);
+    }
+
+    /**
+     * JWT 로컬 검증기
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JwtTokenVerifier jwtTokenVerifier(JwksKeyCache jwksKeyCache) {
+        return new JwtTokenVerifier(jwksKeyCache);
+    }
+
+    /**
+     * JWT 인증 필터 (Spring Security 필터보다 먼저 실행)
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+            JwtTokenVerifier jwtTokenVerifier,
+            ObjectProvider<TokenRevocationChecker> tokenRevocationChecker) {
+        TokenRevocationChecker revocationChecker = tokenRevocationChecker.getIfAvailable();
+        if (revocationChecker == null) {
+            log.warn("Redis가 없어 토큰 폐기 여부를 확인하지 않습니다 (로그아웃한 토큰도 만료 전까지 유효)");
+        }
+        FilterRegistrationBean<JwtAuthenticationFilter> registration =
+                new FilterRegistrationBean<>(new JwtAuthenticationFilter(jwtTokenVerifier, revocationChecker));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,88 @@
+package com.xlcfi.common.security;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * EC P-256 공개키 ↔ JWK 변환 (RFC 7517, RFC 7518)
+ * 인증 서비스의 JWKS 엔드포인트와 각 서비스의 키 캐시가 같은 형식을 사용합니다.
+ */
+public final class EcJwks {
+
+    public static final String ALGORITHM = "ES256";
+    public static final String CURVE = "P-256";
+
+    private static final int COORDINATE_LENGTH = 32;
+    private static final ECParameterSpec P256 = p256();
+
+    private EcJwks() {
+    }
+
+    /**
+     * 공개키를 JWK로 변환
+     */
+    public static Map<String, Object> toJwk(String kid, ECPublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", CURVE);
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", ALGORITHM);
+        jwk.put("x", encode(publicKey.getW().getAffineX()));
+        jwk.put("y", encode(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    /**
+     * JWK를 공개키로 변환
+     *
+     * @throws IllegalArgumentException P-256 EC 키가 아닌 경우
+     */
+    public static ECPublicKey toPublicKey(Map<String, ?> jwk) {
+        if (!"EC".equals(jwk.get("kty")) || !CURVE.equals(jwk.get("crv"))) {
+            throw new IllegalArgumentException("지원하지 않는 JWK입니다: kid=" + jwk.get("kid"));
+        }
+        ECPoint point = new ECPoint(decode((String) jwk.get("x")), decode((String) jwk.get("y")));
+        try {
+            return (ECPublicKey) KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, P256));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("JWK 공개키 변환 실패: kid=" + jwk.get("kid"), e);
+        }
+    }
+
+    private static String encode(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] unsigned = new byte[COORDINATE_LENGTH];
+        int length = Math.min(bytes.length, COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - length, unsigned, COORDINATE_LENGTH - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(unsigned);
+    }
+
+    private static BigInteger decode(String coordinate) {
+        byte[] bytes = Base64.getUrlDecoder().decode(coordinate);
+        if (bytes.length != COORDINATE_LENGTH) {
+            throw new IllegalArgumentException("잘못된 EC 좌표 길이입니다: " + bytes.length);
+        }
+        return new BigInteger(1, bytes);
+    }
+
+    private static ECParameterSpec p256() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("P-256 곡선을 사용할 수 없습니다", e);
+        }
+    }
+}
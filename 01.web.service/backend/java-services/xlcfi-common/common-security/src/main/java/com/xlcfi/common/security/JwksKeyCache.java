@@ -0,0 +1,107 @@
+package com.xlcfi.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.client.RestClient;
+
+import java.security.PublicKey;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWKS 공개키 캐시
+ * 인증 서비스의 JWKS 엔드포인트에서 공개키를 받아 kid 별로 보관합니다.
+ * 토큰 검증은 캐시된 키로만 수행하므로 인증 서비스를 호출하지 않습니다.
+ *
+ * 주기적으로 키 목록을 갱신하며, 처음 보는 kid가 오면 (최소 간격 내에서) 즉시 다시 받아옵니다.
+ * 갱신에 실패하면 기존 키를 그대로 사용합니다.
+ */
+@Slf4j
+public class JwksKeyCache {
+
+    private static final ParameterizedTypeReference<Map<String, List<Map<String, Object>>>> JWKS_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RestClient restClient;
+    private final String jwksUri;
+    private final long minRefreshIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefreshMillis;
+
+    public JwksKeyCache(RestClient restClient, String jwksUri,
+                        long refreshIntervalMillis, long minRefreshIntervalMillis) {
+        this.restClient = restClient;
+        this.jwksUri = jwksUri;
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(
+                this::refresh, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * kid에 해당하는 공개키 조회
+     *
+     * @return 공개키 (없으면 null)
+     */
+    public PublicKey getKey(String kid) {
+        PublicKey key = keys.get(kid);
+        if (key == null && System.currentTimeMillis() - lastRefreshMillis >= minRefreshIntervalMillis) {
+            // 키 회전 직후 새 kid가 먼저 도착한 경우
+            refresh();
+            key = keys.get(kid);
+        }
+        return key;
+    }
+
+    /**
+     * 캐시된 키 수
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * JWKS 엔드포인트에서 키 목록 갱신
+     */
+    public synchronized void refresh() {
+        lastRefreshMillis = System.currentTimeMillis();
+        try {
+            Map<String, List<Map<String, Object>>> jwks = restClient.get()
+                    .uri(jwksUri)
+                    .retrieve()
+                    .body(JWKS_TYPE);
+
+            Map<String, PublicKey> refreshed = new HashMap<>();
+            if (jwks != null && jwks.get("keys") != null) {
+                for (Map<String, Object> jwk : jwks.get("keys")) {
+                    try {
+                        refreshed.put((String) jwk.get("kid"), EcJwks.toPublicKey(jwk));
+                    } catch (IllegalArgumentException e) {
+                        log.warn("JWK 무시: {}", e.getMessage());
+                    }
+                }
+            }
+            if (!refreshed.isEmpty()) {
+                keys = Map.copyOf(refreshed);
+            }
+            log.debug("JWKS 갱신 완료: keys={}", refreshed.size());
+        } catch (RuntimeException e) {
+            log.warn("JWKS 갱신 실패, 기존 키를 유지합니다: uri={}, error={}", jwksUri, e.getMessage());
+        }
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
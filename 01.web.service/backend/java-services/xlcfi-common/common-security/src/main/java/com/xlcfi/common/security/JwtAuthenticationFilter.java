@@ -0,0 +1,58 @@
+package com.xlcfi.common.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 서비스 공통 JWT 인증 필터
+ * Access Token을 로컬에서 검증하고 사용자 정보를 Request Attribute(userId, email, role)에 설정합니다.
+ * 토큰이 없거나 유효하지 않거나 폐기된 토큰이면 속성을 설정하지 않고 다음 필터로 진행합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenVerifier jwtTokenVerifier;
+
+    /**
+     * 폐기 여부 확인 (null이면 서명과 만료만 검증)
+     */
+    private final TokenRevocationChecker tokenRevocationChecker;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String bearerToken = request.getHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            JwtPrincipal principal = jwtTokenVerifier.verify(bearerToken.substring(BEARER_PREFIX.length()));
+            if (principal != null && principal.isAccessToken() && !isRevoked(principal)) {
+                request.setAttribute("userId", principal.getUserId());
+                request.setAttribute("email", principal.getEmail());
+                request.setAttribute("role", principal.getRole());
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isRevoked(JwtPrincipal principal) {
+        if (tokenRevocationChecker != null && tokenRevocationChecker.isRevoked(principal)) {
+            log.warn("폐기된 토큰입니다: userId={}", principal.getUserId());
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package com.xlcfi.common.security;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검증된 JWT에서 추출한 사용자 정보
+ */
+@Getter
+@Builder
+public class JwtPrincipal {
+
+    private final String jti;
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final String type;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+}
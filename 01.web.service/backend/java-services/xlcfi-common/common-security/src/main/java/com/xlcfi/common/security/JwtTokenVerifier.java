@@ -0,0 +1,65 @@
+package com.xlcfi.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.Key;
+import java.security.PublicKey;
+
+/**
+ * JWT 로컬 검증기
+ * 토큰 헤더의 kid로 {@link JwksKeyCache}에서 공개키를 찾아 ES256 서명을 검증합니다.
+ */
+@Slf4j
+public class JwtTokenVerifier {
+
+    private final JwtParser jwtParser;
+
+    public JwtTokenVerifier(JwksKeyCache keyCache) {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        if (!EcJwks.ALGORITHM.equals(header.getAlgorithm()) || header.getKeyId() == null) {
+                            throw new SignatureException("지원하지 않는 서명 방식입니다: alg=" + header.getAlgorithm());
+                        }
+                        PublicKey key = keyCache.getKey(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("알 수 없는 서명 키입니다: kid=" + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 토큰 검증 및 클레임 추출
+     *
+     * @param token JWT 토큰
+     * @return 검증된 사용자 정보 (유효하지 않으면 null)
+     */
+    public JwtPrincipal verify(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return JwtPrincipal.builder()
+                    .jti(claims.getId())
+                    .userId(Long.parseLong(claims.getSubject()))
+                    .email(claims.get("email", String.class))
+                    .role(claims.get("role", String.class))
+                    .type(claims.get("type", String.class))
+                    .issuedAtMillis(claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L)
+                    .expiresAtMillis(claims.getExpiration().getTime())
+                    .build();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT 검증 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
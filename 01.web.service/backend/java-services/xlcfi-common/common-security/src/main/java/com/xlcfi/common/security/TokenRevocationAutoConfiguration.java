@@ -0,0 +1,32 @@
+package com.xlcfi.common.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 토큰 폐기 여부 확인 자동 설정 (로그아웃, 모든 세션 무효화)
+ * RedisAutoConfiguration 이후에 평가되어야 StringRedisTemplate 조건이 맞으므로
+ * 중첩 설정이 아닌 별도 자동 설정으로 등록합니다 (com.xlcfi.common 컴포넌트 스캔 대상에서 제외됨).
+ */
+@AutoConfiguration(after = RedisAutoConfiguration.class)
+@ConditionalOnClass(StringRedisTemplate.class)
+@ConditionalOnProperty(prefix = "xlcfi.security", name = "jwks-uri")
+public class TokenRevocationAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(StringRedisTemplate.class)
+    public TokenRevocationChecker tokenRevocationChecker(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${xlcfi.security.revocation-cache-size:100000}") long maximumSize,
+            @Value("${xlcfi.security.revocation-cache-ttl:5000}") long cacheTtlMillis) {
+        return new TokenRevocationChecker(stringRedisTemplate, maximumSize, cacheTtlMillis);
+    }
+}
@@ -0,0 +1,71 @@
+package com.xlcfi.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 폐기 여부 확인 (로그아웃 블랙리스트, 사용자 세션 기준 시각)
+ * 인증 서비스가 Redis에 기록한 블랙리스트(jti)와 세션 기준 시각(epoch)을 한 번의 MGET으로 조회합니다.
+ *
+ * 폐기되지 않은 결과는 revocation-cache-ttl 동안 토큰별로 보관하므로,
+ * 로그아웃과 모든 세션 무효화는 다른 서비스에 최대 이 시간만큼 늦게 반영됩니다.
+ * Redis 조회에 실패하면 토큰을 거부합니다 (fail-closed, 인증 서비스와 동일).
+ */
+@Slf4j
+public class TokenRevocationChecker {
+
+    public static final String BLACKLIST_PREFIX = "blacklist:jti:";
+    public static final String EPOCH_PREFIX = "session:epoch:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, Boolean> notRevoked;
+
+    public TokenRevocationChecker(StringRedisTemplate redisTemplate, long maximumSize, long cacheTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.notRevoked = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(cacheTtlMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인
+     * 블랙리스트에 있거나 사용자 세션 기준 시각 이전에 발급된 토큰이면 폐기된 것으로 봅니다.
+     *
+     * @param principal 서명 검증이 끝난 토큰
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(JwtPrincipal principal) {
+        if (principal.getJti() == null || notRevoked.getIfPresent(principal.getJti()) != null) {
+            return false;
+        }
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(
+                    BLACKLIST_PREFIX + principal.getJti(), EPOCH_PREFIX + principal.getUserId()));
+            if (values == null) {
+                throw new IllegalStateException("Redis MGET 결과가 없습니다");
+            }
+            if (values.get(0) != null || principal.getIssuedAtMillis() < epoch(values.get(1))) {
+                return true;
+            }
+            notRevoked.put(principal.getJti(), Boolean.TRUE);
+            return false;
+        } catch (RuntimeException e) {
+            log.error("토큰 폐기 여부 확인 실패, 토큰을 거부합니다: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 세션 기준 시각 (인증 서비스가 JSON 숫자로 저장, 없으면 0)
+     */
+    private static long epoch(String value) {
+        return value != null ? Long.parseLong(value.trim()) : 0L;
+    }
+}
@@ -0,0 +1,83 @@
+package com.xlcfi.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenRevocationAutoConfiguration Unit Test
+ */
+@DisplayName("토큰 폐기 여부 확인 자동 설정 단위 테스트")
+class TokenRevocationAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    RestClientAutoConfiguration.class,
+                    RedisAutoConfiguration.class,
+                    TokenRevocationAutoConfiguration.class,
+                    CommonSecurityAutoConfiguration.class))
+            .withPropertyValues("xlcfi.security.jwks-uri=http://localhost:1/.well-known/jwks.json");
+
+    @Test
+    @DisplayName("Redis가 있으면 토큰 폐기 확인기 등록")
+    void redisPresent_RegistersChecker() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(StringRedisTemplate.class);
+            assertThat(context).hasSingleBean(TokenRevocationChecker.class);
+            assertThat(context).hasSingleBean(FilterRegistrationBean.class);
+        });
+    }
+
+    @Test
+    @DisplayName("com.xlcfi.common 을 컴포넌트 스캔하는 서비스에서도 Redis 자동 설정 이후에 평가되어 등록")
+    void scannedPackage_RegistersChecker() {
+        contextRunner.withUserConfiguration(ScanningApplication.class)
+                .run(context -> assertThat(context).hasSingleBean(TokenRevocationChecker.class));
+    }
+
+    @Test
+    @DisplayName("Redis가 없으면 확인기 없이 인증 필터만 등록")
+    void redisAbsent_FilterWithoutChecker() {
+        contextRunner.withClassLoader(new FilteredClassLoader("org.springframework.data.redis"))
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(TokenRevocationChecker.class);
+                    assertThat(context).hasSingleBean(FilterRegistrationBean.class);
+                });
+    }
+
+    @Test
+    @DisplayName("jwks-uri가 없으면 아무것도 등록하지 않음")
+    void jwksUriMissing_NothingRegistered() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(
+                        RedisAutoConfiguration.class,
+                        TokenRevocationAutoConfiguration.class,
+                        CommonSecurityAutoConfiguration.class))
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(TokenRevocationChecker.class);
+                    assertThat(context).doesNotHaveBean(JwtTokenVerifier.class);
+                });
+    }
+
+    /**
+     * scanBasePackages 에 com.xlcfi.common 을 둔 서비스 애플리케이션과 같은 스캔 설정
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ComponentScan(basePackages = "com.xlcfi.common.security",
+            excludeFilters = @ComponentScan.Filter(type = FilterType.CUSTOM,
+                    classes = AutoConfigurationExcludeFilter.class))
+    static class ScanningApplication {
+    }
+}
@@ -0,0 +1,98 @@
+package com.xlcfi.common.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * TokenRevocationChecker Unit Test
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("토큰 폐기 여부 확인 단위 테스트")
+class TokenRevocationCheckerTest {
+
+    private static final long ISSUED_AT = 1_700_000_000_000L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TokenRevocationChecker checker;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        checker = new TokenRevocationChecker(redisTemplate, 1000, 60_000);
+    }
+
+    @Test
+    @DisplayName("블랙리스트에 있는 토큰 거부")
+    void isRevoked_Blacklisted() {
+        // Given
+        when(valueOperations.multiGet(List.of("blacklist:jti:jti-1", "session:epoch:1")))
+                .thenReturn(Arrays.asList("\"true\"", null));
+
+        // When & Then
+        assertThat(checker.isRevoked(principal("jti-1", ISSUED_AT))).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션 기준 시각 이전에 발급된 토큰 거부")
+    void isRevoked_IssuedBeforeEpoch() {
+        // Given
+        when(valueOperations.multiGet(anyList()))
+                .thenReturn(Arrays.asList(null, String.valueOf(ISSUED_AT + 1000)));
+
+        // When & Then
+        assertThat(checker.isRevoked(principal("jti-1", ISSUED_AT))).isTrue();
+    }
+
+    @Test
+    @DisplayName("폐기되지 않은 토큰은 허용하고 보관 시간 동안 다시 조회하지 않음")
+    void isRevoked_NotRevoked_Cached() {
+        // Given
+        when(valueOperations.multiGet(anyList()))
+                .thenReturn(Arrays.asList(null, String.valueOf(ISSUED_AT - 1000)));
+
+        // When & Then
+        assertThat(checker.isRevoked(principal("jti-1", ISSUED_AT))).isFalse();
+        assertThat(checker.isRevoked(principal("jti-1", ISSUED_AT))).isFalse();
+        verify(valueOperations, times(1)).multiGet(anyList());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 토큰 거부")
+    void isRevoked_RedisFailure_FailsClosed() {
+        // Given
+        when(valueOperations.multiGet(anyList()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // When & Then
+        assertThat(checker.isRevoked(principal("jti-1", ISSUED_AT))).isTrue();
+    }
+
+    private static JwtPrincipal principal(String jti, long issuedAtMillis) {
+        return JwtPrincipal.builder()
+                .jti(jti)
+                .userId(1L)
+                .type("access")
+                .issuedAtMillis(issuedAtMillis)
+                .expiresAtMillis(issuedAtMillis + 3_600_000)
+                .build();
+    }
+}
@@ -1,12 +1,21 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
 dependencies {
     // Spring Boot Starters
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    
+    // Redis (토큰 폐기 여부 확인, 인증 서비스의 블랙리스트/세션 기준 시각)
+    implementation("org.springframework.boot:spring-boot-starter-data-redis")
     
     // Common modules
     implementation(project(":xlcfi-common:common-core"))
     implementation(project(":xlcfi-common:common-data"))
+    implementation(project(":xlcfi-common:common-security"))
     
     // Dependencies for entity relationships
     implementation(project(":xlcfi-auth-service"))
@@ -19,6 +28,29 @@ dependencies {
     // Lombok
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
+
+    // Test (쿼리 수 예산 테스트: H2 인메모리)
+    testImplementation("com.h2database:h2")
+    testImplementation(testFixtures(project(":xlcfi-common:common-data")))  // @QueryBudgetTest
+
+    // Benchmark (기본 DB: H2 인메모리)
+    jmh("com.h2database:h2")
+    jmh("org.postgresql:postgresql")
+}
+
+// JMH 벤치마크 (./gradlew :xlcfi-order-service:jmh)
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    // 벤치마크 DB 지정 (예: -PbenchDbUrl=jdbc:postgresql://localhost:5432/xlcfi_bench?reWriteBatchedInserts=true)
+    jvmArgsAppend.set(
+        listOf(
+            "benchDbUrl" to "bench.db.url",
+            "benchDbUsername" to "bench.db.username",
+            "benchDbPassword" to "bench.db.password"
+        ).mapNotNull { (property, systemProperty) -> findProperty(property)?.let { "-D$systemProperty=$it" } }
+    )
 }
 
 // Disable Spring Boot bootJar for this module if it's a library
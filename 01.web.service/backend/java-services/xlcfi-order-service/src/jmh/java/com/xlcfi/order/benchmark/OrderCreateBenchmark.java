@@ -0,0 +1,197 @@
+package com.xlcfi.order.benchmark;
+
+import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.domain.UserRole;
+import com.xlcfi.auth.repository.UserRepository;
+import com.xlcfi.order.domain.Order;
+import com.xlcfi.order.domain.OrderItem;
+import com.xlcfi.order.dto.CreateOrderRequest;
+import com.xlcfi.order.dto.OrderItemRequest;
+import com.xlcfi.order.dto.OrderResponse;
+import com.xlcfi.order.repository.OrderRepository;
+import com.xlcfi.order.service.OrderService;
+import com.xlcfi.product.domain.Category;
+import com.xlcfi.product.domain.Product;
+import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.repository.ProductRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 생성 벤치마크 (OrderService.createOrder, 주문 항목 1 / 10 / 100건)
+ *
+ * 서비스의 application.yml에 있는 spring.jpa.properties.* (JDBC 배치 설정 등)를 그대로 적용합니다.
+ * 기본 DB는 H2 인메모리이며, 실제 왕복 비용은 PostgreSQL로 측정합니다 (스키마는 벤치마크가 생성/삭제).
+ *
+ * ./gradlew :xlcfi-order-service:jmh -PbenchDbUrl=jdbc:postgresql://localhost:5432/xlcfi_bench?reWriteBatchedInserts=true
+ *     -PbenchDbUsername=xlcfi_user -PbenchDbPassword=xlcfi_password
+ *
+ * 종료 시 주문 1건당 실행한 SQL 문 수(Hibernate 통계)를 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderCreateBenchmark {
+
+    private static final int PRODUCTS = 100;
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private AnnotationConfigApplicationContext context;
+    private OrderService orderService;
+    private Statistics statistics;
+    private final AtomicLong orders = new AtomicLong();
+    private Long buyerId;
+    private CreateOrderRequest request;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+        orderService = context.getBean(OrderService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        new TransactionTemplate(context.getBean(JpaTransactionManager.class)).executeWithoutResult(status -> {
+            buyerId = userRepository.save(user("buyer@bench.xlcfi.com", UserRole.BUYER)).getId();
+            Long sellerId = userRepository.save(user("seller@bench.xlcfi.com", UserRole.SELLER)).getId();
+
+            List<OrderItemRequest> itemRequests = new ArrayList<>();
+            for (int i = 0; i < items; i++) {
+                Product product = productRepository.save(Product.builder()
+                        .sellerId(sellerId)
+                        .name("벤치마크 상품 " + i)
+                        .price(BigDecimal.valueOf(1000 + i))
+                        .stockQuantity(Integer.MAX_VALUE)
+                        .status(ProductStatus.PUBLISHED)
+                        .build());
+                itemRequests.add(OrderItemRequest.builder().productId(product.getId()).quantity(1).build());
+            }
+
+            request = CreateOrderRequest.builder()
+                    .sellerId(sellerId)
+                    .items(itemRequests)
+                    .shippingAddress(Map.of("city", "Seoul", "zipCode", "04524"))
+                    .build();
+        });
+        statistics.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        long count = Math.max(orders.get(), 1);
+        System.out.printf("%n[items=%d] SQL 문/주문: %.1f (엔티티 로드 %.1f, 엔티티 INSERT %.1f)%n", items,
+                (double) statistics.getPrepareStatementCount() / count,
+                (double) (statistics.getEntityLoadCount() + statistics.getQueryExecutionCount()) / count,
+                (double) statistics.getEntityInsertCount() / count);
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() {
+        orders.incrementAndGet();
+        return orderService.createOrder(buyerId, request);
+    }
+
+    private static User user(String email, UserRole role) {
+        return User.builder().email(email).name(role.name()).role(role).build();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaAuditing
+    @EnableJpaRepositories(
+            basePackageClasses = {OrderRepository.class, ProductRepository.class, UserRepository.class},
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {OrderRepository.class, ProductRepository.class, UserRepository.class}))
+    @Import(OrderService.class)
+    static class BenchmarkConfig {
+
+        @Bean(destroyMethod = "close")
+        public HikariDataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(System.getProperty("bench.db.url",
+                    "jdbc:h2:mem:order_bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;"
+                            + "INIT=CREATE DOMAIN IF NOT EXISTS jsonb AS JSON"));
+            dataSource.setUsername(System.getProperty("bench.db.username", "sa"));
+            dataSource.setPassword(System.getProperty("bench.db.password", ""));
+            dataSource.setMaximumPoolSize(4);
+            return dataSource;
+        }
+
+        @Bean
+        public LocalContainerEntityManagerFactoryBean entityManagerFactory(
+                DataSource dataSource, ConfigurableListableBeanFactory beanFactory) {
+            Map<String, Object> properties = new HashMap<>(serviceJpaProperties());
+            properties.put(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
+
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setManagedTypes(PersistenceManagedTypes.of(List.of(
+                    User.class.getName(), Category.class.getName(), Product.class.getName(),
+                    Order.class.getName(), OrderItem.class.getName()), List.of()));
+            factory.setJpaPropertyMap(properties);
+            return factory;
+        }
+
+        @Bean
+        public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        /**
+         * 주문 서비스 application.yml의 spring.jpa.properties.*
+         */
+        private static Map<String, Object> serviceJpaProperties() {
+            YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+            yaml.setResources(new ClassPathResource("application.yml"));
+            Properties source = yaml.getObject();
+
+            String prefix = "spring.jpa.properties.";
+            Map<String, Object> properties = new HashMap<>();
+            // YAML 값은 Boolean/Integer로 읽히므로 stringPropertyNames() 대신 모든 키를 확인
+            source.forEach((name, value) -> {
+                if (name.toString().startsWith(prefix)) {
+                    properties.put(name.toString().substring(prefix.length()), value);
+                }
+            });
+            return properties;
+        }
+    }
+}
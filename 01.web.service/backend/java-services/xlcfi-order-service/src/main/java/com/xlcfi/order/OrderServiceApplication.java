@@ -2,12 +2,25 @@ package com.xlcfi.order;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication(scanBasePackages = {
     "com.xlcfi.order",
     "com.xlcfi.common"
 })
+// 다른 서비스 모듈의 엔티티/리포지토리 포함 (주문의 구매자/판매자, 주문 항목의 상품)
+@EntityScan(basePackages = {
+    "com.xlcfi.order",
+    "com.xlcfi.product.domain",
+    "com.xlcfi.auth.domain"
+})
+@EnableJpaRepositories(basePackages = {
+    "com.xlcfi.order.repository",
+    "com.xlcfi.product.repository",
+    "com.xlcfi.auth.repository"
+})
 @EnableJpaAuditing
 public class OrderServiceApplication {
 
@@ -1,6 +1,9 @@
 package com.xlcfi.order.controller;
 
+import com.xlcfi.common.concurrency.ConcurrencyLimit;
+import com.xlcfi.common.concurrency.ConcurrencyPriority;
 import com.xlcfi.common.dto.ApiResponse;
+import com.xlcfi.common.pagination.CursorPage;
 import com.xlcfi.order.domain.OrderStatus;
 import com.xlcfi.order.dto.CreateOrderRequest;
 import com.xlcfi.order.dto.OrderResponse;
@@ -32,6 +35,7 @@ public class OrderController {
      * POST /api/orders
      */
     @PostMapping
+    @ConcurrencyLimit(priority = ConcurrencyPriority.CRITICAL)
     public ResponseEntity<ApiResponse<OrderResponse>> createOrder(
             @RequestAttribute("userId") Long buyerId,
             @Valid @RequestBody CreateOrderRequest request) {
@@ -80,6 +84,24 @@ public class OrderController {
                 ApiResponse.success(orders, "주문 목록 조회 성공"));
     }
 
+    /**
+     * 내 주문 목록 조회 (구매자, 커서 기반)
+     * GET /api/orders/my/cursor?cursor={nextCursor}&size=20
+     */
+    @GetMapping("/my/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<OrderResponse>>> getMyOrdersByCursor(
+            @RequestAttribute("userId") Long buyerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("내 주문 목록 커서 조회 요청: buyerId={}", buyerId);
+        
+        CursorPage<OrderResponse> orders = orderService.getOrdersByBuyerCursor(buyerId, cursor, size);
+        
+        return ResponseEntity.ok(
+                ApiResponse.success(orders, "주문 목록 조회 성공"));
+    }
+
     /**
      * 판매 주문 목록 조회 (판매자)
      * GET /api/orders/sales?page=0&size=20
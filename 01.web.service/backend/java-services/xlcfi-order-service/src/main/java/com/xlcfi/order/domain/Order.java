@@ -21,6 +21,11 @@ import java.util.Map;
 @Builder
 public class Order extends BaseEntity {
 
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_id_seq")
+    @SequenceGenerator(name = "orders_id_seq", sequenceName = "orders_id_seq", allocationSize = 50)
+    private Long id;
+
     @Column(name = "order_number", unique = true, nullable = false, length = 50)
     private String orderNumber;
 
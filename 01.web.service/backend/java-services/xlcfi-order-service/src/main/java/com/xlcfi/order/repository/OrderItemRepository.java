@@ -24,14 +24,14 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     /**
      * 특정 상품의 총 판매 수량 조회
      */
-    @Query("SELECT SUM(oi.quantity) FROM OrderItem oi WHERE oi.productId = :productId")
+    @Query("SELECT SUM(oi.quantity) FROM OrderItem oi WHERE oi.product.id = :productId")
     Long getTotalSoldQuantity(@Param("productId") Long productId);
     
     /**
      * 인기 상품 조회 (판매량 기준)
      */
-    @Query("SELECT oi.productId, SUM(oi.quantity) as totalQty FROM OrderItem oi " +
-           "GROUP BY oi.productId ORDER BY totalQty DESC")
+    @Query("SELECT oi.product.id, SUM(oi.quantity) as totalQty FROM OrderItem oi " +
+           "GROUP BY oi.product.id ORDER BY totalQty DESC")
     List<Object[]> findTopSellingProducts(org.springframework.data.domain.Pageable pageable);
 }
 
@@ -5,6 +5,7 @@ import com.xlcfi.order.domain.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,7 +15,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
     
     /**
      * 주문번호로 조회
@@ -52,7 +53,7 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * 판매자별 + 기간별 주문 통계
      */
     @Query("SELECT COUNT(o), SUM(o.total) FROM Order o WHERE " +
-           "o.sellerId = :sellerId AND " +
+           "o.seller.id = :sellerId AND " +
            "o.status = :status AND " +
            "o.createdAt BETWEEN :startDate AND :endDate")
     Object[] getSellerOrderStats(@Param("sellerId") Long sellerId,
@@ -3,6 +3,9 @@ package com.xlcfi.order.service;
 import com.xlcfi.auth.domain.User;
 import com.xlcfi.auth.repository.UserRepository;
 import com.xlcfi.common.exception.BusinessException;
+import com.xlcfi.common.pagination.CursorPage;
+import com.xlcfi.common.pagination.KeysetPagination;
+import com.xlcfi.common.pagination.KeysetSort;
 import com.xlcfi.order.domain.Order;
 import com.xlcfi.order.domain.OrderItem;
 import com.xlcfi.order.domain.OrderStatus;
@@ -20,6 +23,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,6 +36,15 @@ import java.math.BigDecimal;
 @Transactional(readOnly = true)
 public class OrderService {
 
+    private static final KeysetSort<Order> LATEST = KeysetSort.latest(Order::getId);
+
+    private static final DateTimeFormatter ORDER_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * 주문번호 무작위 부분의 범위 (36진수 10자리)
+     */
+    private static final long ORDER_NUMBER_RANGE = 3_656_158_440_062_976L;
+
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
@@ -48,6 +66,7 @@ public class OrderService {
 
         // 주문 생성
         Order order = Order.builder()
+                .orderNumber(generateOrderNumber())
                 .buyer(buyer)
                 .seller(seller)
                 .total(BigDecimal.ZERO)
@@ -55,11 +74,19 @@ public class OrderService {
                 .status(OrderStatus.PENDING)
                 .build();
 
+        // 주문 상품 일괄 조회 (항목 수와 관계없이 1회)
+        Map<Long, Product> products = productRepository.findAllById(
+                        request.getItems().stream().map(OrderItemRequest::getProductId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
         // 주문 항목 추가 및 총액 계산
         BigDecimal totalAmount = BigDecimal.ZERO;
         for (OrderItemRequest itemRequest : request.getItems()) {
-            Product product = productRepository.findById(itemRequest.getProductId())
-                    .orElseThrow(() -> new BusinessException("ORDER003", "상품을 찾을 수 없습니다"));
+            Product product = products.get(itemRequest.getProductId());
+            if (product == null) {
+                throw new BusinessException("ORDER003", "상품을 찾을 수 없습니다");
+            }
 
             // 재고 확인
             if (product.getStockQuantity() < itemRequest.getQuantity()) {
@@ -93,6 +120,16 @@ public class OrderService {
         return OrderResponse.from(savedOrder);
     }
 
+    /**
+     * 주문번호 생성 (ORD-yyyyMMdd-무작위 10자리)
+     * DB 조회 없이 만들며, 중복은 order_number 고유 제약으로 막습니다.
+     */
+    private static String generateOrderNumber() {
+        String random = Long.toString(ThreadLocalRandom.current().nextLong(ORDER_NUMBER_RANGE), 36);
+        return "ORD-" + LocalDate.now().format(ORDER_DATE_FORMAT) + "-"
+                + "0".repeat(10 - random.length()) + random.toUpperCase();
+    }
+
     /**
      * 주문 상세 조회
      */
@@ -121,6 +158,18 @@ public class OrderService {
         return orders.map(OrderResponse::from);
     }
 
+    /**
+     * 주문 목록 조회 (구매자, 커서 기반)
+     */
+    public CursorPage<OrderResponse> getOrdersByBuyerCursor(Long buyerId, String cursor, int size) {
+        log.info("구매자 주문 목록 커서 조회: buyerId={}", buyerId);
+
+        return KeysetPagination.<Order>fetch(orderRepository,
+                        (root, query, cb) -> cb.equal(root.get("buyer").get("id"), buyerId),
+                        LATEST, cursor, size, "buyer", "seller")
+                .map(OrderResponse::from);
+    }
+
     /**
      * 주문 목록 조회 (판매자)
      */
@@ -0,0 +1,6 @@
+-- ==========================================
+-- V2: 커서 기반 페이지네이션 인덱스
+-- ==========================================
+
+-- 구매자별 최신순 주문 목록 (created_at, id 순서로 이어서 조회)
+CREATE INDEX idx_orders_buyer_created_id ON orders(buyer_id, created_at DESC, id DESC);
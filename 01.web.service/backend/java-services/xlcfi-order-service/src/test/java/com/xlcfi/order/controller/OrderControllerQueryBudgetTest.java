@@ -0,0 +1,161 @@
+package com.xlcfi.order.controller;
+
+import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.domain.UserRole;
+import com.xlcfi.auth.repository.UserRepository;
+import com.xlcfi.common.query.QueryBudgetTest;
+import com.xlcfi.common.query.QueryCount;
+import com.xlcfi.common.query.QueryCountFilter;
+import com.xlcfi.common.query.QueryCounter;
+import com.xlcfi.order.domain.Order;
+import com.xlcfi.order.domain.OrderItem;
+import com.xlcfi.order.domain.OrderStatus;
+import com.xlcfi.order.repository.OrderRepository;
+import com.xlcfi.order.service.OrderService;
+import com.xlcfi.product.domain.Product;
+import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * OrderController 쿼리 수 예산 테스트
+ *
+ * 주문 목록 API가 목록 크기와 관계없이 정해진 수의 SQL만 실행하는지 확인합니다 (구매자/판매자/주문 항목 N+1 회귀 방지).
+ */
+@QueryBudgetTest(controllers = OrderController.class)
+@Import(OrderService.class)
+@DisplayName("주문 목록 API 쿼리 수 예산 테스트")
+class OrderControllerQueryBudgetTest {
+
+    private static final int ORDERS = 25;
+    private static final int SELLERS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long buyerId;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 구매자 1명이 판매자 5명에게서 주문 25건 (주문마다 항목 2개)
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            orderRepository.deleteAll();
+            productRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+        transaction.executeWithoutResult(status -> {
+            User buyer = userRepository.save(user("buyer@test.xlcfi.com", UserRole.BUYER));
+            buyerId = buyer.getId();
+            List<User> sellers = new ArrayList<>();
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < SELLERS; i++) {
+                User seller = userRepository.save(user("seller" + i + "@test.xlcfi.com", UserRole.SELLER));
+                sellers.add(seller);
+                products.add(productRepository.save(product(seller, i)));
+            }
+
+            for (int i = 0; i < ORDERS; i++) {
+                Product product = products.get(i % SELLERS);
+                Order order = Order.builder()
+                        .orderNumber("ORD-TEST-" + i)
+                        .buyer(buyer)
+                        .seller(sellers.get(i % SELLERS))
+                        .total(product.getPrice().multiply(BigDecimal.valueOf(2)))
+                        .shippingAddress(Map.of("city", "Seoul"))
+                        .status(OrderStatus.PENDING)
+                        .build();
+                order.addOrderItem(item(product));
+                order.addOrderItem(item(product));
+                orderRepository.save(order);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("내 주문 목록 (커서) - 주문+구매자+판매자 1회, 주문 항목 1회")
+    void getMyOrdersByCursor_QueryBudget() throws Exception {
+        try (QueryCount queries = QueryCounter.start()) {
+            mockMvc.perform(get("/api/orders/my/cursor")
+                            .param("size", "20")
+                            .requestAttr("userId", buyerId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(20))
+                    .andExpect(jsonPath("$.data.content[0].sellerName").exists())
+                    .andExpect(jsonPath("$.data.content[0].items.length()").value(2))
+                    .andExpect(header().string(QueryCountFilter.HEADER, "2"));
+
+            assertThat(queries.getSelect()).isEqualTo(2);
+            assertThat(queries.getTotal()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("내 주문 목록 (페이지) - 주문, COUNT, 사용자 1회, 주문 항목 1회")
+    void getMyOrders_QueryBudget() throws Exception {
+        try (QueryCount queries = QueryCounter.start()) {
+            mockMvc.perform(get("/api/orders/my")
+                            .param("page", "0")
+                            .param("size", "20")
+                            .requestAttr("userId", buyerId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(20))
+                    .andExpect(jsonPath("$.data.content[0].items.length()").value(2));
+
+            assertThat(queries.getSelect()).isEqualTo(4);
+            assertThat(queries.getTotal()).isEqualTo(4);
+        }
+    }
+
+    private static User user(String email, UserRole role) {
+        return User.builder().email(email).name(role.name() + " " + email).role(role).build();
+    }
+
+    private static Product product(User seller, int index) {
+        return Product.builder()
+                .sellerId(seller.getId())
+                .name("테스트 상품 " + index)
+                .price(BigDecimal.valueOf(1000 + index))
+                .stockQuantity(100)
+                .status(ProductStatus.PUBLISHED)
+                .build();
+    }
+
+    private static OrderItem item(Product product) {
+        return OrderItem.builder()
+                .product(product)
+                .productName(product.getName())
+                .quantity(1)
+                .unitPrice(product.getPrice())
+                .subtotal(product.getPrice())
+                .build();
+    }
+}
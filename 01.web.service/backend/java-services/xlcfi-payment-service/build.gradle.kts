@@ -3,6 +3,10 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    
+    // Redis (토큰 폐기 여부 확인, 인증 서비스의 블랙리스트/세션 기준 시각)
+    implementation("org.springframework.boot:spring-boot-starter-data-redis")
     
     // HTTP Client for PG Integration
     implementation("org.springframework.boot:spring-boot-starter-webflux")
@@ -10,6 +14,7 @@ dependencies {
     // Common modules
     implementation(project(":xlcfi-common:common-core"))
     implementation(project(":xlcfi-common:common-data"))
+    implementation(project(":xlcfi-common:common-security"))
     
     // Dependencies for entity relationships
     implementation(project(":xlcfi-order-service"))
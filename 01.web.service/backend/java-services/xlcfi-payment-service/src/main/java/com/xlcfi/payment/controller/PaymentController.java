@@ -1,5 +1,7 @@
 package com.xlcfi.payment.controller;
 
+import com.xlcfi.common.concurrency.ConcurrencyLimit;
+import com.xlcfi.common.concurrency.ConcurrencyPriority;
 import com.xlcfi.common.dto.ApiResponse;
 import com.xlcfi.payment.dto.CreatePaymentRequest;
 import com.xlcfi.payment.dto.PaymentResponse;
@@ -24,6 +26,7 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/payments")
 @RequiredArgsConstructor
+@ConcurrencyLimit(priority = ConcurrencyPriority.CRITICAL)
 public class PaymentController {
 
     private final PaymentService paymentService;
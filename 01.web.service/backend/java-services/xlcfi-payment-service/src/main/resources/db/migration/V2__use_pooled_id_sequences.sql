@@ -0,0 +1,7 @@
+-- ==========================================
+-- V2: ID 시퀀스 할당 단위 변경 (JDBC 배치 INSERT)
+-- ==========================================
+
+-- Hibernate pooled 시퀀스 생성기(allocationSize = 50)와 증가 단위를 맞춤
+-- 애플리케이션은 시퀀스 1회 호출로 ID 50개를 확보하므로 INSERT를 배치로 묶을 수 있음
+ALTER SEQUENCE payments_id_seq INCREMENT BY 50;
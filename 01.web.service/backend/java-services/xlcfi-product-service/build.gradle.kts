@@ -1,9 +1,16 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
 dependencies {
     // Common modules
     implementation(project(":xlcfi-common:common-core"))
     implementation(project(":xlcfi-common:common-security"))
     implementation(project(":xlcfi-common:common-data"))
     
+    // Dependencies for entity relationships (판매자 조회, 카드 조회의 판매자 이름 조인)
+    implementation(project(":xlcfi-auth-service"))
+    
     // Spring Boot Starters
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
@@ -18,6 +25,9 @@ dependencies {
     // Redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     
+    // Local cache (카테고리 캐시)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    
     // Hypersistence Utils (JSONB support)
     implementation("io.hypersistence:hypersistence-utils-hibernate-63:3.6.1")
     
@@ -26,6 +36,11 @@ dependencies {
     annotationProcessor("com.querydsl:querydsl-apt:5.1.0:jakarta")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
     
+    // 상품 검색 색인 (프로세스 내 Lucene, 한국어 형태소 분석 nori)
+    implementation("org.apache.lucene:lucene-core:9.9.2")
+    implementation("org.apache.lucene:lucene-analysis-common:9.9.2")
+    implementation("org.apache.lucene:lucene-analysis-nori:9.9.2")
+    
     // Elasticsearch
     implementation("org.springframework.boot:spring-boot-starter-data-elasticsearch")
     
@@ -38,4 +53,25 @@ dependencies {
     // Test
     testImplementation("org.testcontainers:postgresql:1.19.3")
     testImplementation("org.testcontainers:junit-jupiter:1.19.3")
+    testImplementation("com.h2database:h2")  // 조회수 카운터 (H2 인메모리)
+    testImplementation(testFixtures(project(":xlcfi-common:common-data")))  // @QueryBudgetTest
+
+    // Benchmark (기본 DB: H2 인메모리)
+    jmh("com.h2database:h2")
+    jmh("org.postgresql:postgresql")
+}
+
+// JMH 벤치마크 (./gradlew :xlcfi-product-service:jmh)
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    // 벤치마크 DB 지정 (예: -PbenchDbUrl=jdbc:postgresql://localhost:5432/xlcfi_bench)
+    jvmArgsAppend.set(
+        listOf(
+            "benchDbUrl" to "bench.db.url",
+            "benchDbUsername" to "bench.db.username",
+            "benchDbPassword" to "bench.db.password"
+        ).mapNotNull { (property, systemProperty) -> findProperty(property)?.let { "-D$systemProperty=$it" } }
+    )
 }
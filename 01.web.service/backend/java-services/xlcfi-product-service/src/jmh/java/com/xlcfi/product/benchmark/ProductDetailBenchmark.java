@@ -0,0 +1,310 @@
+package com.xlcfi.product.benchmark;
+
+import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.domain.UserRole;
+import com.xlcfi.auth.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xlcfi.common.cache.EntityCacheSettings;
+import com.xlcfi.product.cache.ProductDetailCache;
+import com.xlcfi.product.domain.Category;
+import com.xlcfi.product.domain.Product;
+import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.dto.ProductResponse;
+import com.xlcfi.product.repository.CategoryRepository;
+import com.xlcfi.product.repository.ProductRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 상세 조회 벤치마크 (2차 캐시 off / on, 상품 상세 캐시 off / on)
+ *
+ * 상품 상세 캐시를 끄면 캐시 도입 전 ProductService.getProduct와 같은 순서로 엔티티에 접근합니다:
+ * 상품 조회 -> 카테고리 이름 -> 판매자 이름 (읽기 전용 트랜잭션, 조회수는 메모리 카운터라 DB 접근 없음).
+ * 상품 상세 캐시를 켜면 {@link ProductDetailCache}에서 읽고 응답을 복사합니다 (L2 Redis는 메모리 맵으로 대신함).
+ * 상품은 인기도가 Zipf 분포(s=1)를 따르도록 골라 소수의 인기 상품에 조회가 몰리는 실제 트래픽을 흉내냅니다.
+ * 서비스의 application.yml에 있는 spring.jpa.properties.*와 xlcfi.entity-cache.*를 그대로 적용합니다.
+ *
+ * ./gradlew :xlcfi-product-service:jmh -PbenchDbUrl=jdbc:postgresql://localhost:5432/xlcfi_bench
+ *     -PbenchDbUsername=xlcfi_user -PbenchDbPassword=xlcfi_password
+ *
+ * 종료 시 조회 1건당 실행한 SQL 문 수와 영역별 2차 캐시 적중률을 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class ProductDetailBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+    private static final int SELLERS = 200;
+    private static final int CATEGORIES = 50;
+    private static final int SAMPLES = 1 << 20;
+
+    @Param({"false", "true"})
+    private boolean entityCache;
+
+    @Param({"false", "true"})
+    private boolean detailCache;
+
+    private AnnotationConfigApplicationContext context;
+    private ProductRepository productRepository;
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTemplate;
+    private Statistics statistics;
+    private ProductDetailCache productDetailCache;
+    private final LongAdder reads = new LongAdder();
+    private long[] productIds;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        ConfigurableEnvironment environment = context.getEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("xlcfi.entity-cache.enabled", entityCache)));
+        environment.getPropertySources().addLast(new PropertiesPropertySource("application.yml", serviceProperties()));
+        context.register(BenchmarkConfig.class);
+        context.refresh();
+
+        productRepository = context.getBean(ProductRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(JpaTransactionManager.class));
+        readOnlyTemplate = new TransactionTemplate(context.getBean(JpaTransactionManager.class));
+        readOnlyTemplate.setReadOnly(true);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Category> categories = new ArrayList<>();
+            for (int i = 0; i < CATEGORIES; i++) {
+                categories.add(categoryRepository.save(Category.builder().name("카테고리 " + i).build()));
+            }
+            List<Long> sellerIds = new ArrayList<>();
+            for (int i = 0; i < SELLERS; i++) {
+                sellerIds.add(userRepository.save(User.builder()
+                        .email("seller" + i + "@bench.xlcfi.com")
+                        .name("판매자 " + i)
+                        .role(UserRole.SELLER)
+                        .build()).getId());
+            }
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < PRODUCTS; i++) {
+                products.add(Product.builder()
+                        .sellerId(sellerIds.get(i % SELLERS))
+                        .category(categories.get(i % CATEGORIES))
+                        .name("벤치마크 상품 " + i)
+                        .description("상품 설명 ".repeat(20))
+                        .price(BigDecimal.valueOf(1000 + i))
+                        .stockQuantity(100)
+                        .images(List.of("https://cdn.xlcfi.com/products/" + i + ".jpg"))
+                        .status(ProductStatus.PUBLISHED)
+                        .build());
+            }
+            return productRepository.saveAll(products).stream().map(Product::getId).toList();
+        });
+
+        productIds = zipfSamples(ids);
+        productDetailCache = new ProductDetailCache(productRepository, context.getBean(JpaTransactionManager.class),
+                new MapRedisTemplate(), new ObjectMapper().findAndRegisterModules(),
+                context.getBeanProvider(MeterRegistry.class), PRODUCTS, 60_000, 45_000, 600_000, 5_000);
+        context.getBean(EntityManagerFactory.class).getCache().evictAll();
+        statistics.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        long count = Math.max(reads.sum(), 1);
+        productDetailCache.shutdown();
+        System.out.printf("%n[entityCache=%s, detailCache=%s] SQL 문/조회: %.2f%n", entityCache, detailCache,
+                (double) statistics.getPrepareStatementCount() / count);
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            long requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+            System.out.printf("  %s: 적중 %d / 요청 %d (%.1f%%)%n", region, regionStatistics.getHitCount(), requests,
+                    requests == 0 ? 0.0 : 100.0 * regionStatistics.getHitCount() / requests);
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public void productDetail(Blackhole blackhole) {
+        reads.increment();
+        long productId = productIds[ThreadLocalRandom.current().nextInt(SAMPLES)];
+        if (detailCache) {
+            ProductResponse cached = productDetailCache.get(productId);
+            blackhole.consume(cached.toBuilder().viewCount(cached.getViewCount()).build());
+            return;
+        }
+        readOnlyTemplate.executeWithoutResult(status -> {
+            Product product = productRepository.findById(productId).orElseThrow();
+
+            blackhole.consume(product.getName());
+            blackhole.consume(product.getPrice());
+            blackhole.consume(product.getCategory() != null ? product.getCategory().getName() : null);
+            blackhole.consume(userRepository.findById(product.getSellerId()).map(User::getName).orElse(null));
+        });
+    }
+
+    /**
+     * 인기 순위 k의 상품이 1/k 비율로 조회되도록 뽑은 상품 ID
+     */
+    private static long[] zipfSamples(List<Long> ids) {
+        double[] cumulative = new double[ids.size()];
+        double sum = 0;
+        for (int k = 0; k < ids.size(); k++) {
+            sum += 1.0 / (k + 1);
+            cumulative[k] = sum;
+        }
+
+        Random random = new Random(42);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            samples[i] = ids.get(Math.min(rank < 0 ? -rank - 1 : rank, ids.size() - 1));
+        }
+        return samples;
+    }
+
+    /**
+     * 메모리 맵에 저장하는 Redis 템플릿 (상품 상세 캐시의 get/set/delete만 지원)
+     */
+    @SuppressWarnings("unchecked")
+    private static class MapRedisTemplate extends StringRedisTemplate {
+
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        private final ValueOperations<String, String> operations = (ValueOperations<String, String>) Proxy.newProxyInstance(
+                ValueOperations.class.getClassLoader(), new Class<?>[]{ValueOperations.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> values.get((String) args[0]);
+                    case "set" -> values.put((String) args[0], (String) args[1]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        @Override
+        public ValueOperations<String, String> opsForValue() {
+            return operations;
+        }
+
+        @Override
+        public Long delete(Collection<String> keys) {
+            keys.forEach(values::remove);
+            return (long) keys.size();
+        }
+    }
+
+    /**
+     * 상품 서비스 application.yml
+     */
+    static Properties serviceProperties() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        return yaml.getObject();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaAuditing
+    @EnableJpaRepositories(
+            basePackageClasses = {ProductRepository.class, CategoryRepository.class, UserRepository.class},
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {ProductRepository.class, CategoryRepository.class, UserRepository.class}))
+    static class BenchmarkConfig {
+
+        @Bean(destroyMethod = "close")
+        public HikariDataSource dataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(System.getProperty("bench.db.url",
+                    "jdbc:h2:mem:product_bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;"
+                            + "INIT=CREATE DOMAIN IF NOT EXISTS jsonb AS JSON"));
+            dataSource.setUsername(System.getProperty("bench.db.username", "sa"));
+            dataSource.setPassword(System.getProperty("bench.db.password", ""));
+            dataSource.setMaximumPoolSize(8);
+            return dataSource;
+        }
+
+        @Bean
+        public LocalContainerEntityManagerFactoryBean entityManagerFactory(
+                DataSource dataSource, ConfigurableListableBeanFactory beanFactory, ConfigurableEnvironment environment) {
+            Map<String, Object> properties = new HashMap<>(serviceJpaProperties(environment));
+            properties.putAll(EntityCacheSettings.hibernateProperties(environment));
+            properties.put(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+            properties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
+
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setManagedTypes(PersistenceManagedTypes.of(List.of(
+                    User.class.getName(), Category.class.getName(), Product.class.getName()), List.of()));
+            factory.setJpaPropertyMap(properties);
+            return factory;
+        }
+
+        @Bean
+        public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        /**
+         * 상품 서비스 application.yml의 spring.jpa.properties.*
+         */
+        private static Map<String, Object> serviceJpaProperties(ConfigurableEnvironment environment) {
+            String prefix = "spring.jpa.properties.";
+            Properties source = (Properties) environment.getPropertySources().get("application.yml").getSource();
+            Map<String, Object> properties = new HashMap<>();
+            // YAML 값은 Boolean/Integer로 읽히므로 stringPropertyNames() 대신 모든 키를 확인
+            source.forEach((name, value) -> {
+                if (name.toString().startsWith(prefix)) {
+                    properties.put(name.toString().substring(prefix.length()), value);
+                }
+            });
+            return properties;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.xlcfi.product.benchmark;
+
+import com.xlcfi.product.facet.ProductFacetDocument;
+import com.xlcfi.product.facet.ProductFacetFilter;
+import com.xlcfi.product.facet.ProductFacetIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 필터/집계 벤치마크 (상품 100만 건)
+ *
+ * 임의 상품(카테고리 200개, 통화 5종, 로그 정규 분포 가격, 평점, 재고)으로 색인을 만들고
+ * 조건 조합별로 첫 페이지(20건)와 모든 필터 값별 상품 수를 계산하는 지연 시간을 측정합니다.
+ * - none: 조건 없음 (전체 상품 집계)
+ * - category: 카테고리 하나
+ * - combined: 카테고리 둘 + 통화 + 가격 범위(구간 경계에 걸침) + 평점 + 재고
+ *
+ * ./gradlew :xlcfi-product-service:jmh -Pjmh.includes=ProductFacetBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class ProductFacetBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int CATEGORIES = 200;
+    private static final String[] CURRENCIES = {"KRW", "USD", "EUR", "JPY", "CNY"};
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"none", "category", "combined"})
+    private String filter;
+
+    private ProductFacetIndex index;
+
+    @Setup
+    public void setUp() {
+        long startedAt = System.currentTimeMillis();
+        index = new ProductFacetIndex(PRODUCTS);
+        Random random = new Random(42);
+        List<ProductFacetDocument> batch = new ArrayList<>();
+        for (long id = 1; id <= PRODUCTS; id++) {
+            // 카테고리 크기도 치우치게 (앞 카테고리일수록 상품이 많음)
+            long categoryId = 1 + (long) (CATEGORIES * Math.pow(random.nextDouble(), 2));
+            batch.add(ProductFacetDocument.builder()
+                    .id(id)
+                    .categoryId(categoryId)
+                    .price(BigDecimal.valueOf(Math.round(Math.exp(10 + 1.2 * random.nextGaussian())), 0))
+                    .currency(random.nextInt(10) < 6 ? "KRW" : CURRENCIES[1 + random.nextInt(4)])
+                    .ratingAverage(BigDecimal.valueOf(random.nextInt(501), 2))
+                    .stockQuantity(random.nextInt(5) == 0 ? 0 : random.nextInt(500))
+                    .published(random.nextInt(10) > 0)
+                    .build());
+            if (batch.size() == 10_000) {
+                index.update(batch);
+                batch.clear();
+            }
+        }
+        index.update(batch);
+        System.out.printf("%n색인 생성: published=%d, memory=%dKB, elapsed=%dms%n",
+                index.publishedCount(), index.ramBytesUsed() / 1024, System.currentTimeMillis() - startedAt);
+    }
+
+    @Benchmark
+    public Object facets() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long categoryId = 1 + random.nextInt(CATEGORIES / 2);
+        ProductFacetFilter.ProductFacetFilterBuilder builder = ProductFacetFilter.builder();
+        switch (filter) {
+            case "category" -> builder.categoryIds(Set.of(categoryId));
+            case "combined" -> builder
+                    .categoryIds(Set.of(categoryId, categoryId + CATEGORIES / 2))
+                    .currency("KRW")
+                    .minPrice(BigDecimal.valueOf(15_000))
+                    .maxPrice(BigDecimal.valueOf(70_000))
+                    .minRating(3)
+                    .inStock(true);
+            default -> {
+            }
+        }
+        return index.query(builder.build(), PAGE_SIZE * random.nextInt(5), PAGE_SIZE);
+    }
+}
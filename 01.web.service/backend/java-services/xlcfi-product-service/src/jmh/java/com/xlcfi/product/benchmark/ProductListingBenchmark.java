@@ -0,0 +1,197 @@
+package com.xlcfi.product.benchmark;
+
+import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.domain.UserRole;
+import com.xlcfi.auth.repository.UserRepository;
+import com.xlcfi.product.domain.Category;
+import com.xlcfi.product.domain.Product;
+import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.dto.ProductCardResponse;
+import com.xlcfi.product.repository.CategoryRepository;
+import com.xlcfi.product.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * 최신 상품 목록 조회 벤치마크 (엔티티 / 카드 프로젝션)
+ *
+ * - entity: 이전 방식. Product 엔티티 전체(설명 TEXT, 이미지 jsonb 포함)를 읽고
+ *   카테고리(지연 로딩)와 판매자(사용자 조회) 이름을 행마다 가져옵니다.
+ * - card: ProductRepository.findLatestCards. 카드에 필요한 컬럼만 한 번의 조인으로 읽습니다.
+ *
+ * 인덱스(status, created_at)를 타는 최신순 목록으로 측정해, 정렬 비용 없이 읽는 컬럼 차이만 비교합니다.
+ *
+ * 카드 쿼리는 PostgreSQL jsonb 함수를 사용하므로 PostgreSQL에서 실행합니다.
+ *
+ * ./gradlew :xlcfi-product-service:jmh -PbenchDbUrl=jdbc:postgresql://localhost:5432/xlcfi_bench
+ *     -PbenchDbUsername=xlcfi_user -PbenchDbPassword=xlcfi_password
+ *
+ * 할당량은 -prof gc로 확인하고, 종료 시 목록 1회당 SQL 문 수와 행당 읽은 바이트(pg_column_size 합)를 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class ProductListingBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+    private static final int SELLERS = 200;
+    private static final int CATEGORIES = 50;
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 50;
+
+    @Param({"entity", "card"})
+    private String mode;
+
+    private AnnotationConfigApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private ProductRepository productRepository;
+    private UserRepository userRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private final LongAdder listings = new LongAdder();
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        ConfigurableEnvironment environment = context.getEnvironment();
+        environment.getPropertySources().addLast(new PropertiesPropertySource("application.yml",
+                ProductDetailBenchmark.serviceProperties()));
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("xlcfi.entity-cache.enabled", true)));
+        context.register(ProductDetailBenchmark.BenchmarkConfig.class);
+        context.refresh();
+
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        productRepository = context.getBean(ProductRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(JpaTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+        new TransactionTemplate(context.getBean(JpaTransactionManager.class)).executeWithoutResult(status -> {
+            List<Category> categories = new ArrayList<>();
+            for (int i = 0; i < CATEGORIES; i++) {
+                categories.add(categoryRepository.save(Category.builder().name("카테고리 " + i).build()));
+            }
+            List<Long> sellerIds = new ArrayList<>();
+            for (int i = 0; i < SELLERS; i++) {
+                sellerIds.add(userRepository.save(User.builder()
+                        .email("seller" + i + "@bench.xlcfi.com")
+                        .name("판매자 " + i)
+                        .role(UserRole.SELLER)
+                        .build()).getId());
+            }
+            Random random = new Random(42);
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < PRODUCTS; i++) {
+                products.add(Product.builder()
+                        .sellerId(sellerIds.get(i % SELLERS))
+                        .category(categories.get(i % CATEGORIES))
+                        .name("벤치마크 상품 " + i)
+                        .description(description(random, 2_000))
+                        .descriptionEn(description(random, 2_000))
+                        .price(BigDecimal.valueOf(1000 + i))
+                        .stockQuantity(100)
+                        .images(IntStream.range(0, 5)
+                                .mapToObj(n -> "https://cdn.xlcfi.com/products/" + random.nextInt() + "/" + n + ".jpg")
+                                .toList())
+                        .status(ProductStatus.PUBLISHED)
+                        .build());
+            }
+            productRepository.saveAll(products);
+        });
+        // 스키마는 Hibernate DDL로 만들므로 최신순 목록 인덱스(V3 마이그레이션)를 직접 생성
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_products_status_created_id"
+                + " ON products(status, created_at DESC, id DESC)");
+        jdbcTemplate.execute("ANALYZE products");
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        long count = Math.max(listings.sum(), 1);
+        Long rowBytes = "card".equals(mode)
+                ? jdbcTemplate.queryForObject("SELECT avg(pg_column_size(p.id) + pg_column_size(p.name)"
+                + " + pg_column_size(p.price) + pg_column_size(p.currency)"
+                + " + coalesce(pg_column_size(p.images ->> 0), 0) + coalesce(pg_column_size(p.rating_average), 0)"
+                + " + coalesce(pg_column_size(c.name), 0) + coalesce(pg_column_size(u.name), 0))::bigint"
+                + " FROM products p LEFT JOIN categories c ON c.id = p.category_id"
+                + " LEFT JOIN users u ON u.id = p.seller_id", Long.class)
+                : jdbcTemplate.queryForObject("SELECT avg(pg_column_size(p.*))::bigint FROM products p", Long.class);
+        System.out.printf("%n[mode=%s] SQL 문/목록: %.2f, 상품 행당 읽은 바이트: %d%n", mode,
+                (double) statistics.getPrepareStatementCount() / count, rowBytes);
+        context.close();
+    }
+
+    @Benchmark
+    public void latestProducts(Blackhole blackhole) {
+        listings.increment();
+        PageRequest page = PageRequest.of(ThreadLocalRandom.current().nextInt(PAGES), PAGE_SIZE);
+        transactionTemplate.executeWithoutResult(status -> {
+            if ("card".equals(mode)) {
+                for (ProductCardResponse card : productRepository.findLatestCards(ProductStatus.PUBLISHED, page)) {
+                    blackhole.consume(card);
+                }
+                return;
+            }
+
+            EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+            List<Product> products = entityManager.createQuery(
+                            "SELECT p FROM Product p WHERE p.status = :status ORDER BY p.createdAt DESC", Product.class)
+                    .setParameter("status", ProductStatus.PUBLISHED)
+                    .setFirstResult((int) page.getOffset())
+                    .setMaxResults(page.getPageSize())
+                    .getResultList();
+            for (Product product : products) {
+                blackhole.consume(product.getDescription());
+                blackhole.consume(product.getImages());
+                blackhole.consume(product.getCategory() != null ? product.getCategory().getName() : null);
+                blackhole.consume(userRepository.findById(product.getSellerId()).map(User::getName).orElse(null));
+            }
+        });
+    }
+
+    /**
+     * 압축되지 않는 임의 설명 (length자)
+     */
+    private static String description(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.append((char) ('가' + random.nextInt(11_172)));
+            if (random.nextInt(6) == 0) {
+                builder.append(' ');
+            }
+        }
+        return builder.toString();
+    }
+}
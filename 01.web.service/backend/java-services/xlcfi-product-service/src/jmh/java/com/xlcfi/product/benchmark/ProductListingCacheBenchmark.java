@@ -0,0 +1,202 @@
+package com.xlcfi.product.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.domain.UserRole;
+import com.xlcfi.auth.repository.UserRepository;
+import com.xlcfi.common.dto.ApiResponse;
+import com.xlcfi.common.pagination.CountAccuracy;
+import com.xlcfi.common.pagination.CountedPage;
+import com.xlcfi.product.cache.ProductListingCacheFilter;
+import com.xlcfi.product.domain.Category;
+import com.xlcfi.product.domain.Product;
+import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.dto.ProductCardResponse;
+import com.xlcfi.product.repository.CategoryRepository;
+import com.xlcfi.product.repository.ProductRepository;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비로그인 최신 상품 목록 처리량 (응답 캐시 off / on)
+ *
+ * 내장 Tomcat에 GET /api/products/latest를 처리하는 서블릿(카드 조회 + ApiResponse JSON 직렬화)을 띄우고,
+ * 8개 스레드가 HTTP로 앞쪽 5개 페이지를 무작위로 요청합니다.
+ * listingCache=true이면 서블릿 앞에 {@link ProductListingCacheFilter}(ttl 2초)를 둡니다.
+ *
+ * 카드 쿼리는 PostgreSQL jsonb 함수를 사용하므로 PostgreSQL에서 실행합니다.
+ *
+ * ./gradlew :xlcfi-product-service:jmh -Pjmh.includes=ProductListingCacheBenchmark
+ *     -PbenchDbUrl=jdbc:postgresql://localhost:5432/xlcfi_bench -PbenchDbUsername=xlcfi_user -PbenchDbPassword=xlcfi_password
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ProductListingCacheBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+    private static final int SELLERS = 200;
+    private static final int CATEGORIES = 50;
+    private static final int PAGES = 5;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"false", "true"})
+    private boolean listingCache;
+
+    private AnnotationConfigApplicationContext context;
+    private Tomcat tomcat;
+    private HttpClient httpClient;
+    private String baseUri;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new AnnotationConfigApplicationContext();
+        ConfigurableEnvironment environment = context.getEnvironment();
+        environment.getPropertySources().addLast(new PropertiesPropertySource("application.yml",
+                ProductDetailBenchmark.serviceProperties()));
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("xlcfi.entity-cache.enabled", true)));
+        context.register(ProductDetailBenchmark.BenchmarkConfig.class);
+        context.refresh();
+        seed();
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("listing-cache-benchmark").toString());
+        tomcat.setPort(0);
+        Context servletContext = tomcat.addContext("", null);
+        Tomcat.addServlet(servletContext, "latest", new LatestProductsServlet(
+                context.getBean(ProductRepository.class), context.getBean(JpaTransactionManager.class)));
+        servletContext.addServletMappingDecoded("/api/products/latest", "latest");
+        if (listingCache) {
+            FilterDef filterDef = new FilterDef();
+            filterDef.setFilterName("listingCache");
+            filterDef.setFilter(new ProductListingCacheFilter(null, 2000, 1000, PAGES, 100, 3000));
+            servletContext.addFilterDef(filterDef);
+            FilterMap filterMap = new FilterMap();
+            filterMap.setFilterName("listingCache");
+            filterMap.addURLPattern("/api/products/*");
+            servletContext.addFilterMap(filterMap);
+        }
+        tomcat.start();
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        baseUri = "http://localhost:" + tomcat.getConnector().getLocalPort() + "/api/products/latest";
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        tomcat.stop();
+        tomcat.destroy();
+        context.close();
+    }
+
+    @Benchmark
+    public int latestProducts() throws Exception {
+        int page = ThreadLocalRandom.current().nextInt(PAGES);
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUri + "?page=" + page + "&size=" + PAGE_SIZE)).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("응답 상태 " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    private void seed() {
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        new TransactionTemplate(context.getBean(JpaTransactionManager.class)).executeWithoutResult(status -> {
+            List<Category> categories = new ArrayList<>();
+            for (int i = 0; i < CATEGORIES; i++) {
+                categories.add(categoryRepository.save(Category.builder().name("카테고리 " + i).build()));
+            }
+            List<Long> sellerIds = new ArrayList<>();
+            for (int i = 0; i < SELLERS; i++) {
+                sellerIds.add(userRepository.save(User.builder()
+                        .email("seller" + i + "@bench.xlcfi.com")
+                        .name("판매자 " + i)
+                        .role(UserRole.SELLER)
+                        .build()).getId());
+            }
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < PRODUCTS; i++) {
+                products.add(Product.builder()
+                        .sellerId(sellerIds.get(i % SELLERS))
+                        .category(categories.get(i % CATEGORIES))
+                        .name("벤치마크 상품 " + i)
+                        .price(BigDecimal.valueOf(1000 + i))
+                        .stockQuantity(100)
+                        .images(List.of("https://cdn.xlcfi.com/products/" + i + ".jpg"))
+                        .status(ProductStatus.PUBLISHED)
+                        .build());
+            }
+            productRepository.saveAll(products);
+        });
+        // 스키마는 Hibernate DDL로 만들므로 최신순 목록 인덱스(V3 마이그레이션)를 직접 생성
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_products_status_created_id"
+                + " ON products(status, created_at DESC, id DESC)");
+        jdbcTemplate.execute("ANALYZE products");
+    }
+
+    /**
+     * ProductController.getLatestProducts와 같은 응답 (카드 조회, 추정 개수, ApiResponse JSON)
+     */
+    private static final class LatestProductsServlet extends HttpServlet {
+
+        private final transient ProductRepository productRepository;
+        private final transient TransactionTemplate transactionTemplate;
+        private final transient ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        private LatestProductsServlet(ProductRepository productRepository, JpaTransactionManager transactionManager) {
+            this.productRepository = productRepository;
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+            this.transactionTemplate.setReadOnly(true);
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            PageRequest pageable = PageRequest.of(Integer.parseInt(request.getParameter("page")),
+                    Integer.parseInt(request.getParameter("size")));
+            List<ProductCardResponse> cards = transactionTemplate.execute(status ->
+                    productRepository.findLatestCards(ProductStatus.PUBLISHED, pageable));
+
+            response.setContentType("application/json");
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.success(
+                    new CountedPage<>(cards, pageable, PRODUCTS, CountAccuracy.ESTIMATED), "최신 상품 조회 성공"));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.xlcfi.product.benchmark;
+
+import com.xlcfi.product.search.ProductSearchDocument;
+import com.xlcfi.product.search.ProductSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 검색 색인 벤치마크 (상품 100만 건)
+ *
+ * 임의 상품으로 색인을 만들고, 검색어별 관련도순 첫 페이지(20건)와 전체 개수 조회 지연 시간을 측정합니다.
+ * - 상품명: 상품 단어 3~5개 (일부는 붙여 써서 복합어)
+ * - 설명: 빈도가 지프 분포를 따르는 임의 단어 20~60개와 상품 단어 일부
+ * 색인은 -Dbench.search.index-path 디렉터리(기본: 임시 디렉터리의 xlcfi-product-search-bench)에 한 번 만들어 재사용합니다.
+ *
+ * ./gradlew :xlcfi-product-service:jmh -Pjmh.includes=ProductSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class ProductSearchBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int BATCH = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DESCRIPTION_VOCABULARY = 20_000;
+
+    private static final String[] KOREAN = {
+            "무선", "블루투스", "이어폰", "헤드폰", "스피커", "노트북", "키보드", "마우스", "모니터", "충전기",
+            "케이블", "가방", "지갑", "운동화", "구두", "셔츠", "바지", "자켓", "코트", "모자",
+            "장갑", "양말", "시계", "반지", "목걸이", "화장품", "선크림", "샴푸", "비누", "수건",
+            "커피", "녹차", "과자", "라면", "김치", "쌀", "사과", "배", "귤", "딸기",
+            "냄비", "프라이팬", "접시", "컵", "텀블러", "의자", "책상", "침대", "이불", "베개",
+            "유아", "아동", "남성", "여성", "캠핑", "등산", "여행", "사무용", "주방용", "욕실용",
+            "휴대용", "방수", "초경량", "대용량", "고급", "천연", "유기농", "한정판", "신상품", "특가"};
+
+    private static final String[] ENGLISH = {
+            "wireless", "bluetooth", "earphones", "headphones", "speaker", "laptop", "keyboard", "mouse",
+            "monitor", "charger", "cable", "bag", "wallet", "sneakers", "shoes", "shirt", "pants", "jacket",
+            "coat", "hat", "gloves", "socks", "watch", "ring", "necklace", "cosmetics", "sunscreen", "shampoo",
+            "soap", "towel", "coffee", "tea", "snack", "noodles", "kimchi", "rice", "apple", "pear",
+            "tangerine", "strawberry", "pot", "pan", "plate", "cup", "tumbler", "chair", "desk", "bed",
+            "blanket", "pillow", "kids", "men", "women", "camping", "hiking", "travel", "office", "kitchen",
+            "bathroom", "portable", "waterproof", "lightweight", "large", "premium", "natural", "organic",
+            "limited", "new", "sale"};
+
+    /**
+     * 흔한 단어, 드문 조합, 복합어(형태소 분해), 부분 단어(2-gram), 영어 어형 변화
+     */
+    private static final String[] KEYWORDS = {
+            "블루투스 이어폰", "무선블루투스이어폰", "캠핑 의자", "유기농 녹차 선물", "방수 운동화",
+            "루투", "wireless earphone", "hiking shoes", "premium coffee", "텀블러"};
+
+    private ProductSearchIndex index;
+    private String[] descriptionWords;
+    private String[] descriptionWordsEn;
+    private double[] zipf;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path indexPath = Path.of(System.getProperty("bench.search.index-path",
+                Path.of(System.getProperty("java.io.tmpdir"), "xlcfi-product-search-bench").toString()));
+        Files.createDirectories(indexPath);
+        index = new ProductSearchIndex(indexPath);
+        if (index.watermark() != null && index.size() == PRODUCTS) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        index.deleteAll();
+        Random random = new Random(42);
+        vocabulary(random);
+        List<ProductSearchDocument> batch = new ArrayList<>(BATCH);
+        for (long id = 1; id <= PRODUCTS; id++) {
+            batch.add(ProductSearchDocument.builder()
+                    .id(id)
+                    .name(words(random, KOREAN, 3 + random.nextInt(3), random.nextInt(4) == 0 ? "" : " "))
+                    .nameEn(words(random, ENGLISH, 3 + random.nextInt(3), " "))
+                    .description(description(random, KOREAN, descriptionWords))
+                    .descriptionEn(description(random, ENGLISH, descriptionWordsEn))
+                    .searchable(true)
+                    .build());
+            if (batch.size() == BATCH) {
+                index.update(batch);
+                batch.clear();
+            }
+        }
+        index.commit(LocalDateTime.now());
+        System.out.printf("%n색인 생성: documents=%d, elapsed=%dms%n", index.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TearDown
+    public void tearDown() {
+        index.close();
+    }
+
+    @Benchmark
+    public void search(Blackhole blackhole) {
+        String keyword = KEYWORDS[ThreadLocalRandom.current().nextInt(KEYWORDS.length)];
+        blackhole.consume(index.search(keyword, 0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public void searchWithCount(Blackhole blackhole) {
+        String keyword = KEYWORDS[ThreadLocalRandom.current().nextInt(KEYWORDS.length)];
+        blackhole.consume(index.search(keyword, 0, PAGE_SIZE));
+        blackhole.consume(index.count(keyword));
+    }
+
+    /**
+     * 설명용 임의 단어 (한글 2~3음절, 영문 4~8자)와 순위별 누적 빈도 (지프 분포)
+     */
+    private void vocabulary(Random random) {
+        descriptionWords = new String[DESCRIPTION_VOCABULARY];
+        descriptionWordsEn = new String[DESCRIPTION_VOCABULARY];
+        zipf = new double[DESCRIPTION_VOCABULARY];
+        double sum = 0;
+        for (int i = 0; i < DESCRIPTION_VOCABULARY; i++) {
+            StringBuilder korean = new StringBuilder();
+            for (int n = 2 + random.nextInt(2); n > 0; n--) {
+                korean.append((char) ('가' + random.nextInt(11_172)));
+            }
+            StringBuilder english = new StringBuilder();
+            for (int n = 4 + random.nextInt(5); n > 0; n--) {
+                english.append((char) ('a' + random.nextInt(26)));
+            }
+            descriptionWords[i] = korean.toString();
+            descriptionWordsEn[i] = english.toString();
+            sum += 1.0 / (i + 1);
+            zipf[i] = sum;
+        }
+        for (int i = 0; i < DESCRIPTION_VOCABULARY; i++) {
+            zipf[i] /= sum;
+        }
+    }
+
+    /**
+     * 설명: 임의 단어 20~60개, 그중 약 5%는 상품 단어
+     */
+    private String description(Random random, String[] productWords, String[] vocabulary) {
+        int count = 20 + random.nextInt(40);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            if (random.nextInt(20) == 0) {
+                builder.append(productWords[random.nextInt(productWords.length)]);
+            } else {
+                int rank = Arrays.binarySearch(zipf, random.nextDouble());
+                builder.append(vocabulary[Math.min(rank < 0 ? -rank - 1 : rank, vocabulary.length - 1)]);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 단어 count개를 separator로 연결 (상품명은 일부를 붙여 써서 복합어로 만듦)
+     */
+    private static String words(Random random, String[] vocabulary, int count, String separator) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(separator);
+            }
+            builder.append(vocabulary[random.nextInt(vocabulary.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.xlcfi.product.benchmark;
+
+import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.domain.UserRole;
+import com.xlcfi.auth.repository.UserRepository;
+import com.xlcfi.product.domain.Product;
+import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.repository.ProductRepository;
+import com.xlcfi.product.view.ProductViewCounter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 상품 하나에 조회가 몰릴 때의 상품 상세 조회 처리량
+ *
+ * - update: 조회마다 읽기/쓰기 트랜잭션에서 view_count를 UPDATE (모든 조회가 한 행의 잠금에 줄을 섬)
+ * - counter: 읽기 전용 트랜잭션 + {@link ProductViewCounter} (메모리에 모았다가 1초마다 배치 UPDATE)
+ *
+ * ./gradlew :xlcfi-product-service:jmh -Pjmh.includes=ProductViewBenchmark
+ *     -PbenchDbUrl=jdbc:postgresql://localhost:5432/xlcfi_bench -PbenchDbUsername=xlcfi_user -PbenchDbPassword=xlcfi_password
+ *
+ * 종료 시 DB의 view_count가 실제 조회 수와 같은지 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ProductViewBenchmark {
+
+    @Param({"update", "counter"})
+    private String mode;
+
+    private AnnotationConfigApplicationContext context;
+    private ProductRepository productRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTemplate;
+    private TransactionTemplate readOnlyTemplate;
+    private ProductViewCounter viewCounter;
+    private final LongAdder views = new LongAdder();
+    private Long productId;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        ConfigurableEnvironment environment = context.getEnvironment();
+        environment.getPropertySources().addLast(new PropertiesPropertySource("application.yml",
+                ProductDetailBenchmark.serviceProperties()));
+        context.register(ProductDetailBenchmark.BenchmarkConfig.class);
+        context.refresh();
+
+        DataSource dataSource = context.getBean(DataSource.class);
+        productRepository = context.getBean(ProductRepository.class);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTemplate = new TransactionTemplate(context.getBean(JpaTransactionManager.class));
+        readOnlyTemplate = new TransactionTemplate(context.getBean(JpaTransactionManager.class));
+        readOnlyTemplate.setReadOnly(true);
+        // 방문자를 넘기지 않으므로 Redis는 사용하지 않음
+        viewCounter = new ProductViewCounter(dataSource, null, List.of(), 1000, 1, 60_000, 10_000);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        productId = readWriteTemplate.execute(status -> {
+            User seller = userRepository.save(User.builder()
+                    .email("seller@bench.xlcfi.com")
+                    .name("판매자")
+                    .role(UserRole.SELLER)
+                    .build());
+            return productRepository.save(Product.builder()
+                    .sellerId(seller.getId())
+                    .name("인기 상품")
+                    .price(BigDecimal.valueOf(10_000))
+                    .stockQuantity(100)
+                    .status(ProductStatus.PUBLISHED)
+                    .build()).getId();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        viewCounter.shutdown();
+        Long viewCount = jdbcTemplate.queryForObject(
+                "SELECT view_count FROM products WHERE id = ?", Long.class, productId);
+        System.out.printf("%n[%s] 조회 %d건, DB view_count %d%n", mode, views.sum(), viewCount);
+        context.close();
+    }
+
+    @Benchmark
+    public void view(Blackhole blackhole) {
+        views.increment();
+        if ("update".equals(mode)) {
+            readWriteTemplate.executeWithoutResult(status -> {
+                blackhole.consume(productRepository.findById(productId).orElseThrow().getName());
+                jdbcTemplate.update("UPDATE products SET view_count = view_count + 1 WHERE id = ?", productId);
+            });
+        } else {
+            readOnlyTemplate.executeWithoutResult(status -> {
+                blackhole.consume(productRepository.findById(productId).orElseThrow().getName());
+                viewCounter.record(productId, null);
+            });
+        }
+    }
+}
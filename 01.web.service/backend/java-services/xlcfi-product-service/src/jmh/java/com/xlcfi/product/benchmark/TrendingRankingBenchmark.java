@@ -0,0 +1,79 @@
+package com.xlcfi.product.benchmark;
+
+import com.xlcfi.product.trending.TrendingRanking;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 상품 점수 벤치마크 (점수가 있는 상품 100만 건, 카테고리 200개)
+ *
+ * - event: 이벤트 하나 반영 (상품은 Zipf 분포로 골라 소수 상품에 이벤트가 몰림)
+ * - snapshot: 전체/카테고리별 상위 100개 추출 (스냅숏 교체 주기마다 한 번)
+ *
+ * 점수 변경은 한 스레드에서만 하므로 단일 스레드로 측정합니다.
+ *
+ * ./gradlew :xlcfi-product-service:jmh -Pjmh.includes=TrendingRankingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+public class TrendingRankingBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int CATEGORIES = 200;
+    private static final int SAMPLES = 1 << 20;
+    private static final long HALF_LIFE = TimeUnit.HOURS.toMillis(6);
+
+    private TrendingRanking ranking;
+    private long[] productIds;
+    private long now;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        now = System.currentTimeMillis();
+        ranking = new TrendingRanking(HALF_LIFE, 100, 0.05, now);
+        Random random = new Random(42);
+        for (long id = 1; id <= PRODUCTS; id++) {
+            ranking.add(id, category(id), 1 + random.nextInt(10), now - random.nextInt((int) HALF_LIFE));
+        }
+        productIds = zipfSamples(random);
+    }
+
+    @Benchmark
+    public void event() {
+        long productId = productIds[next++ & (SAMPLES - 1)];
+        // 1ms 간격으로 이벤트 발생
+        ranking.add(productId, category(productId), 1, now++);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object snapshot() {
+        List<Long> overall = ranking.top();
+        Map<Long, List<Long>> byCategory = ranking.topByCategory();
+        return overall.size() + byCategory.size();
+    }
+
+    private static long category(long productId) {
+        return 1 + productId % CATEGORIES;
+    }
+
+    /**
+     * 인기 순위 k의 상품이 1/k에 비례해 뽑히도록 만든 상품 ID (근사)
+     */
+    private static long[] zipfSamples(Random random) {
+        long[] samples = new long[SAMPLES];
+        double harmonic = Math.log(PRODUCTS) + 0.5772;
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = Math.min(PRODUCTS, (long) Math.exp(random.nextDouble() * harmonic));
+        }
+        return samples;
+    }
+}
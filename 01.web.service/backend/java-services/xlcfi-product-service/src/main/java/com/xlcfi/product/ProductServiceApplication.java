@@ -2,11 +2,25 @@ package com.xlcfi.product;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.kafka.annotation.EnableKafka;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {
+    "com.xlcfi.product",
+    "com.xlcfi.common"
+})
+// 다른 서비스 모듈의 엔티티/리포지토리 포함 (판매자 조회, 카드 조회의 판매자 이름 조인)
+@EntityScan(basePackages = {
+    "com.xlcfi.product",
+    "com.xlcfi.auth.domain"
+})
+@EnableJpaRepositories(basePackages = {
+    "com.xlcfi.product.repository",
+    "com.xlcfi.auth.repository"
+})
 @EnableJpaAuditing
 @EnableCaching
 @EnableKafka
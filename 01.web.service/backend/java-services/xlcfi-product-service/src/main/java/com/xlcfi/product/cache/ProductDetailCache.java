@@ -0,0 +1,299 @@
+package com.xlcfi.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.xlcfi.common.cache.CacheInvalidationHandler;
+import com.xlcfi.product.dto.ProductResponse;
+import com.xlcfi.product.repository.ProductRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 상세 캐시 (L1 노드 메모리 + L2 Redis)
+ *
+ * - L1에 없으면 L2, L2에도 없으면 DB에서 읽고 L2에 저장합니다. 같은 상품을 동시에 요청해도 노드당 한 번만 읽습니다.
+ * - L1 항목이 refresh-after를 지나면 이전 값을 그대로 주면서 백그라운드에서 DB를 다시 읽어 L1과 L2를 갱신합니다.
+ * - 상품을 변경하면 커밋 후 {@link #evict}로 L2와 L1에서 제거하고, 다른 노드는 캐시 무효화 버스로 제거합니다.
+ *   상품 이벤트를 받으면 {@link ProductEventCacheEvictor}가 한 번 더 제거합니다 (지연 이중 삭제).
+ * - 제거보다 먼저 시작된 DB 조회는 이전 값을 읽었을 수 있으므로 L2에 저장하지 않습니다.
+ * - 없는 상품도 missing-ttl 동안 L1/L2에 기록해 두어 같은 ID의 반복 요청이 DB로 가지 않도록 합니다.
+ *   카테고리/판매자 이름 변경은 갱신 주기와 TTL로 반영됩니다.
+ *
+ * 지표: cache.gets 등 (cache=productDetail, L1), xlcfi.product.cache.redis (L2 적중/실패),
+ * xlcfi.product.cache.load (L2/DB 조회 시간)
+ */
+@Slf4j
+@Service
+public class ProductDetailCache implements CacheInvalidationHandler {
+
+    private static final String KEY_PREFIX = "product:detail:";
+    private static final String CACHE_NAME = "productDetail";
+    private static final String LOAD_TIMER = "xlcfi.product.cache.load";
+
+    // 없는 상품 (L1에는 이 객체, L2에는 MISSING_JSON으로 기록)
+    private static final ProductResponse MISSING = ProductResponse.builder().build();
+    private static final String MISSING_JSON = "null";
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration redisTtl;
+    private final Duration missingTtl;
+    private final ExecutorService refresher;
+    private final LoadingCache<Long, ProductResponse> entries;
+
+    // 상품 ID별 마지막 제거 시각 (System.nanoTime, 이후에 시작한 조회만 L2에 저장)
+    private final Cache<Long, Long> evictedAt;
+
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder redisErrors = new LongAdder();
+
+    public ProductDetailCache(
+            ProductRepository productRepository,
+            PlatformTransactionManager transactionManager,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${xlcfi.product-cache.maximum-size:10000}") long maximumSize,
+            @Value("${xlcfi.product-cache.local-ttl:60000}") long localTtlMillis,
+            @Value("${xlcfi.product-cache.refresh-after:45000}") long refreshAfterMillis,
+            @Value("${xlcfi.product-cache.redis-ttl:600000}") long redisTtlMillis,
+            @Value("${xlcfi.product-cache.missing-ttl:5000}") long missingTtlMillis) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        this.redisTtl = Duration.ofMillis(redisTtlMillis);
+        this.missingTtl = Duration.ofMillis(missingTtlMillis);
+        // 제거 시각은 조회 1번이 걸리는 시간보다 충분히 오래 보관
+        this.evictedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Math.max(localTtlMillis, 60_000), TimeUnit.MILLISECONDS)
+                .build();
+        // 만료 직전 갱신은 이 스레드에서 DB 조회
+        this.refresher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-cache-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(expiry(TimeUnit.MILLISECONDS.toNanos(localTtlMillis), missingTtl.toNanos()))
+                .refreshAfterWrite(refreshAfterMillis, TimeUnit.MILLISECONDS)
+                .executor(refresher)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public ProductResponse load(Long productId) {
+                        return loadFromRedisOrDatabase(productId);
+                    }
+
+                    @Override
+                    public ProductResponse reload(Long productId, ProductResponse oldValue) {
+                        // L2도 곧 만료될 값이므로 DB에서 다시 읽음
+                        return loadFromDatabase(productId);
+                    }
+                });
+        if (this.meterRegistry != null) {
+            registerMetrics(this.meterRegistry);
+        }
+    }
+
+    /**
+     * 상품 상세 조회 (없으면 null)
+     * 반환값은 캐시와 공유하므로 변경하지 말고 복사해서 사용합니다.
+     */
+    public ProductResponse get(Long productId) {
+        ProductResponse response = entries.get(productId);
+        return response != MISSING ? response : null;
+    }
+
+    /**
+     * 상품 캐시 제거
+     * 트랜잭션 안에서 호출하면 커밋 후에 제거합니다 (커밋 전 조회가 이전 값을 다시 캐시하지 않도록).
+     */
+    public void evict(Long productId) {
+        evictAll(List.of(productId));
+    }
+
+    /**
+     * 여러 상품 캐시 제거 ({@link #evict}와 같이 트랜잭션 안에서는 커밋 후 제거)
+     */
+    public void evictAll(Collection<Long> productIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(productIds);
+                }
+            });
+            return;
+        }
+        remove(productIds);
+    }
+
+    @Override
+    public Set<String> tables() {
+        return Set.of("products");
+    }
+
+    @Override
+    public void invalidate(String table, Set<Long> ids) {
+        remove(ids);
+    }
+
+    /**
+     * 알림을 놓쳤을 수 있으므로 L1을 비움 (L2는 키를 모두 찾을 수 없으므로 TTL로 만료)
+     */
+    @Override
+    public void invalidateAll(String table) {
+        entries.invalidateAll();
+        log.debug("상품 상세 캐시 비움");
+    }
+
+    /**
+     * L2를 먼저 지워야 L1 재조회가 L2의 이전 값을 가져오지 않음
+     */
+    private void remove(Collection<Long> productIds) {
+        long now = System.nanoTime();
+        productIds.forEach(productId -> evictedAt.put(productId, now));
+        try {
+            redisTemplate.delete(productIds.stream().map(ProductDetailCache::key).toList());
+        } catch (DataAccessException e) {
+            log.warn("상품 상세 캐시(Redis) 제거 실패: productIds={}, error={}", productIds, e.getMessage());
+        }
+        entries.invalidateAll(productIds);
+    }
+
+    private ProductResponse loadFromRedisOrDatabase(Long productId) {
+        long startedAt = System.nanoTime();
+        try {
+            String json = redisTemplate.opsForValue().get(key(productId));
+            if (json != null) {
+                ProductResponse cached = MISSING_JSON.equals(json)
+                        ? MISSING
+                        : objectMapper.readValue(json, ProductResponse.class);
+                redisHits.increment();
+                recordLoad("redis", startedAt);
+                return cached;
+            }
+            redisMisses.increment();
+        } catch (DataAccessException | JsonProcessingException e) {
+            // Redis 장애 시 DB에서 읽음
+            redisErrors.increment();
+            log.warn("상품 상세 캐시(Redis) 조회 실패: productId={}, error={}", productId, e.getMessage());
+        }
+        return loadFromDatabase(productId);
+    }
+
+    private ProductResponse loadFromDatabase(Long productId) {
+        long startedAt = System.nanoTime();
+        ProductResponse response = transactionTemplate.execute(status ->
+                productRepository.findById(productId).map(ProductResponse::from).orElse(MISSING));
+        recordLoad("database", startedAt);
+
+        // 조회 중에 제거됐으면 이전 값일 수 있으므로 L2에 저장하지 않음 (L1은 Caffeine이 제거 후 값을 버림)
+        Long evicted = evictedAt.getIfPresent(productId);
+        if (evicted != null && evicted - startedAt >= 0) {
+            log.debug("상품 상세 캐시(Redis) 저장 생략 (조회 중 제거됨): productId={}", productId);
+            return response;
+        }
+
+        try {
+            if (response == MISSING) {
+                redisTemplate.opsForValue().set(key(productId), MISSING_JSON, missingTtl);
+            } else {
+                redisTemplate.opsForValue().set(key(productId), objectMapper.writeValueAsString(response), redisTtl);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("상품 상세 캐시(Redis) 저장 실패: productId={}, error={}", productId, e.getMessage());
+        }
+        return response;
+    }
+
+    /**
+     * 없는 상품은 missing-ttl, 나머지는 local-ttl 동안 L1에 보관
+     */
+    private static Expiry<Long, ProductResponse> expiry(long localTtlNanos, long missingTtlNanos) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Long productId, ProductResponse response, long currentTime) {
+                return response == MISSING ? missingTtlNanos : localTtlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Long productId, ProductResponse response, long currentTime,
+                                          long currentDuration) {
+                return expireAfterCreate(productId, response, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(Long productId, ProductResponse response, long currentTime,
+                                        long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private void recordLoad(String source, long startedAtNanos) {
+        if (meterRegistry != null) {
+            meterRegistry.timer(LOAD_TIMER, "source", source)
+                    .record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String key(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, entries, CACHE_NAME);
+        FunctionCounter.builder("xlcfi.product.cache.redis", redisHits, LongAdder::sum)
+                .description("L1에 없는 상품 상세의 Redis 조회 결과")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("xlcfi.product.cache.redis", redisMisses, LongAdder::sum)
+                .description("L1에 없는 상품 상세의 Redis 조회 결과")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("xlcfi.product.cache.redis", redisErrors, LongAdder::sum)
+                .description("L1에 없는 상품 상세의 Redis 조회 결과")
+                .tag("result", "error")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,53 @@
+package com.xlcfi.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xlcfi.common.outbox.OutboxEvent;
+import com.xlcfi.common.outbox.OutboxEventListener;
+import com.xlcfi.product.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품 이벤트 캐시 제거 (지연 이중 삭제)
+ *
+ * 상품 변경 커밋 직후의 제거와 이벤트 전달 사이에, 변경 전 값을 읽은 조회가 L2에 다시 저장했을 수 있으므로
+ * 상품 이벤트(PRODUCT_*)를 받으면 상세 캐시를 한 번 더 제거합니다. 제거는 몇 번 해도 같으므로 다시 받아도 안전합니다.
+ * 다른 서비스는 Kafka 싱크가 켜져 있으면 xlcfi.product 토픽으로 같은 이벤트를 받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductEventCacheEvictor implements OutboxEventListener {
+
+    private final ProductDetailCache productDetailCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(OutboxEvent event) {
+        return ProductService.AGGREGATE_TYPE.equals(event.getAggregateType());
+    }
+
+    @Override
+    public void onEvents(List<OutboxEvent> events) {
+        List<Long> productIds = events.stream()
+                .map(this::productId)
+                .distinct()
+                .toList();
+
+        // 릴레이 트랜잭션(이벤트 삭제)이 커밋된 뒤 제거
+        productDetailCache.evictAll(productIds);
+        log.debug("상품 상세 캐시 이중 삭제: 이벤트 {}건, 상품 {}건", events.size(), productIds.size());
+    }
+
+    private Long productId(OutboxEvent event) {
+        try {
+            return objectMapper.readTree(event.getPayload()).path("productId").asLong();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("상품 이벤트 페이로드를 읽을 수 없습니다: eventId=" + event.getId(), e);
+        }
+    }
+}
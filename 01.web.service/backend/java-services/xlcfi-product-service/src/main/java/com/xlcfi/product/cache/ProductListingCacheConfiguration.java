@@ -0,0 +1,35 @@
+package com.xlcfi.product.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 비로그인 상품 목록 응답 캐시 필터 등록
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "xlcfi.listing-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductListingCacheConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<ProductListingCacheFilter> productListingCacheFilter(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${xlcfi.listing-cache.ttl:2000}") long ttlMillis,
+            @Value("${xlcfi.listing-cache.maximum-entries:1000}") long maximumEntries,
+            @Value("${xlcfi.listing-cache.max-page:5}") int maxPage,
+            @Value("${xlcfi.listing-cache.max-size:100}") int maxSize,
+            @Value("${xlcfi.listing-cache.wait-timeout:3000}") long waitTimeoutMillis) {
+        FilterRegistrationBean<ProductListingCacheFilter> registration = new FilterRegistrationBean<>(
+                new ProductListingCacheFilter(meterRegistry.getIfAvailable(), ttlMillis, maximumEntries,
+                        maxPage, maxSize, waitTimeoutMillis));
+        registration.addUrlPatterns("/api/products", "/api/products/*");
+        // Spring Security 필터 다음에 실행 (보안 검사는 캐시 적중 시에도 적용)
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
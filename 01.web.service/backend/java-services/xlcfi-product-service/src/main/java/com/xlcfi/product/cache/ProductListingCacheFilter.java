@@ -0,0 +1,297 @@
+package com.xlcfi.product.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 비로그인 상품 목록 응답 캐시 (마이크로 캐시)
+ *
+ * 비로그인 사용자의 앞쪽 목록 페이지는 누구에게나 같으므로 직렬화된 JSON 응답을 ttl(1~5초) 동안 보관합니다.
+ * 적중하면 컨트롤러, DB 조회, JSON 직렬화 없이 저장된 바이트를 그대로 씁니다.
+ * 같은 키의 요청이 동시에 들어오면 하나만 처리하고 나머지는 그 응답을 기다려 함께 씁니다.
+ *
+ * - 대상: GET /api/products, /latest, /top-rated, /category/{categoryId} (Authorization 헤더가 없는 요청)
+ * - 키: 경로, page, size, sort (다른 쿼리 파라미터는 목록에 영향이 없으므로 제외)
+ *   sort는 Spring Data와 같이 해석해 정규화하므로 sort 생략, createdAt,desc, createdAt,DESC는 같은 키입니다.
+ * - 200 응답만 보관하며, 응답의 timestamp와 목록은 최대 ttl만큼 늦을 수 있습니다.
+ * - 응답 헤더(Vary, Cache-Control 등)도 함께 보관합니다 (Set-Cookie 등 요청마다 다른 헤더 제외).
+ *
+ * 지표: xlcfi.product.listing.cache (result=hit|miss|coalesced), xlcfi.product.listing.cache.size
+ */
+@Slf4j
+public class ProductListingCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern CACHEABLE_PATH =
+            Pattern.compile("/api/products(/latest|/top-rated|/category/\\d+)?");
+
+    /**
+     * 컨트롤러의 @PageableDefault(size = 20)
+     */
+    private static final int DEFAULT_SIZE = 20;
+
+    /**
+     * sort를 지정하지 않았을 때 컨트롤러의 @PageableDefault 정렬 (전체, 카테고리별 목록만 지정)
+     */
+    private static final Pattern CREATED_AT_DEFAULT_PATH = Pattern.compile("/api/products(/category/\\d+)?");
+    private static final String CREATED_AT_DESC = "createdAt,DESC";
+
+    /**
+     * 보관하지 않는 응답 헤더 (요청마다 다르거나 서블릿 컨테이너가 설정)
+     */
+    private static final Set<String> EXCLUDED_HEADERS = caseInsensitive(
+            HttpHeaders.SET_COOKIE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.TRANSFER_ENCODING, HttpHeaders.DATE, HttpHeaders.CONNECTION);
+
+    private final AsyncCache<String, CachedResponse> responses;
+    private final int maxPage;
+    private final int maxSize;
+    private final long waitTimeoutMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param maxPage 이 페이지 번호 미만만 캐시 (0부터)
+     * @param maxSize 페이지 크기가 이보다 크면 캐시하지 않음
+     * @param waitTimeoutMillis 같은 키를 처리 중인 요청을 기다리는 최대 시간 (넘으면 직접 처리)
+     */
+    public ProductListingCacheFilter(MeterRegistry meterRegistry, long ttlMillis, long maximumEntries,
+                                     int maxPage, int maxSize, long waitTimeoutMillis) {
+        // 처리 중인 항목은 만료되지 않고, 응답이 완료된 시점부터 ttl이 지나면 만료
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumEntries)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .buildAsync();
+        this.maxPage = maxPage;
+        this.maxSize = maxSize;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        if (meterRegistry != null) {
+            registerMetrics(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                || !CACHEABLE_PATH.matcher(path(request)).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String key = key(request);
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CompletableFuture<CachedResponse> loading = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> cached = responses.get(key, (k, executor) -> loading);
+        if (cached != loading) {
+            (cached.isDone() ? hits : coalesced).increment();
+            CachedResponse shared = await(cached);
+            if (shared != null) {
+                shared.writeTo(response);
+                return;
+            }
+            // 먼저 처리한 요청이 실패했거나 오래 걸리면 직접 처리
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        misses.increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        CachedResponse result = null;
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK) {
+                result = new CachedResponse(wrapper.getContentType(), headers(wrapper), wrapper.getContentAsByteArray());
+            }
+        } finally {
+            // null로 완료하면 캐시에서 제거되고, 기다리던 요청은 각자 처리
+            loading.complete(result);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * 정규화한 캐시 키 (캐시하지 않을 요청이면 null)
+     */
+    private String key(HttpServletRequest request) {
+        int page = intParameter(request, "page", 0);
+        int size = intParameter(request, "size", DEFAULT_SIZE);
+        if (page < 0 || page >= maxPage || size < 1 || size > maxSize) {
+            return null;
+        }
+
+        String path = path(request);
+        String sort = sort(path, request.getParameterValues("sort"));
+        if (sort == null) {
+            return null;
+        }
+        return path + "?page=" + page + "&size=" + size + "&sort=" + sort;
+    }
+
+    /**
+     * 정규화한 정렬 ("속성,방향;..."으로, 방향 생략은 ASC, 정렬이 없으면 @PageableDefault 정렬)
+     * SortHandlerMethodArgumentResolver와 같이 값마다 마지막 항목이 방향이면 앞의 속성들에 적용합니다.
+     * 대소문자 무시(ignorecase) 정렬은 캐시하지 않습니다 (null).
+     */
+    private static String sort(String path, String[] sorts) {
+        List<String> orders = new ArrayList<>();
+        if (sorts != null) {
+            for (String sort : sorts) {
+                if (sort.toLowerCase(Locale.ROOT).contains("ignorecase")) {
+                    return null;
+                }
+                String[] elements = sort.split(",");
+                String direction = elements.length > 0 ? direction(elements[elements.length - 1]) : null;
+                int properties = direction != null ? elements.length - 1 : elements.length;
+                for (int i = 0; i < properties; i++) {
+                    // Spring Data와 같이 공백을 제거하지 않음 (공백이 있으면 다른 속성)
+                    if (!elements[i].isBlank()) {
+                        orders.add(elements[i] + "," + (direction != null ? direction : "ASC"));
+                    }
+                }
+            }
+        }
+        if (orders.isEmpty()) {
+            return CREATED_AT_DEFAULT_PATH.matcher(path).matches() ? CREATED_AT_DESC : "";
+        }
+        return String.join(";", orders);
+    }
+
+    /**
+     * 정렬 방향 (대소문자 무시, 방향이 아니면 null)
+     */
+    private static String direction(String value) {
+        String direction = value.toUpperCase(Locale.ROOT);
+        return "ASC".equals(direction) || "DESC".equals(direction) ? direction : null;
+    }
+
+    /**
+     * 보관할 응답 헤더
+     */
+    private static HttpHeaders headers(HttpServletResponse response) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : response.getHeaderNames()) {
+            if (!EXCLUDED_HEADERS.contains(name)) {
+                headers.addAll(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private static Set<String> caseInsensitive(String... names) {
+        Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(List.of(names));
+        return set;
+    }
+
+    /**
+     * 정수 파라미터 (없으면 기본값, 숫자가 아니면 -1)
+     */
+    private static int intParameter(HttpServletRequest request, String name, int defaultValue) {
+        String value = request.getParameter(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private CachedResponse await(CompletableFuture<CachedResponse> future) {
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("상품 목록 응답 캐시 대기 실패: {}", e.toString());
+            return null;
+        }
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("xlcfi.product.listing.cache", hits, LongAdder::sum)
+                .description("비로그인 상품 목록 응답 캐시 요청 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("xlcfi.product.listing.cache", misses, LongAdder::sum)
+                .description("비로그인 상품 목록 응답 캐시 요청 수")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("xlcfi.product.listing.cache", coalesced, LongAdder::sum)
+                .description("비로그인 상품 목록 응답 캐시 요청 수")
+                .tag("result", "coalesced")
+                .register(registry);
+        Gauge.builder("xlcfi.product.listing.cache.size", responses, cache -> cache.synchronous().estimatedSize())
+                .description("보관 중인 목록 응답 수")
+                .register(registry);
+    }
+
+    /**
+     * 직렬화된 응답
+     */
+    private static final class CachedResponse {
+
+        private final String contentType;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        private CachedResponse(String contentType, HttpHeaders headers, byte[] body) {
+            this.contentType = contentType;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        private void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(HttpServletResponse.SC_OK);
+            // 앞선 필터가 이미 설정한 헤더는 보관된 값으로 바꿈
+            headers.forEach((name, values) -> {
+                response.setHeader(name, values.get(0));
+                values.stream().skip(1).forEach(value -> response.addHeader(name, value));
+            });
+            response.setContentType(contentType);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
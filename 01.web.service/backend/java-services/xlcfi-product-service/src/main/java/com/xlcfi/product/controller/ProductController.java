@@ -1,10 +1,20 @@
 package com.xlcfi.product.controller;
 
+import com.xlcfi.common.concurrency.ConcurrencyLimit;
+import com.xlcfi.common.concurrency.ConcurrencyPriority;
 import com.xlcfi.common.dto.ApiResponse;
+import com.xlcfi.common.pagination.CursorPage;
+import com.xlcfi.common.ratelimit.RateLimitPolicy;
 import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.facet.ProductFacetFilter;
+import com.xlcfi.product.facet.ProductFacetService;
+import com.xlcfi.product.dto.ProductCardResponse;
+import com.xlcfi.product.dto.ProductFacetResponse;
 import com.xlcfi.product.dto.ProductRequest;
 import com.xlcfi.product.dto.ProductResponse;
+import com.xlcfi.product.dto.ProductViewerResponse;
 import com.xlcfi.product.service.ProductService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,10 +22,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
 /**
  * 상품 관련 REST API 컨트롤러
  */
@@ -26,6 +42,7 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductFacetService productFacetService;
 
     /**
      * 상품 등록
@@ -104,29 +121,66 @@ public class ProductController {
      */
     @GetMapping("/{productId}")
     public ResponseEntity<ApiResponse<ProductResponse>> getProduct(
-            @PathVariable Long productId) {
+            @PathVariable Long productId,
+            @RequestAttribute(value = "userId", required = false) Long userId,
+            HttpServletRequest request) {
         
         log.info("상품 조회 요청: productId={}", productId);
         
-        ProductResponse product = productService.getProduct(productId);
+        ProductResponse product = productService.getProduct(productId, viewer(userId, request));
         
         return ResponseEntity.ok(
                 ApiResponse.success(product, "상품 조회 성공"));
     }
 
+    /**
+     * 상품 일별 순 방문자 수 (추정치)
+     * GET /api/products/{productId}/viewers?date=2024-01-31
+     */
+    @GetMapping("/{productId}/viewers")
+    public ResponseEntity<ApiResponse<ProductViewerResponse>> getUniqueViewers(
+            @PathVariable Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        
+        log.info("상품 순 방문자 조회 요청: productId={}, date={}", productId, date);
+        
+        ProductViewerResponse viewers = productService.getUniqueViewers(
+                productId, date != null ? date : LocalDate.now());
+        
+        return ResponseEntity.ok(
+                ApiResponse.success(viewers, "상품 순 방문자 조회 성공"));
+    }
+
     /**
      * 상품 목록 조회 (전체)
      * GET /api/products?page=0&size=20
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<ProductResponse>>> getProducts(
+    public ResponseEntity<ApiResponse<Page<ProductCardResponse>>> getProducts(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) 
             Pageable pageable) {
         
         log.info("상품 목록 조회 요청: page={}, size={}", 
                 pageable.getPageNumber(), pageable.getPageSize());
         
-        Page<ProductResponse> products = productService.getProducts(pageable);
+        Page<ProductCardResponse> products = productService.getProducts(pageable);
+        
+        return ResponseEntity.ok(
+                ApiResponse.success(products, "상품 목록 조회 성공"));
+    }
+
+    /**
+     * 상품 목록 조회 (전체, 커서 기반)
+     * GET /api/products/cursor?cursor={nextCursor}&size=20
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ProductResponse>>> getProductsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("상품 목록 커서 조회 요청: size={}", size);
+        
+        CursorPage<ProductResponse> products = productService.getProductsByCursor(cursor, size);
         
         return ResponseEntity.ok(
                 ApiResponse.success(products, "상품 목록 조회 성공"));
@@ -137,14 +191,33 @@ public class ProductController {
      * GET /api/products/category/{categoryId}?page=0&size=20
      */
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<ApiResponse<Page<ProductResponse>>> getProductsByCategory(
+    public ResponseEntity<ApiResponse<Page<ProductCardResponse>>> getProductsByCategory(
             @PathVariable Long categoryId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) 
             Pageable pageable) {
         
         log.info("카테고리별 상품 조회 요청: categoryId={}", categoryId);
         
-        Page<ProductResponse> products = productService.getProductsByCategory(categoryId, pageable);
+        Page<ProductCardResponse> products = productService.getProductsByCategory(categoryId, pageable);
+        
+        return ResponseEntity.ok(
+                ApiResponse.success(products, "카테고리별 상품 조회 성공"));
+    }
+
+    /**
+     * 카테고리별 상품 조회 (커서 기반)
+     * GET /api/products/category/{categoryId}/cursor?cursor={nextCursor}&size=20
+     */
+    @GetMapping("/category/{categoryId}/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ProductResponse>>> getProductsByCategoryCursor(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("카테고리별 상품 커서 조회 요청: categoryId={}", categoryId);
+        
+        CursorPage<ProductResponse> products = 
+                productService.getProductsByCategoryCursor(categoryId, cursor, size);
         
         return ResponseEntity.ok(
                 ApiResponse.success(products, "카테고리별 상품 조회 성공"));
@@ -155,48 +228,80 @@ public class ProductController {
      * GET /api/products/seller/{sellerId}?page=0&size=20
      */
     @GetMapping("/seller/{sellerId}")
-    public ResponseEntity<ApiResponse<Page<ProductResponse>>> getProductsBySeller(
+    public ResponseEntity<ApiResponse<Page<ProductCardResponse>>> getProductsBySeller(
             @PathVariable Long sellerId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) 
             Pageable pageable) {
         
         log.info("판매자별 상품 조회 요청: sellerId={}", sellerId);
         
-        Page<ProductResponse> products = productService.getProductsBySeller(sellerId, pageable);
+        Page<ProductCardResponse> products = productService.getProductsBySeller(sellerId, pageable);
         
         return ResponseEntity.ok(
                 ApiResponse.success(products, "판매자별 상품 조회 성공"));
     }
 
     /**
-     * 상품 검색
+     * 상품 검색 (관련도순, 정렬 파라미터는 사용하지 않음)
      * GET /api/products/search?keyword={keyword}&page=0&size=20
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<ProductResponse>>> searchProducts(
+    public ResponseEntity<ApiResponse<Page<ProductCardResponse>>> searchProducts(
             @RequestParam String keyword,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) 
-            Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable) {
         
         log.info("상품 검색 요청: keyword={}", keyword);
         
-        Page<ProductResponse> products = productService.searchProducts(keyword, pageable);
+        Page<ProductCardResponse> products = productService.searchProducts(keyword, pageable);
         
         return ResponseEntity.ok(
                 ApiResponse.success(products, "상품 검색 성공"));
     }
 
     /**
-     * 인기 상품 조회 (조회수 기준)
-     * GET /api/products/popular?page=0&size=20
+     * 상품 필터 조회 (최신순 목록과 필터 값별 상품 수)
+     * GET /api/products/browse?categoryId=1&categoryId=2&currency=KRW&minPrice=10000&maxPrice=50000
+     *     &minRating=4&inStock=true&page=0&size=20
+     */
+    @GetMapping("/browse")
+    public ResponseEntity<ApiResponse<ProductFacetResponse>> browseProducts(
+            @RequestParam(name = "categoryId", required = false) Set<Long> categoryIds,
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer minRating,
+            @RequestParam(required = false) Boolean inStock,
+            @PageableDefault(size = 20) Pageable pageable) {
+
+        log.info("상품 필터 조회 요청: categoryIds={}, currency={}, price={}~{}, minRating={}, inStock={}",
+                categoryIds, currency, minPrice, maxPrice, minRating, inStock);
+
+        ProductFacetResponse response = productFacetService.browse(ProductFacetFilter.builder()
+                .categoryIds(categoryIds)
+                .currency(currency)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minRating(minRating)
+                .inStock(inStock)
+                .build(), pageable);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(response, "상품 필터 조회 성공"));
+    }
+
+    /**
+     * 인기 상품 조회 (최근 조회/주문/리뷰 기준, 시간이 지날수록 점수 감소)
+     * GET /api/products/popular?categoryId=1&page=0&size=20
      */
     @GetMapping("/popular")
-    public ResponseEntity<ApiResponse<Page<ProductResponse>>> getPopularProducts(
+    @ConcurrencyLimit(priority = ConcurrencyPriority.LOW)
+    public ResponseEntity<ApiResponse<Page<ProductCardResponse>>> getPopularProducts(
+            @RequestParam(required = false) Long categoryId,
             @PageableDefault(size = 20) Pageable pageable) {
         
-        log.info("인기 상품 조회 요청");
+        log.info("인기 상품 조회 요청: categoryId={}", categoryId);
         
-        Page<ProductResponse> products = productService.getPopularProducts(pageable);
+        Page<ProductCardResponse> products = productService.getPopularProducts(categoryId, pageable);
         
         return ResponseEntity.ok(
                 ApiResponse.success(products, "인기 상품 조회 성공"));
@@ -207,12 +312,12 @@ public class ProductController {
      * GET /api/products/top-rated?page=0&size=20
      */
     @GetMapping("/top-rated")
-    public ResponseEntity<ApiResponse<Page<ProductResponse>>> getTopRatedProducts(
+    public ResponseEntity<ApiResponse<Page<ProductCardResponse>>> getTopRatedProducts(
             @PageableDefault(size = 20) Pageable pageable) {
         
         log.info("평점 높은 상품 조회 요청");
         
-        Page<ProductResponse> products = productService.getTopRatedProducts(pageable);
+        Page<ProductCardResponse> products = productService.getTopRatedProducts(pageable);
         
         return ResponseEntity.ok(
                 ApiResponse.success(products, "평점 높은 상품 조회 성공"));
@@ -223,15 +328,25 @@ public class ProductController {
      * GET /api/products/latest?page=0&size=20
      */
     @GetMapping("/latest")
-    public ResponseEntity<ApiResponse<Page<ProductResponse>>> getLatestProducts(
+    public ResponseEntity<ApiResponse<Page<ProductCardResponse>>> getLatestProducts(
             @PageableDefault(size = 20) Pageable pageable) {
         
         log.info("최신 상품 조회 요청");
         
-        Page<ProductResponse> products = productService.getLatestProducts(pageable);
+        Page<ProductCardResponse> products = productService.getLatestProducts(pageable);
         
         return ResponseEntity.ok(
                 ApiResponse.success(products, "최신 상품 조회 성공"));
     }
-}
 
+    /**
+     * 순 방문자 집계용 방문자 식별자 (로그인 사용자는 ID, 비로그인은 클라이언트 IP와 User-Agent)
+     */
+    private static String viewer(Long userId, HttpServletRequest request) {
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        return "anonymous:" + RateLimitPolicy.clientIp(request) + ":" + (userAgent != null ? userAgent : "");
+    }
+}
@@ -4,6 +4,8 @@ import com.xlcfi.common.entity.BaseEntity;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Type;
 import org.hibernate.annotations.Where;
 
@@ -14,6 +16,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -22,7 +26,8 @@ import java.util.List;
 public class Product extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_id_seq")
+    @SequenceGenerator(name = "products_id_seq", sequenceName = "products_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "seller_id", nullable = false)
@@ -106,6 +111,16 @@ public class Product extends BaseEntity {
         this.images = images;
     }
     
+    public void updateCurrency(String currency) {
+        if (currency != null) {
+            this.currency = currency;
+        }
+    }
+    
+    public void changeStatus(ProductStatus status) {
+        this.status = status;
+    }
+    
     public void increaseStock(int quantity) {
         this.stockQuantity += quantity;
     }
@@ -25,7 +25,6 @@ public class CategoryResponse {
     private Integer sortOrder;
     private List<CategoryResponse> children;
     private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
 
     public static CategoryResponse from(Category category) {
         return CategoryResponse.builder()
@@ -39,7 +38,6 @@ public class CategoryResponse {
                         .map(CategoryResponse::from)
                         .collect(Collectors.toList()) : null)
                 .createdAt(category.getCreatedAt())
-                .updatedAt(category.getUpdatedAt())
                 .build();
     }
 
@@ -51,7 +49,6 @@ public class CategoryResponse {
                 .nameEn(category.getNameEn())
                 .sortOrder(category.getSortOrder())
                 .createdAt(category.getCreatedAt())
-                .updatedAt(category.getUpdatedAt())
                 .build();
     }
 }
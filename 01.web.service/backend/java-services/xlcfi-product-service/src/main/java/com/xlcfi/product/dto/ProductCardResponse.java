@@ -0,0 +1,33 @@
+package com.xlcfi.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 목록 카드
+ *
+ * 목록 화면에 필요한 컬럼만 조회하는 프로젝션입니다 (ProductRepository의 *Cards 쿼리).
+ * 설명(TEXT)과 이미지 배열 전체는 읽지 않으며, 상세 화면은 {@link ProductResponse}를 사용합니다.
+ * 필드 순서는 JPQL 생성자 표현식의 인자 순서와 같아야 합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductCardResponse {
+
+    private Long id;
+    private String name;
+    private BigDecimal price;
+    private String currency;
+    private String imageUrl;
+    private BigDecimal ratingAverage;
+    private String categoryName;
+    private String sellerName;
+}
@@ -0,0 +1,60 @@
+package com.xlcfi.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 필터 조회 응답 (상품 목록과 필터 값별 상품 수)
+ *
+ * 값별 상품 수는 해당 필터만 빼고 나머지 조건을 적용한 개수입니다.
+ * 가격 구간은 통화를 지정한 경우에만 포함됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductFacetResponse {
+
+    private Page<ProductCardResponse> products;
+    private List<FacetCount> categories;
+    private List<FacetCount> currencies;
+    private List<PriceRangeCount> priceRanges;
+    private List<FacetCount> ratings;
+    private List<FacetCount> stock;
+
+    /**
+     * 필터 값별 상품 수 (value는 조회 파라미터 값)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FacetCount {
+        private String value;
+        private String label;
+        private long count;
+    }
+
+    /**
+     * 가격 구간별 상품 수 (minPrice=from, maxPrice=to로 조회)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PriceRangeCount {
+        private BigDecimal from;
+        private BigDecimal to;
+        private long count;
+    }
+}
@@ -16,7 +16,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class ProductResponse {
 
     private Long id;
@@ -42,8 +42,7 @@ public class ProductResponse {
     public static ProductResponse from(Product product) {
         return ProductResponse.builder()
                 .id(product.getId())
-                .sellerId(product.getSeller() != null ? product.getSeller().getId() : null)
-                .sellerName(product.getSeller() != null ? product.getSeller().getName() : null)
+                .sellerId(product.getSellerId())
                 .categoryId(product.getCategory() != null ? product.getCategory().getId() : null)
                 .categoryName(product.getCategory() != null ? product.getCategory().getName() : null)
                 .name(product.getName())
@@ -0,0 +1,24 @@
+package com.xlcfi.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 상품 일별 순 방문자 수 응답 (HyperLogLog 추정치, 표준 오차 약 0.81%)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductViewerResponse {
+
+    private Long productId;
+    private LocalDate date;
+    private long uniqueViewers;
+}
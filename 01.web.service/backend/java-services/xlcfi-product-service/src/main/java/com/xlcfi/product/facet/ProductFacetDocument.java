@@ -0,0 +1,26 @@
+package com.xlcfi.product.facet;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 필터/집계 색인에 넣는 상품 필드 (products 행에서 직접 읽음)
+ */
+@Getter
+@Builder
+public class ProductFacetDocument {
+
+    private final Long id;
+    private final Long categoryId;
+    private final BigDecimal price;
+    private final String currency;
+    private final BigDecimal ratingAverage;
+    private final int stockQuantity;
+
+    /**
+     * 목록 노출 여부 (판매 중이고 삭제되지 않은 상품)
+     */
+    private final boolean published;
+}
@@ -0,0 +1,42 @@
+package com.xlcfi.product.facet;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * 상품 필터 조건 (지정하지 않은 조건은 적용하지 않음)
+ */
+@Getter
+@Builder
+public class ProductFacetFilter {
+
+    /**
+     * 카테고리 (여러 개면 그중 하나에 속한 상품)
+     */
+    private final Set<Long> categoryIds;
+
+    private final String currency;
+
+    /**
+     * 가격 범위 (이상/미만, currency와 함께 지정)
+     */
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+
+    /**
+     * 최소 평점 ({@link ProductFacetIndex#RATING_THRESHOLDS} 중 하나)
+     */
+    private final Integer minRating;
+
+    /**
+     * 재고 여부 (true: 재고 있음, false: 품절)
+     */
+    private final Boolean inStock;
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+}
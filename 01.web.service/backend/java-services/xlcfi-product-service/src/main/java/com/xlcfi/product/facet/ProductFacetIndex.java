@@ -0,0 +1,487 @@
+package com.xlcfi.product.facet;
+
+import org.apache.lucene.util.FixedBitSet;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 필터/집계 색인 (값별 비트셋)
+ *
+ * 상품마다 순번(비트 위치)을 하나 주고, 필터 값(카테고리, 통화, 가격 구간, 평점, 재고)마다
+ * 그 값을 가진 판매 중 상품의 순번을 켠 비트셋을 둡니다.
+ * 필터는 비트셋 AND/OR, 값별 상품 수는 비트셋 교집합 개수로 계산하므로 요청마다 상품 행을 읽거나 GROUP BY를 실행하지 않습니다.
+ *
+ * 순번은 상품이 처음 들어온 순서(대부분 ID 순)로 주므로 순번 역순이 최신순입니다
+ * (동시에 커밋된 상품이 ID 순서와 다르게 도착하면 다음 재구축까지 그 상품만 순서가 약간 어긋남).
+ * 판매 중이 아닌 상품도 순번을 유지하고 비트만 끕니다.
+ * 가격 구간은 1, 2, 5, 10, 20, 50, ... 경계로 나누며 통화별로 따로 집계합니다.
+ *
+ * 쓰기는 한 스레드에서만 호출하고, 조회는 여러 스레드에서 동시에 호출할 수 있습니다 (읽기/쓰기 잠금).
+ */
+public class ProductFacetIndex {
+
+    /**
+     * 최소 평점 필터/집계 기준 (이상)
+     */
+    public static final int[] RATING_THRESHOLDS = {4, 3, 2, 1};
+
+    private static final long[] PRICE_STEPS = {1, 2, 5};
+    private static final int INITIAL_CAPACITY = 1024;
+    // 가격 비교 시 뺄셈이 넘치지 않는 상한 (최소 단위)
+    private static final long MAX_PRICE = Long.MAX_VALUE >> 2;
+
+    private static final int CATEGORY = 0;
+    private static final int CURRENCY = 1;
+    private static final int PRICE = 2;
+    private static final int RATING = 3;
+    private static final int STOCK = 4;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int capacity;
+    private int size;
+    private long[] ids;
+
+    // 상품 ID -> 순번 (ID 오름차순, 이진 탐색)
+    private long[] sortedIds;
+    private int[] sortedOrdinals;
+
+    // 순번별 현재 값 (변경 시 이전 값의 비트를 끄기 위해 보관)
+    private long[] prices;
+    private long[] categoryIds;
+    private String[] currencies;
+    private int[] priceBuckets;
+
+    private FixedBitSet published;
+    private FixedBitSet inStock;
+    private final FixedBitSet[] ratingAtLeast = new FixedBitSet[RATING_THRESHOLDS.length];
+    private final Map<Long, FixedBitSet> categories = new HashMap<>();
+    private final Map<String, FixedBitSet> currencySets = new HashMap<>();
+    private final Map<String, NavigableMap<Integer, FixedBitSet>> priceBucketSets = new HashMap<>();
+
+    public ProductFacetIndex() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize 예상 상품 수 (초과하면 두 배씩 늘림)
+     */
+    public ProductFacetIndex(int expectedSize) {
+        this.capacity = Math.max(expectedSize, INITIAL_CAPACITY);
+        this.ids = new long[capacity];
+        this.sortedIds = new long[capacity];
+        this.sortedOrdinals = new int[capacity];
+        this.prices = new long[capacity];
+        this.categoryIds = new long[capacity];
+        this.currencies = new String[capacity];
+        this.priceBuckets = new int[capacity];
+        this.published = new FixedBitSet(capacity);
+        this.inStock = new FixedBitSet(capacity);
+        for (int i = 0; i < ratingAtLeast.length; i++) {
+            ratingAtLeast[i] = new FixedBitSet(capacity);
+        }
+    }
+
+    /**
+     * 상품 반영 (판매 중이 아니면 필터 대상에서 제외)
+     */
+    public void update(Collection<ProductFacetDocument> products) {
+        lock.writeLock().lock();
+        try {
+            for (ProductFacetDocument product : products) {
+                int ordinal = ordinal(product.getId());
+                if (ordinal < 0) {
+                    ordinal = append(product.getId());
+                } else {
+                    remove(ordinal);
+                }
+                if (product.isPublished()) {
+                    add(ordinal, product);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 제외 (DB에서 삭제된 상품)
+     */
+    public void delete(Collection<Long> productIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long productId : productIds) {
+                int ordinal = ordinal(productId);
+                if (ordinal >= 0) {
+                    remove(ordinal);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 상품 한 페이지(최신순)와 값별 상품 수
+     *
+     * @param offset 건너뛸 상품 수
+     * @param limit 최대 상품 수
+     */
+    public ProductFacetResult query(ProductFacetFilter filter, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            FixedBitSet[] filters = new FixedBitSet[5];
+            filters[CATEGORY] = categoryFilter(filter.getCategoryIds());
+            filters[CURRENCY] = filter.getCurrency() != null ? orEmpty(currencySets.get(filter.getCurrency())) : null;
+            filters[PRICE] = filter.hasPriceRange() ? priceFilter(filter) : null;
+            filters[RATING] = filter.getMinRating() != null ? ratingAtLeast[ratingIndex(filter.getMinRating())] : null;
+            filters[STOCK] = filter.getInStock() == null ? null : filter.getInStock() ? inStock : outOfStock();
+
+            FixedBitSet matches = intersect(filters, -1);
+
+            Map<Long, Long> categoryCounts = counts(base(filters, CATEGORY, matches), categories);
+            Map<String, Long> currencyCounts = counts(base(filters, CURRENCY, matches), currencySets);
+
+            Map<Integer, Long> priceBucketCounts = new LinkedHashMap<>();
+            if (filter.getCurrency() != null) {
+                FixedBitSet priceBase = base(filters, PRICE, matches);
+                priceBucketSets.getOrDefault(filter.getCurrency(), new TreeMap<>()).forEach((bucket, products) -> {
+                    long count = FixedBitSet.intersectionCount(priceBase, products);
+                    if (count > 0) {
+                        priceBucketCounts.put(bucket, count);
+                    }
+                });
+            }
+
+            FixedBitSet ratingBase = base(filters, RATING, matches);
+            Map<Integer, Long> ratingCounts = new LinkedHashMap<>();
+            for (int i = 0; i < RATING_THRESHOLDS.length; i++) {
+                ratingCounts.put(RATING_THRESHOLDS[i], FixedBitSet.intersectionCount(ratingBase, ratingAtLeast[i]));
+            }
+
+            FixedBitSet stockBase = base(filters, STOCK, matches);
+            long inStockCount = FixedBitSet.intersectionCount(stockBase, inStock);
+
+            return ProductFacetResult.builder()
+                    .productIds(page(matches, offset, limit))
+                    .total(matches.cardinality())
+                    .categoryCounts(categoryCounts)
+                    .currencyCounts(currencyCounts)
+                    .priceBucketCounts(priceBucketCounts)
+                    .ratingCounts(ratingCounts)
+                    .inStockCount(inStockCount)
+                    .outOfStockCount(stockBase.cardinality() - inStockCount)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 판매 중 상품 수
+     */
+    public int publishedCount() {
+        lock.readLock().lock();
+        try {
+            return published.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 비트셋과 순번별 값 배열의 메모리 사용량 (바이트, 대략)
+     */
+    public long ramBytesUsed() {
+        lock.readLock().lock();
+        try {
+            long bytes = (long) capacity * (Long.BYTES * 4 + Integer.BYTES * 3);
+            bytes += published.ramBytesUsed() + inStock.ramBytesUsed();
+            for (FixedBitSet ratings : ratingAtLeast) {
+                bytes += ratings.ramBytesUsed();
+            }
+            for (FixedBitSet products : categories.values()) {
+                bytes += products.ramBytesUsed();
+            }
+            for (FixedBitSet products : currencySets.values()) {
+                bytes += products.ramBytesUsed();
+            }
+            for (Map<Integer, FixedBitSet> buckets : priceBucketSets.values()) {
+                for (FixedBitSet products : buckets.values()) {
+                    bytes += products.ramBytesUsed();
+                }
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 가격 구간 (0: 1 미만, 1: 1 이상 2 미만, 2: 2 이상 5 미만, 3: 5 이상 10 미만, 4: 10 이상 20 미만, ...)
+     */
+    public static int priceBucket(BigDecimal price) {
+        return priceBucket(minorUnits(price));
+    }
+
+    /**
+     * 가격 구간 하한 (이상)
+     */
+    public static BigDecimal priceBucketFrom(int bucket) {
+        return BigDecimal.valueOf(bucketLowerBound(bucket), 2).stripTrailingZeros();
+    }
+
+    /**
+     * 가격 구간 상한 (미만)
+     */
+    public static BigDecimal priceBucketTo(int bucket) {
+        return priceBucketFrom(bucket + 1);
+    }
+
+    private static int priceBucket(long minorUnits) {
+        int bucket = 0;
+        while (bucketLowerBound(bucket + 1) <= minorUnits) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    /**
+     * 가격 구간 하한 (최소 단위, 1/100)
+     */
+    private static long bucketLowerBound(int bucket) {
+        if (bucket == 0) {
+            return 0;
+        }
+        long bound = 100 * PRICE_STEPS[(bucket - 1) % PRICE_STEPS.length];
+        for (int i = 0; i < (bucket - 1) / PRICE_STEPS.length; i++) {
+            bound *= 10;
+        }
+        return bound;
+    }
+
+    /**
+     * 가격을 최소 단위(1/100, products.price 소수점 2자리)로 변환
+     */
+    private static long minorUnits(BigDecimal price) {
+        return price.movePointRight(2).setScale(0, RoundingMode.CEILING).longValue();
+    }
+
+    private int ordinal(long productId) {
+        int position = Arrays.binarySearch(sortedIds, 0, size, productId);
+        return position >= 0 ? sortedOrdinals[position] : -1;
+    }
+
+    /**
+     * 새 순번 할당 (ID가 가장 크면 끝에 추가, 아니면 ID 목록 중간에 삽입)
+     */
+    private int append(long productId) {
+        if (size == capacity) {
+            grow();
+        }
+        int ordinal = size;
+        int position = -Arrays.binarySearch(sortedIds, 0, size, productId) - 1;
+        if (position < size) {
+            System.arraycopy(sortedIds, position, sortedIds, position + 1, size - position);
+            System.arraycopy(sortedOrdinals, position, sortedOrdinals, position + 1, size - position);
+        }
+        sortedIds[position] = productId;
+        sortedOrdinals[position] = ordinal;
+        ids[ordinal] = productId;
+        size++;
+        return ordinal;
+    }
+
+    private void add(int ordinal, ProductFacetDocument product) {
+        long price = minorUnits(product.getPrice());
+        String currency = product.getCurrency().intern();
+        int bucket = priceBucket(price);
+
+        prices[ordinal] = price;
+        currencies[ordinal] = currency;
+        priceBuckets[ordinal] = bucket;
+        categoryIds[ordinal] = product.getCategoryId() != null ? product.getCategoryId() : 0;
+
+        published.set(ordinal);
+        if (product.getCategoryId() != null) {
+            categories.computeIfAbsent(product.getCategoryId(), key -> new FixedBitSet(capacity)).set(ordinal);
+        }
+        currencySets.computeIfAbsent(currency, key -> new FixedBitSet(capacity)).set(ordinal);
+        priceBucketSets.computeIfAbsent(currency, key -> new TreeMap<>())
+                .computeIfAbsent(bucket, key -> new FixedBitSet(capacity)).set(ordinal);
+
+        BigDecimal rating = product.getRatingAverage() != null ? product.getRatingAverage() : BigDecimal.ZERO;
+        for (int i = 0; i < RATING_THRESHOLDS.length; i++) {
+            if (rating.compareTo(BigDecimal.valueOf(RATING_THRESHOLDS[i])) >= 0) {
+                ratingAtLeast[i].set(ordinal);
+            }
+        }
+        if (product.getStockQuantity() > 0) {
+            inStock.set(ordinal);
+        }
+    }
+
+    private void remove(int ordinal) {
+        if (!published.getAndClear(ordinal)) {
+            return;
+        }
+        if (categoryIds[ordinal] != 0) {
+            categories.get(categoryIds[ordinal]).clear(ordinal);
+        }
+        currencySets.get(currencies[ordinal]).clear(ordinal);
+        priceBucketSets.get(currencies[ordinal]).get(priceBuckets[ordinal]).clear(ordinal);
+        for (FixedBitSet ratings : ratingAtLeast) {
+            ratings.clear(ordinal);
+        }
+        inStock.clear(ordinal);
+    }
+
+    /**
+     * 모든 배열과 비트셋을 두 배 크기로 (비트셋 연산은 길이가 같아야 함)
+     */
+    private void grow() {
+        int grown = capacity * 2;
+        ids = Arrays.copyOf(ids, grown);
+        sortedIds = Arrays.copyOf(sortedIds, grown);
+        sortedOrdinals = Arrays.copyOf(sortedOrdinals, grown);
+        prices = Arrays.copyOf(prices, grown);
+        categoryIds = Arrays.copyOf(categoryIds, grown);
+        currencies = Arrays.copyOf(currencies, grown);
+        priceBuckets = Arrays.copyOf(priceBuckets, grown);
+        published = grow(published, grown);
+        inStock = grow(inStock, grown);
+        for (int i = 0; i < ratingAtLeast.length; i++) {
+            ratingAtLeast[i] = grow(ratingAtLeast[i], grown);
+        }
+        categories.replaceAll((key, products) -> grow(products, grown));
+        currencySets.replaceAll((key, products) -> grow(products, grown));
+        priceBucketSets.values().forEach(buckets -> buckets.replaceAll((key, products) -> grow(products, grown)));
+        capacity = grown;
+    }
+
+    private static FixedBitSet grow(FixedBitSet products, int capacity) {
+        FixedBitSet grown = new FixedBitSet(capacity);
+        grown.or(products);
+        return grown;
+    }
+
+    private FixedBitSet categoryFilter(Set<Long> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return null;
+        }
+        FixedBitSet products = new FixedBitSet(capacity);
+        for (Long categoryId : categoryIds) {
+            FixedBitSet category = categories.get(categoryId);
+            if (category != null) {
+                products.or(category);
+            }
+        }
+        return products;
+    }
+
+    /**
+     * 가격 범위 (이상/미만, 통화 구분 없이 금액으로 비교, 통화는 통화 조건으로 좁힘)
+     * 순번별 가격 배열을 한 번 훑어 64개씩 비트를 채웁니다. (판매 중 여부는 교집합에서 거름)
+     */
+    private FixedBitSet priceFilter(ProductFacetFilter filter) {
+        long min = filter.getMinPrice() != null ? minorUnits(filter.getMinPrice()) : 0;
+        long max = filter.getMaxPrice() != null ? minorUnits(filter.getMaxPrice()) : MAX_PRICE;
+        long range = Math.min(max, MAX_PRICE) - min;
+        FixedBitSet products = new FixedBitSet(capacity);
+        long[] words = products.getBits();
+        for (int start = 0; start < size; start += Long.SIZE) {
+            int end = Math.min(start + Long.SIZE, size);
+            long word = 0;
+            for (int ordinal = start; ordinal < end; ordinal++) {
+                // 0 <= price - min < range 이면 부호 비트가 1 (분기 없이 비교)
+                long offset = prices[ordinal] - min;
+                word |= (((offset - range) & ~offset) >>> 63) << (ordinal - start);
+            }
+            words[start >> 6] = word;
+        }
+        return products;
+    }
+
+    private static int ratingIndex(int minRating) {
+        for (int i = 0; i < RATING_THRESHOLDS.length; i++) {
+            if (RATING_THRESHOLDS[i] == minRating) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 최소 평점입니다: " + minRating);
+    }
+
+    private FixedBitSet outOfStock() {
+        FixedBitSet products = published.clone();
+        products.andNot(inStock);
+        return products;
+    }
+
+    private FixedBitSet orEmpty(FixedBitSet products) {
+        return products != null ? products : new FixedBitSet(capacity);
+    }
+
+    /**
+     * 판매 중 상품 중 excluded 차원을 뺀 모든 조건을 만족하는 상품
+     */
+    private FixedBitSet intersect(FixedBitSet[] filters, int excluded) {
+        FixedBitSet products = published.clone();
+        for (int i = 0; i < filters.length; i++) {
+            if (i != excluded && filters[i] != null) {
+                products.and(filters[i]);
+            }
+        }
+        return products;
+    }
+
+    /**
+     * dimension 집계 기준 (그 차원에 조건이 없으면 전체 결과와 같음)
+     */
+    private FixedBitSet base(FixedBitSet[] filters, int dimension, FixedBitSet matches) {
+        return filters[dimension] != null ? intersect(filters, dimension) : matches;
+    }
+
+    private static <K> Map<K, Long> counts(FixedBitSet base, Map<K, FixedBitSet> values) {
+        List<Map.Entry<K, Long>> counts = new ArrayList<>();
+        values.forEach((value, products) -> {
+            long count = FixedBitSet.intersectionCount(base, products);
+            if (count > 0) {
+                counts.add(Map.entry(value, count));
+            }
+        });
+        counts.sort(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder()));
+
+        Map<K, Long> sorted = new LinkedHashMap<>();
+        counts.forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private List<Long> page(FixedBitSet matches, int offset, int limit) {
+        List<Long> productIds = new ArrayList<>(Math.max(limit, 0));
+        int skipped = 0;
+        for (int ordinal = size > 0 ? matches.prevSetBit(size - 1) : -1;
+             ordinal >= 0 && productIds.size() < limit;
+             ordinal = ordinal > 0 ? matches.prevSetBit(ordinal - 1) : -1) {
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            productIds.add(ids[ordinal]);
+        }
+        return productIds;
+    }
+}
@@ -0,0 +1,51 @@
+package com.xlcfi.product.facet;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필터 결과 (상품 ID 한 페이지와 값별 상품 수)
+ *
+ * 각 집계는 자기 차원의 조건만 빼고 나머지 조건을 적용한 개수입니다
+ * (예: 카테고리별 개수는 가격/평점/재고 조건만 적용되어, 다른 카테고리를 골랐을 때의 결과 수를 보여줌).
+ */
+@Getter
+@Builder
+public class ProductFacetResult {
+
+    /**
+     * 최신순 상품 ID (요청한 페이지)
+     */
+    private final List<Long> productIds;
+
+    /**
+     * 모든 조건을 만족하는 상품 수
+     */
+    private final long total;
+
+    /**
+     * 카테고리 ID별 상품 수 (0건 제외, 많은 순)
+     */
+    private final Map<Long, Long> categoryCounts;
+
+    /**
+     * 통화별 상품 수 (0건 제외, 많은 순)
+     */
+    private final Map<String, Long> currencyCounts;
+
+    /**
+     * 가격 구간별 상품 수 (통화를 지정한 경우만, 0건 제외, 구간 순)
+     */
+    private final Map<Integer, Long> priceBucketCounts;
+
+    /**
+     * 최소 평점별 상품 수 ({@link ProductFacetIndex#RATING_THRESHOLDS} 순)
+     */
+    private final Map<Integer, Long> ratingCounts;
+
+    private final long inStockCount;
+    private final long outOfStockCount;
+}
@@ -0,0 +1,271 @@
+package com.xlcfi.product.facet;
+
+import com.xlcfi.common.cache.CacheInvalidationHandler;
+import com.xlcfi.common.exception.BusinessException;
+import com.xlcfi.common.exception.RetryableException;
+import com.xlcfi.common.pagination.CountAccuracy;
+import com.xlcfi.common.pagination.CountedPage;
+import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.dto.ProductCardResponse;
+import com.xlcfi.product.dto.ProductFacetResponse;
+import com.xlcfi.product.dto.ProductFacetResponse.FacetCount;
+import com.xlcfi.product.dto.ProductFacetResponse.PriceRangeCount;
+import com.xlcfi.product.repository.ProductRepository;
+import com.xlcfi.product.service.CategoryService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 필터/집계 서비스 (노드별 메모리 비트셋 색인)
+ *
+ * 시작 시 products 전체를 읽어 {@link ProductFacetIndex}를 만들고, 이후 변경은 다음과 같이 반영합니다.
+ * - 상품 변경: 캐시 무효화 버스(DB 알림)로 모든 노드가 바뀐 상품을 다시 읽어 반영
+ * - 버스 재연결, 대량 변경: 전체 재구축 (만드는 동안은 이전 색인으로 응답)
+ * - 버스를 쓰지 않는 환경: refresh-interval마다 전체 재구축
+ *
+ * 색인 쓰기는 모두 한 스레드에서 순서대로 처리합니다.
+ */
+@Slf4j
+@Service
+public class ProductFacetService implements CacheInvalidationHandler {
+
+    private static final String TABLE = "products";
+
+    private static final String SELECT_DOCUMENTS = "SELECT id, category_id, price, currency, rating_average, "
+            + "stock_quantity, status, deleted_at FROM products ";
+
+    private static final RowMapper<ProductFacetDocument> DOCUMENT_MAPPER = (rs, rowNum) -> ProductFacetDocument.builder()
+            .id(rs.getLong("id"))
+            .categoryId(rs.getObject("category_id", Long.class))
+            .price(rs.getBigDecimal("price"))
+            .currency(rs.getString("currency"))
+            .ratingAverage(rs.getBigDecimal("rating_average"))
+            .stockQuantity(rs.getInt("stock_quantity"))
+            .published(ProductStatus.PUBLISHED.name().equals(rs.getString("status"))
+                    && rs.getTimestamp("deleted_at") == null)
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductRepository productRepository;
+    private final CategoryService categoryService;
+    private final int batchSize;
+    private final boolean pollChanges;
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean started;
+    private volatile ProductFacetIndex index;
+
+    public ProductFacetService(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ProductRepository productRepository,
+            CategoryService categoryService,
+            @Value("${xlcfi.facet.batch-size:10000}") int batchSize,
+            @Value("${xlcfi.facet.refresh-interval:300000}") long refreshIntervalMillis,
+            @Value("${xlcfi.cache.invalidation.enabled:false}") boolean invalidationEnabled) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(batchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.productRepository = productRepository;
+        this.categoryService = categoryService;
+        this.batchSize = batchSize;
+        this.pollChanges = !invalidationEnabled;
+        // 색인 쓰기는 이 스레드에서만 실행
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-facet-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(
+                this::refreshQuietly, refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 시작 시 색인 생성 (DB 마이그레이션이 끝난 뒤)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        started = true;
+        submit(this::rebuild);
+    }
+
+    /**
+     * 조건에 맞는 상품(최신순)과 필터 값별 상품 수
+     */
+    public ProductFacetResponse browse(ProductFacetFilter filter, Pageable pageable) {
+        ProductFacetIndex current = index;
+        if (current == null) {
+            throw new RetryableException(HttpStatus.SERVICE_UNAVAILABLE, "PRODUCT007",
+                    "상품 필터를 준비 중입니다. 잠시 후 다시 시도해주세요", 5);
+        }
+        validate(filter);
+
+        ProductFacetResult result = current.query(filter, (int) pageable.getOffset(), pageable.getPageSize());
+        List<ProductCardResponse> products = productRepository.findPublishedCardsInOrder(result.getProductIds());
+        Map<Long, String> categoryNames = categoryService.getCategoryNames();
+
+        return ProductFacetResponse.builder()
+                .products(new CountedPage<>(products, pageable, result.getTotal(), CountAccuracy.EXACT))
+                .categories(result.getCategoryCounts().entrySet().stream()
+                        .map(entry -> new FacetCount(entry.getKey().toString(),
+                                categoryNames.getOrDefault(entry.getKey(), ""), entry.getValue()))
+                        .toList())
+                .currencies(result.getCurrencyCounts().entrySet().stream()
+                        .map(entry -> new FacetCount(entry.getKey(), entry.getKey(), entry.getValue()))
+                        .toList())
+                .priceRanges(result.getPriceBucketCounts().entrySet().stream()
+                        .map(entry -> new PriceRangeCount(ProductFacetIndex.priceBucketFrom(entry.getKey()),
+                                ProductFacetIndex.priceBucketTo(entry.getKey()), entry.getValue()))
+                        .toList())
+                .ratings(result.getRatingCounts().entrySet().stream()
+                        .map(entry -> new FacetCount(entry.getKey().toString(), entry.getKey() + "점 이상",
+                                entry.getValue()))
+                        .toList())
+                .stock(List.of(
+                        new FacetCount("true", "재고 있음", result.getInStockCount()),
+                        new FacetCount("false", "품절", result.getOutOfStockCount())))
+                .build();
+    }
+
+    @Override
+    public Set<String> tables() {
+        return Set.of(TABLE);
+    }
+
+    @Override
+    public void invalidate(String table, Set<Long> ids) {
+        if (started) {
+            submit(() -> reindex(ids));
+        }
+    }
+
+    @Override
+    public void invalidateAll(String table) {
+        if (started) {
+            submit(this::rebuild);
+        }
+    }
+
+    /**
+     * products 전체로 새 색인을 만든 뒤 교체
+     */
+    void rebuild() {
+        long startedAt = System.currentTimeMillis();
+
+        ProductFacetIndex rebuilt = new ProductFacetIndex();
+        long rows = transactionTemplate.execute(status -> {
+            List<ProductFacetDocument> batch = new ArrayList<>(batchSize);
+            long[] count = {0};
+            jdbcTemplate.query(SELECT_DOCUMENTS + "ORDER BY id", rs -> {
+                batch.add(DOCUMENT_MAPPER.mapRow(rs, (int) count[0]++));
+                if (batch.size() >= batchSize) {
+                    rebuilt.update(batch);
+                    batch.clear();
+                }
+            });
+            rebuilt.update(batch);
+            return count[0];
+        });
+        index = rebuilt;
+
+        log.info("상품 필터 색인 재구축 완료: products={}, published={}, memory={}KB, elapsed={}ms",
+                rows, rebuilt.publishedCount(), rebuilt.ramBytesUsed() / 1024, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 변경 알림을 받은 상품 다시 반영 (DB에 없으면 제외)
+     */
+    void reindex(Set<Long> ids) {
+        ProductFacetIndex current = index;
+        if (current == null) {
+            // 아직 만드는 중이면 재구축 결과에 포함됨
+            return;
+        }
+        List<Long> productIds = new ArrayList<>(ids);
+        List<ProductFacetDocument> documents = jdbcTemplate.query(
+                SELECT_DOCUMENTS + "WHERE id IN (" + String.join(", ", Collections.nCopies(productIds.size(), "?")) + ")",
+                DOCUMENT_MAPPER, productIds.toArray());
+
+        Set<Long> missing = new HashSet<>(productIds);
+        documents.forEach(document -> missing.remove(document.getId()));
+
+        current.update(documents);
+        current.delete(missing);
+    }
+
+    private void validate(ProductFacetFilter filter) {
+        if (filter.getMinRating() != null
+                && Arrays.stream(ProductFacetIndex.RATING_THRESHOLDS).noneMatch(r -> r == filter.getMinRating())) {
+            throw new BusinessException("PRODUCT008", "최소 평점은 1~4 사이로 지정해야 합니다");
+        }
+        if (!filter.hasPriceRange()) {
+            return;
+        }
+        if (filter.getCurrency() == null) {
+            throw new BusinessException("PRODUCT009", "가격 범위는 통화와 함께 지정해야 합니다");
+        }
+        BigDecimal min = filter.getMinPrice();
+        BigDecimal max = filter.getMaxPrice();
+        if ((min != null && min.signum() < 0) || (min != null && max != null && min.compareTo(max) >= 0)) {
+            throw new BusinessException("PRODUCT010", "가격 범위가 올바르지 않습니다");
+        }
+    }
+
+    /**
+     * 주기 작업: 버스를 쓰지 않으면 재구축
+     */
+    private void refreshQuietly() {
+        if (!started || !pollChanges) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("상품 필터 색인 재구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            scheduler.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("상품 필터 색인 작업 실패: {}", e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -2,65 +2,126 @@ package com.xlcfi.product.repository;
 
 import com.xlcfi.product.domain.Product;
 import com.xlcfi.product.domain.ProductStatus;
-import org.springframework.data.domain.Page;
+import com.xlcfi.product.dto.ProductCardResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+    
+    // 페이징 조회는 COUNT 쿼리 없이 목록만 조회 (전체 개수는 PageCountService에서 count* 메서드로 캐시)
+    
+    /**
+     * 목록 카드 조회 (ProductCardResponse 생성자 표현식)
+     * 카테고리/판매자 이름을 한 번에 조인하고, 이미지는 첫 번째 URL만 DB에서 꺼냅니다 (PostgreSQL jsonb).
+     */
+    String CARD_SELECT = "SELECT new com.xlcfi.product.dto.ProductCardResponse(" +
+            "p.id, p.name, p.price, p.currency, " +
+            "cast(function('jsonb_extract_path_text', p.images, '0') as String), " +
+            "p.ratingAverage, c.name, u.name) " +
+            "FROM Product p LEFT JOIN p.category c LEFT JOIN User u ON u.id = p.sellerId ";
     
     /**
-     * 상태별 상품 조회 (페이징)
+     * 상태별 상품 카드 조회 (페이징, 정렬은 Pageable)
      */
-    Page<Product> findByStatus(ProductStatus status, Pageable pageable);
+    @Query(CARD_SELECT + "WHERE p.status = :status")
+    List<ProductCardResponse> findCardsByStatus(@Param("status") ProductStatus status, Pageable pageable);
+    
+    long countByStatus(ProductStatus status);
     
     /**
-     * 카테고리별 상품 조회 (페이징)
+     * 카테고리별 상품 카드 조회 (페이징)
      */
-    Page<Product> findByCategoryIdAndStatus(Long categoryId, ProductStatus status, Pageable pageable);
+    @Query(CARD_SELECT + "WHERE c.id = :categoryId AND p.status = :status")
+    List<ProductCardResponse> findCardsByCategoryIdAndStatus(@Param("categoryId") Long categoryId,
+                                                             @Param("status") ProductStatus status,
+                                                             Pageable pageable);
+    
+    long countByCategoryIdAndStatus(Long categoryId, ProductStatus status);
     
     /**
-     * 판매자별 상품 조회 (페이징)
+     * 판매자별 상품 카드 조회 (페이징)
      */
-    Page<Product> findBySellerId(Long sellerId, Pageable pageable);
+    @Query(CARD_SELECT + "WHERE p.sellerId = :sellerId")
+    List<ProductCardResponse> findCardsBySellerId(@Param("sellerId") Long sellerId, Pageable pageable);
+    
+    long countBySellerId(Long sellerId);
     
     /**
      * 상품명 검색 (한글/영문, 페이징)
      */
-    @Query("SELECT p FROM Product p WHERE " +
+    @Query(CARD_SELECT + "WHERE " +
+           "(p.name LIKE %:keyword% OR p.nameEn LIKE %:keyword%) " +
+           "AND p.status = :status")
+    List<ProductCardResponse> searchCardsByKeyword(@Param("keyword") String keyword, 
+                                                   @Param("status") ProductStatus status, 
+                                                   Pageable pageable);
+    
+    @Query("SELECT COUNT(p) FROM Product p WHERE " +
            "(p.name LIKE %:keyword% OR p.nameEn LIKE %:keyword%) " +
            "AND p.status = :status")
-    Page<Product> searchByKeyword(@Param("keyword") String keyword, 
-                                   @Param("status") ProductStatus status, 
-                                   Pageable pageable);
+    long countByKeyword(@Param("keyword") String keyword, 
+                        @Param("status") ProductStatus status);
+    
+    /**
+     * ID로 상품 카드 조회 (순서 보장 없음)
+     */
+    @Query(CARD_SELECT + "WHERE p.id IN :ids AND p.status = :status")
+    List<ProductCardResponse> findCardsByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                                       @Param("status") ProductStatus status);
+    
+    /**
+     * 주어진 ID 순서대로 판매 중 상품 카드 조회 (검색/필터 색인 결과 페이지)
+     * 색인에 아직 반영되지 않은 변경(삭제, 판매 중지)이 있으면 해당 상품은 빠집니다.
+     */
+    default List<ProductCardResponse> findPublishedCardsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProductCardResponse> cards = findCardsByIdInAndStatus(ids, ProductStatus.PUBLISHED).stream()
+                .collect(Collectors.toMap(ProductCardResponse::getId, Function.identity()));
+        return ids.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
     
     /**
-     * 조회수 증가
+     * 인기 상품 카드 조회 (누적 조회수 기준, 페이징, 인기 상품 스냅숏이 없을 때만 사용)
      */
-    @Modifying
-    @Query("UPDATE Product p SET p.viewCount = p.viewCount + 1 WHERE p.id = :productId")
-    void incrementViewCount(@Param("productId") Long productId);
+    @Query(CARD_SELECT + "WHERE p.status = :status ORDER BY p.viewCount DESC")
+    List<ProductCardResponse> findPopularCards(@Param("status") ProductStatus status, Pageable pageable);
     
     /**
-     * 인기 상품 조회 (조회수 기준, 페이징)
+     * 카테고리별 인기 상품 카드 조회 (누적 조회수 기준, 페이징, 인기 상품 스냅숏이 없을 때만 사용)
      */
-    Page<Product> findByStatusOrderByViewCountDesc(ProductStatus status, Pageable pageable);
+    @Query(CARD_SELECT + "WHERE c.id = :categoryId AND p.status = :status ORDER BY p.viewCount DESC")
+    List<ProductCardResponse> findPopularCardsByCategoryId(@Param("categoryId") Long categoryId,
+                                                           @Param("status") ProductStatus status,
+                                                           Pageable pageable);
     
     /**
-     * 평점 높은 상품 조회 (페이징)
+     * 평점 높은 상품 카드 조회 (페이징)
      */
-    Page<Product> findByStatusOrderByRatingAverageDesc(ProductStatus status, Pageable pageable);
+    @Query(CARD_SELECT + "WHERE p.status = :status ORDER BY p.ratingAverage DESC")
+    List<ProductCardResponse> findTopRatedCards(@Param("status") ProductStatus status, Pageable pageable);
     
     /**
-     * 최신 상품 조회 (페이징)
+     * 최신 상품 카드 조회 (페이징)
      */
-    Page<Product> findByStatusOrderByCreatedAtDesc(ProductStatus status, Pageable pageable);
+    @Query(CARD_SELECT + "WHERE p.status = :status ORDER BY p.createdAt DESC")
+    List<ProductCardResponse> findLatestCards(@Param("status") ProductStatus status, Pageable pageable);
 }
 
@@ -0,0 +1,23 @@
+package com.xlcfi.product.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검색 색인에 넣는 상품 필드 (products 행에서 직접 읽음)
+ */
+@Getter
+@Builder
+public class ProductSearchDocument {
+
+    private final Long id;
+    private final String name;
+    private final String nameEn;
+    private final String description;
+    private final String descriptionEn;
+
+    /**
+     * 검색 대상 여부 (판매 중이고 삭제되지 않은 상품)
+     */
+    private final boolean searchable;
+}
@@ -0,0 +1,35 @@
+package com.xlcfi.product.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 상품 검색 색인 관리 엔드포인트
+ * GET /actuator/productsearch: 색인 상태
+ * POST /actuator/productsearch: 전체 재구축 요청
+ *
+ * 기본 노출 대상이 아니므로 운영자가 management.endpoints.web.exposure.include에 추가해 사용합니다.
+ */
+@Component
+@Endpoint(id = "productsearch")
+@RequiredArgsConstructor
+public class ProductSearchEndpoint {
+
+    private final ProductSearchService productSearchService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return productSearchService.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        productSearchService.requestRebuild();
+        return Map.of("message", "상품 검색 색인 재구축을 요청했습니다");
+    }
+}
@@ -0,0 +1,318 @@
+package com.xlcfi.product.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanPartOfSpeechStopFilter;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 검색 색인 (프로세스 내 Lucene)
+ *
+ * - name, description: 한국어 형태소 분석(nori, 복합명사는 원형과 분해 결과 모두 색인)
+ * - name_ngram: 상품명 2-gram (형태소 단위로 맞지 않는 부분 검색어 보완)
+ * - name_en, description_en: 영어 분석(어간 추출)
+ *
+ * 판매 중인 상품만 색인하며, 문서에는 상품 ID만 저장합니다 (결과 카드는 DB에서 조회).
+ * 점수는 Lucene 기본 BM25 필드별 점수의 합입니다 (상품명 가중치 3배).
+ * 쓰기는 한 스레드에서만 호출하고, 검색은 여러 스레드에서 동시에 호출할 수 있습니다.
+ */
+@Slf4j
+public class ProductSearchIndex implements AutoCloseable {
+
+    static final String ID = "id";
+    static final String NAME = "name";
+    static final String NAME_NGRAM = "name_ngram";
+    static final String NAME_EN = "name_en";
+    static final String DESCRIPTION = "description";
+    static final String DESCRIPTION_EN = "description_en";
+
+    /**
+     * 마지막 커밋 시점의 동기화 기준 시각 (커밋 사용자 데이터)
+     */
+    private static final String WATERMARK = "watermark";
+
+    /**
+     * 관련도순으로 조회할 수 있는 최대 결과 위치 (offset + limit)
+     * 상위 N건을 모두 모아 정렬하므로 깊은 페이지일수록 비용이 커집니다. 이 위치를 넘는 페이지는 빈 결과입니다.
+     */
+    static final int MAX_RESULT_WINDOW = 10_000;
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            NAME, 3.0f,
+            NAME_EN, 3.0f,
+            NAME_NGRAM, 1.0f,
+            DESCRIPTION, 1.0f,
+            DESCRIPTION_EN, 1.0f);
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    /**
+     * @param indexPath 색인 디렉터리 (null이면 메모리, 재시작 시 다시 만듦)
+     */
+    public ProductSearchIndex(Path indexPath) {
+        this.analyzer = analyzer();
+        try {
+            this.directory = indexPath != null ? FSDirectory.open(indexPath) : new ByteBuffersDirectory();
+            IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                    .setRAMBufferSizeMB(64);
+            this.writer = new IndexWriter(directory, config);
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 검색 색인을 열 수 없습니다: " + indexPath, e);
+        }
+        log.info("상품 검색 색인 열기: path={}, documents={}, watermark={}",
+                indexPath != null ? indexPath : "memory", writer.getDocStats().numDocs, watermark());
+    }
+
+    /**
+     * 필드별 분석기
+     */
+    static Analyzer analyzer() {
+        Analyzer korean = new KoreanAnalyzer(null, KoreanTokenizer.DecompoundMode.MIXED,
+                KoreanPartOfSpeechStopFilter.DEFAULT_STOP_TAGS, false);
+        Analyzer english = new EnglishAnalyzer();
+        return new PerFieldAnalyzerWrapper(korean, Map.of(
+                NAME_NGRAM, new CJKAnalyzer(),
+                NAME_EN, english,
+                DESCRIPTION_EN, english));
+    }
+
+    /**
+     * 상품 색인 갱신 (검색 대상이 아니면 색인에서 제거)
+     */
+    public void update(Collection<ProductSearchDocument> products) {
+        try {
+            for (ProductSearchDocument product : products) {
+                Term id = new Term(ID, product.getId().toString());
+                if (product.isSearchable()) {
+                    writer.updateDocument(id, document(product));
+                } else {
+                    writer.deleteDocuments(id);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 색인 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 상품 색인 제거
+     */
+    public void delete(Collection<Long> productIds) {
+        try {
+            writer.deleteDocuments(productIds.stream()
+                    .map(productId -> new Term(ID, productId.toString()))
+                    .toArray(Term[]::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 색인 제거 실패", e);
+        }
+    }
+
+    /**
+     * 전체 문서 제거 (다시 만들기 전, 커밋 전까지 검색에는 이전 색인이 보임)
+     */
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 색인 비우기 실패", e);
+        }
+    }
+
+    /**
+     * 변경 내용을 검색에 반영 (디스크에는 {@link #commit} 시 기록)
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 검색 색인 새로고침 실패", e);
+        }
+    }
+
+    /**
+     * 변경 내용을 디스크에 기록하고 동기화 기준 시각 저장
+     *
+     * @param watermark 이 시각(DB 기준, products.updated_at과 같은 형식) 이전의 상품 변경은 모두 반영됨
+     */
+    public void commit(LocalDateTime watermark) {
+        try {
+            writer.setLiveCommitData(Map.of(WATERMARK, watermark.toString()).entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 검색 색인 커밋 실패", e);
+        }
+        refresh();
+    }
+
+    /**
+     * 커밋하지 않은 변경 여부
+     */
+    public boolean hasUncommittedChanges() {
+        return writer.hasUncommittedChanges();
+    }
+
+    /**
+     * 마지막 커밋의 동기화 기준 시각 (한 번도 만들지 않은 색인이면 null)
+     */
+    public LocalDateTime watermark() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (WATERMARK.equals(entry.getKey())) {
+                    return LocalDateTime.parse(entry.getValue());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 검색 가능한 문서 수
+     */
+    public int size() {
+        return withSearcher(searcher -> searcher.getIndexReader().numDocs());
+    }
+
+    /**
+     * 관련도순 상품 ID
+     *
+     * @param offset 건너뛸 결과 수 ({@link #MAX_RESULT_WINDOW} 이상이면 빈 결과)
+     * @param limit 최대 결과 수 (offset + limit이 {@link #MAX_RESULT_WINDOW}를 넘으면 그 위치까지만)
+     */
+    public List<Long> search(String keyword, long offset, int limit) {
+        Query query = query(keyword);
+        if (query == null || limit <= 0 || offset < 0 || offset >= MAX_RESULT_WINDOW) {
+            return List.of();
+        }
+        int from = (int) offset;
+        int to = (int) Math.min(offset + limit, MAX_RESULT_WINDOW);
+        return withSearcher(searcher -> {
+            TopDocs topDocs = searcher.search(query, to);
+            List<Long> productIds = new ArrayList<>(to - from);
+            for (int i = from; i < topDocs.scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                productIds.add(searcher.storedFields().document(scoreDoc.doc).getField(ID).numericValue().longValue());
+            }
+            return productIds;
+        });
+    }
+
+    /**
+     * 검색어와 일치하는 상품 수
+     */
+    public long count(String keyword) {
+        Query query = query(keyword);
+        if (query == null) {
+            return 0;
+        }
+        return withSearcher(searcher -> searcher.count(query));
+    }
+
+    /**
+     * 필드별 검색어 토큰 질의(2-gram은 AND, 나머지는 OR)에 필드 가중치를 적용해 OR로 결합
+     * 모두 OR 질의라 상위 N건 검색 시 순위에 들 수 없는 문서는 점수 계산을 건너뜁니다 (block-max WAND).
+     */
+    Query query(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        FIELD_BOOSTS.forEach((field, boost) -> {
+            // 2-gram은 모든 조각이 있어야 일치 (부분 문자열 검색과 같은 의미)
+            Query fieldQuery = NAME_NGRAM.equals(field)
+                    ? builder.createBooleanQuery(field, keyword, BooleanClause.Occur.MUST)
+                    : builder.createBooleanQuery(field, keyword);
+            if (fieldQuery != null) {
+                query.add(new BoostQuery(fieldQuery, boost), BooleanClause.Occur.SHOULD);
+            }
+        });
+        BooleanQuery fieldQueries = query.build();
+        return fieldQueries.clauses().isEmpty() ? null : fieldQueries;
+    }
+
+    @Override
+    public void close() {
+        try {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (IOException e) {
+            log.warn("상품 검색 색인 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    private static Document document(ProductSearchDocument product) {
+        Document document = new Document();
+        document.add(new StringField(ID, product.getId().toString(), Field.Store.NO));
+        document.add(new StoredField(ID, product.getId()));
+        addText(document, NAME, product.getName());
+        addText(document, NAME_NGRAM, product.getName());
+        addText(document, NAME_EN, product.getNameEn());
+        addText(document, DESCRIPTION, product.getDescription());
+        addText(document, DESCRIPTION_EN, product.getDescriptionEn());
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private <T> T withSearcher(SearcherFunction<T> function) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return function.apply(searcher);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 검색 실패", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SearcherFunction<T> {
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+}
@@ -0,0 +1,316 @@
+package com.xlcfi.product.search;
+
+import com.xlcfi.common.cache.CacheInvalidationHandler;
+import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.dto.ProductCardResponse;
+import com.xlcfi.product.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 상품 검색 서비스 (프로세스 내 Lucene 색인, BM25 관련도순)
+ *
+ * 노드마다 자체 색인을 두고 products 테이블 변경을 다음과 같이 반영합니다.
+ * - 상품 변경: 캐시 무효화 버스(DB 알림)로 모든 노드가 바뀐 상품을 다시 읽어 색인
+ * - 시작, 버스 재연결, 대량 변경: 마지막 동기화 시각 이후 바뀐 상품을 다시 색인 (처음이면 전체 재구축)
+ * - 버스를 쓰지 않는 환경: commit-interval마다 위와 같이 변경분 동기화
+ * - 전체 재구축: {@link #requestRebuild()} (actuator productsearch 엔드포인트)
+ *
+ * 색인 쓰기는 모두 한 스레드에서 순서대로 처리하므로, 재구축 중 들어온 변경은 재구축이 끝난 뒤 반영됩니다.
+ * 색인이 준비되기 전(첫 재구축 중)에는 {@link #isReady()}가 false이며 호출 측에서 DB 검색을 사용합니다.
+ */
+@Slf4j
+@Service
+public class ProductSearchService implements CacheInvalidationHandler {
+
+    private static final String TABLE = "products";
+
+    private static final String SELECT_DOCUMENTS =
+            "SELECT id, name, name_en, description, description_en, status, deleted_at FROM products ";
+
+    private static final RowMapper<ProductSearchDocument> DOCUMENT_MAPPER = (rs, rowNum) -> ProductSearchDocument.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .nameEn(rs.getString("name_en"))
+            .description(rs.getString("description"))
+            .descriptionEn(rs.getString("description_en"))
+            .searchable(ProductStatus.PUBLISHED.name().equals(rs.getString("status"))
+                    && rs.getTimestamp("deleted_at") == null)
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex index;
+    private final int batchSize;
+    private final Duration catchUpOverlap;
+    private final boolean pollChanges;
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean started;
+    private volatile boolean ready;
+
+    public ProductSearchService(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ProductRepository productRepository,
+            @Value("${xlcfi.search.index-path:}") String indexPath,
+            @Value("${xlcfi.search.batch-size:1000}") int batchSize,
+            @Value("${xlcfi.search.commit-interval:60000}") long commitIntervalMillis,
+            @Value("${xlcfi.search.catch-up-overlap:300000}") long catchUpOverlapMillis,
+            @Value("${xlcfi.cache.invalidation.enabled:false}") boolean invalidationEnabled) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(batchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.productRepository = productRepository;
+        this.index = new ProductSearchIndex(indexPath.isBlank() ? null : Path.of(indexPath));
+        this.batchSize = batchSize;
+        this.catchUpOverlap = Duration.ofMillis(catchUpOverlapMillis);
+        this.pollChanges = !invalidationEnabled;
+        this.ready = index.watermark() != null;
+        // 색인 쓰기는 이 스레드에서만 실행
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(
+                this::commitQuietly, commitIntervalMillis, commitIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 시작 시 색인 동기화 (DB 마이그레이션이 끝난 뒤)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        started = true;
+        submit(this::sync);
+    }
+
+    /**
+     * 검색 가능 여부 (색인을 한 번 이상 만든 경우)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 관련도순 상품 카드 검색
+     */
+    public List<ProductCardResponse> search(String keyword, Pageable pageable) {
+        return productRepository.findPublishedCardsInOrder(
+                index.search(keyword, pageable.getOffset(), pageable.getPageSize()));
+    }
+
+    /**
+     * 검색어와 일치하는 상품 수
+     */
+    public long count(String keyword) {
+        return index.count(keyword);
+    }
+
+    /**
+     * 색인 전체 재구축 요청 (비동기)
+     */
+    public void requestRebuild() {
+        submit(this::rebuild);
+    }
+
+    /**
+     * 색인 상태 (문서 수, 마지막 동기화 시각)
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ready", ready);
+        status.put("documents", index.size());
+        status.put("watermark", index.watermark());
+        return status;
+    }
+
+    @Override
+    public Set<String> tables() {
+        return Set.of(TABLE);
+    }
+
+    @Override
+    public void invalidate(String table, Set<Long> ids) {
+        if (started) {
+            submit(() -> reindex(ids));
+        }
+    }
+
+    @Override
+    public void invalidateAll(String table) {
+        if (started) {
+            submit(this::sync);
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 변경분 반영 (색인이 없으면 전체 재구축)
+     */
+    void sync() {
+        LocalDateTime watermark = index.watermark();
+        if (watermark == null) {
+            rebuild();
+        } else {
+            catchUp(watermark.minus(catchUpOverlap));
+        }
+    }
+
+    /**
+     * 판매 중인 전체 상품으로 색인 재구축
+     * 커밋 전까지 검색에는 이전 색인이 그대로 보입니다.
+     */
+    void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime syncedAt = databaseNow();
+
+        index.deleteAll();
+        long documents = stream("WHERE status = ? AND deleted_at IS NULL", index::update,
+                ProductStatus.PUBLISHED.name());
+        index.commit(syncedAt);
+        ready = true;
+
+        log.info("상품 검색 색인 재구축 완료: documents={}, elapsed={}ms",
+                documents, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * since 이후 바뀐 상품 다시 색인 (판매 중이 아니게 된 상품은 제거)
+     */
+    void catchUp(LocalDateTime since) {
+        LocalDateTime syncedAt = databaseNow();
+
+        long documents = stream("WHERE updated_at >= ?", index::update, since);
+        index.commit(syncedAt);
+        ready = true;
+
+        log.info("상품 검색 색인 동기화: since={}, documents={}", since, documents);
+    }
+
+    /**
+     * 변경 알림을 받은 상품 다시 색인 (DB에 없으면 제거)
+     */
+    void reindex(Set<Long> ids) {
+        List<Long> productIds = new ArrayList<>(ids);
+        List<ProductSearchDocument> documents = jdbcTemplate.query(
+                SELECT_DOCUMENTS + "WHERE id IN (" + String.join(", ", Collections.nCopies(productIds.size(), "?")) + ")",
+                DOCUMENT_MAPPER, productIds.toArray());
+
+        Set<Long> missing = new HashSet<>(productIds);
+        documents.forEach(document -> missing.remove(document.getId()));
+
+        index.update(documents);
+        index.delete(missing);
+        index.refresh();
+    }
+
+    /**
+     * 조건에 맞는 products 행을 batch-size씩 나눠 전달 (커서로 읽어 메모리에 모두 올리지 않음)
+     *
+     * @return 읽은 행 수
+     */
+    private long stream(String where, Consumer<List<ProductSearchDocument>> consumer, Object... args) {
+        Long count = transactionTemplate.execute(status -> {
+            List<ProductSearchDocument> batch = new ArrayList<>(batchSize);
+            long[] rows = {0};
+            jdbcTemplate.query(SELECT_DOCUMENTS + where, rs -> {
+                batch.add(DOCUMENT_MAPPER.mapRow(rs, (int) rows[0]++));
+                if (batch.size() >= batchSize) {
+                    consumer.accept(batch);
+                    batch.clear();
+                }
+            }, args);
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+            }
+            return rows[0];
+        });
+        return count != null ? count : 0;
+    }
+
+    private LocalDateTime databaseNow() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+    }
+
+    /**
+     * 주기 작업: 디스크 기록 (버스를 쓰지 않으면 변경분 동기화)
+     * 동기화 시각은 변경분 동기화/재구축에서만 앞으로 옮깁니다 (버스 연결이 끊긴 동안의 변경을 재연결 시 다시 읽도록).
+     */
+    private void commitQuietly() {
+        if (!started) {
+            return;
+        }
+        try {
+            if (pollChanges) {
+                sync();
+            } else if (index.hasUncommittedChanges() && index.watermark() != null) {
+                index.commit(index.watermark());
+            }
+        } catch (RuntimeException e) {
+            log.error("상품 검색 색인 커밋 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            scheduler.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("상품 검색 색인 작업 실패: {}", e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                // 재구축 중이면 커밋하지 않고 종료 (다음 시작 시 마지막 커밋 기준으로 다시 동기화)
+                log.warn("상품 검색 색인 작업이 끝나지 않아 커밋하지 않고 종료합니다");
+                scheduler.shutdownNow();
+                return;
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (index.hasUncommittedChanges() && index.watermark() != null) {
+            index.commit(index.watermark());
+        }
+        index.close();
+    }
+}
@@ -1,36 +1,65 @@
 package com.xlcfi.product.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.xlcfi.common.cache.CacheInvalidationHandler;
 import com.xlcfi.common.exception.BusinessException;
 import com.xlcfi.product.domain.Category;
 import com.xlcfi.product.dto.CategoryResponse;
 import com.xlcfi.product.repository.CategoryRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * 카테고리 서비스
+ *
+ * 카테고리는 거의 바뀌지 않으므로 조회 결과를 로컬 캐시에 보관합니다.
+ * categories 테이블이 바뀌면 캐시 무효화 버스(DB 알림)로 모든 노드의 캐시를 비우고,
+ * 알림을 받지 못한 경우에 대비해 TTL을 둡니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class CategoryService {
+public class CategoryService implements CacheInvalidationHandler {
+
+    private static final String TREE_KEY = "tree";
+    private static final String NAMES_KEY = "names";
 
     private final CategoryRepository categoryRepository;
+    private final Cache<Long, CategoryResponse> categoriesById;
+    private final Cache<String, List<CategoryResponse>> categoryLists;
+
+    public CategoryService(
+            CategoryRepository categoryRepository,
+            @Value("${xlcfi.category-cache.ttl:600000}") long ttlMillis) {
+        this.categoryRepository = categoryRepository;
+        this.categoriesById = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .build();
+        this.categoryLists = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
 
     /**
      * 모든 카테고리 조회 (계층 구조)
      */
     public List<CategoryResponse> getAllCategories() {
         log.info("전체 카테고리 조회");
-        
-        List<Category> rootCategories = categoryRepository.findByParentIsNull();
-        
-        return rootCategories.stream()
+
+        return categoryLists.get(TREE_KEY, key -> categoryRepository.findByParentIsNull().stream()
                 .map(CategoryResponse::from)
-                .collect(Collectors.toList());
+                .toList());
     }
 
     /**
@@ -38,11 +67,12 @@ public class CategoryService {
      */
     public CategoryResponse getCategoryById(Long categoryId) {
         log.info("카테고리 조회: categoryId={}", categoryId);
-        
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new BusinessException("CATEGORY001", "카테고리를 찾을 수 없습니다"));
-        
-        return CategoryResponse.from(category);
+
+        return categoriesById.get(categoryId, id -> {
+            Category category = categoryRepository.findById(id)
+                    .orElseThrow(() -> new BusinessException("CATEGORY001", "카테고리를 찾을 수 없습니다"));
+            return CategoryResponse.from(category);
+        });
     }
 
     /**
@@ -50,17 +80,28 @@ public class CategoryService {
      */
     public List<CategoryResponse> getChildCategories(Long parentId) {
         log.info("자식 카테고리 조회: parentId={}", parentId);
-        
-        // 부모 카테고리 존재 확인
-        if (!categoryRepository.existsById(parentId)) {
-            throw new BusinessException("CATEGORY001", "부모 카테고리를 찾을 수 없습니다");
-        }
-        
-        List<Category> children = categoryRepository.findByParentIdOrderBySortOrder(parentId);
-        
-        return children.stream()
-                .map(CategoryResponse::fromWithoutChildren)
-                .collect(Collectors.toList());
+
+        return categoryLists.get("children:" + parentId, key -> {
+            // 부모 카테고리 존재 확인
+            if (!categoryRepository.existsById(parentId)) {
+                throw new BusinessException("CATEGORY001", "부모 카테고리를 찾을 수 없습니다");
+            }
+
+            return categoryRepository.findByParentIdOrderBySortOrder(parentId).stream()
+                    .map(CategoryResponse::fromWithoutChildren)
+                    .toList();
+        });
+    }
+
+    /**
+     * 카테고리 이름 (ID별, 상품 필터 집계 표시용)
+     */
+    public Map<Long, String> getCategoryNames() {
+        return categoryLists.get(NAMES_KEY, key -> categoryRepository.findAllByOrderBySortOrder().stream()
+                        .map(CategoryResponse::fromWithoutChildren)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(CategoryResponse::getId, CategoryResponse::getName));
     }
 
     /**
@@ -75,5 +116,24 @@ public class CategoryService {
                 .map(CategoryResponse::fromWithoutChildren)
                 .collect(Collectors.toList());
     }
-}
 
+    @Override
+    public Set<String> tables() {
+        return Set.of("categories");
+    }
+
+    /**
+     * 카테고리 응답에 하위 트리가 포함되므로 행 단위 변경도 전체를 비움
+     */
+    @Override
+    public void invalidate(String table, Set<Long> ids) {
+        invalidateAll(table);
+    }
+
+    @Override
+    public void invalidateAll(String table) {
+        categoriesById.invalidateAll();
+        categoryLists.invalidateAll();
+        log.debug("카테고리 캐시 비움");
+    }
+}
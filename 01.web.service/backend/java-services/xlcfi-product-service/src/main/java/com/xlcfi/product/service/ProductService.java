@@ -3,29 +3,69 @@ package com.xlcfi.product.service;
 import com.xlcfi.auth.domain.User;
 import com.xlcfi.auth.repository.UserRepository;
 import com.xlcfi.common.exception.BusinessException;
+import com.xlcfi.common.outbox.DomainEventPublisher;
+import com.xlcfi.common.pagination.CountAccuracy;
+import com.xlcfi.common.pagination.CountedPage;
+import com.xlcfi.common.pagination.CursorPage;
+import com.xlcfi.common.pagination.KeysetPagination;
+import com.xlcfi.common.pagination.KeysetSort;
+import com.xlcfi.common.pagination.PageCountService;
+import com.xlcfi.product.cache.ProductDetailCache;
 import com.xlcfi.product.domain.Category;
 import com.xlcfi.product.domain.Product;
 import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.dto.ProductCardResponse;
 import com.xlcfi.product.dto.ProductRequest;
 import com.xlcfi.product.dto.ProductResponse;
+import com.xlcfi.product.dto.ProductViewerResponse;
 import com.xlcfi.product.repository.CategoryRepository;
 import com.xlcfi.product.repository.ProductRepository;
+import com.xlcfi.product.search.ProductSearchService;
+import com.xlcfi.product.trending.TrendingService;
+import com.xlcfi.product.trending.TrendingSnapshot;
+import com.xlcfi.product.view.ProductViewCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductService {
 
+    private static final KeysetSort<Product> LATEST = KeysetSort.latest(Product::getId);
+
+    /**
+     * 상품 개수 캐시 키 접두어
+     */
+    private static final String COUNT_KEY = "products:";
+
+    /**
+     * 상품 이벤트 애그리거트 종류
+     */
+    public static final String AGGREGATE_TYPE = "product";
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final PageCountService pageCountService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ProductSearchService productSearchService;
+    private final ProductViewCounter productViewCounter;
+    private final TrendingService trendingService;
+    private final ProductDetailCache productDetailCache;
 
     /**
      * 상품 등록
@@ -47,7 +87,7 @@ public class ProductService {
 
         // 상품 생성
         Product product = Product.builder()
-                .seller(seller)
+                .sellerId(seller.getId())
                 .category(category)
                 .name(request.getName())
                 .nameEn(request.getNameEn())
@@ -61,9 +101,13 @@ public class ProductService {
                 .build();
 
         Product savedProduct = productRepository.save(product);
+        pageCountService.invalidate(COUNT_KEY);
+        publishEvent(savedProduct, "PRODUCT_CREATED");
         log.info("상품 등록 완료: productId={}", savedProduct.getId());
 
-        return ProductResponse.from(savedProduct);
+        return ProductResponse.from(savedProduct).toBuilder()
+                .sellerName(seller.getName())
+                .build();
     }
 
     /**
@@ -77,7 +121,7 @@ public class ProductService {
                 .orElseThrow(() -> new BusinessException("PRODUCT003", "상품을 찾을 수 없습니다"));
 
         // 판매자 권한 확인
-        if (!product.getSeller().getId().equals(sellerId)) {
+        if (!product.getSellerId().equals(sellerId)) {
             throw new BusinessException("PRODUCT004", "상품을 수정할 권한이 없습니다");
         }
 
@@ -85,20 +129,19 @@ public class ProductService {
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
                     .orElseThrow(() -> new BusinessException("PRODUCT002", "카테고리를 찾을 수 없습니다"));
-            product.setCategory(category);
+            product.updateCategory(category);
         }
 
         // 상품 정보 업데이트
-        product.setName(request.getName());
-        product.setNameEn(request.getNameEn());
-        product.setDescription(request.getDescription());
-        product.setDescriptionEn(request.getDescriptionEn());
-        product.setPrice(request.getPrice());
-        product.setCurrency(request.getCurrency());
-        product.setStockQuantity(request.getStockQuantity());
-        product.setImages(request.getImages());
+        product.update(request.getName(), request.getNameEn(), request.getDescription(),
+                request.getDescriptionEn(), request.getPrice(), request.getStockQuantity(), null);
+        product.updateCurrency(request.getCurrency());
+        product.updateImages(request.getImages());
 
         Product updatedProduct = productRepository.save(product);
+        pageCountService.invalidate(COUNT_KEY);
+        productDetailCache.evict(productId);
+        publishEvent(updatedProduct, "PRODUCT_UPDATED");
         log.info("상품 수정 완료: productId={}", updatedProduct.getId());
 
         return ProductResponse.from(updatedProduct);
@@ -115,11 +158,14 @@ public class ProductService {
                 .orElseThrow(() -> new BusinessException("PRODUCT003", "상품을 찾을 수 없습니다"));
 
         // 판매자 권한 확인
-        if (!product.getSeller().getId().equals(sellerId)) {
+        if (!product.getSellerId().equals(sellerId)) {
             throw new BusinessException("PRODUCT005", "상품을 삭제할 권한이 없습니다");
         }
 
         productRepository.delete(product);
+        pageCountService.invalidate(COUNT_KEY);
+        productDetailCache.evict(productId);
+        domainEventPublisher.publish(AGGREGATE_TYPE, productId, "PRODUCT_DELETED", Map.of("productId", productId));
         log.info("상품 삭제 완료: productId={}", productId);
     }
 
@@ -134,12 +180,15 @@ public class ProductService {
                 .orElseThrow(() -> new BusinessException("PRODUCT003", "상품을 찾을 수 없습니다"));
 
         // 판매자 권한 확인
-        if (!product.getSeller().getId().equals(sellerId)) {
+        if (!product.getSellerId().equals(sellerId)) {
             throw new BusinessException("PRODUCT006", "상품 상태를 변경할 권한이 없습니다");
         }
 
-        product.setStatus(status);
+        product.changeStatus(status);
         Product updatedProduct = productRepository.save(product);
+        pageCountService.invalidate(COUNT_KEY);
+        productDetailCache.evict(productId);
+        publishEvent(updatedProduct, "PRODUCT_STATUS_CHANGED");
         log.info("상품 상태 변경 완료: productId={}, status={}", productId, status);
 
         return ProductResponse.from(updatedProduct);
@@ -147,100 +196,193 @@ public class ProductService {
 
     /**
      * 상품 상세 조회
+     * 상품 상세 캐시에서 읽고 캐시에 없을 때만 DB를 조회하므로, 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다.
+     * 조회수는 메모리에 모았다가 주기적으로 DB에 반영합니다.
+     *
+     * @param viewer 순 방문자 집계용 방문자 식별자 (없으면 null)
      */
-    @Transactional
-    public ProductResponse getProduct(Long productId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductResponse getProduct(Long productId, String viewer) {
         log.info("상품 조회: productId={}", productId);
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new BusinessException("PRODUCT003", "상품을 찾을 수 없습니다"));
+        ProductResponse cached = productDetailCache.get(productId);
+        if (cached == null) {
+            throw new BusinessException("PRODUCT003", "상품을 찾을 수 없습니다");
+        }
+
+        productViewCounter.record(productId, viewer);
+
+        // 캐시된 상세의 viewCount 대신 조회수 카운터에서 따로 읽음 (상세 캐시 갱신 주기와 관계없이 줄어들지 않음)
+        return cached.toBuilder()
+                .viewCount((int) productViewCounter.viewCount(productId))
+                .build();
+    }
 
-        // 조회수 증가
-        productRepository.incrementViewCount(productId);
+    /**
+     * 상품 일별 순 방문자 수 (추정치)
+     */
+    public ProductViewerResponse getUniqueViewers(Long productId, LocalDate date) {
+        log.info("상품 순 방문자 조회: productId={}, date={}", productId, date);
 
-        return ProductResponse.from(product);
+        return ProductViewerResponse.builder()
+                .productId(productId)
+                .date(date)
+                .uniqueViewers(productViewCounter.uniqueViewers(productId, date))
+                .build();
     }
 
     /**
      * 상품 목록 조회 (전체)
      */
-    public Page<ProductResponse> getProducts(Pageable pageable) {
+    public Page<ProductCardResponse> getProducts(Pageable pageable) {
         log.info("상품 목록 조회: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Product> products = productRepository.findByStatus(ProductStatus.PUBLISHED, pageable);
+        List<ProductCardResponse> products = productRepository.findCardsByStatus(ProductStatus.PUBLISHED, pageable);
 
-        return products.map(ProductResponse::from);
+        return publishedPage(products, pageable);
+    }
+
+    /**
+     * 상품 목록 조회 (전체, 커서 기반)
+     */
+    public CursorPage<ProductResponse> getProductsByCursor(String cursor, int size) {
+        log.info("상품 목록 커서 조회: size={}", size);
+
+        return KeysetPagination.fetch(productRepository, hasStatus(ProductStatus.PUBLISHED), LATEST, cursor, size,
+                        "category")
+                .map(ProductResponse::from);
     }
 
     /**
      * 카테고리별 상품 조회
      */
-    public Page<ProductResponse> getProductsByCategory(Long categoryId, Pageable pageable) {
+    public Page<ProductCardResponse> getProductsByCategory(Long categoryId, Pageable pageable) {
         log.info("카테고리별 상품 조회: categoryId={}", categoryId);
 
-        Page<Product> products = productRepository.findByCategoryIdAndStatus(
+        List<ProductCardResponse> products = productRepository.findCardsByCategoryIdAndStatus(
                 categoryId, ProductStatus.PUBLISHED, pageable);
 
-        return products.map(ProductResponse::from);
+        return pageCountService.page(products, pageable,
+                COUNT_KEY + "category:" + categoryId + ":" + ProductStatus.PUBLISHED,
+                () -> productRepository.countByCategoryIdAndStatus(categoryId, ProductStatus.PUBLISHED));
+    }
+
+    /**
+     * 카테고리별 상품 조회 (커서 기반)
+     */
+    public CursorPage<ProductResponse> getProductsByCategoryCursor(Long categoryId, String cursor, int size) {
+        log.info("카테고리별 상품 커서 조회: categoryId={}", categoryId);
+
+        Specification<Product> filter = hasStatus(ProductStatus.PUBLISHED)
+                .and((root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId));
+
+        return KeysetPagination.fetch(productRepository, filter, LATEST, cursor, size, "category")
+                .map(ProductResponse::from);
     }
 
     /**
      * 판매자별 상품 조회
      */
-    public Page<ProductResponse> getProductsBySeller(Long sellerId, Pageable pageable) {
+    public Page<ProductCardResponse> getProductsBySeller(Long sellerId, Pageable pageable) {
         log.info("판매자별 상품 조회: sellerId={}", sellerId);
 
-        Page<Product> products = productRepository.findBySellerId(sellerId, pageable);
+        List<ProductCardResponse> products = productRepository.findCardsBySellerId(sellerId, pageable);
 
-        return products.map(ProductResponse::from);
+        return pageCountService.page(products, pageable, COUNT_KEY + "seller:" + sellerId,
+                () -> productRepository.countBySellerId(sellerId));
     }
 
     /**
-     * 상품 검색
+     * 상품 검색 (검색 색인 관련도순)
+     * 색인이 아직 준비되지 않았으면 상품명 LIKE 검색(최신순)으로 대신합니다.
      */
-    public Page<ProductResponse> searchProducts(String keyword, Pageable pageable) {
+    public Page<ProductCardResponse> searchProducts(String keyword, Pageable pageable) {
         log.info("상품 검색: keyword={}", keyword);
 
-        Page<Product> products = productRepository.searchByKeyword(
+        if (productSearchService.isReady()) {
+            return pageCountService.page(productSearchService.search(keyword, pageable), pageable,
+                    COUNT_KEY + "fulltext:" + keyword, () -> productSearchService.count(keyword));
+        }
+
+        if (pageable.getSort().isUnsorted()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                    Sort.by(Sort.Direction.DESC, "createdAt"));
+        }
+        List<ProductCardResponse> products = productRepository.searchCardsByKeyword(
                 keyword, ProductStatus.PUBLISHED, pageable);
 
-        return products.map(ProductResponse::from);
+        return pageCountService.page(products, pageable, COUNT_KEY + "search:" + keyword,
+                () -> productRepository.countByKeyword(keyword, ProductStatus.PUBLISHED));
     }
 
     /**
-     * 인기 상품 조회
+     * 인기 상품 조회 (최근 조회/주문/리뷰 기준, 상위 top-k개까지)
+     * 메모리의 인기 상품 스냅숏에서 잘라 주며, 시작 직후 스냅숏이 없을 때만 누적 조회수순으로 조회합니다.
+     *
+     * @param categoryId 카테고리 (없으면 전체)
      */
-    public Page<ProductResponse> getPopularProducts(Pageable pageable) {
-        log.info("인기 상품 조회");
-
-        Page<Product> products = productRepository.findByStatusOrderByViewCountDesc(
-                ProductStatus.PUBLISHED, pageable);
+    public Page<ProductCardResponse> getPopularProducts(Long categoryId, Pageable pageable) {
+        log.info("인기 상품 조회: categoryId={}", categoryId);
+
+        TrendingSnapshot snapshot = trendingService.snapshot();
+        if (snapshot == null) {
+            List<ProductCardResponse> products = categoryId == null
+                    ? productRepository.findPopularCards(ProductStatus.PUBLISHED, pageable)
+                    : productRepository.findPopularCardsByCategoryId(categoryId, ProductStatus.PUBLISHED, pageable);
+            return categoryId == null
+                    ? publishedPage(products, pageable)
+                    : pageCountService.page(products, pageable,
+                            COUNT_KEY + "category:" + categoryId + ":" + ProductStatus.PUBLISHED,
+                            () -> productRepository.countByCategoryIdAndStatus(categoryId, ProductStatus.PUBLISHED));
+        }
 
-        return products.map(ProductResponse::from);
+        List<ProductCardResponse> ranked = snapshot.products(categoryId);
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return new CountedPage<>(ranked.subList(from, to), pageable, ranked.size(), CountAccuracy.EXACT);
     }
 
     /**
      * 평점 높은 상품 조회
      */
-    public Page<ProductResponse> getTopRatedProducts(Pageable pageable) {
+    public Page<ProductCardResponse> getTopRatedProducts(Pageable pageable) {
         log.info("평점 높은 상품 조회");
 
-        Page<Product> products = productRepository.findByStatusOrderByRatingAverageDesc(
-                ProductStatus.PUBLISHED, pageable);
+        List<ProductCardResponse> products = productRepository.findTopRatedCards(ProductStatus.PUBLISHED, pageable);
 
-        return products.map(ProductResponse::from);
+        return publishedPage(products, pageable);
     }
 
     /**
      * 최신 상품 조회
      */
-    public Page<ProductResponse> getLatestProducts(Pageable pageable) {
+    public Page<ProductCardResponse> getLatestProducts(Pageable pageable) {
         log.info("최신 상품 조회");
 
-        Page<Product> products = productRepository.findByStatusOrderByCreatedAtDesc(
-                ProductStatus.PUBLISHED, pageable);
+        List<ProductCardResponse> products = productRepository.findLatestCards(ProductStatus.PUBLISHED, pageable);
 
-        return products.map(ProductResponse::from);
+        return publishedPage(products, pageable);
+    }
+
+    /**
+     * 판매 중인 전체 상품 목록의 페이지 (상품이 많으면 통계 추정치 사용)
+     */
+    private Page<ProductCardResponse> publishedPage(List<ProductCardResponse> products, Pageable pageable) {
+        return pageCountService.estimatedPage(products, pageable,
+                COUNT_KEY + ProductStatus.PUBLISHED, "products", "status", ProductStatus.PUBLISHED.name(),
+                () -> productRepository.countByStatus(ProductStatus.PUBLISHED));
     }
-}
 
+    /**
+     * 상품 변경 이벤트 발행 (캐시 무효화, 검색 색인 등)
+     */
+    private void publishEvent(Product product, String eventType) {
+        domainEventPublisher.publish(AGGREGATE_TYPE, product.getId(), eventType, Map.of(
+                "productId", product.getId(),
+                "status", product.getStatus().name()));
+    }
+
+    private static Specification<Product> hasStatus(ProductStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+}
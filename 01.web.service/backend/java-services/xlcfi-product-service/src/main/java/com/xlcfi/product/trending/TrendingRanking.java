@@ -0,0 +1,325 @@
+package com.xlcfi.product.trending;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 인기 점수와 카테고리별 상위 K개 (지수 감쇠)
+ *
+ * 점수는 이벤트 가중치를 반감기(half-life)마다 절반으로 줄여 더한 값입니다.
+ * 모든 상품을 주기적으로 감쇠시키는 대신 기준 시각(epoch) 대비 exp(λ·(t - epoch))를 곱해 더하므로
+ * 저장된 점수는 늘어나기만 하고 상품 간 순서는 실제 감쇠 점수와 같습니다.
+ * 그래서 상위 K개는 최소 힙 하나로 정확히 유지됩니다 (힙 밖 상품은 자기 점수가 올라야만 들어올 수 있음).
+ * 지수가 커지면 기준 시각을 옮기면서 모든 점수를 같은 비율로 줄이고, 무시할 만큼 작아진 상품은 버립니다.
+ *
+ * 한 스레드에서만 변경합니다 (동기화 없음).
+ */
+public class TrendingRanking {
+
+    /**
+     * 카테고리가 없는 상품의 카테고리 키
+     */
+    public static final long NO_CATEGORY = 0;
+
+    // 기준 시각을 옮기는 지수 (e^40 ≈ 2.4e17, double 정밀도 안에서 여유 있게)
+    private static final double MAX_EXPONENT = 40;
+
+    private final double lambda;
+    private final int topK;
+    private final double pruneScore;
+    private long epochMillis;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TopK overall;
+    private final Map<Long, TopK> categories = new HashMap<>();
+
+    // 상품이 빠져서 힙 밖 상품으로 다시 채워야 하는 카테고리 (overall은 null 대신 전용 플래그)
+    private final Set<Long> refillCategories = new HashSet<>();
+    private boolean refillOverall;
+
+    /**
+     * @param halfLifeMillis 점수가 절반으로 줄어드는 시간
+     * @param topK 카테고리별(및 전체) 유지할 상위 상품 수
+     * @param pruneScore 이 값보다 작아진 상품은 버림 (감쇠 후 기준)
+     */
+    public TrendingRanking(long halfLifeMillis, int topK, double pruneScore, long nowMillis) {
+        this.lambda = Math.log(2) / halfLifeMillis;
+        this.topK = topK;
+        this.pruneScore = pruneScore;
+        this.epochMillis = nowMillis;
+        this.overall = new TopK(topK);
+    }
+
+    /**
+     * 이벤트 반영
+     *
+     * @param categoryId 상품 카테고리 (없으면 {@link #NO_CATEGORY})
+     * @param weight 가중치 (조회 1회, 주문 1건 등)
+     * @param eventMillis 이벤트 시각
+     */
+    public void add(long productId, long categoryId, double weight, long eventMillis) {
+        if (eventMillis - epochMillis > MAX_EXPONENT / lambda) {
+            rebase(eventMillis);
+        }
+        Entry entry = entries.get(productId);
+        if (entry == null) {
+            entry = new Entry(productId, categoryId);
+            entries.put(productId, entry);
+        } else if (entry.categoryId != categoryId) {
+            move(entry, categoryId);
+        }
+        entry.score += weight * Math.exp(lambda * (eventMillis - epochMillis));
+
+        overall.offer(entry);
+        categories.computeIfAbsent(categoryId, key -> new TopK(topK)).offer(entry);
+    }
+
+    /**
+     * 상품 제외 (판매 중지, 삭제)
+     */
+    public void remove(long productId) {
+        Entry entry = entries.remove(productId);
+        if (entry != null) {
+            detach(entry);
+        }
+    }
+
+    /**
+     * 상품 카테고리 (점수가 없으면 null)
+     */
+    public Long categoryOf(long productId) {
+        Entry entry = entries.get(productId);
+        return entry != null ? entry.categoryId : null;
+    }
+
+    /**
+     * 점수가 있는 상품 ID
+     */
+    public Set<Long> productIds() {
+        return entries.keySet();
+    }
+
+    /**
+     * 전체 상위 상품 ID (점수 내림차순)
+     */
+    public List<Long> top() {
+        refill();
+        return overall.sorted();
+    }
+
+    /**
+     * 카테고리별 상위 상품 ID (점수 내림차순)
+     */
+    public Map<Long, List<Long>> topByCategory() {
+        refill();
+        Map<Long, List<Long>> tops = new HashMap<>();
+        categories.forEach((categoryId, heap) -> {
+            if (heap.size > 0) {
+                tops.put(categoryId, heap.sorted());
+            }
+        });
+        return tops;
+    }
+
+    /**
+     * 현재 시각 기준 감쇠 점수 (점수가 없으면 0)
+     */
+    public double score(long productId, long nowMillis) {
+        Entry entry = entries.get(productId);
+        return entry != null ? entry.score * Math.exp(-lambda * (nowMillis - epochMillis)) : 0;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 기준 시각을 옮기고 모든 점수를 같은 비율로 줄임 (작아진 상품은 버림)
+     * 지수가 커지면 자동으로 호출되며, 오래된 상품을 정리하려면 주기적으로 호출합니다.
+     */
+    public void rebase(long nowMillis) {
+        double factor = Math.exp(-lambda * (nowMillis - epochMillis));
+        epochMillis = nowMillis;
+        // 힙에서 빼면서 점수를 비교하므로 모든 점수를 먼저 줄인 뒤 버림 (줄인 점수와 안 줄인 점수를 섞어 비교하지 않도록)
+        for (Entry entry : entries.values()) {
+            entry.score *= factor;
+        }
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.score < pruneScore) {
+                iterator.remove();
+                detach(entry);
+            }
+        }
+    }
+
+    private void move(Entry entry, long categoryId) {
+        TopK previous = categories.get(entry.categoryId);
+        if (previous != null && previous.remove(entry)) {
+            refillCategories.add(entry.categoryId);
+        }
+        entry.categoryId = categoryId;
+    }
+
+    private void detach(Entry entry) {
+        if (overall.remove(entry)) {
+            refillOverall = true;
+        }
+        TopK heap = categories.get(entry.categoryId);
+        if (heap != null && heap.remove(entry)) {
+            refillCategories.add(entry.categoryId);
+        }
+    }
+
+    /**
+     * 빠진 자리를 힙 밖 상품으로 다시 채움 (전체 상품을 한 번 훑음, 제외가 있었던 경우에만)
+     */
+    private void refill() {
+        if (!refillOverall && refillCategories.isEmpty()) {
+            return;
+        }
+        for (Entry entry : entries.values()) {
+            if (refillOverall) {
+                overall.offer(entry);
+            }
+            if (refillCategories.contains(entry.categoryId)) {
+                categories.get(entry.categoryId).offer(entry);
+            }
+        }
+        refillOverall = false;
+        refillCategories.removeIf(categoryId -> {
+            TopK heap = categories.get(categoryId);
+            if (heap != null && heap.size == 0) {
+                categories.remove(categoryId);
+            }
+            return true;
+        });
+    }
+
+    private static final class Entry {
+        private final long productId;
+        private long categoryId;
+        private double score;
+        // 전체/카테고리 힙에서의 위치 (없으면 -1)
+        private int overallIndex = -1;
+        private int categoryIndex = -1;
+
+        private Entry(long productId, long categoryId) {
+            this.productId = productId;
+            this.categoryId = categoryId;
+        }
+    }
+
+    /**
+     * 점수 최소 힙 (크기 K, 루트가 K번째로 높은 점수)
+     */
+    private final class TopK {
+
+        private final Entry[] heap;
+        private int size;
+
+        private TopK(int capacity) {
+            this.heap = new Entry[capacity];
+        }
+
+        /**
+         * 점수가 오른 상품 반영
+         */
+        private void offer(Entry entry) {
+            int index = index(entry);
+            if (index >= 0) {
+                // 점수가 올랐으므로 아래로
+                siftDown(index);
+            } else if (size < heap.length) {
+                heap[size] = entry;
+                setIndex(entry, size);
+                siftUp(size++);
+            } else if (entry.score > heap[0].score) {
+                setIndex(heap[0], -1);
+                heap[0] = entry;
+                setIndex(entry, 0);
+                siftDown(0);
+            }
+        }
+
+        private boolean remove(Entry entry) {
+            int index = index(entry);
+            if (index < 0) {
+                return false;
+            }
+            setIndex(entry, -1);
+            Entry last = heap[--size];
+            heap[size] = null;
+            if (index < size) {
+                heap[index] = last;
+                setIndex(last, index);
+                siftDown(index);
+                siftUp(index(last));
+            }
+            return true;
+        }
+
+        private List<Long> sorted() {
+            Entry[] copy = Arrays.copyOf(heap, size);
+            Arrays.sort(copy, (a, b) -> Double.compare(b.score, a.score));
+            List<Long> productIds = new ArrayList<>(size);
+            for (Entry entry : copy) {
+                productIds.add(entry.productId);
+            }
+            return productIds;
+        }
+
+        private void siftUp(int index) {
+            Entry entry = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent].score <= entry.score) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                setIndex(heap[index], index);
+                index = parent;
+            }
+            heap[index] = entry;
+            setIndex(entry, index);
+        }
+
+        private void siftDown(int index) {
+            Entry entry = heap[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && heap[child + 1].score < heap[child].score) {
+                    child++;
+                }
+                if (entry.score <= heap[child].score) {
+                    break;
+                }
+                heap[index] = heap[child];
+                setIndex(heap[index], index);
+                index = child;
+            }
+            heap[index] = entry;
+            setIndex(entry, index);
+        }
+
+        private int index(Entry entry) {
+            return this == overall ? entry.overallIndex : entry.categoryIndex;
+        }
+
+        private void setIndex(Entry entry, int index) {
+            if (this == overall) {
+                entry.overallIndex = index;
+            } else {
+                entry.categoryIndex = index;
+            }
+        }
+    }
+}
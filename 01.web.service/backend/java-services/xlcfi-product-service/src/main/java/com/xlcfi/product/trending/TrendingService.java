@@ -0,0 +1,372 @@
+package com.xlcfi.product.trending;
+
+import com.xlcfi.common.cache.CacheInvalidationHandler;
+import com.xlcfi.product.dto.ProductCardResponse;
+import com.xlcfi.product.repository.ProductRepository;
+import com.xlcfi.product.view.ProductViewListener;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 상품 (조회, 주문, 리뷰의 지수 감쇠 점수)
+ *
+ * 이벤트는 다음과 같이 받아 {@link TrendingRanking}에 반영합니다.
+ * - 조회: {@link ProductViewListener} (이 노드가 받은 조회만, 노드 간 트래픽이 고르면 전체의 표본)
+ * - 주문/리뷰: snapshot-interval마다 orders/order_items, reviews에서 새로 생긴 행을 읽음 (모든 노드 공통)
+ * 시작 시에는 lookback 동안의 주문/리뷰로 점수를 채웁니다.
+ *
+ * snapshot-interval마다 전체/카테고리별 상위 상품의 카드를 만들어 {@link TrendingSnapshot}으로 교체하므로
+ * 조회 요청은 DB에 접근하지 않습니다. 상품 변경은 캐시 무효화 버스로 받아 카드와 카테고리를 갱신합니다.
+ *
+ * 점수 변경은 모두 한 스레드에서 순서대로 처리합니다.
+ */
+@Slf4j
+@Service
+public class TrendingService implements ProductViewListener, CacheInvalidationHandler {
+
+    private static final String TABLE = "products";
+    private static final String PUBLISHED = "p.status = 'PUBLISHED' AND p.deleted_at IS NULL";
+
+    private static final String ORDERS_SQL = "SELECT oi.id, oi.product_id, p.category_id, oi.quantity AS amount, "
+            + "o.created_at FROM orders o "
+            + "JOIN order_items oi ON oi.order_id = o.id "
+            + "JOIN products p ON p.id = oi.product_id AND " + PUBLISHED + " "
+            + "WHERE o.created_at > ?";
+
+    private static final String REVIEWS_SQL = "SELECT r.id, r.product_id, p.category_id, 1 AS amount, r.created_at "
+            + "FROM reviews r "
+            + "JOIN products p ON p.id = r.product_id AND " + PUBLISHED + " "
+            + "WHERE r.created_at > ? AND r.status = 'PUBLISHED'";
+
+    private static final String CATEGORIES_SQL = "SELECT p.id, p.category_id FROM products p WHERE " + PUBLISHED + " AND p.id IN ";
+
+    private static final int MAX_IN_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final double viewWeight;
+    private final Duration lookback;
+    private final Duration pollOverlap;
+    private final long halfLifeMillis;
+    private final ScheduledExecutorService scheduler;
+
+    // 아래 필드는 scheduler 스레드에서만 사용
+    private final TrendingRanking ranking;
+    private final EventPoll orders;
+    private final EventPoll reviews;
+    private final Map<Long, ProductCardResponse> cards = new HashMap<>();
+    private long rebasedAt;
+
+    private volatile boolean started;
+    private volatile TrendingSnapshot snapshot;
+
+    public TrendingService(
+            DataSource dataSource,
+            ProductRepository productRepository,
+            @Value("${xlcfi.trending.half-life:21600000}") long halfLifeMillis,
+            @Value("${xlcfi.trending.top-k:100}") int topK,
+            @Value("${xlcfi.trending.weights.view:1}") double viewWeight,
+            @Value("${xlcfi.trending.weights.order:20}") double orderWeight,
+            @Value("${xlcfi.trending.weights.review:10}") double reviewWeight,
+            @Value("${xlcfi.trending.snapshot-interval:10000}") long snapshotIntervalMillis,
+            @Value("${xlcfi.trending.lookback:86400000}") long lookbackMillis,
+            @Value("${xlcfi.trending.poll-overlap:60000}") long pollOverlapMillis) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.productRepository = productRepository;
+        this.viewWeight = viewWeight;
+        this.lookback = Duration.ofMillis(lookbackMillis);
+        this.pollOverlap = Duration.ofMillis(pollOverlapMillis);
+        this.halfLifeMillis = halfLifeMillis;
+        // 점수가 조회 0.05회 아래로 줄어든 상품은 버림
+        this.ranking = new TrendingRanking(halfLifeMillis, topK, viewWeight * 0.05, System.currentTimeMillis());
+        this.orders = new EventPoll(ORDERS_SQL, orderWeight);
+        this.reviews = new EventPoll(REVIEWS_SQL, reviewWeight);
+        this.rebasedAt = System.currentTimeMillis();
+        // 점수 변경은 이 스레드에서만 실행
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-trending");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(
+                this::refreshQuietly, snapshotIntervalMillis, snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 시작 시 최근 주문/리뷰로 점수를 채우고 첫 스냅숏 생성 (DB 마이그레이션이 끝난 뒤)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        started = true;
+        submit(this::refresh);
+    }
+
+    /**
+     * 최신 스냅숏 (아직 만들지 않았으면 null)
+     */
+    public TrendingSnapshot snapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public void onViews(Map<Long, Long> views) {
+        if (started) {
+            long now = System.currentTimeMillis();
+            Map<Long, Long> copy = new HashMap<>(views);
+            submit(() -> applyViews(copy, now));
+        }
+    }
+
+    @Override
+    public Set<String> tables() {
+        return Set.of(TABLE);
+    }
+
+    @Override
+    public void invalidate(String table, Set<Long> ids) {
+        if (started) {
+            submit(() -> reload(ids));
+        }
+    }
+
+    @Override
+    public void invalidateAll(String table) {
+        if (started) {
+            submit(() -> reload(new HashSet<>(ranking.productIds())));
+        }
+    }
+
+    /**
+     * 새 주문/리뷰 반영 후 스냅숏 교체
+     */
+    void refresh() {
+        long now = System.currentTimeMillis();
+        orders.poll();
+        reviews.poll();
+        if (now - rebasedAt >= halfLifeMillis) {
+            // 오래된 상품 정리
+            ranking.rebase(now);
+            rebasedAt = now;
+        }
+
+        List<Long> overall = ranking.top();
+        Map<Long, List<Long>> byCategory = ranking.topByCategory();
+
+        Set<Long> productIds = new HashSet<>(overall);
+        byCategory.values().forEach(productIds::addAll);
+        cards.keySet().retainAll(productIds);
+        loadCards(productIds);
+
+        Map<Long, List<ProductCardResponse>> categoryCards = new HashMap<>();
+        byCategory.forEach((categoryId, ids) -> {
+            if (categoryId != TrendingRanking.NO_CATEGORY) {
+                categoryCards.put(categoryId, toCards(ids));
+            }
+        });
+        snapshot = TrendingSnapshot.builder()
+                .overall(toCards(overall))
+                .byCategory(categoryCards)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        log.debug("인기 상품 스냅숏 교체: products={}, categories={}, elapsed={}ms",
+                ranking.size(), categoryCards.size(), System.currentTimeMillis() - now);
+    }
+
+    /**
+     * 이 노드가 받은 조회수 반영 (처음 보는 상품은 카테고리와 판매 여부 확인)
+     */
+    void applyViews(Map<Long, Long> views, long viewedAt) {
+        Set<Long> unknown = new HashSet<>();
+        views.keySet().forEach(productId -> {
+            if (ranking.categoryOf(productId) == null) {
+                unknown.add(productId);
+            }
+        });
+        Map<Long, Long> categories = findPublishedCategories(unknown);
+
+        views.forEach((productId, count) -> {
+            Long categoryId = ranking.categoryOf(productId);
+            if (categoryId == null) {
+                categoryId = categories.get(productId);
+            }
+            if (categoryId != null) {
+                ranking.add(productId, categoryId, viewWeight * count, viewedAt);
+            }
+        });
+    }
+
+    /**
+     * 변경된 상품의 카테고리/판매 여부 다시 확인 (판매 중이 아니면 제외)
+     */
+    void reload(Set<Long> ids) {
+        Set<Long> tracked = new HashSet<>(ids);
+        tracked.retainAll(ranking.productIds());
+        cards.keySet().removeAll(ids);
+        if (tracked.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> categories = findPublishedCategories(tracked);
+        for (Long productId : tracked) {
+            Long categoryId = categories.get(productId);
+            if (categoryId == null) {
+                ranking.remove(productId);
+            } else if (!categoryId.equals(ranking.categoryOf(productId))) {
+                // 점수 0을 더해 카테고리만 옮김
+                ranking.add(productId, categoryId, 0, System.currentTimeMillis());
+            }
+        }
+    }
+
+    /**
+     * 판매 중인 상품의 카테고리 (카테고리가 없으면 {@link TrendingRanking#NO_CATEGORY}, 판매 중이 아니면 제외)
+     */
+    private Map<Long, Long> findPublishedCategories(Collection<Long> productIds) {
+        Map<Long, Long> categories = new HashMap<>();
+        for (List<Long> chunk : chunks(productIds)) {
+            jdbcTemplate.query(
+                    CATEGORIES_SQL + "(" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                    rs -> {
+                        long categoryId = rs.getLong("category_id");
+                        categories.put(rs.getLong("id"), rs.wasNull() ? TrendingRanking.NO_CATEGORY : categoryId);
+                    },
+                    chunk.toArray());
+        }
+        return categories;
+    }
+
+    /**
+     * 카드가 없는 상품만 조회 (판매 중이 아니게 된 상품은 순위에서 제외)
+     */
+    private void loadCards(Set<Long> productIds) {
+        Set<Long> missing = new LinkedHashSet<>(productIds);
+        missing.removeAll(cards.keySet());
+        for (List<Long> chunk : chunks(missing)) {
+            productRepository.findPublishedCardsInOrder(chunk).forEach(card -> cards.put(card.getId(), card));
+        }
+        missing.removeAll(cards.keySet());
+        missing.forEach(ranking::remove);
+    }
+
+    private List<ProductCardResponse> toCards(List<Long> productIds) {
+        return productIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> productIds) {
+        List<Long> ids = new ArrayList<>(productIds);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IN_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + MAX_IN_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private void refreshQuietly() {
+        if (!started) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("인기 상품 스냅숏 생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            scheduler.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("인기 상품 점수 반영 실패: {}", e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 생성 시각 순으로 새 행을 읽는 이벤트 원천 (주문, 리뷰)
+     *
+     * 늦게 커밋된 행을 놓치지 않도록 마지막으로 본 생성 시각보다 poll-overlap만큼 앞에서부터 읽고,
+     * 겹치는 구간에서 이미 반영한 행은 ID로 걸러냅니다.
+     */
+    private final class EventPoll {
+
+        private final String sql;
+        private final double weight;
+        private LocalDateTime watermark;
+        private Map<Long, LocalDateTime> seen = new HashMap<>();
+
+        private EventPoll(String sql, double weight) {
+            this.sql = sql;
+            this.weight = weight;
+        }
+
+        private void poll() {
+            LocalDateTime since = watermark != null
+                    ? watermark.minus(pollOverlap)
+                    : LocalDateTime.now().minus(lookback);
+            Map<Long, LocalDateTime> polled = new HashMap<>();
+            LocalDateTime[] latest = {watermark};
+
+            jdbcTemplate.query(sql, rs -> {
+                long id = rs.getLong("id");
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                polled.put(id, createdAt.toLocalDateTime());
+                if (latest[0] == null || createdAt.toLocalDateTime().isAfter(latest[0])) {
+                    latest[0] = createdAt.toLocalDateTime();
+                }
+                if (seen.containsKey(id)) {
+                    return;
+                }
+                long categoryId = rs.getLong("category_id");
+                ranking.add(rs.getLong("product_id"),
+                        rs.wasNull() ? TrendingRanking.NO_CATEGORY : categoryId,
+                        weight * rs.getInt("amount"), createdAt.getTime());
+            }, Timestamp.valueOf(since));
+
+            watermark = latest[0];
+            if (watermark != null) {
+                // 다음 조회 구간에 다시 나올 수 있는 행만 기억
+                LocalDateTime next = watermark.minus(pollOverlap);
+                polled.values().removeIf(createdAt -> createdAt.isBefore(next));
+            }
+            seen = polled;
+        }
+    }
+}
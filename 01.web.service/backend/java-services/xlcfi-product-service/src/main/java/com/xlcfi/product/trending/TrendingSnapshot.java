@@ -0,0 +1,33 @@
+package com.xlcfi.product.trending;
+
+import com.xlcfi.product.dto.ProductCardResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 상품 스냅숏 (주기적으로 새로 만들어 교체, 만든 뒤에는 바뀌지 않음)
+ */
+@Getter
+@Builder
+public class TrendingSnapshot {
+
+    /**
+     * 전체 인기 상품 (인기순)
+     */
+    private final List<ProductCardResponse> overall;
+
+    /**
+     * 카테고리별 인기 상품 (인기순)
+     */
+    private final Map<Long, List<ProductCardResponse>> byCategory;
+
+    private final LocalDateTime createdAt;
+
+    public List<ProductCardResponse> products(Long categoryId) {
+        return categoryId == null ? overall : byCategory.getOrDefault(categoryId, List.of());
+    }
+}
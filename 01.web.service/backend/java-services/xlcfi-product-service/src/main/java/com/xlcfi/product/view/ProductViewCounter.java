@@ -0,0 +1,250 @@
+package com.xlcfi.product.view;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수 (쓰기 지연 카운터)
+ *
+ * 조회마다 DB를 갱신하는 대신 상품별 {@link LongAdder}에 모아 두었다가 flush-interval마다
+ * 한 번의 배치 UPDATE로 더합니다. 인기 상품의 행 잠금에 조회 요청이 줄을 서지 않습니다.
+ * DB 반영 전 프로세스가 죽으면 그 사이의 조회수는 유실됩니다.
+ *
+ * 화면에 보여 줄 조회수({@link #viewCount})는 DB에 반영된 값(상품별 base-ttl 동안 캐시)에 아직 반영하지 않은 값을 더합니다.
+ * 이 노드가 반영한 조회수는 캐시된 값에도 바로 더하므로, 반영 주기가 지나도 이 노드에서 조회수가 줄어들지 않습니다.
+ *
+ * 일별 순 방문자 수는 Redis HyperLogLog(PFADD/PFCOUNT)로 추정합니다 (표준 오차 약 0.81%).
+ */
+@Slf4j
+@Service
+public class ProductViewCounter {
+
+    private static final String VIEWERS_PREFIX = "product:viewers:";
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final String FLUSH_SQL = "UPDATE products SET view_count = view_count + ? WHERE id = ?";
+    private static final String VIEW_COUNT_SQL = "SELECT view_count FROM products WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final List<ProductViewListener> listeners;
+    private final Duration viewerRetention;
+    private final ScheduledExecutorService scheduler;
+
+    // 현재 모으는 조회수, 직전 주기에 떼어 낸 조회수 (교체 직전에 가져간 스레드가 늦게 더한 값 회수용)
+    private final AtomicReference<Map<Long, LongAdder>> views = new AtomicReference<>(new ConcurrentHashMap<>());
+    private volatile Map<Long, LongAdder> retired = Map.of();
+
+    // Redis 키(일자, 상품)별 방문자
+    private final AtomicReference<Map<String, Set<String>>> viewers = new AtomicReference<>(new ConcurrentHashMap<>());
+
+    // 상품 ID별 DB에 반영된 조회수 (다른 노드가 반영한 조회수는 만료 후 다시 읽을 때 반영)
+    private final Cache<Long, Long> flushedCounts;
+
+    public ProductViewCounter(
+            DataSource dataSource,
+            StringRedisTemplate redisTemplate,
+            List<ProductViewListener> listeners,
+            @Value("${xlcfi.view-counter.flush-interval:5000}") long flushIntervalMillis,
+            @Value("${xlcfi.view-counter.viewer-retention-days:7}") int viewerRetentionDays,
+            @Value("${xlcfi.view-counter.base-ttl:60000}") long baseTtlMillis,
+            @Value("${xlcfi.view-counter.base-maximum-size:10000}") long baseMaximumSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.redisTemplate = redisTemplate;
+        this.listeners = listeners;
+        this.viewerRetention = Duration.ofDays(viewerRetentionDays);
+        this.flushedCounts = Caffeine.newBuilder()
+                .maximumSize(baseMaximumSize)
+                .expireAfterWrite(baseTtlMillis, TimeUnit.MILLISECONDS)
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-view-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(
+                this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 조회 기록
+     *
+     * @param viewer 방문자 식별자 (로그인 사용자 ID 또는 클라이언트 IP 등, null이면 순 방문자 집계 제외)
+     */
+    public void record(Long productId, String viewer) {
+        Map<Long, LongAdder> current = views.get();
+        LongAdder adder = current.get(productId);
+        if (adder == null) {
+            adder = current.computeIfAbsent(productId, id -> new LongAdder());
+        }
+        adder.increment();
+
+        if (viewer != null) {
+            viewers.get()
+                    .computeIfAbsent(viewersKey(productId, LocalDate.now()), key -> ConcurrentHashMap.newKeySet())
+                    .add(viewer);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영하지 않은 이 노드의 조회수
+     */
+    public long pending(Long productId) {
+        LongAdder current = views.get().get(productId);
+        LongAdder previous = retired.get(productId);
+        return (current != null ? current.sum() : 0) + (previous != null ? previous.sum() : 0);
+    }
+
+    /**
+     * 화면에 보여 줄 조회수 (DB에 반영된 조회수 + 이 노드에서 아직 반영하지 않은 조회수)
+     */
+    public long viewCount(Long productId) {
+        Long flushed = flushedCounts.getIfPresent(productId);
+        if (flushed == null) {
+            List<Long> loaded = jdbcTemplate.queryForList(VIEW_COUNT_SQL, Long.class, productId);
+            // 조회 중에 반영된 조회수를 이미 더했다면 큰 값 유지
+            flushed = flushedCounts.asMap().merge(productId, loaded.isEmpty() ? 0L : loaded.get(0), Math::max);
+        }
+        return flushed + pending(productId);
+    }
+
+    /**
+     * 일별 순 방문자 수 추정치 (이 노드에서 아직 Redis에 반영하지 않은 방문자 제외)
+     */
+    public long uniqueViewers(Long productId, LocalDate date) {
+        Long count = redisTemplate.opsForHyperLogLog().size(viewersKey(productId, date));
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 모아 둔 조회수를 DB에, 방문자를 Redis에 반영
+     */
+    void flush() {
+        flushViews();
+        flushViewers();
+    }
+
+    private void flushViews() {
+        Map<Long, LongAdder> flushed = views.getAndSet(new ConcurrentHashMap<>());
+        Map<Long, Long> deltas = new TreeMap<>();
+        drain(retired, deltas);
+        drain(flushed, deltas);
+        retired = flushed;
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 상품 ID 순으로 갱신 (여러 노드가 동시에 반영해도 교착 상태 없음)
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((productId, delta) -> batch.add(new Object[]{delta, productId}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (DataAccessException e) {
+            // 다음 주기에 다시 시도 (미반영 조회수에 되돌린 뒤 반영된 조회수에서 뺌)
+            Map<Long, LongAdder> current = views.get();
+            deltas.forEach((productId, delta) -> {
+                current.computeIfAbsent(productId, id -> new LongAdder()).add(delta);
+                flushedCounts.asMap().computeIfPresent(productId, (id, count) -> count - delta);
+            });
+            throw e;
+        }
+        log.debug("상품 조회수 반영: products={}", deltas.size());
+        notifyListeners(deltas);
+    }
+
+    private void flushViewers() {
+        Map<String, Set<String>> flushed = viewers.getAndSet(new ConcurrentHashMap<>());
+        if (flushed.isEmpty()) {
+            return;
+        }
+        long ttlSeconds = viewerRetention.toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                flushed.forEach((key, members) -> {
+                    redis.pfAdd(key, members.toArray(String[]::new));
+                    redis.expire(key, ttlSeconds);
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            // 추정치이므로 다시 시도하지 않음
+            log.warn("상품 순 방문자 반영 실패: keys={}, error={}", flushed.size(), e.getMessage());
+        }
+    }
+
+    private void notifyListeners(Map<Long, Long> deltas) {
+        for (ProductViewListener listener : listeners) {
+            try {
+                listener.onViews(deltas);
+            } catch (RuntimeException e) {
+                log.warn("상품 조회수 리스너 실패: listener={}, error={}", listener.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private void drain(Map<Long, LongAdder> source, Map<Long, Long> deltas) {
+        source.forEach((productId, adder) -> {
+            long sum = adder.sum();
+            if (sum != 0) {
+                // 반영된 조회수에 먼저 더해야 viewCount가 잠깐이라도 줄어들지 않음
+                flushedCounts.asMap().computeIfPresent(productId, (id, count) -> count + sum);
+                // reset 대신 뺄셈 (동시에 더해진 값을 잃지 않음)
+                adder.add(-sum);
+                deltas.merge(productId, sum, Long::sum);
+            }
+        });
+    }
+
+    private static String viewersKey(Long productId, LocalDate date) {
+        return VIEWERS_PREFIX + date.format(DAY) + ":" + productId;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("상품 조회수 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("상품 조회수 반영 작업이 끝나지 않아 마지막 반영을 생략합니다");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        flushQuietly();
+    }
+}
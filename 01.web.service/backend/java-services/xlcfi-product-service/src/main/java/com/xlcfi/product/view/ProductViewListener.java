@@ -0,0 +1,17 @@
+package com.xlcfi.product.view;
+
+import java.util.Map;
+
+/**
+ * 상품 조회수 리스너
+ *
+ * 빈으로 등록하면 {@link ProductViewCounter}가 조회수를 DB에 반영할 때마다 같은 스레드에서 호출합니다.
+ * 오래 걸리는 작업은 별도 스레드로 넘겨야 합니다.
+ */
+public interface ProductViewListener {
+
+    /**
+     * @param views 상품 ID별 이번 주기의 조회수 (이 노드에서 받은 조회만)
+     */
+    void onViews(Map<Long, Long> views);
+}
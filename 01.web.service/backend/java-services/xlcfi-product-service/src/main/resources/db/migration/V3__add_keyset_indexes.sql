@@ -0,0 +1,10 @@
+-- ==========================================
+-- V3: 커서 기반 페이지네이션 인덱스
+-- ==========================================
+
+-- 최신순 목록은 (created_at, id) 순서로 이어서 조회하므로 id까지 포함한 인덱스로 교체
+DROP INDEX IF EXISTS idx_products_status_created;
+CREATE INDEX idx_products_status_created_id ON products(status, created_at DESC, id DESC);
+
+-- 카테고리별 최신순 목록
+CREATE INDEX idx_products_category_status_created_id ON products(category_id, status, created_at DESC, id DESC);
@@ -0,0 +1,33 @@
+-- ==========================================
+-- V5: 트랜잭셔널 아웃박스
+-- ==========================================
+
+-- 아웃박스 이벤트 (엔티티 변경과 같은 트랜잭션에서 기록, 릴레이가 전달 후 삭제)
+-- 여러 서비스가 같은 DB를 사용하므로 source(서비스 이름)별로 릴레이가 나누어 가져감
+-- 전달을 포기한 이벤트 (max-attempts번 실패)는 status = 'DEAD'로 남고 릴레이가 더 이상 가져가지 않음
+-- 원인을 해결한 뒤 UPDATE outbox_events SET status = 'PENDING', attempts = 0, available_at = NOW() WHERE id = ...; 로 재전달
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    source VARCHAR(50) NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    available_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING'
+);
+
+-- 릴레이 배치 조회 (source별 전달 가능 시각 순, PENDING만 대상)
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events(source, available_at, id) WHERE status = 'PENDING';
+
+-- DEAD 이벤트 확인용
+CREATE INDEX IF NOT EXISTS idx_outbox_events_dead ON outbox_events(source, id) WHERE status = 'DEAD';
+
+COMMENT ON TABLE outbox_events IS '트랜잭셔널 아웃박스 이벤트';
+COMMENT ON COLUMN outbox_events.source IS '이벤트를 발행한 서비스 (spring.application.name)';
+COMMENT ON COLUMN outbox_events.available_at IS '전달 가능 시각 (실패 시 지수 백오프로 늦춤)';
+COMMENT ON COLUMN outbox_events.attempts IS '전달 실패 횟수';
+COMMENT ON COLUMN outbox_events.status IS 'PENDING: 전달 대기, DEAD: max-attempts번 실패해 전달 중단';
@@ -0,0 +1,166 @@
+package com.xlcfi.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xlcfi.product.domain.Product;
+import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.dto.ProductResponse;
+import com.xlcfi.product.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProductDetailCache Unit Test
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("상품 상세 캐시 단위 테스트")
+class ProductDetailCacheTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final String KEY = "product:detail:1";
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+    private static final Duration MISSING_TTL = Duration.ofSeconds(5);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ProductDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new ProductDetailCache(productRepository, transactionManager, redisTemplate, objectMapper,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class),
+                100, 60_000, 45_000, REDIS_TTL.toMillis(), MISSING_TTL.toMillis());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("L1/L2에 없으면 DB에서 읽어 L2에 저장하고, 다음 조회는 L1에서 반환")
+    void get_Miss_LoadsFromDatabaseAndStoresInRedis() {
+        // Given
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product()));
+
+        // When
+        ProductResponse first = cache.get(PRODUCT_ID);
+        ProductResponse second = cache.get(PRODUCT_ID);
+
+        // Then
+        assertThat(first.getName()).isEqualTo("테스트 상품");
+        assertThat(second).isSameAs(first);
+        verify(productRepository, times(1)).findById(PRODUCT_ID);
+        verify(valueOperations).set(eq(KEY), anyString(), eq(REDIS_TTL));
+    }
+
+    @Test
+    @DisplayName("없는 상품은 null을 반환하고 missing-ttl 동안 L1/L2에 기록해 DB를 다시 조회하지 않음")
+    void get_MissingProduct_NegativelyCached() {
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.empty());
+
+        assertThat(cache.get(PRODUCT_ID)).isNull();
+        assertThat(cache.get(PRODUCT_ID)).isNull();
+
+        verify(productRepository, times(1)).findById(PRODUCT_ID);
+        verify(valueOperations).set(KEY, "null", MISSING_TTL);
+    }
+
+    @Test
+    @DisplayName("L2에 기록된 없는 상품은 DB를 조회하지 않고 null 반환")
+    void get_MissingInRedis_ReturnsNullWithoutDatabase() {
+        when(valueOperations.get(KEY)).thenReturn("null");
+
+        assertThat(cache.get(PRODUCT_ID)).isNull();
+
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("DB 조회 중에 제거되면 읽은 값을 L2에 저장하지 않고, 다음 조회는 DB에서 다시 읽음")
+    void get_EvictedDuringLoad_NotStoredInRedis() throws Exception {
+        // Given: DB 조회 도중 다른 스레드가 상품을 변경하고 캐시 제거
+        CountDownLatch redisDeleted = new CountDownLatch(1);
+        when(redisTemplate.delete(anyCollection())).thenAnswer(invocation -> {
+            redisDeleted.countDown();
+            return 1L;
+        });
+        Thread[] evictor = new Thread[1];
+        when(productRepository.findById(PRODUCT_ID)).thenAnswer(invocation -> {
+            evictor[0] = new Thread(() -> cache.evict(PRODUCT_ID));
+            evictor[0].start();
+            assertThat(redisDeleted.await(5, TimeUnit.SECONDS)).isTrue();
+            return Optional.of(product());
+        });
+
+        // When
+        cache.get(PRODUCT_ID);
+        evictor[0].join(TimeUnit.SECONDS.toMillis(5));
+
+        // Then
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product()));
+        cache.get(PRODUCT_ID);
+        verify(productRepository, times(2)).findById(PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("제거 후 시작한 조회는 L2에 저장")
+    void get_LoadAfterEvict_StoredInRedis() {
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product()));
+
+        cache.evict(PRODUCT_ID);
+        cache.get(PRODUCT_ID);
+
+        verify(valueOperations).set(eq(KEY), anyString(), eq(REDIS_TTL));
+    }
+
+    private static Product product() {
+        return Product.builder()
+                .id(PRODUCT_ID)
+                .sellerId(10L)
+                .name("테스트 상품")
+                .price(BigDecimal.valueOf(1000))
+                .stockQuantity(100)
+                .status(ProductStatus.PUBLISHED)
+                .build();
+    }
+}
@@ -0,0 +1,205 @@
+package com.xlcfi.product.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductListingCacheFilter Unit Test
+ */
+@DisplayName("비로그인 상품 목록 응답 캐시 필터 단위 테스트")
+class ProductListingCacheFilterTest {
+
+    private static final String BODY = "{\"success\":true,\"data\":{\"content\":[]}}";
+
+    private ProductListingCacheFilter filter;
+    private final AtomicInteger handled = new AtomicInteger();
+    private volatile int status = HttpServletResponse.SC_OK;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ProductListingCacheFilter(null, 60_000, 100, 5, 100, 3_000);
+    }
+
+    @Test
+    @DisplayName("같은 목록의 두 번째 요청은 컨트롤러를 거치지 않고 보관된 본문과 헤더를 그대로 씀")
+    void hit_WritesCachedBodyAndHeaders() throws Exception {
+        // When
+        MockHttpServletResponse first = perform(get("/api/products"), chain());
+        MockHttpServletResponse second = perform(get("/api/products"), chain());
+
+        // Then
+        assertThat(handled).hasValue(1);
+        assertThat(second.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(second.getContentAsString()).isEqualTo(BODY).isEqualTo(first.getContentAsString());
+        assertThat(second.getContentType()).startsWith("application/json");
+        assertThat(second.getHeaders(HttpHeaders.VARY)).containsExactly("Origin", "Accept-Encoding");
+        assertThat(second.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+        assertThat(second.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+    }
+
+    @Test
+    @DisplayName("sort 생략, createdAt,desc, createdAt,DESC는 같은 키 (컨트롤러의 @PageableDefault 정렬)")
+    void key_NormalizesSort() throws Exception {
+        perform(get("/api/products"), chain());
+        perform(get("/api/products").param("sort", "createdAt,desc"), chain());
+        perform(get("/api/products").param("sort", "createdAt,DESC").param("page", "0").param("size", "20"), chain());
+        assertThat(handled).hasValue(1);
+
+        // 방향 생략은 ASC
+        perform(get("/api/products").param("sort", "createdAt"), chain());
+        perform(get("/api/products").param("sort", "createdAt,asc"), chain());
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("정렬 기본값이 없는 목록은 sort 생략과 createdAt,desc가 다른 키")
+    void key_NoDefaultSort_Distinct() throws Exception {
+        perform(get("/api/products/latest"), chain());
+        perform(get("/api/products/latest").param("sort", "createdAt,desc"), chain());
+
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 하나만 처리하고 나머지는 그 응답을 함께 씀")
+    void concurrentRequests_Coalesced() throws Exception {
+        // Given: 첫 요청이 처리 중인 동안 두 번째 요청 도착
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowChain = (request, response) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            chain().doFilter(request, response);
+        };
+
+        // When
+        CompletableFuture<MockHttpServletResponse> first =
+                CompletableFuture.supplyAsync(() -> performUnchecked(get("/api/products/category/3"), slowChain));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> second =
+                CompletableFuture.supplyAsync(() -> performUnchecked(get("/api/products/category/3"), chain()));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo(BODY);
+        assertThat(second.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo(BODY);
+        assertThat(handled).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("200이 아닌 응답은 그대로 전달하고 보관하지 않음")
+    void non200_PassedThroughAndNotCached() throws Exception {
+        // Given
+        status = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+
+        // When
+        MockHttpServletResponse first = perform(get("/api/products/top-rated"), chain());
+        status = HttpServletResponse.SC_OK;
+        MockHttpServletResponse second = perform(get("/api/products/top-rated"), chain());
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(first.getContentAsString()).isEqualTo(BODY);
+        assertThat(second.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Authorization 헤더가 있는 요청은 캐시를 거치지 않음")
+    void authorizationHeader_Bypassed() throws Exception {
+        perform(get("/api/products"), chain());
+
+        MockHttpServletResponse response = perform(
+                get("/api/products").header(HttpHeaders.AUTHORIZATION, "Bearer token"), chain());
+
+        assertThat(handled).hasValue(2);
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isEqualTo("session=abc");
+    }
+
+    @Test
+    @DisplayName("대상이 아닌 경로, max-page 이상 페이지, max-size 초과 크기는 캐시하지 않음")
+    void nonCacheableRequests_Bypassed() throws Exception {
+        perform(get("/api/products/search").param("keyword", "a"), chain());
+        perform(get("/api/products/search").param("keyword", "a"), chain());
+        perform(get("/api/products").param("page", "5"), chain());
+        perform(get("/api/products").param("page", "5"), chain());
+        perform(get("/api/products").param("size", "101"), chain());
+        perform(get("/api/products").param("size", "101"), chain());
+
+        assertThat(handled).hasValue(6);
+    }
+
+    /**
+     * 컨트롤러 대신 응답을 쓰는 필터 체인 (처리 횟수 기록)
+     */
+    private FilterChain chain() {
+        return (request, response) -> {
+            handled.incrementAndGet();
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(status);
+            http.setContentType("application/json;charset=UTF-8");
+            http.addHeader(HttpHeaders.VARY, "Origin");
+            http.addHeader(HttpHeaders.VARY, "Accept-Encoding");
+            http.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            http.setHeader(HttpHeaders.SET_COOKIE, "session=abc");
+            http.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse performUnchecked(MockHttpServletRequest request, FilterChain chain) {
+        try {
+            return perform(request, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MockRequest get(String uri) {
+        return new MockRequest(uri);
+    }
+
+    /**
+     * 파라미터/헤더를 이어서 지정하는 GET 요청
+     */
+    private static final class MockRequest extends MockHttpServletRequest {
+
+        private MockRequest(String uri) {
+            super("GET", uri);
+        }
+
+        private MockRequest param(String name, String value) {
+            addParameter(name, value);
+            return this;
+        }
+
+        private MockRequest header(String name, String value) {
+            addHeader(name, value);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.xlcfi.product.controller;
+
+import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.domain.UserRole;
+import com.xlcfi.auth.repository.UserRepository;
+import com.xlcfi.common.outbox.DomainEventPublisher;
+import com.xlcfi.common.pagination.PageCountService;
+import com.xlcfi.common.query.QueryBudgetTest;
+import com.xlcfi.common.query.QueryCount;
+import com.xlcfi.common.query.QueryCountFilter;
+import com.xlcfi.common.query.QueryCounter;
+import com.xlcfi.product.cache.ProductDetailCache;
+import com.xlcfi.product.domain.Category;
+import com.xlcfi.product.domain.Product;
+import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.facet.ProductFacetService;
+import com.xlcfi.product.repository.CategoryRepository;
+import com.xlcfi.product.repository.ProductRepository;
+import com.xlcfi.product.search.ProductSearchService;
+import com.xlcfi.product.service.ProductService;
+import com.xlcfi.product.trending.TrendingService;
+import com.xlcfi.product.view.ProductViewCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * ProductController 쿼리 수 예산 테스트
+ *
+ * 상품 목록 API가 목록 크기와 관계없이 정해진 수의 SQL만 실행하는지 확인합니다 (카테고리/판매자 N+1 회귀 방지).
+ * 목록 카드 쿼리가 PostgreSQL jsonb 함수를 사용하므로 DB는 Testcontainers PostgreSQL입니다.
+ */
+@Testcontainers
+@QueryBudgetTest(controllers = ProductController.class)
+@Import({ProductService.class, PageCountService.class})
+@DisplayName("상품 목록 API 쿼리 수 예산 테스트")
+class ProductControllerQueryBudgetTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final int PRODUCTS = 25;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 목록 조회와 관계없는 협력 객체 (캐시, 검색 색인, 조회수, 인기 순위, 패싯)
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
+
+    @MockBean
+    private ProductSearchService productSearchService;
+
+    @MockBean
+    private ProductViewCounter productViewCounter;
+
+    @MockBean
+    private TrendingService trendingService;
+
+    @MockBean
+    private ProductDetailCache productDetailCache;
+
+    @MockBean
+    private ProductFacetService productFacetService;
+
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 판매자 5명의 상품 25개 (카테고리 하나), 다른 카테고리 상품 5개
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            productRepository.deleteAll();
+            categoryRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+        transaction.executeWithoutResult(status -> {
+            Category category = categoryRepository.save(Category.builder().name("디지털").build());
+            Category other = categoryRepository.save(Category.builder().name("도서").build());
+            categoryId = category.getId();
+
+            List<User> sellers = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                sellers.add(userRepository.save(User.builder()
+                        .email("seller" + i + "@test.xlcfi.com")
+                        .name("판매자 " + i)
+                        .role(UserRole.SELLER)
+                        .build()));
+            }
+            for (int i = 0; i < PRODUCTS; i++) {
+                productRepository.save(product(sellers.get(i % sellers.size()), category, i));
+            }
+            for (int i = 0; i < 5; i++) {
+                productRepository.save(product(sellers.get(i), other, PRODUCTS + i));
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("상품 목록 (페이지) - 카드 조회 1회, COUNT 1회")
+    void getProducts_QueryBudget() throws Exception {
+        try (QueryCount queries = QueryCounter.start()) {
+            mockMvc.perform(get("/api/products")
+                            .param("page", "0")
+                            .param("size", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(20))
+                    .andExpect(jsonPath("$.data.content[0].categoryName").exists())
+                    .andExpect(jsonPath("$.data.content[0].sellerName").exists())
+                    .andExpect(jsonPath("$.data.content[0].imageUrl").exists());
+
+            assertThat(queries.getSelect()).isEqualTo(2);
+            assertThat(queries.getTotal()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("상품 목록 (커서) - 상품+카테고리 1회")
+    void getProductsByCursor_QueryBudget() throws Exception {
+        try (QueryCount queries = QueryCounter.start()) {
+            mockMvc.perform(get("/api/products/cursor")
+                            .param("size", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(20))
+                    .andExpect(jsonPath("$.data.content[0].categoryName").exists())
+                    .andExpect(header().string(QueryCountFilter.HEADER, "1"));
+
+            assertThat(queries.getSelect()).isEqualTo(1);
+            assertThat(queries.getTotal()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("카테고리별 상품 목록 (커서) - 상품+카테고리 1회")
+    void getProductsByCategoryCursor_QueryBudget() throws Exception {
+        try (QueryCount queries = QueryCounter.start()) {
+            mockMvc.perform(get("/api/products/category/{categoryId}/cursor", categoryId)
+                            .param("size", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(20))
+                    .andExpect(jsonPath("$.data.content[0].categoryName").value("디지털"))
+                    .andExpect(header().string(QueryCountFilter.HEADER, "1"));
+
+            assertThat(queries.getSelect()).isEqualTo(1);
+            assertThat(queries.getTotal()).isEqualTo(1);
+        }
+    }
+
+    private static Product product(User seller, Category category, int index) {
+        return Product.builder()
+                .sellerId(seller.getId())
+                .category(category)
+                .name("테스트 상품 " + index)
+                .price(BigDecimal.valueOf(1000 + index))
+                .stockQuantity(100)
+                .images(List.of("https://cdn.xlcfi.com/products/" + index + ".jpg"))
+                .status(ProductStatus.PUBLISHED)
+                .build();
+    }
+}
@@ -0,0 +1,212 @@
+package com.xlcfi.product.facet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * ProductFacetIndex Unit Test
+ */
+@DisplayName("상품 필터/집계 색인 단위 테스트")
+class ProductFacetIndexTest {
+
+    private ProductFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // Given: ID 순으로 반영 (순번 역순 = 최신순)
+        index = new ProductFacetIndex();
+        index.update(List.of(
+                product(1L, 10L, "9.99", "KRW", "4.5", 3),
+                product(2L, 10L, "15.00", "KRW", "3.2", 0),
+                product(3L, 20L, "20.00", "KRW", "2.0", 7),
+                product(4L, 20L, "49.99", "USD", "4.0", 1),
+                product(5L, 30L, "100.00", "USD", null, 0)));
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 판매 중 상품 전체를 최신순으로 반환")
+    void query_NoFilter_NewestFirst() {
+        ProductFacetResult result = index.query(filter().build(), 0, 10);
+
+        assertThat(result.getProductIds()).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(index.publishedCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("offset/limit으로 최신순 페이지를 자르고 total은 전체 개수")
+    void query_Paging() {
+        ProductFacetResult result = index.query(filter().build(), 1, 2);
+
+        assertThat(result.getProductIds()).containsExactly(4L, 3L);
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(index.query(filter().build(), 5, 2).getProductIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 카테고리는 OR, 다른 차원과는 AND")
+    void query_CategoryOr_AndOtherDimensions() {
+        ProductFacetResult anyOf = index.query(filter().categoryIds(Set.of(10L, 30L)).build(), 0, 10);
+        ProductFacetResult inStock = index.query(filter().categoryIds(Set.of(10L, 30L)).inStock(true).build(), 0, 10);
+
+        assertThat(anyOf.getProductIds()).containsExactly(5L, 2L, 1L);
+        assertThat(inStock.getProductIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("가격 범위는 하한 이상, 상한 미만")
+    void query_PriceRange_MinInclusiveMaxExclusive() {
+        ProductFacetResult result = index.query(
+                filter().currency("KRW").minPrice(new BigDecimal("15.00")).maxPrice(new BigDecimal("20.00")).build(), 0, 10);
+        ProductFacetResult openEnded = index.query(filter().minPrice(new BigDecimal("49.99")).build(), 0, 10);
+
+        assertThat(result.getProductIds()).containsExactly(2L);
+        assertThat(openEnded.getProductIds()).containsExactly(5L, 4L);
+    }
+
+    @Test
+    @DisplayName("최소 평점은 그 이상인 상품, 평점이 없으면 0점으로 취급")
+    void query_MinRating() {
+        assertThat(index.query(filter().minRating(4).build(), 0, 10).getProductIds()).containsExactly(4L, 1L);
+        assertThat(index.query(filter().minRating(2).build(), 0, 10).getProductIds()).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("재고 조건 true는 재고 있음, false는 품절")
+    void query_InStock() {
+        assertThat(index.query(filter().inStock(true).build(), 0, 10).getProductIds()).containsExactly(4L, 3L, 1L);
+        assertThat(index.query(filter().inStock(false).build(), 0, 10).getProductIds()).containsExactly(5L, 2L);
+    }
+
+    @Test
+    @DisplayName("각 집계는 자기 차원의 조건을 빼고 계산")
+    void query_FacetCountsExcludeOwnDimension() {
+        // When: 카테고리 10 + 재고 있음
+        ProductFacetResult result = index.query(filter().categoryIds(Set.of(10L)).inStock(true).build(), 0, 10);
+
+        // Then: 카테고리별 개수는 재고 조건만, 재고 개수는 카테고리 조건만 적용
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(result.getCategoryCounts()).containsExactly(entry(20L, 2L), entry(10L, 1L));
+        assertThat(result.getInStockCount()).isEqualTo(1);
+        assertThat(result.getOutOfStockCount()).isEqualTo(1);
+        assertThat(result.getCurrencyCounts()).containsExactly(entry("KRW", 1L));
+        assertThat(result.getRatingCounts()).containsExactly(
+                entry(4, 1L), entry(3, 1L), entry(2, 1L), entry(1, 1L));
+    }
+
+    @Test
+    @DisplayName("가격 구간 집계는 통화를 지정한 경우만, 가격 조건을 빼고 계산")
+    void query_PriceBucketCounts() {
+        ProductFacetResult withoutCurrency = index.query(filter().build(), 0, 10);
+        ProductFacetResult krw = index.query(
+                filter().currency("KRW").minPrice(new BigDecimal("10")).build(), 0, 10);
+
+        assertThat(withoutCurrency.getPriceBucketCounts()).isEmpty();
+        assertThat(krw.getTotal()).isEqualTo(2);
+        assertThat(krw.getPriceBucketCounts()).containsExactly(
+                entry(ProductFacetIndex.priceBucket(new BigDecimal("9.99")), 1L),
+                entry(ProductFacetIndex.priceBucket(new BigDecimal("15.00")), 1L),
+                entry(ProductFacetIndex.priceBucket(new BigDecimal("20.00")), 1L));
+    }
+
+    @Test
+    @DisplayName("가격 구간 경계는 1, 2, 5, 10, 20, 50, ...")
+    void priceBucket_Boundaries() {
+        assertThat(ProductFacetIndex.priceBucket(new BigDecimal("0.99"))).isZero();
+        assertThat(ProductFacetIndex.priceBucket(new BigDecimal("1"))).isEqualTo(1);
+        assertThat(ProductFacetIndex.priceBucket(new BigDecimal("9.99"))).isEqualTo(3);
+        assertThat(ProductFacetIndex.priceBucket(new BigDecimal("10"))).isEqualTo(4);
+        assertThat(ProductFacetIndex.priceBucketFrom(4)).isEqualByComparingTo("10");
+        assertThat(ProductFacetIndex.priceBucketTo(4)).isEqualByComparingTo("20");
+    }
+
+    @Test
+    @DisplayName("기존 상품을 다시 반영하면 이전 값의 비트를 끄고 새 값으로 옮김 (순번 유지)")
+    void update_ExistingProduct_MovesBits() {
+        // When: 상품 1을 카테고리 20, 품절로 변경
+        index.update(List.of(product(1L, 20L, "9.99", "KRW", "4.5", 0)));
+
+        // Then
+        assertThat(index.query(filter().categoryIds(Set.of(10L)).build(), 0, 10).getProductIds()).containsExactly(2L);
+        assertThat(index.query(filter().categoryIds(Set.of(20L)).build(), 0, 10).getProductIds())
+                .containsExactly(4L, 3L, 1L);
+        assertThat(index.query(filter().inStock(false).build(), 0, 10).getProductIds()).containsExactly(5L, 2L, 1L);
+        assertThat(index.publishedCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("판매 중지/삭제된 상품은 모든 결과와 집계에서 제외되고 다시 판매하면 원래 순서로 복귀")
+    void update_UnpublishAndDelete_ClearsBits() {
+        // When
+        index.update(List.of(unpublished(2L)));
+        index.delete(List.of(4L, 99L));
+        ProductFacetResult result = index.query(filter().build(), 0, 10);
+
+        // Then
+        assertThat(result.getProductIds()).containsExactly(5L, 3L, 1L);
+        assertThat(result.getCategoryCounts()).containsOnly(entry(10L, 1L), entry(20L, 1L), entry(30L, 1L));
+        assertThat(result.getCurrencyCounts()).containsExactly(entry("KRW", 2L), entry("USD", 1L));
+        assertThat(index.publishedCount()).isEqualTo(3);
+
+        index.update(List.of(product(2L, 10L, "15.00", "KRW", "3.2", 0)));
+        assertThat(index.query(filter().build(), 0, 10).getProductIds()).containsExactly(5L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("초기 크기를 넘으면 비트셋을 늘리고 기존 비트를 유지")
+    void update_BeyondCapacity_Grows() {
+        // Given
+        ProductFacetIndex small = new ProductFacetIndex(64);
+        List<ProductFacetDocument> products = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            products.add(product(id, id % 3 + 1, "10.00", "KRW", "5", id % 2 == 0 ? 1 : 0));
+        }
+
+        // When
+        small.update(products);
+        ProductFacetResult result = small.query(filter().categoryIds(Set.of(2L)).inStock(true).build(), 0, 2);
+
+        // Then: id % 3 == 1 이고 짝수인 상품 (6으로 나눈 나머지 4)
+        assertThat(small.publishedCount()).isEqualTo(3000);
+        assertThat(result.getTotal()).isEqualTo(500);
+        assertThat(result.getProductIds()).containsExactly(2998L, 2992L);
+        assertThat(small.query(filter().minPrice(new BigDecimal("10")).build(), 0, 1).getTotal()).isEqualTo(3000);
+    }
+
+    private static ProductFacetFilter.ProductFacetFilterBuilder filter() {
+        return ProductFacetFilter.builder();
+    }
+
+    private static ProductFacetDocument product(
+            long id, long categoryId, String price, String currency, String rating, int stock) {
+        return ProductFacetDocument.builder()
+                .id(id)
+                .categoryId(categoryId)
+                .price(new BigDecimal(price))
+                .currency(currency)
+                .ratingAverage(rating != null ? new BigDecimal(rating) : null)
+                .stockQuantity(stock)
+                .published(true)
+                .build();
+    }
+
+    private static ProductFacetDocument unpublished(long id) {
+        return ProductFacetDocument.builder()
+                .id(id)
+                .categoryId(10L)
+                .price(new BigDecimal("15.00"))
+                .currency("KRW")
+                .stockQuantity(0)
+                .published(false)
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.xlcfi.product.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductSearchIndex Unit Test
+ *
+ * 색인은 메모리(ByteBuffersDirectory)에 만듭니다.
+ */
+@DisplayName("상품 검색 색인 단위 테스트")
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("상품명은 형태소 단위로 분석 (복합명사는 원형과 분해 결과, 조사는 제거)")
+    void analyzer_KoreanMorphemes() throws IOException {
+        assertThat(tokens(ProductSearchIndex.NAME, "무선키보드를"))
+                .contains("무선", "키보드")
+                .doesNotContain("를");
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 검색어도 형태소가 같으면 일치")
+    void search_KoreanParticles_Match() {
+        // Given
+        index.update(List.of(
+                document(1L, "무선 키보드", "사무용 저소음 키보드"),
+                document(2L, "노트북 가방", "15인치 노트북을 넣을 수 있는 가방")));
+        index.refresh();
+
+        // When & Then
+        assertThat(index.search("키보드를", 0, 10)).containsExactly(1L);
+        assertThat(index.search("노트북이", 0, 10)).containsExactly(2L);
+        assertThat(index.count("가방")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상품명 일치가 설명 일치보다 앞에 옴 (상품명 가중치)")
+    void search_NameMatchRanksFirst() {
+        // Given
+        index.update(List.of(
+                document(1L, "노트북 가방", "가죽 소재"),
+                document(2L, "가죽 파우치", "노트북 수납 가능")));
+        index.refresh();
+
+        // When & Then
+        assertThat(index.search("노트북", 0, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("검색 대상이 아닌 상품은 색인에서 제거")
+    void update_NotSearchable_Removed() {
+        // Given
+        index.update(List.of(document(1L, "무선 키보드", null), document(2L, "유선 키보드", null)));
+        index.refresh();
+
+        // When
+        index.update(List.of(ProductSearchDocument.builder().id(1L).name("무선 키보드").searchable(false).build()));
+        index.delete(List.of(2L));
+        index.refresh();
+
+        // Then
+        assertThat(index.count("키보드")).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("offset/limit은 최대 결과 위치까지만, 그 뒤 페이지는 빈 결과 (int 범위를 넘어도 예외 없음)")
+    void search_ResultWindow() {
+        // Given
+        index.update(LongStream.rangeClosed(1, 30)
+                .mapToObj(id -> document(id, "키보드 " + id, null))
+                .toList());
+        index.refresh();
+
+        // When & Then
+        assertThat(index.search("키보드", 20, 20)).hasSize(10);
+        assertThat(index.search("키보드", 10, Integer.MAX_VALUE)).hasSize(20);
+        assertThat(index.search("키보드", ProductSearchIndex.MAX_RESULT_WINDOW, 20)).isEmpty();
+        assertThat(index.search("키보드", Integer.MAX_VALUE, 20)).isEmpty();
+        assertThat(index.search("키보드", Long.MAX_VALUE, Integer.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커밋 시 동기화 기준 시각 저장")
+    void commit_StoresWatermark() {
+        // Given
+        LocalDateTime watermark = LocalDateTime.of(2024, 1, 1, 12, 0);
+        assertThat(index.watermark()).isNull();
+        index.update(List.of(document(1L, "무선 키보드", null)));
+
+        // When
+        index.commit(watermark);
+
+        // Then
+        assertThat(index.watermark()).isEqualTo(watermark);
+        assertThat(index.hasUncommittedChanges()).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static ProductSearchDocument document(Long id, String name, String description) {
+        return ProductSearchDocument.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .searchable(true)
+                .build();
+    }
+
+    private static List<String> tokens(String field, String text) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        try (Analyzer analyzer = ProductSearchIndex.analyzer();
+             TokenStream stream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        }
+        return tokens;
+    }
+}
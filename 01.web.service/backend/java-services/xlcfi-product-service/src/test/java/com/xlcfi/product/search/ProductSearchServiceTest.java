@@ -0,0 +1,158 @@
+package com.xlcfi.product.search;
+
+import com.xlcfi.product.repository.ProductRepository;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ProductSearchService Unit Test
+ *
+ * DB는 색인에 필요한 products 열만 있는 H2 인메모리이며, 주기 작업 대신 테스트가 sync()/catchUp()을 직접 호출합니다.
+ */
+@DisplayName("상품 검색 서비스 단위 테스트")
+class ProductSearchServiceTest {
+
+    private static final long CATCH_UP_OVERLAP_MILLIS = 300_000;
+
+    private JdbcTemplate jdbcTemplate;
+    private ProductSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:product_search;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS products");
+        jdbcTemplate.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, name VARCHAR(255), name_en VARCHAR(255), "
+                + "description TEXT, description_en TEXT, status VARCHAR(20) NOT NULL, "
+                + "deleted_at TIMESTAMP, updated_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP)");
+
+        // 주기 작업은 테스트 중에 실행되지 않도록 1시간, 색인은 메모리
+        service = new ProductSearchService(dataSource, new DataSourceTransactionManager(dataSource),
+                mock(ProductRepository.class), "", 2, 3_600_000, CATCH_UP_OVERLAP_MILLIS, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("재구축 시 판매 중이고 삭제되지 않은 상품만 색인")
+    void rebuild_PublishedOnly() {
+        // Given
+        insert(1L, "무선 키보드", "PUBLISHED");
+        insert(2L, "유선 키보드", "DRAFT");
+        insert(3L, "기계식 키보드", "DISCONTINUED");
+        insert(4L, "접이식 키보드", "PUBLISHED");
+        jdbcTemplate.update("UPDATE products SET deleted_at = LOCALTIMESTAMP WHERE id = 4");
+        insert(5L, "블루투스 키보드", "PUBLISHED");
+
+        // When
+        service.sync();
+
+        // Then
+        assertThat(service.isReady()).isTrue();
+        assertThat(service.count("키보드")).isEqualTo(2);
+        assertThat(service.status()).containsEntry("documents", 2);
+    }
+
+    @Test
+    @DisplayName("변경 알림을 받으면 상품을 다시 읽어 색인 (판매 중지/삭제된 상품은 제거)")
+    void invalidate_ReindexesChangedProducts() {
+        // Given
+        insert(1L, "무선 키보드", "PUBLISHED");
+        insert(2L, "유선 키보드", "PUBLISHED");
+        insert(3L, "기계식 키보드", "PUBLISHED");
+        service.start();
+        await(() -> service.count("키보드") == 3);
+
+        // When: 이름 변경, 판매 중지, 행 삭제
+        jdbcTemplate.update("UPDATE products SET name = '무선 마우스' WHERE id = 1");
+        jdbcTemplate.update("UPDATE products SET status = 'SOLDOUT' WHERE id = 2");
+        jdbcTemplate.update("DELETE FROM products WHERE id = 3");
+        service.invalidate("products", Set.of(1L, 2L, 3L));
+
+        // Then
+        await(() -> service.count("키보드") == 0);
+        assertThat(service.count("마우스")).isEqualTo(1);
+        assertThat(service.status()).containsEntry("documents", 1);
+    }
+
+    @Test
+    @DisplayName("시작 전 받은 변경 알림은 무시 (시작 시 동기화에 포함)")
+    void invalidate_BeforeStart_Ignored() {
+        // Given
+        insert(1L, "무선 키보드", "PUBLISHED");
+
+        // When
+        service.invalidate("products", Set.of(1L));
+        service.invalidateAll("products");
+
+        // Then
+        assertThat(service.isReady()).isFalse();
+        assertThat(service.count("키보드")).isZero();
+    }
+
+    @Test
+    @DisplayName("변경분 동기화는 동기화 시각보다 catch-up-overlap만큼 앞선 변경부터 다시 읽음")
+    void sync_CatchUpOverlap() {
+        // Given: 색인 생성
+        insert(1L, "무선 키보드", "PUBLISHED");
+        service.sync();
+        LocalDateTime watermark = (LocalDateTime) service.status().get("watermark");
+        assertThat(watermark).isNotNull();
+
+        // 동기화 시각 이전에 시작했지만 그 뒤에 커밋된 변경 (overlap 안과 밖)
+        insert(2L, "유선 키보드", "PUBLISHED", watermark.minusMinutes(1));
+        insert(3L, "기계식 키보드", "PUBLISHED", watermark.minusMinutes(10));
+        jdbcTemplate.update("UPDATE products SET status = 'DISCONTINUED', updated_at = ? WHERE id = 1",
+                watermark.minusMinutes(2));
+
+        // When
+        service.sync();
+
+        // Then: overlap 안의 변경만 반영
+        assertThat(service.count("유선")).isEqualTo(1);
+        assertThat(service.count("무선")).isZero();
+        assertThat(service.count("기계식")).isZero();
+        assertThat((LocalDateTime) service.status().get("watermark")).isAfterOrEqualTo(watermark);
+    }
+
+    private void insert(Long id, String name, String status) {
+        jdbcTemplate.update("INSERT INTO products (id, name, status) VALUES (?, ?, ?)", id, name, status);
+    }
+
+    private void insert(Long id, String name, String status, LocalDateTime updatedAt) {
+        jdbcTemplate.update("INSERT INTO products (id, name, status, updated_at) VALUES (?, ?, ?, ?)",
+                id, name, status, updatedAt);
+    }
+
+    /**
+     * 색인 쓰기 스레드의 작업이 반영될 때까지 대기 (최대 5초)
+     */
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("색인 반영 대기 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.xlcfi.product.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * TrendingRanking Unit Test
+ */
+@DisplayName("상품 인기 순위 (지수 감쇠 + 상위 K개) 단위 테스트")
+class TrendingRankingTest {
+
+    private static final long HALF_LIFE = 60_000;
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("전체/카테고리별 상위 K개를 점수 내림차순으로 유지")
+    void top_KeepsHighestScores() {
+        // Given
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 2, 0.01, NOW);
+
+        // When
+        ranking.add(1L, 10L, 1, NOW);
+        ranking.add(2L, 10L, 3, NOW);
+        ranking.add(3L, 10L, 2, NOW);
+        ranking.add(4L, 20L, 5, NOW);
+
+        // Then
+        assertThat(ranking.top()).containsExactly(4L, 2L);
+        assertThat(ranking.topByCategory())
+                .containsEntry(10L, List.of(2L, 3L))
+                .containsEntry(20L, List.of(4L));
+    }
+
+    @Test
+    @DisplayName("반감기가 지난 이벤트는 절반 가중치로 비교")
+    void add_OlderEventsDecay() {
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 3, 0.01, NOW);
+
+        ranking.add(1L, 10L, 3, NOW);
+        ranking.add(2L, 10L, 2, NOW + HALF_LIFE);
+
+        assertThat(ranking.score(1L, NOW + HALF_LIFE)).isCloseTo(1.5, within(1e-9));
+        assertThat(ranking.score(2L, NOW + HALF_LIFE)).isCloseTo(2.0, within(1e-9));
+        assertThat(ranking.top()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("힙 밖 상품은 점수가 오르면 K번째 상품을 밀어내고 들어옴")
+    void add_OutsideHeap_PromotedWhenScoreRises() {
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 2, 0.01, NOW);
+        ranking.add(1L, 10L, 3, NOW);
+        ranking.add(2L, 10L, 2, NOW);
+        ranking.add(3L, 10L, 1, NOW);
+
+        ranking.add(3L, 10L, 5, NOW);
+
+        assertThat(ranking.top()).containsExactly(3L, 1L);
+        assertThat(ranking.topByCategory()).containsEntry(10L, List.of(3L, 1L));
+    }
+
+    @Test
+    @DisplayName("상위 상품을 제외하면 힙 밖 상품 중 가장 높은 점수로 다시 채움")
+    void remove_RefillsFromOutsideHeap() {
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 2, 0.01, NOW);
+        ranking.add(1L, 10L, 4, NOW);
+        ranking.add(2L, 10L, 3, NOW);
+        ranking.add(3L, 10L, 2, NOW);
+        ranking.add(4L, 10L, 1, NOW);
+
+        ranking.remove(1L);
+        ranking.remove(99L);
+
+        assertThat(ranking.top()).containsExactly(2L, 3L);
+        assertThat(ranking.topByCategory()).containsEntry(10L, List.of(2L, 3L));
+        assertThat(ranking.size()).isEqualTo(3);
+        assertThat(ranking.categoryOf(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("카테고리를 옮기면 이전 카테고리는 다시 채우고 새 카테고리에 들어감")
+    void add_CategoryChanged_MovesBetweenHeaps() {
+        // Given
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 2, 0.01, NOW);
+        ranking.add(1L, 10L, 5, NOW);
+        ranking.add(2L, 10L, 4, NOW);
+        ranking.add(3L, 10L, 3, NOW);
+        ranking.add(4L, 20L, 1, NOW);
+
+        // When: 점수 변화 없이 카테고리만 변경
+        ranking.add(1L, 20L, 0, NOW);
+
+        // Then
+        assertThat(ranking.categoryOf(1L)).isEqualTo(20L);
+        assertThat(ranking.topByCategory())
+                .containsEntry(10L, List.of(2L, 3L))
+                .containsEntry(20L, List.of(1L, 4L));
+        assertThat(ranking.top()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("마지막 상품이 빠진 카테고리는 결과에서 사라짐")
+    void remove_LastInCategory_DropsCategory() {
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 2, 0.01, NOW);
+        ranking.add(1L, 10L, 1, NOW);
+        ranking.add(2L, 20L, 1, NOW);
+
+        ranking.remove(2L);
+
+        assertThat(ranking.topByCategory()).containsOnlyKeys(10L);
+    }
+
+    @Test
+    @DisplayName("기준 시각을 옮겨도 감쇠 점수와 순위는 그대로이고 작아진 상품은 버림")
+    void rebase_KeepsScoresAndPrunes() {
+        // Given: 반감기 10번 뒤 1/1024로 줄어듦
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 2, 0.01, NOW);
+        ranking.add(1L, 10L, 100, NOW);
+        ranking.add(2L, 10L, 50, NOW);
+        ranking.add(3L, 10L, 5, NOW);
+        long later = NOW + 10 * HALF_LIFE;
+        double before = ranking.score(1L, later);
+
+        // When
+        ranking.rebase(later);
+
+        // Then: 5 / 1024 < 0.01 이므로 상품 3은 제외
+        assertThat(ranking.score(1L, later)).isCloseTo(before, within(1e-9));
+        assertThat(ranking.size()).isEqualTo(2);
+        assertThat(ranking.categoryOf(3L)).isNull();
+        assertThat(ranking.top()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("지수가 커지면 자동으로 기준 시각을 옮겨 점수가 무한대가 되지 않음")
+    void add_FarFuture_RebasesAutomatically() {
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, 2, 0.01, NOW);
+        ranking.add(1L, 10L, 1, NOW);
+
+        long farFuture = NOW + 1000 * HALF_LIFE;
+        ranking.add(2L, 10L, 1, farFuture);
+
+        assertThat(ranking.score(2L, farFuture)).isCloseTo(1.0, within(1e-9));
+        assertThat(ranking.size()).isEqualTo(1);
+        assertThat(ranking.top()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("이벤트, 제외, 카테고리 이동, 기준 시각 이동을 섞어도 전체 점수 정렬 결과와 같음")
+    void randomOperations_MatchBruteForce() {
+        // Given
+        int topK = 5;
+        TrendingRanking ranking = new TrendingRanking(HALF_LIFE, topK, 0.05, NOW);
+        Random random = new Random(42);
+        long now = NOW;
+
+        // When / Then
+        for (int step = 0; step < 5_000; step++) {
+            now += random.nextInt(2_000);
+            long productId = random.nextInt(200);
+            int operation = random.nextInt(100);
+            if (operation < 80) {
+                Long current = ranking.categoryOf(productId);
+                long categoryId = current != null && random.nextInt(10) > 0 ? current : random.nextInt(4);
+                ranking.add(productId, categoryId, 1 + random.nextInt(5), now);
+            } else if (operation < 95) {
+                ranking.remove(productId);
+            } else {
+                ranking.rebase(now);
+            }
+
+            if (step % 50 == 0) {
+                assertMatchesBruteForce(ranking, topK, now);
+            }
+        }
+        assertMatchesBruteForce(ranking, topK, now);
+    }
+
+    private static void assertMatchesBruteForce(TrendingRanking ranking, int topK, long now) {
+        List<Long> all = new ArrayList<>(ranking.productIds());
+        Comparator<Long> byScore = Comparator.comparingDouble((Long id) -> ranking.score(id, now)).reversed();
+
+        assertThat(scores(ranking, ranking.top(), now))
+                .containsExactlyElementsOf(scores(ranking, all.stream().sorted(byScore).limit(topK).toList(), now));
+
+        Map<Long, List<Long>> expected = new HashMap<>();
+        all.stream()
+                .collect(Collectors.groupingBy(ranking::categoryOf))
+                .forEach((categoryId, ids) -> expected.put(categoryId, ids.stream().sorted(byScore).limit(topK).toList()));
+        Map<Long, List<Long>> actual = ranking.topByCategory();
+
+        assertThat(actual).containsOnlyKeys(expected.keySet());
+        expected.forEach((categoryId, ids) -> assertThat(scores(ranking, actual.get(categoryId), now))
+                .as("category %d", categoryId)
+                .containsExactlyElementsOf(scores(ranking, ids, now)));
+    }
+
+    /**
+     * 같은 점수의 상품은 순서가 정해지지 않으므로 점수 목록으로 비교
+     */
+    private static List<Double> scores(TrendingRanking ranking, List<Long> productIds, long now) {
+        return productIds.stream().map(id -> ranking.score(id, now)).toList();
+    }
+}
@@ -0,0 +1,122 @@
+package com.xlcfi.product.view;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ProductViewCounter Unit Test
+ *
+ * DB는 products(id, view_count)만 있는 H2 인메모리이며, 주기적 반영 대신 테스트가 flush()를 직접 호출합니다.
+ */
+@DisplayName("상품 조회수 카운터 단위 테스트")
+class ProductViewCounterTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final long BASE_TTL = 200;
+
+    private JdbcTemplate jdbcTemplate;
+    private ProductViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:product_view_counter;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS products");
+        jdbcTemplate.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, view_count INTEGER NOT NULL)");
+        jdbcTemplate.update("INSERT INTO products (id, view_count) VALUES (?, ?)", PRODUCT_ID, 100);
+
+        // 주기적 반영은 테스트 중에 실행되지 않도록 1시간, 방문자를 넘기지 않으므로 Redis는 사용하지 않음
+        counter = new ProductViewCounter(dataSource, null, List.of(), 3_600_000, 1, BASE_TTL, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        counter.shutdown();
+    }
+
+    @Test
+    @DisplayName("조회수 = DB에 반영된 조회수 + 아직 반영하지 않은 조회수")
+    void viewCount_FlushedPlusPending() {
+        // When
+        counter.record(PRODUCT_ID, null);
+        counter.record(PRODUCT_ID, null);
+
+        // Then
+        assertThat(counter.viewCount(PRODUCT_ID)).isEqualTo(102);
+        assertThat(counter.pending(PRODUCT_ID)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DB에 반영해도 조회수가 줄어들지 않음 (반영된 조회수 캐시에 바로 더함)")
+    void viewCount_AfterFlush_DoesNotDecrease() {
+        // Given
+        assertThat(counter.viewCount(PRODUCT_ID)).isEqualTo(100);
+        counter.record(PRODUCT_ID, null);
+        counter.record(PRODUCT_ID, null);
+        counter.record(PRODUCT_ID, null);
+
+        // When
+        counter.flush();
+
+        // Then
+        assertThat(counter.pending(PRODUCT_ID)).isZero();
+        assertThat(counter.viewCount(PRODUCT_ID)).isEqualTo(103);
+        assertThat(dbViewCount()).isEqualTo(103);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 반영한 조회수는 base-ttl이 지난 뒤 DB에서 다시 읽어 반영")
+    void viewCount_OtherNodeFlush_VisibleAfterBaseTtl() throws InterruptedException {
+        assertThat(counter.viewCount(PRODUCT_ID)).isEqualTo(100);
+
+        jdbcTemplate.update("UPDATE products SET view_count = view_count + 50 WHERE id = ?", PRODUCT_ID);
+        assertThat(counter.viewCount(PRODUCT_ID)).isEqualTo(100);
+
+        Thread.sleep(BASE_TTL * 2);
+        assertThat(counter.viewCount(PRODUCT_ID)).isEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 조회수를 미반영 상태로 되돌리고 다음 주기에 다시 반영")
+    void flush_Failure_KeepsViewCount() {
+        // Given
+        assertThat(counter.viewCount(PRODUCT_ID)).isEqualTo(100);
+        counter.record(PRODUCT_ID, null);
+        jdbcTemplate.execute("ALTER TABLE products RENAME TO products_unavailable");
+
+        // When
+        assertThatThrownBy(counter::flush).isInstanceOf(DataAccessException.class);
+
+        // Then
+        assertThat(counter.pending(PRODUCT_ID)).isEqualTo(1);
+        assertThat(counter.viewCount(PRODUCT_ID)).isEqualTo(101);
+
+        jdbcTemplate.execute("ALTER TABLE products_unavailable RENAME TO products");
+        counter.flush();
+        assertThat(counter.viewCount(PRODUCT_ID)).isEqualTo(101);
+        assertThat(dbViewCount()).isEqualTo(101);
+    }
+
+    @Test
+    @DisplayName("없는 상품의 조회수는 아직 반영하지 않은 조회수만")
+    void viewCount_UnknownProduct_PendingOnly() {
+        counter.record(999L, null);
+
+        assertThat(counter.viewCount(999L)).isEqualTo(1);
+    }
+
+    private long dbViewCount() {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM products WHERE id = ?", Long.class, PRODUCT_ID);
+    }
+}
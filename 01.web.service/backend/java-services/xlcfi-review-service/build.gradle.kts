@@ -4,9 +4,13 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     
+    // Redis (토큰 폐기 여부 확인, 인증 서비스의 블랙리스트/세션 기준 시각)
+    implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    
     // Common modules
     implementation(project(":xlcfi-common:common-core"))
     implementation(project(":xlcfi-common:common-data"))
+    implementation(project(":xlcfi-common:common-security"))
     
     // Dependencies for entity relationships
     implementation(project(":xlcfi-auth-service"))
@@ -19,6 +23,10 @@ dependencies {
     // Lombok
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
+
+    // Test (쿼리 수 예산 테스트: H2 인메모리)
+    testImplementation("com.h2database:h2")
+    testImplementation(testFixtures(project(":xlcfi-common:common-data")))  // @QueryBudgetTest
 }
 
 // Disable Spring Boot bootJar for this module if it's a library
@@ -2,12 +2,25 @@ package com.xlcfi.review;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication(scanBasePackages = {
     "com.xlcfi.review",
     "com.xlcfi.common"
 })
+// 다른 서비스 모듈의 엔티티/리포지토리 포함 (리뷰의 상품/작성자)
+@EntityScan(basePackages = {
+    "com.xlcfi.review",
+    "com.xlcfi.product.domain",
+    "com.xlcfi.auth.domain"
+})
+@EnableJpaRepositories(basePackages = {
+    "com.xlcfi.review.repository",
+    "com.xlcfi.product.repository",
+    "com.xlcfi.auth.repository"
+})
 @EnableJpaAuditing
 public class ReviewServiceApplication {
 
@@ -1,6 +1,7 @@
 package com.xlcfi.review.controller;
 
 import com.xlcfi.common.dto.ApiResponse;
+import com.xlcfi.common.pagination.CursorPage;
 import com.xlcfi.review.dto.CreateReviewRequest;
 import com.xlcfi.review.dto.ReviewResponse;
 import com.xlcfi.review.dto.UpdateReviewRequest;
@@ -132,6 +133,25 @@ public class ReviewController {
                 ApiResponse.success(reviews, "리뷰 목록 조회 성공"));
     }
 
+    /**
+     * 상품별 리뷰 목록 조회 (커서 기반)
+     * GET /api/reviews/product/{productId}/cursor?cursor={nextCursor}&size=20
+     */
+    @GetMapping("/product/{productId}/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ReviewResponse>>> getReviewsByProductCursor(
+            @PathVariable Long productId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("상품별 리뷰 목록 커서 조회 요청: productId={}", productId);
+        
+        CursorPage<ReviewResponse> reviews = reviewService.getReviewsByProductCursor(
+                productId, cursor, size);
+        
+        return ResponseEntity.ok(
+                ApiResponse.success(reviews, "리뷰 목록 조회 성공"));
+    }
+
     /**
      * 평점별 리뷰 조회
      * GET /api/reviews/product/{productId}/rating/{rating}?page=0&size=20
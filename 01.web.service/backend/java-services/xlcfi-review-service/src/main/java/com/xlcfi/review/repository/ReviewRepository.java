@@ -2,9 +2,9 @@ package com.xlcfi.review.repository;
 
 import com.xlcfi.review.domain.Review;
 import com.xlcfi.review.domain.ReviewStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,17 +13,21 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, JpaSpecificationExecutor<Review> {
+    
+    // 페이징 조회는 COUNT 쿼리 없이 목록만 조회 (전체 개수는 PageCountService에서 count* 메서드로 캐시)
     
     /**
      * 상품별 리뷰 조회 (페이징)
      */
-    Page<Review> findByProductIdAndStatus(Long productId, ReviewStatus status, Pageable pageable);
+    List<Review> findByProductIdAndStatus(Long productId, ReviewStatus status, Pageable pageable);
     
     /**
      * 사용자별 리뷰 조회 (페이징)
      */
-    Page<Review> findByUserIdAndStatus(Long userId, ReviewStatus status, Pageable pageable);
+    List<Review> findByUserIdAndStatus(Long userId, ReviewStatus status, Pageable pageable);
+    
+    long countByUserIdAndStatus(Long userId, ReviewStatus status);
     
     /**
      * 상품 + 사용자로 리뷰 조회 (중복 확인용)
@@ -33,7 +37,7 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     /**
      * 상품별 평균 평점 조회
      */
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.productId = :productId AND r.status = :status")
+    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.product.id = :productId AND r.status = :status")
     Double getAverageRating(@Param("productId") Long productId, @Param("status") ReviewStatus status);
     
     /**
@@ -44,16 +48,22 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     /**
      * 평점별 리뷰 조회
      */
-    Page<Review> findByProductIdAndRatingAndStatus(Long productId, Integer rating, ReviewStatus status, Pageable pageable);
+    List<Review> findByProductIdAndRatingAndStatus(Long productId, Integer rating, ReviewStatus status, Pageable pageable);
+    
+    long countByProductIdAndRatingAndStatus(Long productId, Integer rating, ReviewStatus status);
     
     /**
      * 인증된 구매 리뷰만 조회
      */
-    Page<Review> findByProductIdAndIsVerifiedPurchaseAndStatus(Long productId, Boolean isVerifiedPurchase, ReviewStatus status, Pageable pageable);
+    List<Review> findByProductIdAndIsVerifiedPurchaseAndStatus(Long productId, Boolean isVerifiedPurchase, ReviewStatus status, Pageable pageable);
+    
+    long countByProductIdAndIsVerifiedPurchaseAndStatus(Long productId, Boolean isVerifiedPurchase, ReviewStatus status);
     
     /**
      * 최신 리뷰 조회
      */
-    Page<Review> findByStatusOrderByCreatedAtDesc(ReviewStatus status, Pageable pageable);
+    List<Review> findByStatusOrderByCreatedAtDesc(ReviewStatus status, Pageable pageable);
+    
+    long countByStatus(ReviewStatus status);
 }
 
@@ -0,0 +1,68 @@
+package com.xlcfi.review.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xlcfi.common.outbox.OutboxEvent;
+import com.xlcfi.common.outbox.OutboxEventListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품 평점 동기화
+ *
+ * 리뷰 이벤트를 받아 상품의 평균 평점과 리뷰 수를 다시 계산합니다.
+ * 배치에 포함된 상품들을 UPDATE 1번으로 처리하며, 매번 전체를 다시 계산하므로 같은 이벤트를 다시 받아도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRatingUpdater implements OutboxEventListener {
+
+    private static final String UPDATE_RATING_SQL = """
+            UPDATE products p
+            SET rating_average = COALESCE(s.avg_rating, 0),
+                review_count = COALESCE(s.total_reviews, 0)
+            FROM unnest(?::bigint[]) AS t(product_id)
+            LEFT JOIN (
+                SELECT product_id, AVG(rating)::DECIMAL(3,2) AS avg_rating, COUNT(*) AS total_reviews
+                FROM reviews
+                WHERE product_id = ANY(?::bigint[]) AND status = 'PUBLISHED'
+                GROUP BY product_id
+            ) s ON s.product_id = t.product_id
+            WHERE p.id = t.product_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(OutboxEvent event) {
+        return ReviewService.AGGREGATE_TYPE.equals(event.getAggregateType());
+    }
+
+    @Override
+    public void onEvents(List<OutboxEvent> events) {
+        Long[] productIds = events.stream()
+                .map(this::productId)
+                .distinct()
+                .toArray(Long[]::new);
+
+        int updated = jdbcTemplate.update(UPDATE_RATING_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", productIds));
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", productIds));
+        });
+        log.debug("상품 평점 동기화: 이벤트 {}건, 상품 {}건", events.size(), updated);
+    }
+
+    private Long productId(OutboxEvent event) {
+        try {
+            return objectMapper.readTree(event.getPayload()).path("productId").asLong();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("리뷰 이벤트 페이로드를 읽을 수 없습니다: eventId=" + event.getId(), e);
+        }
+    }
+}
@@ -3,6 +3,11 @@ package com.xlcfi.review.service;
 import com.xlcfi.auth.domain.User;
 import com.xlcfi.auth.repository.UserRepository;
 import com.xlcfi.common.exception.BusinessException;
+import com.xlcfi.common.outbox.DomainEventPublisher;
+import com.xlcfi.common.pagination.CursorPage;
+import com.xlcfi.common.pagination.KeysetPagination;
+import com.xlcfi.common.pagination.KeysetSort;
+import com.xlcfi.common.pagination.PageCountService;
 import com.xlcfi.product.domain.Product;
 import com.xlcfi.product.repository.ProductRepository;
 import com.xlcfi.review.domain.Review;
@@ -18,15 +23,32 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ReviewService {
 
+    private static final KeysetSort<Review> LATEST = KeysetSort.latest(Review::getId);
+
+    /**
+     * 리뷰 개수 캐시 키 접두어
+     */
+    private static final String COUNT_KEY = "reviews:";
+
+    /**
+     * 리뷰 이벤트 애그리거트 종류
+     */
+    static final String AGGREGATE_TYPE = "review";
+
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final PageCountService pageCountService;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 리뷰 작성
@@ -66,6 +88,8 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        invalidateCounts(savedReview);
+        publishEvent(savedReview, "REVIEW_CREATED");
         log.info("리뷰 작성 완료: reviewId={}", savedReview.getId());
 
         return ReviewResponse.from(savedReview);
@@ -101,6 +125,8 @@ public class ReviewService {
         }
 
         Review updatedReview = reviewRepository.save(review);
+        invalidateCounts(updatedReview);
+        publishEvent(updatedReview, "REVIEW_UPDATED");
         log.info("리뷰 수정 완료: reviewId={}", reviewId);
 
         return ReviewResponse.from(updatedReview);
@@ -124,6 +150,8 @@ public class ReviewService {
         // 소프트 삭제 (상태를 DELETED로 변경)
         review.setStatus(ReviewStatus.DELETED);
         reviewRepository.save(review);
+        invalidateCounts(review);
+        publishEvent(review, "REVIEW_DELETED");
 
         log.info("리뷰 삭제 완료: reviewId={}", reviewId);
     }
@@ -146,10 +174,26 @@ public class ReviewService {
     public Page<ReviewResponse> getReviewsByProduct(Long productId, Pageable pageable) {
         log.info("상품별 리뷰 목록 조회: productId={}", productId);
 
-        Page<Review> reviews = reviewRepository.findByProductIdAndStatus(
+        List<Review> reviews = reviewRepository.findByProductIdAndStatus(
                 productId, ReviewStatus.PUBLISHED, pageable);
 
-        return reviews.map(ReviewResponse::from);
+        return pageCountService.page(reviews, pageable, productCountKey(productId) + ReviewStatus.PUBLISHED,
+                        () -> reviewRepository.countByProductIdAndStatus(productId, ReviewStatus.PUBLISHED))
+                .map(ReviewResponse::from);
+    }
+
+    /**
+     * 상품별 리뷰 목록 조회 (커서 기반)
+     */
+    public CursorPage<ReviewResponse> getReviewsByProductCursor(Long productId, String cursor, int size) {
+        log.info("상품별 리뷰 목록 커서 조회: productId={}", productId);
+
+        return KeysetPagination.<Review>fetch(reviewRepository,
+                        (root, query, cb) -> cb.and(
+                                cb.equal(root.get("product").get("id"), productId),
+                                cb.equal(root.get("status"), ReviewStatus.PUBLISHED)),
+                        LATEST, cursor, size, "product", "user")
+                .map(ReviewResponse::from);
     }
 
     /**
@@ -158,10 +202,12 @@ public class ReviewService {
     public Page<ReviewResponse> getReviewsByUser(Long userId, Pageable pageable) {
         log.info("사용자별 리뷰 목록 조회: userId={}", userId);
 
-        Page<Review> reviews = reviewRepository.findByUserIdAndStatus(
+        List<Review> reviews = reviewRepository.findByUserIdAndStatus(
                 userId, ReviewStatus.PUBLISHED, pageable);
 
-        return reviews.map(ReviewResponse::from);
+        return pageCountService.page(reviews, pageable, userCountKey(userId) + ReviewStatus.PUBLISHED,
+                        () -> reviewRepository.countByUserIdAndStatus(userId, ReviewStatus.PUBLISHED))
+                .map(ReviewResponse::from);
     }
 
     /**
@@ -170,10 +216,13 @@ public class ReviewService {
     public Page<ReviewResponse> getReviewsByRating(Long productId, Integer rating, Pageable pageable) {
         log.info("평점별 리뷰 조회: productId={}, rating={}", productId, rating);
 
-        Page<Review> reviews = reviewRepository.findByProductIdAndRatingAndStatus(
+        List<Review> reviews = reviewRepository.findByProductIdAndRatingAndStatus(
                 productId, rating, ReviewStatus.PUBLISHED, pageable);
 
-        return reviews.map(ReviewResponse::from);
+        return pageCountService.page(reviews, pageable, productCountKey(productId) + "rating:" + rating,
+                        () -> reviewRepository.countByProductIdAndRatingAndStatus(
+                                productId, rating, ReviewStatus.PUBLISHED))
+                .map(ReviewResponse::from);
     }
 
     /**
@@ -182,10 +231,13 @@ public class ReviewService {
     public Page<ReviewResponse> getVerifiedPurchaseReviews(Long productId, Pageable pageable) {
         log.info("인증 구매 리뷰 조회: productId={}", productId);
 
-        Page<Review> reviews = reviewRepository.findByProductIdAndIsVerifiedPurchaseAndStatus(
+        List<Review> reviews = reviewRepository.findByProductIdAndIsVerifiedPurchaseAndStatus(
                 productId, true, ReviewStatus.PUBLISHED, pageable);
 
-        return reviews.map(ReviewResponse::from);
+        return pageCountService.page(reviews, pageable, productCountKey(productId) + "verified",
+                        () -> reviewRepository.countByProductIdAndIsVerifiedPurchaseAndStatus(
+                                productId, true, ReviewStatus.PUBLISHED))
+                .map(ReviewResponse::from);
     }
 
     /**
@@ -194,10 +246,42 @@ public class ReviewService {
     public Page<ReviewResponse> getLatestReviews(Pageable pageable) {
         log.info("최신 리뷰 조회");
 
-        Page<Review> reviews = reviewRepository.findByStatusOrderByCreatedAtDesc(
+        List<Review> reviews = reviewRepository.findByStatusOrderByCreatedAtDesc(
                 ReviewStatus.PUBLISHED, pageable);
 
-        return reviews.map(ReviewResponse::from);
+        return pageCountService.estimatedPage(reviews, pageable,
+                        COUNT_KEY + ReviewStatus.PUBLISHED, "reviews", "status", ReviewStatus.PUBLISHED.name(),
+                        () -> reviewRepository.countByStatus(ReviewStatus.PUBLISHED))
+                .map(ReviewResponse::from);
+    }
+
+    /**
+     * 리뷰가 속한 상품/사용자 목록의 개수 캐시 비우기
+     */
+    private void invalidateCounts(Review review) {
+        pageCountService.invalidate(
+                productCountKey(review.getProduct().getId()),
+                userCountKey(review.getUser().getId()),
+                COUNT_KEY + ReviewStatus.PUBLISHED);
+    }
+
+    /**
+     * 리뷰 변경 이벤트 발행 (상품 평점 동기화 등)
+     */
+    private void publishEvent(Review review, String eventType) {
+        domainEventPublisher.publish(AGGREGATE_TYPE, review.getId(), eventType, Map.of(
+                "reviewId", review.getId(),
+                "productId", review.getProduct().getId(),
+                "rating", review.getRating(),
+                "status", review.getStatus().name()));
+    }
+
+    private static String productCountKey(Long productId) {
+        return COUNT_KEY + "product:" + productId + ":";
+    }
+
+    private static String userCountKey(Long userId) {
+        return COUNT_KEY + "user:" + userId + ":";
     }
 }
 
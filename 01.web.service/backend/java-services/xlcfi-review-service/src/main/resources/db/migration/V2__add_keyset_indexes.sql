@@ -0,0 +1,6 @@
+-- ==========================================
+-- V2: 커서 기반 페이지네이션 인덱스
+-- ==========================================
+
+-- 상품별 공개 리뷰 최신순 목록 (created_at, id 순서로 이어서 조회)
+CREATE INDEX idx_reviews_product_status_created_id ON reviews(product_id, status, created_at DESC, id DESC);
@@ -0,0 +1,139 @@
+package com.xlcfi.review.controller;
+
+import com.xlcfi.auth.domain.User;
+import com.xlcfi.auth.domain.UserRole;
+import com.xlcfi.auth.repository.UserRepository;
+import com.xlcfi.common.outbox.DomainEventPublisher;
+import com.xlcfi.common.pagination.PageCountService;
+import com.xlcfi.common.query.QueryBudgetTest;
+import com.xlcfi.common.query.QueryCount;
+import com.xlcfi.common.query.QueryCountFilter;
+import com.xlcfi.common.query.QueryCounter;
+import com.xlcfi.product.domain.Product;
+import com.xlcfi.product.domain.ProductStatus;
+import com.xlcfi.product.repository.ProductRepository;
+import com.xlcfi.review.domain.Review;
+import com.xlcfi.review.domain.ReviewStatus;
+import com.xlcfi.review.repository.ReviewRepository;
+import com.xlcfi.review.service.ReviewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * ReviewController 쿼리 수 예산 테스트
+ *
+ * 상품별 리뷰 목록 API가 목록 크기와 관계없이 정해진 수의 SQL만 실행하는지 확인합니다 (상품/작성자 N+1 회귀 방지).
+ */
+@QueryBudgetTest(controllers = ReviewController.class)
+@Import({ReviewService.class, PageCountService.class})
+@DisplayName("리뷰 목록 API 쿼리 수 예산 테스트")
+class ReviewControllerQueryBudgetTest {
+
+    private static final int REVIEWS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 상품 1개에 서로 다른 작성자의 리뷰 25건
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            reviewRepository.deleteAll();
+            productRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+        transaction.executeWithoutResult(status -> {
+            User seller = userRepository.save(user("seller@test.xlcfi.com", UserRole.SELLER));
+            Product product = productRepository.save(Product.builder()
+                    .sellerId(seller.getId())
+                    .name("테스트 상품")
+                    .price(BigDecimal.valueOf(1000))
+                    .stockQuantity(100)
+                    .status(ProductStatus.PUBLISHED)
+                    .build());
+            productId = product.getId();
+
+            for (int i = 0; i < REVIEWS; i++) {
+                User author = userRepository.save(user("buyer" + i + "@test.xlcfi.com", UserRole.BUYER));
+                reviewRepository.save(Review.builder()
+                        .product(product)
+                        .user(author)
+                        .rating(1 + i % 5)
+                        .content("리뷰 " + i)
+                        .images(List.of())
+                        .status(ReviewStatus.PUBLISHED)
+                        .build());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("상품별 리뷰 목록 (커서) - 리뷰+상품+작성자 1회")
+    void getReviewsByProductCursor_QueryBudget() throws Exception {
+        try (QueryCount queries = QueryCounter.start()) {
+            mockMvc.perform(get("/api/reviews/product/{productId}/cursor", productId)
+                            .param("size", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(20))
+                    .andExpect(jsonPath("$.data.content[0].productName").exists())
+                    .andExpect(jsonPath("$.data.content[0].userName").exists())
+                    .andExpect(header().string(QueryCountFilter.HEADER, "1"));
+
+            assertThat(queries.getSelect()).isEqualTo(1);
+            assertThat(queries.getTotal()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("상품별 리뷰 목록 (페이지) - 리뷰, COUNT, 상품 1회, 작성자 1회")
+    void getReviewsByProduct_QueryBudget() throws Exception {
+        try (QueryCount queries = QueryCounter.start()) {
+            mockMvc.perform(get("/api/reviews/product/{productId}", productId)
+                            .param("page", "0")
+                            .param("size", "20"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(20))
+                    .andExpect(jsonPath("$.data.content[0].productName").exists())
+                    .andExpect(jsonPath("$.data.content[0].userName").exists());
+
+            assertThat(queries.getSelect()).isEqualTo(4);
+            assertThat(queries.getTotal()).isEqualTo(4);
+        }
+    }
+
+    private static User user(String email, UserRole role) {
+        return User.builder().email(email).name(role.name() + " " + email).role(role).build();
+    }
+}
@@ -0,0 +1,89 @@
+-- ============================================
+-- XLCfi Platform - Keyset Pagination Benchmark
+-- ============================================
+-- Purpose: OFFSET 페이지네이션과 커서(keyset) 페이지네이션의 1페이지 / 5,000페이지 비용 비교
+-- Usage: 별도 스키마에 1,000만 건을 생성하므로 개발 DB에서만 실행
+-- Example: psql -U xlcfi_user -d xlcfi_db -f bench-keyset-pagination.sql
+-- ============================================
+
+\timing on
+
+DROP SCHEMA IF EXISTS bench_keyset CASCADE;
+CREATE SCHEMA bench_keyset;
+SET search_path TO bench_keyset;
+
+-- ============================================
+-- 1. 테스트 데이터 (products 목록 조회와 같은 형태, 1,000만 건)
+-- ============================================
+CREATE TABLE products (
+    id BIGINT PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    name VARCHAR(200) NOT NULL,
+    price NUMERIC(15, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO products (id, status, name, price, created_at)
+SELECT g,
+       CASE WHEN g % 10 = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END,
+       'product-' || g,
+       (g % 100000) * 10,
+       -- 같은 created_at이 여러 건 생기도록 초 단위로 묶음 (id로 순서 결정)
+       TIMESTAMP '2024-01-01' + ((g / 4) * INTERVAL '1 second')
+FROM generate_series(1, 10000000) AS g;
+
+-- V3__add_keyset_indexes.sql 과 같은 인덱스
+CREATE INDEX idx_products_status_created_id ON products(status, created_at DESC, id DESC);
+VACUUM ANALYZE products;
+
+-- ============================================
+-- 2. OFFSET 페이지네이션 (Pageable + COUNT)
+-- ============================================
+-- 1페이지
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, name, price, created_at FROM products
+WHERE status = 'ACTIVE'
+ORDER BY created_at DESC, id DESC
+LIMIT 20 OFFSET 0;
+
+-- 5,000페이지 (앞의 99,980건을 읽고 버림)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, name, price, created_at FROM products
+WHERE status = 'ACTIVE'
+ORDER BY created_at DESC, id DESC
+LIMIT 20 OFFSET 99980;
+
+-- Page 응답의 totalElements (요청마다 실행)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(*) FROM products WHERE status = 'ACTIVE';
+
+-- ============================================
+-- 3. 커서 페이지네이션 (KeysetPagination)
+-- ============================================
+-- 1페이지 (커서 없음, 다음 페이지 확인용으로 1건 더 조회)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, name, price, created_at FROM products
+WHERE status = 'ACTIVE'
+ORDER BY created_at DESC, id DESC
+LIMIT 21;
+
+-- 5,000페이지: OFFSET 조회의 4,999페이지 마지막 행을 커서로 사용
+SELECT created_at AS last_created_at, id AS last_id FROM products
+WHERE status = 'ACTIVE'
+ORDER BY created_at DESC, id DESC
+LIMIT 1 OFFSET 99979 \gset
+
+-- KeysetPagination이 생성하는 조건과 같은 형태
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, name, price, created_at FROM products
+WHERE status = 'ACTIVE'
+  AND created_at <= :'last_created_at'
+  AND (created_at < :'last_created_at' OR id < :last_id)
+ORDER BY created_at DESC, id DESC
+LIMIT 21;
+
+-- ============================================
+-- 4. 정리
+-- ============================================
+RESET search_path;
+DROP SCHEMA bench_keyset CASCADE;